@@ -329,6 +329,17 @@ public class CoreOptions implements Serializable {
                     .defaultValue(true)
                     .withDescription("Whether enabled read file index.");
 
+    public static final ConfigOption<Double> FILE_INDEX_READ_MIN_PRUNING_RATE =
+            key("file-index.read.min-pruning-rate")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "File indexes of a type which pruned less than this rate of the "
+                                    + "evaluated files in this JVM are skipped when reading, to "
+                                    + "avoid reading indexes which cost more than they save. "
+                                    + "Indexes which select rows, such as bitmap indexes, are "
+                                    + "never skipped. 0 means never skip file indexes.");
+
     public static final ConfigOption<String> MANIFEST_FORMAT =
             key("manifest.format")
                     .stringType()
@@ -354,6 +365,24 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The size threshold for triggering full compaction of manifest.");
 
+    public static final ConfigOption<String> MANIFEST_LOCAL_CACHE_DIR =
+            key("manifest.local-cache.dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The local directory to cache manifest files in, which can be shared by"
+                                    + " all jobs on the same host. Manifest files are immutable, so"
+                                    + " they are cached by file name and only fetched once from"
+                                    + " the remote storage. The cache is disabled if not set.");
+
+    public static final ConfigOption<MemorySize> MANIFEST_LOCAL_CACHE_MAX_SIZE =
+            key("manifest.local-cache.max-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(1024))
+                    .withDescription(
+                            "The maximum size of the local manifest cache, least recently used"
+                                    + " files are evicted when it is exceeded.");
+
     public static final ConfigOption<Integer> MANIFEST_MERGE_MIN_COUNT =
             key("manifest.merge-min-count")
                     .intType()
@@ -656,6 +685,17 @@ public class CoreOptions implements Serializable {
                     .defaultValue(Duration.ofSeconds(10))
                     .withDescription("Max retry wait time when commit failed.");
 
+    public static final ConfigOption<Integer> COMPACTION_ADAPTIVE_MAX_SORTED_RUNS =
+            key("compaction.adaptive.max-sorted-runs")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If set, the compaction strategy of primary key tables tunes "
+                                    + "'num-sorted-run.compaction-trigger' online per bucket, keeping the "
+                                    + "number of sorted runs touched by reads at most this value while "
+                                    + "rewriting as few bytes as possible. Not used by tables with lookup "
+                                    + "compaction.");
+
     public static final ConfigOption<Integer> COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT =
             key("compaction.max-size-amplification-percent")
                     .intType()
@@ -688,6 +728,30 @@ public class CoreOptions implements Serializable {
                             "Implying how often to perform an optimization compaction, this configuration is used to "
                                     + "ensure the query timeliness of the read-optimized system table.");
 
+    public static final ConfigOption<Integer> COMPACTION_REWRITE_PARALLELISM =
+            key("compaction.rewrite-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads rewriting one merge-tree compaction. The files of a "
+                                    + "compaction are split into key ranges that do not overlap, which are "
+                                    + "merged in parallel into separate output files. A large range of "
+                                    + "overlapping files is further split at the boundaries of its files "
+                                    + "of the highest level. The threads are shared by the buckets of a "
+                                    + "writer. Not applicable to lookup compactions or compactions "
+                                    + "producing changelog.");
+
+    public static final ConfigOption<Integer> COMPACTION_SHARED_THREAD_NUM =
+            key("compaction.shared-thread-num")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "If set, compactions of all writers in the same JVM are executed by one shared "
+                                    + "thread pool of this size instead of one thread per writer. Queued "
+                                    + "compactions are prioritized by how close their bucket is to "
+                                    + "'num-sorted-run.stop-trigger' and by size amplification, and a "
+                                    + "compaction which stalls a writer jumps the queue.");
+
     public static final ConfigOption<Integer> COMPACTION_MIN_FILE_NUM =
             key("compaction.min.file-num")
                     .intType()
@@ -727,6 +791,18 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Fields that are ignored for comparison while generating -U, +U changelog for the same record. This configuration is only valid for the changelog-producer.row-deduplicate is true.");
 
+    public static final ConfigOption<String> SECONDARY_INDEX_COLUMN =
+            key("secondary-index.column")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The column of the table level secondary index. Writers maintain the hash codes"
+                                    + " of the values of this column per bucket in index files, batch scans with"
+                                    + " an equality or IN filter on this column skip the buckets which do not"
+                                    + " contain any of the values. Not used for bucket unaware and postpone"
+                                    + " bucket tables. A non primary key column can not be indexed if its"
+                                    + " values are aggregated by the merge engine.");
+
     @Immutable
     public static final ConfigOption<String> SEQUENCE_FIELD =
             key("sequence.field")
@@ -854,6 +930,17 @@ public class CoreOptions implements Serializable {
                             "End condition \"watermark\" for bounded streaming mode. Stream"
                                     + " reading will end when a larger watermark snapshot is encountered.");
 
+    public static final ConfigOption<Boolean> SCAN_PLAN_CACHE_ENABLED =
+            key("scan.plan-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep the live files of the latest planned snapshot in memory "
+                                    + "for a table instance. Planning a newer snapshot then only reads "
+                                    + "the delta manifests of the snapshots in between instead of all "
+                                    + "manifests. This is useful for long-running services which plan the "
+                                    + "same table repeatedly, at the cost of memory for all file metas.");
+
     public static final ConfigOption<Integer> SCAN_MANIFEST_PARALLELISM =
             key("scan.manifest.parallelism")
                     .intType()
@@ -1064,6 +1151,16 @@ public class CoreOptions implements Serializable {
                     .defaultValue(0.75F)
                     .withDescription("The index load factor for lookup.");
 
+    public static final ConfigOption<Boolean> LOOKUP_HASH_MMAP_ENABLED =
+            key("lookup.hash-mmap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to memory-map local hash lookup files and probe them in place."
+                                    + " Only takes effect when 'lookup.local-file-type' is 'hash'."
+                                    + " The local files are written uncompressed and cached by the"
+                                    + " OS page cache instead of the lookup cache memory.");
+
     public static final ConfigOption<Duration> LOOKUP_CACHE_FILE_RETENTION =
             key("lookup.cache-file-retention")
                     .durationType()
@@ -1114,6 +1211,16 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define the default false positive probability for lookup cache bloom filters.");
 
+    public static final ConfigOption<Long> LOOKUP_RESULT_CACHE_MAX_ROWS =
+            key("lookup.result-cache.max-rows")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Max number of lookup results cached in memory by local table query, "
+                                    + "0 disables the cache. The admission of the cache is "
+                                    + "frequency based, so that hot keys stay cached. Cached results "
+                                    + "of a bucket are invalidated when its files change.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -1219,6 +1326,26 @@ public class CoreOptions implements Serializable {
                                     + " related to the number of initialized bucket, too small will lead to"
                                     + " insufficient processing speed of assigner.");
 
+    public static final ConfigOption<Boolean> DYNAMIC_BUCKET_INDEX_OFF_HEAP =
+            key("dynamic-bucket.index.off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to keep the key hash to bucket index of dynamic bucket mode in "
+                                    + "off-heap memory, this reduces heap usage and GC pressure of "
+                                    + "the assigner operator for large tables.");
+
+    public static final ConfigOption<MemorySize> DYNAMIC_BUCKET_INDEX_MAX_MEMORY =
+            key("dynamic-bucket.index.max-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Max memory of the key hash to bucket indexes of all partitions in one "
+                                    + "assigner of dynamic bucket mode. When exceeded, the least recently "
+                                    + "used partitions are evicted: committed indexes are dropped and "
+                                    + "reloaded from hash index files on demand, uncommitted indexes are "
+                                    + "spilled to local disk. By default, there is no limit.");
+
     public static final ConfigOption<String> INCREMENTAL_BETWEEN =
             key("incremental-between")
                     .stringType()
@@ -1582,6 +1709,36 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(10))
                     .withDescription("The threshold for read file async.");
 
+    public static final ConfigOption<Integer> FILE_READER_PREFETCH_NUM =
+            key("file-reader-prefetch-num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of files to open in background while reading the current"
+                                    + " file of a split, opening includes reading the file footer,"
+                                    + " deletion vector and file index. This hides the latency of"
+                                    + " object stores for splits with many small files, at the"
+                                    + " cost of holding the prefetched readers in memory. 0 means"
+                                    + " files are opened sequentially.");
+
+    public static final ConfigOption<MemorySize> FILE_READER_VECTORED_MERGE_GAP =
+            key("file-reader-vectored-merge-gap")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofKibiBytes(256))
+                    .withDescription(
+                            "Column chunks of ORC and Parquet files are fetched by vectored reads,"
+                                    + " two ranges are merged into one request if the gap between"
+                                    + " them is smaller than this value.");
+
+    public static final ConfigOption<MemorySize> FILE_READER_VECTORED_MAX_RANGE_SIZE =
+            key("file-reader-vectored-max-range-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(4))
+                    .withDescription(
+                            "The size of a single request of vectored reads, larger merged ranges"
+                                    + " are split into requests of this size which are issued in"
+                                    + " parallel.");
+
     public static final ConfigOption<Boolean> COMMIT_FORCE_CREATE_SNAPSHOT =
             key("commit.force-create-snapshot")
                     .booleanType()
@@ -1604,6 +1761,17 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(2))
                     .withDescription("The target size of deletion vector index file.");
 
+    public static final ConfigOption<Integer> DELETION_VECTOR_INDEX_FILE_MAX_NUM =
+            key("deletion-vector.index-file.max-num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of deletion vector index files in a bucket. By default, all"
+                                    + " deletion vectors of a bucket are rewritten whenever any of them changes."
+                                    + " If greater than 1, only the changed deletion vectors are written into a"
+                                    + " new delta index file, and all index files of the bucket are merged into"
+                                    + " one when this number would be exceeded. Not used for bucket unaware tables.");
+
     public static final ConfigOption<Boolean> DELETION_VECTOR_BITMAP64 =
             key("deletion-vectors.bitmap64")
                     .booleanType()
@@ -1916,6 +2084,15 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_FULL_COMPACTION_FILE_SIZE);
     }
 
+    @Nullable
+    public String manifestLocalCacheDir() {
+        return options.get(MANIFEST_LOCAL_CACHE_DIR);
+    }
+
+    public MemorySize manifestLocalCacheMaxSize() {
+        return options.get(MANIFEST_LOCAL_CACHE_MAX_SIZE);
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -2070,6 +2247,18 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_READER_ASYNC_THRESHOLD);
     }
 
+    public int fileReaderPrefetchNum() {
+        return options.get(FILE_READER_PREFETCH_NUM);
+    }
+
+    public MemorySize fileReaderVectoredMergeGap() {
+        return options.get(FILE_READER_VECTORED_MERGE_GAP);
+    }
+
+    public MemorySize fileReaderVectoredMaxRangeSize() {
+        return options.get(FILE_READER_VECTORED_MAX_RANGE_SIZE);
+    }
+
     public int snapshotNumRetainMin() {
         return options.get(SNAPSHOT_NUM_RETAINED_MIN);
     }
@@ -2237,6 +2426,10 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_LOCAL_FILE_TYPE);
     }
 
+    public boolean lookupHashMmapEnabled() {
+        return options.get(LOOKUP_HASH_MMAP_ENABLED);
+    }
+
     public MemorySize lookupCacheMaxMemory() {
         return options.get(LOOKUP_CACHE_MAX_MEMORY_SIZE);
     }
@@ -2245,6 +2438,10 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_HIGH_PRIO_POOL_RATIO);
     }
 
+    public long lookupResultCacheMaxRows() {
+        return options.get(LOOKUP_RESULT_CACHE_MAX_ROWS);
+    }
+
     public long targetFileSize(boolean hasPrimaryKey) {
         return options.getOptional(TARGET_FILE_SIZE)
                 .orElse(hasPrimaryKey ? VALUE_128_MB : VALUE_256_MB)
@@ -2262,11 +2459,25 @@ public class CoreOptions implements Serializable {
         return options.get(NUM_SORTED_RUNS_COMPACTION_TRIGGER);
     }
 
+    @Nullable
+    public Integer compactionAdaptiveMaxSortedRuns() {
+        return options.get(COMPACTION_ADAPTIVE_MAX_SORTED_RUNS);
+    }
+
     @Nullable
     public Duration optimizedCompactionInterval() {
         return options.get(COMPACTION_OPTIMIZATION_INTERVAL);
     }
 
+    public int compactionRewriteParallelism() {
+        return options.get(COMPACTION_REWRITE_PARALLELISM);
+    }
+
+    @Nullable
+    public Integer compactionSharedThreadNum() {
+        return options.get(COMPACTION_SHARED_THREAD_NUM);
+    }
+
     public int numSortedRunStopTrigger() {
         Integer stopTrigger = options.get(NUM_SORTED_RUNS_STOP_TRIGGER);
         if (stopTrigger == null) {
@@ -2469,6 +2680,10 @@ public class CoreOptions implements Serializable {
         return options.get(SCAN_MANIFEST_PARALLELISM);
     }
 
+    public boolean scanPlanCacheEnabled() {
+        return options.get(SCAN_PLAN_CACHE_ENABLED);
+    }
+
     public Duration streamingReadDelay() {
         return options.get(STREAMING_READ_SNAPSHOT_DELAY);
     }
@@ -2485,6 +2700,20 @@ public class CoreOptions implements Serializable {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
 
+    public boolean dynamicBucketIndexOffHeap() {
+        return options.get(DYNAMIC_BUCKET_INDEX_OFF_HEAP);
+    }
+
+    @Nullable
+    public MemorySize dynamicBucketIndexMaxMemory() {
+        return options.get(DYNAMIC_BUCKET_INDEX_MAX_MEMORY);
+    }
+
+    @Nullable
+    public String secondaryIndexColumn() {
+        return options.get(SECONDARY_INDEX_COLUMN);
+    }
+
     public List<String> sequenceField() {
         return options.getOptional(SEQUENCE_FIELD)
                 .map(s -> Arrays.asList(s.split(",")))
@@ -2729,6 +2958,10 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_INDEX_FILE_TARGET_SIZE);
     }
 
+    public int deletionVectorIndexFileMaxNum() {
+        return options.get(DELETION_VECTOR_INDEX_FILE_MAX_NUM);
+    }
+
     public boolean deletionVectorBitmap64() {
         return options.get(DELETION_VECTOR_BITMAP64);
     }
@@ -2745,6 +2978,10 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_INDEX_READ_ENABLED);
     }
 
+    public double fileIndexReadMinPruningRate() {
+        return options.get(FILE_INDEX_READ_MIN_PRUNING_RATE);
+    }
+
     public boolean deleteForceProduceChangelog() {
         return options.get(DELETION_FORCE_PRODUCE_CHANGELOG);
     }
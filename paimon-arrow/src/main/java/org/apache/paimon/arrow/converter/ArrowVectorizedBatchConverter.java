@@ -96,8 +96,9 @@ public class ArrowVectorizedBatchConverter extends ArrowBatchConverter {
     public void reset(VectorizedRecordIterator iterator) {
         this.iterator = iterator;
         this.batch = iterator.batch();
-        this.pickedInColumn = null;
-        this.totalNumRows = this.batch.getNumRows();
+        this.pickedInColumn = iterator.selection();
+        this.totalNumRows =
+                pickedInColumn == null ? this.batch.getNumRows() : pickedInColumn.length;
         this.startIndex = 0;
     }
 }
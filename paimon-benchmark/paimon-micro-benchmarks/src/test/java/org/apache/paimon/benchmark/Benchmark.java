@@ -25,6 +25,8 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,6 +41,8 @@ public class Benchmark {
 
     private boolean outputPerIteration;
 
+    private boolean measureAllocation;
+
     private final List<Case> cases;
 
     public Benchmark(String name, long valuesPerIteration) {
@@ -46,6 +50,7 @@ public class Benchmark {
         this.valuesPerIteration = valuesPerIteration;
         this.numWarmupIters = 1;
         this.outputPerIteration = false;
+        this.measureAllocation = false;
         this.cases = new ArrayList<>();
     }
 
@@ -71,8 +76,13 @@ public class Benchmark {
         System.out.println(getJVMOSInfo());
         System.out.println(getProcessorName());
         System.out.printf(
-                "%-100s %16s %16s %16s %10s%n",
-                name + ":", "Best/Avg Time(ms)", "Row Rate(K/s)", "Per Row(ns)", "Relative");
+                "%-100s %16s %16s %16s %10s%s%n",
+                name + ":",
+                "Best/Avg Time(ms)",
+                "Row Rate(K/s)",
+                "Per Row(ns)",
+                "Relative",
+                measureAllocation ? String.format(" %16s", "Alloc/Row(B)") : "");
         System.out.println(
                 "----------------------------------------------------"
                         + "-----------------------------------------------------------------------"
@@ -81,12 +91,13 @@ public class Benchmark {
             final Case c = cases.get(i);
             final Result r = results.get(i);
             System.out.printf(
-                    "%-100s %16s %16s %16s %10s%n",
+                    "%-100s %16s %16s %16s %10s%s%n",
                     "OPERATORTEST_" + name + "_" + c.name,
                     String.format("%5.0f / %4.0f", r.bestNs / 1000_000.0, r.avgNs / 1000_000.0),
                     String.format("%10.1f", r.bestRate),
                     String.format("%6.1f", 1000000 / r.bestRate),
-                    String.format("%3.1fX", (firstBest / r.bestNs)));
+                    String.format("%3.1fX", (firstBest / r.bestNs)),
+                    measureAllocation ? String.format(" %16.1f", r.allocatedPerRow) : "");
         }
         System.out.println("\n\n\n");
     }
@@ -100,12 +111,15 @@ public class Benchmark {
 
         long totalTime = 0;
         long best = Long.MAX_VALUE;
+        long totalAllocated = 0;
         for (int iter = 0; iter < c.numIters; ++iter) {
+            long allocatedBefore = allocatedBytes();
             Timer timer = new Timer();
             timer.startTimer();
             c.runnable.run();
             timer.stopTimer();
             long runTime = timer.totalTime();
+            totalAllocated += allocatedBytes() - allocatedBefore;
 
             totalTime += runTime;
             if (runTime < best) {
@@ -120,7 +134,27 @@ public class Benchmark {
         System.out.println(
                 "  Stopped after " + c.numIters + " iterations, " + totalTime / 1000000 + " ms");
         return new Result(
-                1.0 * totalTime / c.numIters, valuesPerIteration / (best / 1000000.0), best);
+                1.0 * totalTime / c.numIters,
+                valuesPerIteration / (best / 1000000.0),
+                best,
+                1.0 * totalAllocated / c.numIters / valuesPerIteration);
+    }
+
+    /**
+     * Bytes allocated by the current thread so far, 0 if allocation measuring is disabled or not
+     * supported by the JVM. Allocations of other threads, such as async readers, are not counted.
+     */
+    private long allocatedBytes() {
+        if (!measureAllocation) {
+            return 0;
+        }
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
     }
 
     public Benchmark setOutputPerIteration(boolean outputPerIteration) {
@@ -128,6 +162,11 @@ public class Benchmark {
         return this;
     }
 
+    public Benchmark setMeasureAllocation(boolean measureAllocation) {
+        this.measureAllocation = measureAllocation;
+        return this;
+    }
+
     public Benchmark setNumWarmupIters(int numWarmupIters) {
         this.numWarmupIters = numWarmupIters;
         return this;
@@ -211,11 +250,13 @@ public class Benchmark {
         private final double avgNs;
         private final double bestRate;
         private final double bestNs;
+        private final double allocatedPerRow;
 
-        Result(double avgNs, double bestRate, double bestNs) {
+        Result(double avgNs, double bestRate, double bestNs, double allocatedPerRow) {
             this.avgNs = avgNs;
             this.bestRate = bestRate;
             this.bestNs = bestNs;
+            this.allocatedPerRow = allocatedPerRow;
         }
     }
 
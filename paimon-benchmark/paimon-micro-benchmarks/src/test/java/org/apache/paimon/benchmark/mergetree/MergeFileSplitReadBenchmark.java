@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.MergeEngine;
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.benchmark.Benchmark;
+import org.apache.paimon.catalog.Catalog;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.catalog.CatalogFactory;
+import org.apache.paimon.catalog.Identifier;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.operation.MergeFileSplitRead;
+import org.apache.paimon.options.CatalogOptions;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.Table;
+import org.apache.paimon.table.sink.StreamTableCommit;
+import org.apache.paimon.table.sink.StreamTableWrite;
+import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for the merge-on-read path of primary key tables, see {@link MergeFileSplitRead}.
+ * Each sorted run is written by a separate commit into a write-only table, so reading has to
+ * merge all of them.
+ */
+public class MergeFileSplitReadBenchmark {
+
+    private static final int ROW_COUNT = 500_000;
+    private static final int VALUE_COUNT = 10;
+
+    @TempDir Path tempDir;
+
+    private int tableIndex = 0;
+
+    @Test
+    public void testSortEngine() throws Exception {
+        Benchmark benchmark = newBenchmark("sort-engine");
+        for (SortEngine sortEngine : SortEngine.values()) {
+            for (int numRuns : new int[] {1, 3, 5}) {
+                Options options = new Options();
+                options.set(CoreOptions.SORT_ENGINE, sortEngine);
+                addCase(
+                        benchmark,
+                        String.format("%s-%d-runs", sortEngine, numRuns),
+                        prepareTable(options, 1, numRuns, MergeEngine.DEDUPLICATE));
+            }
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testMergeEngine() throws Exception {
+        Benchmark benchmark = newBenchmark("merge-engine");
+        for (MergeEngine mergeEngine : MergeEngine.values()) {
+            Options options = new Options();
+            options.set(CoreOptions.MERGE_ENGINE, mergeEngine);
+            if (mergeEngine == MergeEngine.AGGREGATE) {
+                options.set(CoreOptions.FIELDS_DEFAULT_AGG_FUNC, "sum");
+            }
+            addCase(
+                    benchmark,
+                    String.format("%s-3-runs", mergeEngine),
+                    prepareTable(options, 1, 3, mergeEngine));
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testKeyWidth() throws Exception {
+        Benchmark benchmark = newBenchmark("key-width");
+        for (int keyWidth : new int[] {1, 4, 8}) {
+            addCase(
+                    benchmark,
+                    String.format("%d-key-fields-3-runs", keyWidth),
+                    prepareTable(new Options(), keyWidth, 3, MergeEngine.DEDUPLICATE));
+        }
+        benchmark.run();
+    }
+
+    @Test
+    public void testDeletionVectorDensity() throws Exception {
+        Benchmark benchmark = newBenchmark("deletion-vector");
+        for (double density : new double[] {0, 0.1, 0.5}) {
+            addCase(
+                    benchmark,
+                    String.format("%.1f-deleted", density),
+                    prepareDeletionVectorTable(density));
+        }
+        benchmark.run();
+    }
+
+    private Benchmark newBenchmark(String name) {
+        return new Benchmark(name, ROW_COUNT)
+                .setNumWarmupIters(1)
+                .setOutputPerIteration(true)
+                .setMeasureAllocation(true);
+    }
+
+    private void addCase(Benchmark benchmark, String name, Table table) {
+        benchmark.addCase(
+                name,
+                5,
+                () -> {
+                    ReadBuilder readBuilder = table.newReadBuilder();
+                    AtomicLong readCount = new AtomicLong(0);
+                    try {
+                        for (Split split : readBuilder.newScan().plan().splits()) {
+                            RecordReader<InternalRow> reader =
+                                    readBuilder.newRead().createReader(split);
+                            reader.forEachRemaining(row -> readCount.incrementAndGet());
+                        }
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    if (readCount.get() != ROW_COUNT) {
+                        throw new IllegalStateException(
+                                "Expect " + ROW_COUNT + " rows but read " + readCount.get());
+                    }
+                });
+    }
+
+    /** Writes every key once per sorted run, later runs overwrite earlier ones. */
+    private Table prepareTable(Options options, int keyWidth, int numRuns, MergeEngine mergeEngine)
+            throws Exception {
+        options.set(CoreOptions.WRITE_ONLY, true);
+        Table table = createTable(options, keyWidth);
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        try (StreamTableWrite write = writeBuilder.newWrite();
+                StreamTableCommit commit = writeBuilder.newCommit()) {
+            for (int run = 0; run < numRuns; run++) {
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    write.write(newRow(keyWidth, i, run, numRuns, mergeEngine));
+                }
+                commit.commit(run, write.prepareCommit(false, run));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Compacts all keys into one sorted run and then updates a part of them, so that the old
+     * versions of updated keys are marked as deleted in deletion vectors.
+     */
+    private Table prepareDeletionVectorTable(double density) throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.DELETION_VECTORS_ENABLED, true);
+        Table table = createTable(options, 1);
+        StreamWriteBuilder writeBuilder = table.newStreamWriteBuilder();
+        try (StreamTableWrite write = writeBuilder.newWrite();
+                StreamTableCommit commit = writeBuilder.newCommit()) {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                write.write(newRow(1, i, 0, 1, MergeEngine.DEDUPLICATE));
+            }
+            write.compact(BinaryRow.EMPTY_ROW, 0, true);
+            commit.commit(0, write.prepareCommit(true, 0));
+
+            int step = density == 0 ? Integer.MAX_VALUE : (int) Math.round(1 / density);
+            for (int i = 0; i < ROW_COUNT; i += step) {
+                write.write(newRow(1, i, 1, 1, MergeEngine.DEDUPLICATE));
+            }
+            write.compact(BinaryRow.EMPTY_ROW, 0, false);
+            commit.commit(1, write.prepareCommit(true, 1));
+        }
+        return table;
+    }
+
+    private Table createTable(Options tableOptions, int keyWidth) throws Exception {
+        Options catalogOptions = new Options();
+        catalogOptions.set(CatalogOptions.WAREHOUSE, tempDir.toUri().toString());
+        Catalog catalog = CatalogFactory.createCatalog(CatalogContext.create(catalogOptions));
+        String database = "default";
+        catalog.createDatabase(database, true);
+
+        tableOptions.set(CoreOptions.BUCKET, 1);
+        Schema.Builder builder = Schema.newBuilder().options(tableOptions.toMap());
+        List<String> primaryKeys = new ArrayList<>();
+        for (int i = 0; i < keyWidth; i++) {
+            builder.column("k" + i, DataTypes.INT().notNull());
+            primaryKeys.add("k" + i);
+        }
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            builder.column("v" + i, DataTypes.BIGINT());
+        }
+        builder.primaryKey(primaryKeys);
+
+        Identifier identifier = Identifier.create(database, "table" + tableIndex++);
+        catalog.createTable(identifier, builder.build(), false);
+        return catalog.getTable(identifier);
+    }
+
+    private InternalRow newRow(
+            int keyWidth, int key, int run, int numRuns, MergeEngine mergeEngine) {
+        GenericRow row = new GenericRow(keyWidth + VALUE_COUNT);
+        for (int i = 0; i < keyWidth; i++) {
+            row.setField(i, key + i);
+        }
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            // partial update only sets a part of fields in each run
+            boolean set = mergeEngine != MergeEngine.PARTIAL_UPDATE || i % numRuns == run;
+            row.setField(keyWidth + i, set ? (long) key * run + i : null);
+        }
+        return row;
+    }
+}
@@ -21,14 +21,18 @@ package org.apache.paimon.data.columnar;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.PartitionInfo;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.predicate.VectorizedPredicateEvaluator;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.LongIterator;
 import org.apache.paimon.utils.RecyclableIterator;
+import org.apache.paimon.utils.RoaringBitmap32;
 import org.apache.paimon.utils.VectorMappingUtils;
 
 import javax.annotation.Nullable;
 
+import java.util.Arrays;
+
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /**
@@ -48,6 +52,10 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
     protected long returnedPosition;
     protected LongIterator positionIterator;
 
+    // selection vector of the batch, see select()
+    @Nullable protected long[] selectedPositions;
+    @Nullable protected int[] selectedRowIds;
+
     public ColumnarRowIterator(Path filePath, ColumnarRow row, @Nullable Runnable recycler) {
         super(recycler);
         this.filePath = filePath;
@@ -65,13 +73,75 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
         this.index = 0;
         this.returnedPositionIndex = 0;
         this.returnedPosition = -1;
+        this.selectedPositions = null;
+        this.selectedRowIds = null;
+    }
+
+    /**
+     * Only returns the rows of this batch whose file positions are contained in the given
+     * selection, the batch itself is not filtered. Should be called right after {@link #reset}.
+     */
+    public ColumnarRowIterator select(RoaringBitmap32 selection) {
+        checkArgument(index == 0, "select() should not be called after next()");
+        long[] positions = new long[num];
+        int[] rowIds = new int[num];
+        int selected = 0;
+        for (int i = 0; i < num; i++) {
+            long position = positionIterator.next();
+            if (selection.contains((int) position)) {
+                positions[selected] = position;
+                rowIds[selected] = i;
+                selected++;
+            }
+        }
+        // positions are consumed from the iterator, so they are always kept, row ids only when
+        // some rows of the batch are skipped
+        this.selectedPositions = selected == num ? positions : Arrays.copyOf(positions, selected);
+        this.selectedRowIds = selected == num ? null : Arrays.copyOf(rowIds, selected);
+        this.num = selected;
+        return this;
+    }
+
+    /**
+     * Only returns the rows of this batch, or of its selection, which satisfy the predicate of the
+     * given evaluator, the predicate is evaluated on the whole batch. Should be called before
+     * {@link #next}.
+     */
+    public ColumnarRowIterator filter(VectorizedPredicateEvaluator evaluator) {
+        checkArgument(index == 0, "filter() should not be called after next()");
+        boolean[] matched = evaluator.select(row.batch());
+        if (selectedPositions == null) {
+            selectedPositions = new long[num];
+            for (int i = 0; i < num; i++) {
+                selectedPositions[i] = positionIterator.next();
+            }
+        }
+
+        long[] positions = new long[num];
+        int[] rowIds = new int[num];
+        int selected = 0;
+        for (int i = 0; i < num; i++) {
+            int rowId = selectedRowIds == null ? i : selectedRowIds[i];
+            if (matched[rowId]) {
+                positions[selected] = selectedPositions[i];
+                rowIds[selected] = rowId;
+                selected++;
+            }
+        }
+        if (selected < num) {
+            this.selectedPositions = Arrays.copyOf(positions, selected);
+            this.selectedRowIds = Arrays.copyOf(rowIds, selected);
+            this.num = selected;
+        }
+        return this;
     }
 
     @Nullable
     @Override
     public InternalRow next() {
         if (index < num) {
-            row.setRowId(index++);
+            row.setRowId(selectedRowIds == null ? index : selectedRowIds[index]);
+            index++;
             return row;
         } else {
             return null;
@@ -80,6 +150,13 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
 
     @Override
     public long returnedPosition() {
+        if (selectedPositions != null) {
+            if (index == 0) {
+                throw new IllegalStateException("returnedPosition() is called before next()");
+            }
+            return selectedPositions[index - 1];
+        }
+
         for (int i = 0; i < index - returnedPositionIndex; i++) {
             returnedPosition = positionIterator.next();
         }
@@ -102,9 +179,16 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
         ColumnarRowIterator newIterator =
                 new ColumnarRowIterator(filePath, row.copy(vectors), recycler);
         newIterator.reset(positionIterator);
+        newIterator.copySelection(this);
         return newIterator;
     }
 
+    protected void copySelection(ColumnarRowIterator other) {
+        this.num = other.num;
+        this.selectedPositions = other.selectedPositions;
+        this.selectedRowIds = other.selectedRowIds;
+    }
+
     public ColumnarRowIterator mapping(
             @Nullable PartitionInfo partitionInfo, @Nullable int[] indexMapping) {
         if (partitionInfo != null || indexMapping != null) {
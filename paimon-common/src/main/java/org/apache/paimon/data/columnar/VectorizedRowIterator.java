@@ -37,12 +37,19 @@ public class VectorizedRowIterator extends ColumnarRowIterator implements Vector
         return row.batch();
     }
 
+    @Nullable
+    @Override
+    public int[] selection() {
+        return selectedRowIds;
+    }
+
     @Override
     protected VectorizedRowIterator copy(ColumnVector[] vectors) {
         checkArgument(returnedPositionIndex == 0, "copy() should not be called after next()");
         VectorizedRowIterator newIterator =
                 new VectorizedRowIterator(filePath, row.copy(vectors), recycler);
         newIterator.reset(positionIterator);
+        newIterator.copySelection(this);
         return newIterator;
     }
 }
@@ -62,6 +62,11 @@ public abstract class AbstractWritableVector implements WritableColumnVector, Se
         return dictionary != null;
     }
 
+    /** Returns the dictionary of this column, or null if it has no dictionary. */
+    public Dictionary getDictionary() {
+        return dictionary;
+    }
+
     @Override
     public void setAllNull() {
         isAllNull = true;
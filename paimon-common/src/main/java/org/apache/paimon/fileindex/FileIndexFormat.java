@@ -301,6 +301,26 @@ public final class FileIndexFormat {
                     .orElse(Collections.emptySet());
         }
 
+        /** Returns the index types of the column with the lengths of their serialized bytes. */
+        public Map<String, Integer> readColumnIndexLengths(String columnName) {
+            Map<String, Integer> lengths = new HashMap<>();
+            Map<String, Pair<Integer, Integer>> indexes = header.get(columnName);
+            if (indexes != null) {
+                indexes.forEach(
+                        (indexType, startAndLength) ->
+                                lengths.put(
+                                        indexType,
+                                        startAndLength.getLeft() == EMPTY_INDEX_FLAG
+                                                ? 0
+                                                : startAndLength.getRight()));
+            }
+            return lengths;
+        }
+
+        public FileIndexReader readColumnIndex(String columnName, String indexType) {
+            return getFileIndexReader(columnName, indexType, header.get(columnName).get(indexType));
+        }
+
         private FileIndexReader getFileIndexReader(
                 String columnName, String indexType, Pair<Integer, Integer> startAndLength) {
             if (startAndLength.getLeft() == EMPTY_INDEX_FLAG) {
@@ -37,9 +37,11 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -53,6 +55,7 @@ public class FileIndexPredicate implements Closeable {
     private final FileIndexFormat.Reader reader;
 
     @Nullable private Path path;
+    private double minPruningRate;
 
     public FileIndexPredicate(Path path, FileIO fileIO, RowType fileRowType) throws IOException {
         this(fileIO.newInputStream(path), fileRowType);
@@ -67,14 +70,30 @@ public class FileIndexPredicate implements Closeable {
         this.reader = FileIndexFormat.createReader(inputStream, fileRowType);
     }
 
+    /**
+     * Skips reading the indexes of types which prune less than the given rate of files, see {@link
+     * FileIndexStatistics}.
+     */
+    public FileIndexPredicate withMinPruningRate(double minPruningRate) {
+        this.minPruningRate = minPruningRate;
+        return this;
+    }
+
     public FileIndexResult evaluate(@Nullable Predicate predicate) {
         if (predicate == null) {
             return REMAIN;
         }
         Set<String> requiredFieldNames = getRequiredNames(predicate);
-        Map<String, Collection<FileIndexReader>> indexReaders = new HashMap<>();
-        requiredFieldNames.forEach(name -> indexReaders.put(name, reader.readColumnIndex(name)));
-        FileIndexResult result = new FileIndexPredicateTest(indexReaders).test(predicate);
+        Map<String, Map<String, Integer>> indexLengths = new HashMap<>();
+        Map<String, List<String>> indexTypes = new HashMap<>();
+        for (String name : requiredFieldNames) {
+            Map<String, Integer> lengths = reader.readColumnIndexLengths(name);
+            indexLengths.put(name, lengths);
+            indexTypes.put(name, sortedIndexTypes(lengths));
+        }
+        FileIndexResult result =
+                new FileIndexPredicateTest(reader, indexTypes, indexLengths, minPruningRate)
+                        .test(predicate);
         if (!result.remain()) {
             LOG.debug(
                     "One file has been filtered: "
@@ -83,6 +102,15 @@ public class FileIndexPredicate implements Closeable {
         return result;
     }
 
+    /** Orders the indexes of the column by their estimated cost to prune this file. */
+    private static List<String> sortedIndexTypes(Map<String, Integer> lengths) {
+        List<String> indexTypes = new ArrayList<>(lengths.keySet());
+        indexTypes.sort(
+                Comparator.comparingDouble(
+                        type -> FileIndexStatistics.INSTANCE.cost(type, lengths.get(type))));
+        return indexTypes;
+    }
+
     private Set<String> getRequiredNames(Predicate filePredicate) {
         return filePredicate.visit(
                 new PredicateVisitor<Set<String>>() {
@@ -112,10 +140,22 @@ public class FileIndexPredicate implements Closeable {
     /** Predicate test worker. */
     private static class FileIndexPredicateTest implements PredicateVisitor<FileIndexResult> {
 
-        private final Map<String, Collection<FileIndexReader>> columnIndexReaders;
-
-        public FileIndexPredicateTest(Map<String, Collection<FileIndexReader>> fileIndexReaders) {
-            this.columnIndexReaders = fileIndexReaders;
+        private final FileIndexFormat.Reader reader;
+        private final Map<String, List<String>> columnIndexTypes;
+        private final Map<String, Map<String, Integer>> columnIndexLengths;
+        private final double minPruningRate;
+        private final Map<String, Map<String, FileIndexReader>> columnIndexReaders;
+
+        public FileIndexPredicateTest(
+                FileIndexFormat.Reader reader,
+                Map<String, List<String>> columnIndexTypes,
+                Map<String, Map<String, Integer>> columnIndexLengths,
+                double minPruningRate) {
+            this.reader = reader;
+            this.columnIndexTypes = columnIndexTypes;
+            this.columnIndexLengths = columnIndexLengths;
+            this.minPruningRate = minPruningRate;
+            this.columnIndexReaders = new HashMap<>();
         }
 
         public FileIndexResult test(Predicate predicate) {
@@ -127,13 +167,25 @@ public class FileIndexPredicate implements Closeable {
             FileIndexResult compoundResult = REMAIN;
             FieldRef fieldRef =
                     new FieldRef(predicate.index(), predicate.fieldName(), predicate.type());
-            for (FileIndexReader fileIndexReader : columnIndexReaders.get(predicate.fieldName())) {
-                compoundResult =
-                        compoundResult.and(
-                                predicate
-                                        .function()
-                                        .visit(fileIndexReader, fieldRef, predicate.literals()));
+            FileIndexStatistics statistics = FileIndexStatistics.INSTANCE;
+            Map<String, Integer> lengths = columnIndexLengths.get(predicate.fieldName());
+            for (String indexType : columnIndexTypes.get(predicate.fieldName())) {
+                if (statistics.shouldSkip(indexType, minPruningRate)) {
+                    continue;
+                }
 
+                long start = System.nanoTime();
+                FileIndexResult result =
+                        predicate
+                                .function()
+                                .visit(
+                                        indexReader(predicate.fieldName(), indexType),
+                                        fieldRef,
+                                        predicate.literals());
+                statistics.record(
+                        indexType, lengths.get(indexType), System.nanoTime() - start, result);
+
+                compoundResult = compoundResult.and(result);
                 if (!compoundResult.remain()) {
                     return compoundResult;
                 }
@@ -141,6 +193,12 @@ public class FileIndexPredicate implements Closeable {
             return compoundResult;
         }
 
+        private FileIndexReader indexReader(String columnName, String indexType) {
+            return columnIndexReaders
+                    .computeIfAbsent(columnName, k -> new HashMap<>())
+                    .computeIfAbsent(indexType, type -> reader.readColumnIndex(columnName, type));
+        }
+
         @Override
         public FileIndexResult visit(CompoundPredicate predicate) {
             if (predicate.function() instanceof Or) {
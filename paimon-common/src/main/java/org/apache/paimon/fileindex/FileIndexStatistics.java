@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the evaluations of each file index type in this JVM. They are used to evaluate
+ * cheap and selective indexes first, and to skip indexes which rarely prune a file.
+ */
+public class FileIndexStatistics {
+
+    public static final FileIndexStatistics INSTANCE = new FileIndexStatistics();
+
+    /** Number of evaluations before the pruning rate of an index type is trusted. */
+    private static final long MIN_EVALUATIONS = 100;
+
+    /** One of this many skipped evaluations is still done to keep the statistics up to date. */
+    private static final long PROBE_INTERVAL = 16;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    FileIndexStatistics() {}
+
+    public void record(String indexType, int length, long nanos, FileIndexResult result) {
+        Stats s = stats(indexType);
+        s.evaluations.increment();
+        s.bytes.add(length);
+        s.nanos.add(nanos);
+        if (result instanceof BitmapIndexResult) {
+            s.selective = true;
+        }
+        if (!result.remain()) {
+            s.pruned.increment();
+        }
+    }
+
+    /**
+     * Estimated cost to prune a file with an index of this type and length, indexes with lower cost
+     * should be evaluated first. Unknown index types have no cost so they are evaluated first.
+     */
+    public double cost(String indexType, int length) {
+        Stats s = stats.get(indexType);
+        if (s == null) {
+            return 0;
+        }
+
+        long evaluations = s.evaluations.sum();
+        if (evaluations == 0) {
+            return 0;
+        }
+        double nanosPerByte = (double) s.nanos.sum() / Math.max(1, s.bytes.sum());
+        double nanos = Math.max(1, nanosPerByte * length);
+        double pruningRate = (s.pruned.sum() + 1.0) / (evaluations + 1.0);
+        return nanos / pruningRate;
+    }
+
+    /**
+     * Returns true if an index of this type is not worth reading because it prunes less than the
+     * given rate of files. Indexes which select rows by a {@link BitmapIndexResult} are never
+     * skipped, their selections are useful even if they seldom prune a whole file.
+     */
+    public boolean shouldSkip(String indexType, double minPruningRate) {
+        if (minPruningRate <= 0) {
+            return false;
+        }
+
+        Stats s = stats.get(indexType);
+        if (s == null || s.selective) {
+            return false;
+        }
+
+        long evaluations = s.evaluations.sum();
+        if (evaluations < MIN_EVALUATIONS
+                || (double) s.pruned.sum() / evaluations >= minPruningRate) {
+            return false;
+        }
+        return s.skipped.incrementAndGet() % PROBE_INTERVAL != 0;
+    }
+
+    private Stats stats(String indexType) {
+        return stats.computeIfAbsent(indexType, k -> new Stats());
+    }
+
+    private static class Stats {
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder pruned = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong skipped = new AtomicLong();
+        private volatile boolean selective;
+    }
+}
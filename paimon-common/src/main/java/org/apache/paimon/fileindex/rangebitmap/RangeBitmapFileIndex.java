@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.rangebitmap;
+
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.CompareUtils;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Range bitmap file index for high-cardinality ordered columns.
+ *
+ * <p>The non-null values of a file are split into buckets of about the same number of rows by
+ * their order, the rows of one value always belong to one bucket. Each bucket stores its min and
+ * max values, a bitmap of its rows, and exact bitmaps of the rows equal to its min and max values.
+ * Buckets which are completely inside or outside of a range are exact, the rows of a bucket which
+ * is cut by the range are returned as a superset.
+ */
+public class RangeBitmapFileIndex implements FileIndexer {
+
+    public static final int VERSION_1 = 1;
+
+    public static final String BUCKETS = "buckets";
+    public static final int DEFAULT_BUCKETS = 64;
+
+    private final DataType dataType;
+    private final Options options;
+
+    public RangeBitmapFileIndex(DataType dataType, Options options) {
+        this.dataType = dataType;
+        this.options = options == null ? new Options() : options;
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(dataType, options.getInteger(BUCKETS, DEFAULT_BUCKETS));
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            return new Reader(dataType, inputStream, start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final DataType dataType;
+        private final Serializer<Object> serializer;
+        private final int maxBuckets;
+        private final RoaringBitmap32 nulls = new RoaringBitmap32();
+        // the rows of each distinct value, built as rows arrive
+        private final TreeMap<Object, RoaringBitmap32> dictionary;
+        private int rowCount;
+
+        public Writer(DataType dataType, int maxBuckets) {
+            this.dataType = dataType;
+            this.serializer = InternalSerializers.create(dataType);
+            this.maxBuckets = Math.max(1, maxBuckets);
+            this.dictionary = new TreeMap<>(this::compare);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key == null) {
+                nulls.add(rowCount);
+            } else {
+                RoaringBitmap32 rows = dictionary.get(key);
+                if (rows == null) {
+                    rows = new RoaringBitmap32();
+                    dictionary.put(serializer.copy(key), rows);
+                }
+                rows.add(rowCount);
+            }
+            rowCount++;
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            List<Bucket> buckets = new ArrayList<>();
+            long nonNullRows = rowCount - nulls.getCardinality();
+            long rowsPerBucket = Math.max(1, (nonNullRows + maxBuckets - 1) / maxBuckets);
+            Bucket bucket = null;
+            // the rows of the same value always belong to the same bucket
+            for (Map.Entry<Object, RoaringBitmap32> entry : dictionary.entrySet()) {
+                if (bucket == null || bucket.rowCount >= rowsPerBucket) {
+                    bucket = new Bucket(entry.getKey(), entry.getValue());
+                    buckets.add(bucket);
+                } else {
+                    bucket.add(entry.getKey(), entry.getValue());
+                }
+            }
+
+            try {
+                DataOutputSerializer header = new DataOutputSerializer(256);
+                DataOutputSerializer body = new DataOutputSerializer(1024);
+                header.writeInt(writeBitmap(body, nulls));
+                for (Bucket b : buckets) {
+                    serializer.serialize(b.min, header);
+                    serializer.serialize(b.max, header);
+                    header.writeInt(writeBitmap(body, b.rows));
+                    header.writeInt(writeBitmap(body, b.minRows));
+                    header.writeInt(writeBitmap(body, b.maxRows));
+                }
+
+                DataOutputSerializer out =
+                        new DataOutputSerializer(13 + header.length() + body.length());
+                out.writeByte(VERSION_1);
+                out.writeInt(rowCount);
+                out.writeInt(buckets.size());
+                out.writeInt(header.length());
+                out.write(header.getSharedBuffer(), 0, header.length());
+                out.write(body.getSharedBuffer(), 0, body.length());
+                return out.getCopyOfBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int compare(Object v1, Object v2) {
+            return CompareUtils.compareLiteral(dataType, v1, v2);
+        }
+
+        private static int writeBitmap(DataOutputSerializer out, RoaringBitmap32 bitmap)
+                throws IOException {
+            if (bitmap.isEmpty()) {
+                return 0;
+            }
+            byte[] bytes = bitmap.serialize();
+            out.write(bytes);
+            return bytes.length;
+        }
+
+        private static class Bucket {
+
+            private final Object min;
+            private final RoaringBitmap32 minRows;
+            private final RoaringBitmap32 rows;
+            private Object max;
+            // empty while the bucket has a single value
+            private RoaringBitmap32 maxRows;
+            private long rowCount;
+
+            private Bucket(Object min, RoaringBitmap32 minRows) {
+                this.min = min;
+                this.minRows = minRows;
+                this.rows = minRows.clone();
+                this.max = min;
+                this.maxRows = new RoaringBitmap32();
+                this.rowCount = minRows.getCardinality();
+            }
+
+            private void add(Object value, RoaringBitmap32 valueRows) {
+                max = value;
+                maxRows = valueRows;
+                rows.or(valueRows);
+                rowCount += valueRows.getCardinality();
+            }
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final DataType dataType;
+        private final SeekableInputStream inputStream;
+        private final int rowCount;
+        private final long nullsOffset;
+        private final int nullsLength;
+        private final Object[] mins;
+        private final Object[] maxs;
+        // offsets and lengths of the bitmaps of the buckets, three bitmaps for each bucket
+        private final long[] offsets;
+        private final int[] lengths;
+        private final RoaringBitmap32[] bitmaps;
+
+        private RoaringBitmap32 nulls;
+
+        public Reader(DataType dataType, SeekableInputStream inputStream, int start)
+                throws IOException {
+            this.dataType = dataType;
+            this.inputStream = inputStream;
+
+            inputStream.seek(start);
+            DataInputStream input = new DataInputStream(inputStream);
+            byte version = input.readByte();
+            if (version > VERSION_1) {
+                throw new RuntimeException(
+                        String.format(
+                                "read range bitmap index file fail, "
+                                        + "your plugin version is lower than %d",
+                                version));
+            }
+            this.rowCount = input.readInt();
+            int bucketCount = input.readInt();
+            int headerLength = input.readInt();
+            byte[] headerBytes = new byte[headerLength];
+            IOUtils.readFully(input, headerBytes);
+
+            Serializer<Object> serializer = InternalSerializers.create(dataType);
+            DataInputDeserializer header = new DataInputDeserializer(headerBytes);
+            long offset = start + 13L + headerLength;
+            this.nullsOffset = offset;
+            this.nullsLength = header.readInt();
+            offset += nullsLength;
+
+            this.mins = new Object[bucketCount];
+            this.maxs = new Object[bucketCount];
+            this.offsets = new long[bucketCount * 3];
+            this.lengths = new int[bucketCount * 3];
+            this.bitmaps = new RoaringBitmap32[bucketCount * 3];
+            for (int i = 0; i < bucketCount; i++) {
+                mins[i] = serializer.deserialize(header);
+                maxs[i] = serializer.deserialize(header);
+                for (int j = i * 3; j < i * 3 + 3; j++) {
+                    offsets[j] = offset;
+                    lengths[j] = header.readInt();
+                    offset += lengths[j];
+                }
+            }
+        }
+
+        @Override
+        public FileIndexResult visitIsNull(FieldRef fieldRef) {
+            return new BitmapIndexResult(this::nulls);
+        }
+
+        @Override
+        public FileIndexResult visitIsNotNull(FieldRef fieldRef) {
+            return new BitmapIndexResult(this::notNulls);
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            return visitIn(fieldRef, Collections.singletonList(literal));
+        }
+
+        @Override
+        public FileIndexResult visitNotEqual(FieldRef fieldRef, Object literal) {
+            return visitNotIn(fieldRef, Collections.singletonList(literal));
+        }
+
+        @Override
+        public FileIndexResult visitIn(FieldRef fieldRef, List<Object> literals) {
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 result = new RoaringBitmap32();
+                        for (Object literal : literals) {
+                            result.or(equal(literal, false));
+                        }
+                        return result;
+                    });
+        }
+
+        @Override
+        public FileIndexResult visitNotIn(FieldRef fieldRef, List<Object> literals) {
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 equal = new RoaringBitmap32();
+                        for (Object literal : literals) {
+                            equal.or(equal(literal, true));
+                        }
+                        return RoaringBitmap32.andNot(notNulls(), equal);
+                    });
+        }
+
+        @Override
+        public FileIndexResult visitLessThan(FieldRef fieldRef, Object literal) {
+            return new BitmapIndexResult(() -> lessThan(literal, false));
+        }
+
+        @Override
+        public FileIndexResult visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            return new BitmapIndexResult(() -> lessThan(literal, true));
+        }
+
+        @Override
+        public FileIndexResult visitGreaterThan(FieldRef fieldRef, Object literal) {
+            return new BitmapIndexResult(() -> greaterThan(literal, false));
+        }
+
+        @Override
+        public FileIndexResult visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            return new BitmapIndexResult(() -> greaterThan(literal, true));
+        }
+
+        /**
+         * Rows equal to the literal. If exact, only the rows known to be equal are returned,
+         * otherwise a superset of them.
+         */
+        private RoaringBitmap32 equal(Object literal, boolean exact) {
+            RoaringBitmap32 result = new RoaringBitmap32();
+            for (int i = 0; i < mins.length; i++) {
+                int minCmp = compare(mins[i], literal);
+                int maxCmp = compare(maxs[i], literal);
+                if (minCmp > 0 || maxCmp < 0) {
+                    continue;
+                }
+
+                if (minCmp == 0) {
+                    result.or(minRows(i));
+                } else if (maxCmp == 0) {
+                    result.or(maxRows(i));
+                } else if (!exact) {
+                    result.or(RoaringBitmap32.andNot(middleRows(i), maxRows(i)));
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap32 lessThan(Object literal, boolean inclusive) {
+            RoaringBitmap32 result = new RoaringBitmap32();
+            for (int i = 0; i < mins.length; i++) {
+                int minCmp = compare(mins[i], literal);
+                int maxCmp = compare(maxs[i], literal);
+                if (maxCmp < 0 || (inclusive && maxCmp == 0)) {
+                    result.or(rows(i));
+                } else if (minCmp > 0 || (!inclusive && minCmp == 0)) {
+                    // no row of this bucket matches
+                } else if (minCmp == 0) {
+                    result.or(minRows(i));
+                } else {
+                    result.or(RoaringBitmap32.andNot(rows(i), maxRows(i)));
+                }
+            }
+            return result;
+        }
+
+        private RoaringBitmap32 greaterThan(Object literal, boolean inclusive) {
+            RoaringBitmap32 result = new RoaringBitmap32();
+            for (int i = 0; i < mins.length; i++) {
+                int minCmp = compare(mins[i], literal);
+                int maxCmp = compare(maxs[i], literal);
+                if (minCmp > 0 || (inclusive && minCmp == 0)) {
+                    result.or(rows(i));
+                } else if (maxCmp < 0 || (!inclusive && maxCmp == 0)) {
+                    // no row of this bucket matches
+                } else if (maxCmp == 0) {
+                    result.or(maxRows(i));
+                } else {
+                    result.or(RoaringBitmap32.andNot(rows(i), minRows(i)));
+                }
+            }
+            return result;
+        }
+
+        /** Rows of the bucket except the rows equal to its min value. */
+        private RoaringBitmap32 middleRows(int bucket) {
+            return RoaringBitmap32.andNot(rows(bucket), minRows(bucket));
+        }
+
+        private int compare(Object value, Object literal) {
+            return CompareUtils.compareLiteral(dataType, value, literal);
+        }
+
+        private RoaringBitmap32 nulls() {
+            if (nulls == null) {
+                nulls = readBitmap(nullsOffset, nullsLength);
+            }
+            return nulls;
+        }
+
+        private RoaringBitmap32 notNulls() {
+            RoaringBitmap32 bitmap = nulls().clone();
+            bitmap.flip(0, rowCount);
+            return bitmap;
+        }
+
+        private RoaringBitmap32 rows(int bucket) {
+            return bitmap(bucket * 3);
+        }
+
+        private RoaringBitmap32 minRows(int bucket) {
+            return bitmap(bucket * 3 + 1);
+        }
+
+        private RoaringBitmap32 maxRows(int bucket) {
+            return bitmap(bucket * 3 + 2);
+        }
+
+        private RoaringBitmap32 bitmap(int index) {
+            if (bitmaps[index] == null) {
+                bitmaps[index] = readBitmap(offsets[index], lengths[index]);
+            }
+            return bitmaps[index];
+        }
+
+        private RoaringBitmap32 readBitmap(long offset, int length) {
+            RoaringBitmap32 bitmap = new RoaringBitmap32();
+            if (length == 0) {
+                return bitmap;
+            }
+            try {
+                byte[] bytes = new byte[length];
+                inputStream.seek(offset);
+                IOUtils.readFully(inputStream, bytes);
+                bitmap.deserialize(ByteBuffer.wrap(bytes));
+                return bitmap;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.utils.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * A {@link SeekableInputStream} which makes vectored reads available for every {@link FileIO}.
+ *
+ * <p>If the wrapped stream is {@link VectoredReadable}, positioned reads are delegated to it.
+ * Otherwise, for example for object stores without native vectored IO, every positioned read opens
+ * its own stream of the file, so that the merged ranges are fetched by parallel range requests
+ * instead of sequential seeks on a single stream.
+ */
+public class VectoredInputStream extends SeekableInputStreamWrapper implements VectoredReadable {
+
+    private final FileIO fileIO;
+    private final Path path;
+    private final int mergeGap;
+    private final int maxRangeSize;
+
+    public VectoredInputStream(
+            FileIO fileIO, Path path, SeekableInputStream in, int mergeGap, int maxRangeSize) {
+        super(in);
+        this.fileIO = fileIO;
+        this.path = path;
+        this.mergeGap = mergeGap;
+        this.maxRangeSize = maxRangeSize;
+    }
+
+    @Override
+    public int pread(long position, byte[] buffer, int offset, int length) throws IOException {
+        if (in instanceof VectoredReadable) {
+            return ((VectoredReadable) in).pread(position, buffer, offset, length);
+        }
+
+        try (SeekableInputStream rangeIn = fileIO.newInputStream(path)) {
+            rangeIn.seek(position);
+            return rangeIn.read(buffer, offset, length);
+        }
+    }
+
+    @Override
+    public void preadFully(long position, byte[] buffer, int offset, int length)
+            throws IOException {
+        if (in instanceof VectoredReadable) {
+            ((VectoredReadable) in).preadFully(position, buffer, offset, length);
+            return;
+        }
+
+        try (SeekableInputStream rangeIn = fileIO.newInputStream(path)) {
+            rangeIn.seek(position);
+            IOUtils.readFully(rangeIn, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public int minSeekForVectorReads() {
+        return mergeGap;
+    }
+
+    @Override
+    public int batchSizeForVectorReads() {
+        return maxRangeSize;
+    }
+
+    @Override
+    public int parallelismForVectorReads() {
+        return in instanceof VectoredReadable
+                ? ((VectoredReadable) in).parallelismForVectorReads()
+                : VectoredReadable.super.parallelismForVectorReads();
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.RemoteIterator;
 import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredReadable;
 import org.apache.paimon.hadoop.SerializableConfiguration;
 import org.apache.paimon.utils.FunctionWithException;
 import org.apache.paimon.utils.Pair;
@@ -196,7 +197,8 @@ public class HadoopFileIO implements FileIO {
         return path.getFileSystem(hadoopConf.get());
     }
 
-    private static class HadoopSeekableInputStream extends SeekableInputStream {
+    private static class HadoopSeekableInputStream extends SeekableInputStream
+            implements VectoredReadable {
 
         /**
          * Minimum amount of bytes to skip forward before we issue a seek instead of discarding
@@ -253,6 +255,11 @@ public class HadoopFileIO implements FileIO {
             return in.read(b, off, len);
         }
 
+        @Override
+        public int pread(long position, byte[] b, int off, int len) throws IOException {
+            return in.read(position, b, off, len);
+        }
+
         @Override
         public void close() throws IOException {
             in.close();
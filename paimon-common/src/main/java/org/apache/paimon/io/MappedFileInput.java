@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.MathUtils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only view of an uncompressed local file which is memory-mapped into {@link
+ * MemorySegment}s. Reads are served directly from the OS page cache without copying pages into
+ * the JVM heap.
+ *
+ * <p>A single mapping is limited to 2 GB, so the file is split into power-of-two sized regions.
+ * Accesses which span two regions fall back to byte-wise reads.
+ */
+public class MappedFileInput implements Closeable {
+
+    private static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private final long fileLength;
+    private final int regionSizeBits;
+    private final int regionSizeMask;
+
+    private MemorySegment[] regions;
+
+    public MappedFileInput(File file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    @VisibleForTesting
+    MappedFileInput(File file, int regionSize) throws IOException {
+        this.regionSizeBits = MathUtils.log2strict(regionSize);
+        this.regionSizeMask = regionSize - 1;
+        try (RandomAccessFile accessFile = new RandomAccessFile(file, "r");
+                FileChannel channel = accessFile.getChannel()) {
+            this.fileLength = accessFile.length();
+            int numRegions = (int) ((fileLength + regionSize - 1) >>> regionSizeBits);
+            this.regions = new MemorySegment[numRegions];
+            for (int i = 0; i < numRegions; i++) {
+                long position = (long) i << regionSizeBits;
+                long size = Math.min(regionSize, fileLength - position);
+                // the mapping stays valid after the channel is closed
+                regions[i] =
+                        MemorySegment.wrapOffHeapMemory(
+                                channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+            }
+        }
+    }
+
+    public long length() {
+        return fileLength;
+    }
+
+    /** Returns the mapped region which contains the given position. */
+    public MemorySegment segment(long position) {
+        return regions[(int) (position >>> regionSizeBits)];
+    }
+
+    /** Returns the offset of the given position inside of its {@link #segment(long)}. */
+    public int offset(long position) {
+        return (int) (position & regionSizeMask);
+    }
+
+    /** Returns true if the range [position, position + length) lies inside of one region. */
+    public boolean inSingleRegion(long position, int length) {
+        return offset(position) + length <= regionSizeMask + 1;
+    }
+
+    public byte get(long position) {
+        return segment(position).get(offset(position));
+    }
+
+    public void get(long position, byte[] dst, int dstOffset, int length) throws IOException {
+        if (position + length > fileLength) {
+            throw new EOFException(
+                    String.format(
+                            "Read %s bytes at position %s beyond file length %s.",
+                            length, position, fileLength));
+        }
+
+        if (inSingleRegion(position, length)) {
+            segment(position).get(offset(position), dst, dstOffset, length);
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = get(position + i);
+        }
+    }
+
+    /** Compares the bytes at the given position with the key without copying them. */
+    public boolean equalTo(long position, MemorySegment key, int length) {
+        if (inSingleRegion(position, length)) {
+            return segment(position).equalTo(key, offset(position), 0, length);
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (get(position + i) != key.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Decodes a variable-length long which is encoded by {@code VarLengthIntUtils}. */
+    public long decodeLong(long position) {
+        long result = 0;
+        for (int offset = 0; offset < 64; offset += 7) {
+            long b = get(position++);
+            result |= (b & 0x7F) << offset;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new Error("Malformed long.");
+    }
+
+    @Override
+    public void close() {
+        // mapped buffers are released by GC once they are no longer referenced
+        regions = null;
+    }
+}
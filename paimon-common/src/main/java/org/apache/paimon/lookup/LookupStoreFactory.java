@@ -77,7 +77,8 @@ public interface LookupStoreFactory {
                         cacheManager,
                         options.cachePageSize(),
                         options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
-                        compression);
+                        compression,
+                        options.lookupHashMmapEnabled());
             default:
                 throw new IllegalArgumentException(
                         "Unsupported lookup local file type: " + options.lookupLocalFileType());
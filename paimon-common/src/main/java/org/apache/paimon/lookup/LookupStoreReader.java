@@ -22,6 +22,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Reader, lookup value by key bytes. */
 public interface LookupStoreReader extends Closeable {
@@ -29,4 +31,17 @@ public interface LookupStoreReader extends Closeable {
     /** Lookup value by key. */
     @Nullable
     byte[] lookup(byte[] key) throws IOException;
+
+    /**
+     * Lookup values by a batch of keys which are sorted in ascending order. The value of each key
+     * is returned at the same position, null if the key is absent. Implementations may exploit the
+     * key order to avoid seeking for every key.
+     */
+    default List<byte[]> lookupBatch(List<byte[]> sortedKeys) throws IOException {
+        List<byte[]> values = new ArrayList<>(sortedKeys.size());
+        for (byte[] key : sortedKeys) {
+            values.add(lookup(key));
+        }
+        return values;
+    }
 }
@@ -36,22 +36,39 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
     private final int cachePageSize;
     private final double loadFactor;
     @Nullable private final BlockCompressionFactory compressionFactory;
+    private final boolean mmapEnabled;
 
     public HashLookupStoreFactory(
             CacheManager cacheManager,
             int cachePageSize,
             double loadFactor,
             CompressOptions compression) {
+        this(cacheManager, cachePageSize, loadFactor, compression, false);
+    }
+
+    public HashLookupStoreFactory(
+            CacheManager cacheManager,
+            int cachePageSize,
+            double loadFactor,
+            CompressOptions compression,
+            boolean mmapEnabled) {
         this.cacheManager = cacheManager;
         this.cachePageSize = cachePageSize;
         this.loadFactor = loadFactor;
-        this.compressionFactory = BlockCompressionFactory.create(compression);
+        // memory-mapped files are probed in place, so they must be written uncompressed
+        this.compressionFactory = mmapEnabled ? null : BlockCompressionFactory.create(compression);
+        this.mmapEnabled = mmapEnabled;
     }
 
     @Override
     public HashLookupStoreReader createReader(File file, Context context) throws IOException {
         return new HashLookupStoreReader(
-                file, (HashContext) context, cacheManager, cachePageSize, compressionFactory);
+                file,
+                (HashContext) context,
+                cacheManager,
+                cachePageSize,
+                compressionFactory,
+                mmapEnabled);
     }
 
     @Override
@@ -19,10 +19,13 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.MappedFileInput;
 import org.apache.paimon.io.PageFileInput;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.io.cache.FileBasedRandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileBasedBloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
@@ -39,6 +42,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
 
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
 /* This file is based on source code of StorageReader from the PalDB Project (https://github.com/linkedin/PalDB), licensed by the Apache
  * Software Foundation (ASF) under the Apache License, Version 2.0. See the NOTICE file distributed with this work for
  * additional information regarding copyright ownership. */
@@ -60,12 +65,15 @@ public class HashLookupStoreReader
     private final int[] indexOffsets;
     // Offset of the data for different key length
     private final long[] dataOffsets;
-    // File input view
-    private FileBasedRandomInputView inputView;
+    // File input view, null if the file is memory-mapped
+    @Nullable private FileBasedRandomInputView inputView;
+    // Memory-mapped file, null if the file is read through cache manager
+    @Nullable private MappedFileInput mappedInput;
     // Buffers
     private final byte[] slotBuffer;
 
     @Nullable private FileBasedBloomFilter bloomFilter;
+    @Nullable private BloomFilter mappedBloomFilter;
 
     HashLookupStoreReader(
             File file,
@@ -74,6 +82,17 @@ public class HashLookupStoreReader
             int cachePageSize,
             @Nullable BlockCompressionFactory compressionFactory)
             throws IOException {
+        this(file, context, cacheManager, cachePageSize, compressionFactory, false);
+    }
+
+    HashLookupStoreReader(
+            File file,
+            HashContext context,
+            CacheManager cacheManager,
+            int cachePageSize,
+            @Nullable BlockCompressionFactory compressionFactory,
+            boolean mmapEnabled)
+            throws IOException {
         // File path
         if (!file.exists()) {
             throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
@@ -92,6 +111,17 @@ public class HashLookupStoreReader
 
         LOG.info("Opening file {}", file.getName());
 
+        if (mmapEnabled) {
+            if (context.compressPages != null) {
+                throw new IllegalArgumentException(
+                        "Compressed hash lookup file "
+                                + file.getName()
+                                + " can not be memory-mapped.");
+            }
+            openMapped(file, context);
+            return;
+        }
+
         PageFileInput fileInput =
                 PageFileInput.create(
                         file,
@@ -112,6 +142,18 @@ public class HashLookupStoreReader
         }
     }
 
+    private void openMapped(File file, HashContext context) throws IOException {
+        mappedInput = new MappedFileInput(file);
+        if (context.bloomFilterEnabled) {
+            // bloom filter is always written at the head of the file
+            checkArgument(mappedInput.inSingleRegion(0, context.bloomFilterBytes));
+            mappedBloomFilter =
+                    new BloomFilter(
+                            context.bloomFilterExpectedEntries, context.bloomFilterBytes);
+            mappedBloomFilter.setMemorySegment(mappedInput.segment(0), 0);
+        }
+    }
+
     @Override
     public byte[] lookup(byte[] key) throws IOException {
         int keyLength = key.length;
@@ -124,6 +166,10 @@ public class HashLookupStoreReader
             return null;
         }
 
+        if (mappedInput != null) {
+            return lookupMapped(key, hashcode);
+        }
+
         long hashPositive = hashcode & 0x7fffffff;
         int numSlots = slots[keyLength];
         int slotSize = slotSizes[keyLength];
@@ -146,6 +192,52 @@ public class HashLookupStoreReader
         return null;
     }
 
+    /** Probes slots and compares keys in place on the mapped file, only the value is copied. */
+    @Nullable
+    private byte[] lookupMapped(byte[] key, int hashcode) throws IOException {
+        if (mappedBloomFilter != null && !mappedBloomFilter.testHash(hashcode)) {
+            return null;
+        }
+
+        int keyLength = key.length;
+        long hashPositive = hashcode & 0x7fffffff;
+        int numSlots = slots[keyLength];
+        int slotSize = slotSizes[keyLength];
+        int indexOffset = indexOffsets[keyLength];
+        long dataOffset = dataOffsets[keyLength];
+        MemorySegment keySegment = MemorySegment.wrap(key);
+
+        for (int probe = 0; probe < numSlots; probe++) {
+            long slot = (hashPositive + probe) % numSlots;
+            long slotPosition = indexOffset + slot * slotSize;
+
+            long offset = mappedInput.decodeLong(slotPosition + keyLength);
+            if (offset == 0) {
+                return null;
+            }
+            if (mappedInput.equalTo(slotPosition, keySegment, keyLength)) {
+                return getMappedValue(dataOffset + offset);
+            }
+        }
+        return null;
+    }
+
+    private byte[] getMappedValue(long offset) throws IOException {
+        // Get size of data, see VarLengthIntUtils
+        int size = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = mappedInput.get(offset++);
+            size |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+
+        byte[] res = new byte[size];
+        mappedInput.get(offset, res, 0, size);
+        return res;
+    }
+
     private boolean isKey(byte[] slotBuffer, byte[] key) {
         for (int i = 0; i < key.length; i++) {
             if (slotBuffer[i] != key[i]) {
@@ -156,6 +248,10 @@ public class HashLookupStoreReader
     }
 
     private byte[] getValue(long offset) throws IOException {
+        if (mappedInput != null) {
+            return getMappedValue(offset);
+        }
+
         inputView.setReadPosition(offset);
 
         // Get size of data
@@ -172,8 +268,17 @@ public class HashLookupStoreReader
         if (bloomFilter != null) {
             bloomFilter.close();
         }
-        inputView.close();
-        inputView = null;
+        if (mappedBloomFilter != null) {
+            mappedBloomFilter.unsetMemorySegment();
+        }
+        if (inputView != null) {
+            inputView.close();
+            inputView = null;
+        }
+        if (mappedInput != null) {
+            mappedInput.close();
+            mappedInput = null;
+        }
     }
 
     @Override
@@ -223,11 +328,21 @@ public class HashLookupStoreReader
         @Override
         public FastEntry next() {
             try {
-                inputView.setReadPosition(currentIndexOffset);
+                if (inputView != null) {
+                    inputView.setReadPosition(currentIndexOffset);
+                }
 
                 long offset = 0;
                 while (offset == 0) {
-                    inputView.readFully(currentSlotBuffer);
+                    if (inputView != null) {
+                        inputView.readFully(currentSlotBuffer);
+                    } else {
+                        mappedInput.get(
+                                currentIndexOffset,
+                                currentSlotBuffer,
+                                0,
+                                currentSlotBuffer.length);
+                    }
                     offset = VarLengthIntUtils.decodeLong(currentSlotBuffer, currentKeyLength);
                     currentIndexOffset += currentSlotBuffer.length;
                 }
@@ -33,7 +33,9 @@ import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import static org.apache.paimon.lookup.sort.SortLookupStoreUtils.crc32c;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -106,9 +108,47 @@ public class SortLookupStoreReader implements LookupStoreReader {
         return null;
     }
 
+    @Override
+    public List<byte[]> lookupBatch(List<byte[]> sortedKeys) throws IOException {
+        List<byte[]> values = new ArrayList<>(sortedKeys.size());
+
+        // keys are sorted, so the current data block is reused until a key exceeds its last key
+        BlockIterator current = null;
+        MemorySlice currentLastKey = null;
+        boolean exhausted = false;
+        for (byte[] key : sortedKeys) {
+            if (exhausted
+                    || (bloomFilter != null
+                            && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key)))) {
+                values.add(null);
+                continue;
+            }
+
+            MemorySlice keySlice = MemorySlice.wrap(key);
+            if (current == null || comparator.compare(keySlice, currentLastKey) > 0) {
+                indexBlockIterator.seekTo(keySlice);
+                if (!indexBlockIterator.hasNext()) {
+                    // key is greater than all keys of the file, so are the remaining keys
+                    exhausted = true;
+                    values.add(null);
+                    continue;
+                }
+                BlockEntry indexEntry = indexBlockIterator.next();
+                currentLastKey = indexEntry.getKey();
+                current = readDataBlock(indexEntry.getValue());
+            }
+
+            values.add(current.seekTo(keySlice) ? current.next().getValue().copyBytes() : null);
+        }
+        return values;
+    }
+
     private BlockIterator getNextBlock() {
         // index block handle, point to the key, value position.
-        MemorySlice blockHandle = indexBlockIterator.next().getValue();
+        return readDataBlock(indexBlockIterator.next().getValue());
+    }
+
+    private BlockIterator readDataBlock(MemorySlice blockHandle) {
         BlockReader dataBlock =
                 readBlock(BlockHandle.readBlockHandle(blockHandle.toInput()), false);
         return dataBlock.iterator();
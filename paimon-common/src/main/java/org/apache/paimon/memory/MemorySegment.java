@@ -88,6 +88,25 @@ public final class MemorySegment {
         return wrapOffHeapMemory(ByteBuffer.allocateDirect(size));
     }
 
+    /**
+     * Allocates off-heap memory which is not released by GC, it must be released by {@link #free}.
+     * The memory is not backed by a {@link ByteBuffer}, so it can not be {@link #wrap wrapped}.
+     */
+    public static MemorySegment allocateOffHeapUnsafeMemory(int size) {
+        return new MemorySegment(null, null, UNSAFE.allocateMemory(size), size);
+    }
+
+    /** Frees the memory allocated by {@link #allocateOffHeapUnsafeMemory}. */
+    public void free() {
+        if (heapMemory != null || offHeapBuffer != null) {
+            throw new IllegalStateException("Memory segment is not allocated by unsafe");
+        }
+        if (address != 0) {
+            UNSAFE.freeMemory(address);
+            address = 0;
+        }
+    }
+
     public int size() {
         return size;
     }
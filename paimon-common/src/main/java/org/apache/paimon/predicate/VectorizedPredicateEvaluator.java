@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.AbstractHeapVector;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.types.DataTypeRoot;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Evaluates a {@link Predicate} against a {@link VectorizedColumnBatch} column by column instead
+ * of row by row. The field indexes of the predicate are the column indexes of the batch.
+ *
+ * <p>Comparisons of integral and floating point vectors with literals are evaluated by tight loops
+ * over primitive values. Dictionary-encoded {@link BytesColumnVector}s are evaluated once for each
+ * dictionary id. Other leaves fall back to {@link LeafPredicate#test} for each row.
+ */
+public class VectorizedPredicateEvaluator {
+
+    private final Predicate predicate;
+
+    private long[] longValues = new long[0];
+    private double[] doubleValues = new double[0];
+
+    public VectorizedPredicateEvaluator(Predicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /** Returns the ids of the rows of the batch which satisfy the predicate. */
+    public RoaringBitmap32 evaluate(VectorizedColumnBatch batch) {
+        boolean[] selected = select(batch);
+        RoaringBitmap32 bitmap = new RoaringBitmap32();
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                bitmap.add(i);
+            }
+        }
+        return bitmap;
+    }
+
+    /** Returns for each row of the batch whether it satisfies the predicate. */
+    public boolean[] select(VectorizedColumnBatch batch) {
+        return evaluate(predicate, batch, batch.getNumRows());
+    }
+
+    private boolean[] evaluate(Predicate predicate, VectorizedColumnBatch batch, int numRows) {
+        if (predicate instanceof CompoundPredicate) {
+            CompoundPredicate compound = (CompoundPredicate) predicate;
+            boolean and = compound.function() instanceof And;
+            boolean[] result = null;
+            for (Predicate child : compound.children()) {
+                boolean[] childResult = evaluate(child, batch, numRows);
+                if (result == null) {
+                    result = childResult;
+                } else if (and) {
+                    for (int i = 0; i < numRows; i++) {
+                        result[i] &= childResult[i];
+                    }
+                } else {
+                    for (int i = 0; i < numRows; i++) {
+                        result[i] |= childResult[i];
+                    }
+                }
+                if (and && noneSelected(result)) {
+                    return result;
+                }
+            }
+            return result == null ? new boolean[numRows] : result;
+        }
+
+        LeafPredicate leaf = (LeafPredicate) predicate;
+        ColumnVector vector = batch.columns[leaf.index()];
+        LeafFunction function = leaf.function();
+        boolean[] result = new boolean[numRows];
+        if (function instanceof IsNull || function instanceof IsNotNull) {
+            boolean isNull = function instanceof IsNull;
+            for (int i = 0; i < numRows; i++) {
+                result[i] = vector.isNullAt(i) == isNull;
+            }
+        } else if (leaf.literals().contains(null)) {
+            evaluateRows(leaf, batch, numRows, result);
+        } else if (isDictionaryBytes(vector)) {
+            evaluateDictionary(leaf, (AbstractHeapVector) vector, numRows, result);
+        } else if (!evaluateLongs(leaf, vector, numRows, result)
+                && !evaluateDoubles(leaf, vector, numRows, result)) {
+            evaluateRows(leaf, batch, numRows, result);
+        }
+        return result;
+    }
+
+    private static void evaluateRows(
+            LeafPredicate leaf, VectorizedColumnBatch batch, int numRows, boolean[] result) {
+        ColumnarRow row = new ColumnarRow(batch);
+        for (int i = 0; i < numRows; i++) {
+            row.setRowId(i);
+            result[i] = leaf.test(row);
+        }
+    }
+
+    private static boolean isDictionaryBytes(ColumnVector vector) {
+        return vector instanceof BytesColumnVector
+                && vector instanceof AbstractHeapVector
+                && ((AbstractHeapVector) vector).hasDictionary();
+    }
+
+    /** Evaluates the leaf once for each dictionary id which appears in the vector. */
+    private static void evaluateDictionary(
+            LeafPredicate leaf, AbstractHeapVector vector, int numRows, boolean[] result) {
+        Dictionary dictionary = vector.getDictionary();
+        int[] ids = vector.getDictionaryIds().vector;
+        boolean string = leaf.type().is(DataTypeFamily.CHARACTER_STRING);
+        // 0 is not evaluated yet, 1 is true and 2 is false
+        byte[] cache = new byte[64];
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                continue;
+            }
+
+            int id = ids[i];
+            if (id >= cache.length) {
+                cache = Arrays.copyOf(cache, Math.max(id + 1, cache.length * 2));
+            }
+            if (cache[id] == 0) {
+                byte[] bytes = dictionary.decodeToBinary(id);
+                Object field = string ? BinaryString.fromBytes(bytes) : bytes;
+                cache[id] =
+                        leaf.function().test(leaf.type(), field, leaf.literals())
+                                ? (byte) 1
+                                : (byte) 2;
+            }
+            result[i] = cache[id] == 1;
+        }
+    }
+
+    private boolean evaluateLongs(
+            LeafPredicate leaf, ColumnVector vector, int numRows, boolean[] result) {
+        if (!leaf.type().is(DataTypeFamily.INTEGER_NUMERIC)
+                && !leaf.type().is(DataTypeRoot.DATE)
+                && !leaf.type().is(DataTypeRoot.TIME_WITHOUT_TIME_ZONE)) {
+            return false;
+        }
+
+        long[] values = longValues.length >= numRows ? longValues : new long[numRows];
+        longValues = values;
+        if (vector instanceof LongColumnVector) {
+            LongColumnVector longs = (LongColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = longs.getLong(i);
+            }
+        } else if (vector instanceof IntColumnVector) {
+            IntColumnVector ints = (IntColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = ints.getInt(i);
+            }
+        } else if (vector instanceof ShortColumnVector) {
+            ShortColumnVector shorts = (ShortColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = shorts.getShort(i);
+            }
+        } else if (vector instanceof ByteColumnVector) {
+            ByteColumnVector bytes = (ByteColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = bytes.getByte(i);
+            }
+        } else {
+            return false;
+        }
+
+        List<Object> literals = leaf.literals();
+        long[] longLiterals = new long[literals.size()];
+        for (int i = 0; i < longLiterals.length; i++) {
+            longLiterals[i] = ((Number) literals.get(i)).longValue();
+        }
+
+        LeafFunction function = leaf.function();
+        if (function instanceof In || function instanceof NotIn) {
+            boolean in = function instanceof In;
+            for (int i = 0; i < numRows; i++) {
+                boolean contains = false;
+                for (long literal : longLiterals) {
+                    if (values[i] == literal) {
+                        contains = true;
+                        break;
+                    }
+                }
+                result[i] = contains == in;
+            }
+        } else {
+            long literal = longLiterals[0];
+            if (function instanceof Equal) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] == literal;
+                }
+            } else if (function instanceof NotEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] != literal;
+                }
+            } else if (function instanceof LessThan) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] < literal;
+                }
+            } else if (function instanceof LessOrEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] <= literal;
+                }
+            } else if (function instanceof GreaterThan) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] > literal;
+                }
+            } else if (function instanceof GreaterOrEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = values[i] >= literal;
+                }
+            } else {
+                return false;
+            }
+        }
+        clearNulls(vector, numRows, result);
+        return true;
+    }
+
+    private boolean evaluateDoubles(
+            LeafPredicate leaf, ColumnVector vector, int numRows, boolean[] result) {
+        if (!leaf.type().is(DataTypeFamily.APPROXIMATE_NUMERIC)) {
+            return false;
+        }
+
+        double[] values = doubleValues.length >= numRows ? doubleValues : new double[numRows];
+        doubleValues = values;
+        if (vector instanceof DoubleColumnVector) {
+            DoubleColumnVector doubles = (DoubleColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = doubles.getDouble(i);
+            }
+        } else if (vector instanceof FloatColumnVector) {
+            FloatColumnVector floats = (FloatColumnVector) vector;
+            for (int i = 0; i < numRows; i++) {
+                values[i] = floats.getFloat(i);
+            }
+        } else {
+            return false;
+        }
+
+        List<Object> literals = leaf.literals();
+        double[] doubleLiterals = new double[literals.size()];
+        for (int i = 0; i < doubleLiterals.length; i++) {
+            doubleLiterals[i] = ((Number) literals.get(i)).doubleValue();
+        }
+
+        // Double.compare keeps the order of compareTo for NaN and signed zeros
+        LeafFunction function = leaf.function();
+        if (function instanceof In || function instanceof NotIn) {
+            boolean in = function instanceof In;
+            for (int i = 0; i < numRows; i++) {
+                boolean contains = false;
+                for (double literal : doubleLiterals) {
+                    if (Double.compare(values[i], literal) == 0) {
+                        contains = true;
+                        break;
+                    }
+                }
+                result[i] = contains == in;
+            }
+        } else {
+            double literal = doubleLiterals[0];
+            if (function instanceof Equal) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) == 0;
+                }
+            } else if (function instanceof NotEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) != 0;
+                }
+            } else if (function instanceof LessThan) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) < 0;
+                }
+            } else if (function instanceof LessOrEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) <= 0;
+                }
+            } else if (function instanceof GreaterThan) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) > 0;
+                }
+            } else if (function instanceof GreaterOrEqual) {
+                for (int i = 0; i < numRows; i++) {
+                    result[i] = Double.compare(values[i], literal) >= 0;
+                }
+            } else {
+                return false;
+            }
+        }
+        clearNulls(vector, numRows, result);
+        return true;
+    }
+
+    private static void clearNulls(ColumnVector vector, int numRows, boolean[] result) {
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                result[i] = false;
+            }
+        }
+    }
+
+    private static boolean noneSelected(boolean[] selected) {
+        for (boolean s : selected) {
+            if (s) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,8 +21,19 @@ package org.apache.paimon.reader;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 
+import javax.annotation.Nullable;
+
 /** Wrap {@link RecordReader.RecordIterator} to support returning batch directly. */
 public interface VectorizedRecordIterator extends RecordReader.RecordIterator<InternalRow> {
 
     VectorizedColumnBatch batch();
+
+    /**
+     * Ids of the rows in {@link #batch()} returned by this iterator, in order, or null if all rows
+     * of the batch are returned.
+     */
+    @Nullable
+    default int[] selection() {
+        return null;
+    }
 }
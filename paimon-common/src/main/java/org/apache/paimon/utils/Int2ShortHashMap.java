@@ -18,12 +18,18 @@
 
 package org.apache.paimon.utils;
 
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.Int2ShortMap.Entry;
+import it.unimi.dsi.fastutil.ints.Int2ShortMaps;
 import it.unimi.dsi.fastutil.ints.Int2ShortOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 
+import java.io.IOException;
+
 /** Int to short hash map. */
-public class Int2ShortHashMap {
+public class Int2ShortHashMap implements Int2ShortMap {
 
     private final Int2ShortOpenHashMap map;
 
@@ -35,22 +41,40 @@ public class Int2ShortHashMap {
         this.map = new Int2ShortOpenHashMap(capacity);
     }
 
+    @Override
     public void put(int key, short value) {
         map.put(key, value);
     }
 
+    @Override
     public boolean containsKey(int key) {
         return map.containsKey(key);
     }
 
+    @Override
     public short get(int key) {
         return map.get(key);
     }
 
+    @Override
     public int size() {
         return map.size();
     }
 
+    @Override
+    public long memorySize() {
+        // an int key array and a short value array
+        return (long) HashCommon.arraySize(Math.max(map.size(), 1), Hash.DEFAULT_LOAD_FACTOR)
+                * (Integer.BYTES + Short.BYTES);
+    }
+
+    @Override
+    public void forEach(EntryConsumer consumer) throws IOException {
+        for (Entry entry : Int2ShortMaps.fastIterable(map)) {
+            consumer.accept(entry.getIntKey(), entry.getShortValue());
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import java.io.IOException;
+
+/** Int to short hash map, which can be backed by heap or off-heap memory. */
+public interface Int2ShortMap extends AutoCloseable {
+
+    void put(int key, short value);
+
+    boolean containsKey(int key);
+
+    short get(int key);
+
+    int size();
+
+    /** Estimated memory occupied by this map in bytes. */
+    long memorySize();
+
+    /** Iterates all entries of this map. */
+    void forEach(EntryConsumer consumer) throws IOException;
+
+    /** Releases the memory held by this map, the map cannot be used after closing. */
+    @Override
+    default void close() {}
+
+    /** Consumer of an int to short entry. */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int key, short value) throws IOException;
+    }
+}
@@ -39,6 +39,10 @@ public class IntHashSet {
         return set.add(value);
     }
 
+    public boolean contains(int value) {
+        return set.contains(value);
+    }
+
     public int size() {
         return set.size();
     }
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import it.unimi.dsi.fastutil.HashCommon;
+
+import java.io.IOException;
+
+import static org.apache.paimon.memory.MemoryUtils.UNSAFE;
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * An open addressing int to short hash map whose slots are stored in off-heap memory, so that large
+ * indexes neither occupy the JVM heap nor put pressure on the garbage collector.
+ *
+ * <p>Each slot holds a 4 bytes key followed by a 2 bytes value, collisions are resolved by linear
+ * probing. Key 0 marks an empty slot, so the entry of key 0 is kept aside in fields.
+ *
+ * <p>The memory is allocated natively rather than through direct byte buffers, so it is released
+ * as soon as the map is rehashed or {@link #close() closed} instead of waiting for a garbage
+ * collection.
+ */
+public class OffHeapInt2ShortHashMap implements Int2ShortMap {
+
+    private static final int SLOT_SIZE = Integer.BYTES + Short.BYTES;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_EXPECTED = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Address of the slots, 0 if the map is closed. */
+    private long address;
+
+    private int capacity;
+    private int maxFill;
+
+    /** Number of entries in slots, excluding key 0. */
+    private int size;
+
+    private boolean containsZeroKey;
+    private short zeroValue;
+
+    public OffHeapInt2ShortHashMap() {
+        this(DEFAULT_EXPECTED);
+    }
+
+    public OffHeapInt2ShortHashMap(int expected) {
+        allocate(capacityFor(expected));
+    }
+
+    @Override
+    public void put(int key, short value) {
+        checkOpen();
+        if (key == 0) {
+            containsZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int pos = HashCommon.mix(key) & (capacity - 1);
+        while (true) {
+            long slot = slotAddress(pos);
+            int current = UNSAFE.getInt(slot);
+            if (current == 0) {
+                UNSAFE.putInt(slot, key);
+                UNSAFE.putShort(slot + Integer.BYTES, value);
+                if (++size >= maxFill) {
+                    rehash(capacity << 1);
+                }
+                return;
+            } else if (current == key) {
+                UNSAFE.putShort(slot + Integer.BYTES, value);
+                return;
+            }
+            pos = (pos + 1) & (capacity - 1);
+        }
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        checkOpen();
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /** Returns the value of the key, or 0 if the key is absent. */
+    @Override
+    public short get(int key) {
+        checkOpen();
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : 0;
+        }
+
+        int pos = find(key);
+        return pos < 0 ? 0 : UNSAFE.getShort(slotAddress(pos) + Integer.BYTES);
+    }
+
+    @Override
+    public int size() {
+        return containsZeroKey ? size + 1 : size;
+    }
+
+    @Override
+    public long memorySize() {
+        return address == 0 ? 0 : (long) capacity * SLOT_SIZE;
+    }
+
+    @Override
+    public void forEach(EntryConsumer consumer) throws IOException {
+        checkOpen();
+        if (containsZeroKey) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int pos = 0; pos < capacity; pos++) {
+            long slot = slotAddress(pos);
+            int key = UNSAFE.getInt(slot);
+            if (key != 0) {
+                consumer.accept(key, UNSAFE.getShort(slot + Integer.BYTES));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (address != 0) {
+            UNSAFE.freeMemory(address);
+            address = 0;
+        }
+    }
+
+    private void checkOpen() {
+        checkState(address != 0, "OffHeapInt2ShortHashMap is already closed.");
+    }
+
+    private int find(int key) {
+        int pos = HashCommon.mix(key) & (capacity - 1);
+        while (true) {
+            int current = UNSAFE.getInt(slotAddress(pos));
+            if (current == 0) {
+                return -1;
+            } else if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & (capacity - 1);
+        }
+    }
+
+    private long slotAddress(int pos) {
+        return address + (long) pos * SLOT_SIZE;
+    }
+
+    private void allocate(int capacity) {
+        long bytes = (long) capacity * SLOT_SIZE;
+        long newAddress = UNSAFE.allocateMemory(bytes);
+        // all slots are empty
+        UNSAFE.setMemory(newAddress, bytes, (byte) 0);
+        this.address = newAddress;
+        this.capacity = capacity;
+        this.maxFill = (int) Math.min(capacity - 1, (long) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY || newCapacity <= 0) {
+            throw new RuntimeException(
+                    "capacity of OffHeapInt2ShortHashMap is too large, advise raise your parallelism in your Flink/Spark job");
+        }
+
+        long oldAddress = address;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        size = 0;
+        try {
+            for (int pos = 0; pos < oldCapacity; pos++) {
+                long slot = oldAddress + (long) pos * SLOT_SIZE;
+                int key = UNSAFE.getInt(slot);
+                if (key != 0) {
+                    put(key, UNSAFE.getShort(slot + Integer.BYTES));
+                }
+            }
+        } finally {
+            UNSAFE.freeMemory(oldAddress);
+        }
+    }
+
+    private static int capacityFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(expected, 1) / LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new RuntimeException(
+                    "capacity of OffHeapInt2ShortHashMap is too large, advise raise your parallelism in your Flink/Spark job");
+        }
+        return (int) Math.max(2, Long.highestOneBit(needed - 1) << 1);
+    }
+}
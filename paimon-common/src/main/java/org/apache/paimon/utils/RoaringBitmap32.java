@@ -159,6 +159,11 @@ public class RoaringBitmap32 {
         return roaringBitmap32;
     }
 
+    /** Returns a bitmap which contains all values in the range [rangeStart, rangeEnd). */
+    public static RoaringBitmap32 bitmapOfRange(long rangeStart, long rangeEnd) {
+        return new RoaringBitmap32(RoaringBitmap.bitmapOfRange(rangeStart, rangeEnd));
+    }
+
     public static RoaringBitmap32 and(final RoaringBitmap32 x1, final RoaringBitmap32 x2) {
         return new RoaringBitmap32(RoaringBitmap.and(x1.roaringBitmap, x2.roaringBitmap));
     }
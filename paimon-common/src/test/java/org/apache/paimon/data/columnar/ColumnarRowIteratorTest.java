@@ -18,12 +18,16 @@
 
 package org.apache.paimon.data.columnar;
 
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.columnar.heap.HeapIntVector;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.utils.LongIterator;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -62,4 +66,54 @@ public class ColumnarRowIteratorTest {
             assertThat(rowIterator.returnedPosition()).isEqualTo(positions[rowIterator.index - 1]);
         }
     }
+
+    @Test
+    public void testSelection() {
+        Random random = new Random();
+        HeapIntVector heapIntVector = new HeapIntVector(100);
+        for (int i = 0; i < 100; i++) {
+            heapIntVector.setInt(i, i);
+        }
+        VectorizedColumnBatch vectorizedColumnBatch =
+                new VectorizedColumnBatch(new ColumnVector[] {heapIntVector});
+        vectorizedColumnBatch.setNumRows(100);
+
+        RoaringBitmap32 selection = new RoaringBitmap32();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (random.nextBoolean()) {
+                selection.add(i + 1000);
+                expected.add(i);
+            }
+        }
+
+        VectorizedRowIterator rowIterator =
+                new VectorizedRowIterator(
+                        new Path("test"), new ColumnarRow(vectorizedColumnBatch), null);
+        rowIterator.reset(1000);
+        ColumnarRowIterator selected =
+                rowIterator.select(selection).mapping(null, new int[] {0, 0});
+
+        List<Integer> rowIds = new ArrayList<>();
+        InternalRow row;
+        while ((row = selected.next()) != null) {
+            rowIds.add(row.getInt(1));
+            assertThat(selected.returnedPosition()).isEqualTo(row.getInt(0) + 1000);
+        }
+        assertThat(rowIds).isEqualTo(expected);
+        if (expected.size() < 100) {
+            assertThat(((VectorizedRowIterator) selected).selection())
+                    .containsExactly(expected.stream().mapToInt(i -> i).toArray());
+        }
+
+        // all rows of the batch are selected
+        rowIterator.reset(0);
+        rowIterator.select(RoaringBitmap32.bitmapOfRange(0, 100));
+        assertThat(rowIterator.selection()).isNull();
+        for (int i = 0; i < 100; i++) {
+            assertThat(rowIterator.next().getInt(0)).isEqualTo(i);
+            assertThat(rowIterator.returnedPosition()).isEqualTo(i);
+        }
+        assertThat(rowIterator.next()).isNull();
+    }
 }
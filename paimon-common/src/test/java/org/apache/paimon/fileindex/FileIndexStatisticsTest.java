@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex;
+
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link FileIndexStatistics}. */
+public class FileIndexStatisticsTest {
+
+    @Test
+    public void testCost() {
+        FileIndexStatistics statistics = new FileIndexStatistics();
+        assertThat(statistics.cost("bloom", 1000)).isEqualTo(0);
+
+        for (int i = 0; i < 100; i++) {
+            statistics.record("bloom", 1000, 1000, i % 2 == 0 ? SKIP : REMAIN);
+            statistics.record("bitmap", 1000, 1000, i % 10 == 0 ? SKIP : REMAIN);
+        }
+        // same speed, the selective index is cheaper
+        assertThat(statistics.cost("bloom", 1000)).isLessThan(statistics.cost("bitmap", 1000));
+        // longer index is more expensive
+        assertThat(statistics.cost("bloom", 100)).isLessThan(statistics.cost("bloom", 1000));
+    }
+
+    @Test
+    public void testShouldSkip() {
+        FileIndexStatistics statistics = new FileIndexStatistics();
+        for (int i = 0; i < 99; i++) {
+            statistics.record("bloom", 1000, 1000, REMAIN);
+        }
+        // not enough evaluations
+        assertThat(statistics.shouldSkip("bloom", 0.1)).isFalse();
+
+        statistics.record("bloom", 1000, 1000, REMAIN);
+        assertThat(statistics.shouldSkip("bloom", 0)).isFalse();
+
+        int evaluated = 0;
+        for (int i = 0; i < 160; i++) {
+            if (!statistics.shouldSkip("bloom", 0.1)) {
+                evaluated++;
+            }
+        }
+        // still probe the index from time to time
+        assertThat(evaluated).isEqualTo(10);
+
+        for (int i = 0; i < 100; i++) {
+            statistics.record("bloom", 1000, 1000, SKIP);
+        }
+        assertThat(statistics.shouldSkip("bloom", 0.1)).isFalse();
+    }
+
+    @Test
+    public void testNotSkipSelectiveIndex() {
+        FileIndexStatistics statistics = new FileIndexStatistics();
+        for (int i = 0; i < 100; i++) {
+            statistics.record("bloom", 1000, 1000, REMAIN);
+            int row = i;
+            statistics.record(
+                    "bitmap",
+                    1000,
+                    1000,
+                    new BitmapIndexResult(() -> RoaringBitmap32.bitmapOf(row)));
+        }
+        assertThat(statistics.shouldSkip("bloom", 0.1)).isTrue();
+        // row selections are useful although they seldom prune a whole file
+        assertThat(statistics.shouldSkip("bitmap", 0.1)).isFalse();
+    }
+}
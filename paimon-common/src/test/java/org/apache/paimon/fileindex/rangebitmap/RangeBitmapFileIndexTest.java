@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.rangebitmap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RangeBitmapFileIndex}. */
+public class RangeBitmapFileIndexTest {
+
+    @Test
+    public void testRange() {
+        IntType intType = new IntType();
+        FieldRef fieldRef = new FieldRef(0, "", intType);
+        Options options = new Options();
+        options.setInteger(RangeBitmapFileIndex.BUCKETS, 2);
+        RangeBitmapFileIndex index = new RangeBitmapFileIndex(intType, options);
+        FileIndexWriter writer = index.createWriter();
+
+        // buckets: [1, 2] and [5, 9]
+        Object[] arr = {1, 2, null, 9, 5, 1, null, 2, 9, 7};
+        for (Object o : arr) {
+            writer.write(o);
+        }
+        byte[] bytes = writer.serializedBytes();
+        FileIndexReader reader =
+                index.createReader(new ByteArraySeekableStream(bytes), 0, bytes.length);
+
+        assertThat(bitmap(reader.visitEqual(fieldRef, 1))).isEqualTo(bitmapOf(0, 5));
+        assertThat(bitmap(reader.visitEqual(fieldRef, 9))).isEqualTo(bitmapOf(3, 8));
+        assertThat(bitmap(reader.visitEqual(fieldRef, 3))).isEqualTo(bitmapOf());
+        // 6 is inside of the bucket [5, 9], the rows which are not its boundaries are returned
+        assertThat(bitmap(reader.visitEqual(fieldRef, 6))).isEqualTo(bitmapOf(9));
+        assertThat(bitmap(reader.visitNotEqual(fieldRef, 1)))
+                .isEqualTo(bitmapOf(1, 3, 4, 7, 8, 9));
+        assertThat(bitmap(reader.visitIn(fieldRef, Arrays.asList(2, 9))))
+                .isEqualTo(bitmapOf(1, 3, 7, 8));
+
+        assertThat(bitmap(reader.visitIsNull(fieldRef))).isEqualTo(bitmapOf(2, 6));
+        assertThat(bitmap(reader.visitIsNotNull(fieldRef)))
+                .isEqualTo(bitmapOf(0, 1, 3, 4, 5, 7, 8, 9));
+
+        assertThat(bitmap(reader.visitLessThan(fieldRef, 5))).isEqualTo(bitmapOf(0, 1, 5, 7));
+        assertThat(bitmap(reader.visitLessOrEqual(fieldRef, 5)))
+                .isEqualTo(bitmapOf(0, 1, 4, 5, 7));
+        assertThat(bitmap(reader.visitLessThan(fieldRef, 9)))
+                .isEqualTo(bitmapOf(0, 1, 4, 5, 7, 9));
+        assertThat(bitmap(reader.visitGreaterThan(fieldRef, 2))).isEqualTo(bitmapOf(3, 4, 8, 9));
+        assertThat(bitmap(reader.visitGreaterOrEqual(fieldRef, 9))).isEqualTo(bitmapOf(3, 8));
+        assertThat(bitmap(reader.visitGreaterThan(fieldRef, 9))).isEqualTo(bitmapOf());
+    }
+
+    @Test
+    public void testRandomSuperset() {
+        Random random = new Random();
+        FieldRef fieldRef = new FieldRef(0, "", DataTypes.STRING());
+        RangeBitmapFileIndex index = new RangeBitmapFileIndex(DataTypes.STRING(), new Options());
+        FileIndexWriter writer = index.createWriter();
+
+        int rowCount = 10_000;
+        Integer[] values = new Integer[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = random.nextInt(10) == 0 ? null : random.nextInt(100_000);
+            writer.write(values[i] == null ? null : string(values[i]));
+        }
+        byte[] bytes = writer.serializedBytes();
+        FileIndexReader reader =
+                index.createReader(new ByteArraySeekableStream(bytes), 0, bytes.length);
+
+        for (int i = 0; i < 20; i++) {
+            int literal = random.nextInt(100_000);
+            BinaryString string = string(literal);
+            assertSuperset(
+                    values,
+                    reader.visitLessThan(fieldRef, string),
+                    v -> string(v).compareTo(string) < 0);
+            assertSuperset(
+                    values,
+                    reader.visitGreaterOrEqual(fieldRef, string),
+                    v -> string(v).compareTo(string) >= 0);
+            assertSuperset(
+                    values,
+                    reader.visitEqual(fieldRef, string),
+                    v -> string(v).compareTo(string) == 0);
+            assertSuperset(
+                    values,
+                    reader.visitNotEqual(fieldRef, string),
+                    v -> string(v).compareTo(string) != 0);
+        }
+    }
+
+    private static void assertSuperset(
+            Integer[] values, FileIndexResult result, IntPredicate predicate) {
+        RoaringBitmap32 bitmap = bitmap(result);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                assertThat(bitmap.contains(i)).isFalse();
+            } else if (predicate.test(values[i])) {
+                assertThat(bitmap.contains(i)).isTrue();
+            }
+        }
+    }
+
+    private static BinaryString string(int value) {
+        return BinaryString.fromString(String.format("%06d", value));
+    }
+
+    private static RoaringBitmap32 bitmap(FileIndexResult result) {
+        return ((BitmapIndexResult) result).get();
+    }
+
+    private static RoaringBitmap32 bitmapOf(int... values) {
+        return RoaringBitmap32.bitmapOf(values);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.fs.local.LocalFileIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link VectoredInputStream}. */
+public class VectoredInputStreamTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testParallelRangeReads() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] bytes = new byte[1024 * 1024];
+        random.nextBytes(bytes);
+        Path path = new Path(tempDir.toUri().toString(), "file");
+        AtomicInteger opened = new AtomicInteger();
+        FileIO fileIO = new NonVectoredFileIO(opened);
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            out.write(bytes);
+        }
+
+        List<FileRange> ranges = new ArrayList<>();
+        int lastEnd = 0;
+        for (int i = 0; i < 10; i++) {
+            int start = lastEnd + 20 * 1024 + random.nextInt(30 * 1024);
+            int length = random.nextInt(20 * 1024) + 1;
+            ranges.add(FileRange.createFileRange(start, length));
+            lastEnd = start + length;
+        }
+
+        try (VectoredInputStream in =
+                new VectoredInputStream(
+                        fileIO, path, fileIO.newInputStream(path), 16 * 1024, 64 * 1024)) {
+            in.readVectored(ranges);
+            for (FileRange range : ranges) {
+                byte[] expected = new byte[range.getLength()];
+                System.arraycopy(bytes, (int) range.getOffset(), expected, 0, range.getLength());
+                assertThat(range.getData().get()).isEqualTo(expected);
+            }
+        }
+
+        // ranges with large gaps are not merged and are fetched by their own streams
+        assertThat(opened.get()).isEqualTo(ranges.size() + 1);
+    }
+
+    /** A {@link LocalFileIO} whose streams do not support vectored reads. */
+    private static class NonVectoredFileIO extends LocalFileIO {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicInteger opened;
+
+        private NonVectoredFileIO(AtomicInteger opened) {
+            this.opened = opened;
+        }
+
+        @Override
+        public SeekableInputStream newInputStream(Path path) throws IOException {
+            opened.incrementAndGet();
+            return new SeekableInputStreamWrapper(super.newInputStream(path)) {};
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link MappedFileInput}. */
+public class MappedFileInputTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testReadAcrossRegions() throws IOException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        byte[] bytes = new byte[rnd.nextInt(1_000) + 100];
+        rnd.nextBytes(bytes);
+        File file = writeFile(bytes);
+
+        try (MappedFileInput input = new MappedFileInput(file, 16)) {
+            assertThat(input.length()).isEqualTo(bytes.length);
+            for (int i = 0; i < 100; i++) {
+                int position = rnd.nextInt(bytes.length);
+                int length = rnd.nextInt(bytes.length - position + 1);
+                byte[] result = new byte[length];
+                input.get(position, result, 0, length);
+                byte[] expected = Arrays.copyOfRange(bytes, position, position + length);
+                assertThat(result).isEqualTo(expected);
+                assertThat(input.equalTo(position, MemorySegment.wrap(expected), length))
+                        .isTrue();
+            }
+
+            assertThatThrownBy(() -> input.get(bytes.length - 1, new byte[2], 0, 2))
+                    .isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    public void testDecodeLong() throws IOException {
+        byte[] bytes = new byte[32];
+        // make the var length long span two regions
+        int length = VarLengthIntUtils.encodeLong(new byte[9], Long.MAX_VALUE);
+        byte[] encoded = new byte[length];
+        VarLengthIntUtils.encodeLong(encoded, Long.MAX_VALUE);
+        System.arraycopy(encoded, 0, bytes, 12, length);
+        File file = writeFile(bytes);
+
+        try (MappedFileInput input = new MappedFileInput(file, 16)) {
+            assertThat(input.decodeLong(12)).isEqualTo(Long.MAX_VALUE);
+            assertThat(input.decodeLong(0)).isEqualTo(0);
+        }
+    }
+
+    private File writeFile(byte[] bytes) throws IOException {
+        File file = new File(tempDir.toFile(), "mapped");
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(bytes);
+        }
+        return file;
+    }
+}
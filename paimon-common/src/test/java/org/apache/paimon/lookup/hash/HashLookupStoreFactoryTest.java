@@ -66,6 +66,7 @@ public class HashLookupStoreFactoryTest {
 
     private final boolean enableBloomFilter;
     private final CompressOptions compress;
+    private final boolean mmapEnabled;
 
     private File file;
     private HashLookupStoreFactory factory;
@@ -73,23 +74,30 @@ public class HashLookupStoreFactoryTest {
     public HashLookupStoreFactoryTest(List<Object> var) {
         this.enableBloomFilter = (Boolean) var.get(0);
         this.compress = new CompressOptions((String) var.get(1), 1);
+        this.mmapEnabled = (Boolean) var.get(2);
     }
 
     @SuppressWarnings("unused")
-    @Parameters(name = "enableBf&compress-{0}")
+    @Parameters(name = "enableBf&compress&mmap-{0}")
     public static List<List<Object>> getVarSeg() {
         return Arrays.asList(
-                Arrays.asList(true, "none"),
-                Arrays.asList(false, "none"),
-                Arrays.asList(false, "lz4"),
-                Arrays.asList(true, "lz4"));
+                Arrays.asList(true, "none", false),
+                Arrays.asList(false, "none", false),
+                Arrays.asList(false, "lz4", false),
+                Arrays.asList(true, "lz4", false),
+                Arrays.asList(true, "none", true),
+                Arrays.asList(false, "none", true));
     }
 
     @BeforeEach
     public void setUp() throws IOException {
         this.factory =
                 new HashLookupStoreFactory(
-                        new CacheManager(MemorySize.ofMebiBytes(1)), pageSize, 0.75d, compress);
+                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                        pageSize,
+                        0.75d,
+                        compress,
+                        mmapEnabled);
         this.file = new File(tempDir.toFile(), UUID.randomUUID().toString());
         if (!file.createNewFile()) {
             throw new IOException("Can not create file: " + file);
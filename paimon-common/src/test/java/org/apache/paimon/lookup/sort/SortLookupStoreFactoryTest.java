@@ -39,6 +39,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -168,6 +169,47 @@ public class SortLookupStoreFactoryTest {
         reader.close();
     }
 
+    @TestTemplate
+    public void testLookupBatch() throws IOException {
+        RowCompactedSerializer keySerializer =
+                new RowCompactedSerializer(RowType.of(new IntType()));
+        GenericRow row = new GenericRow(1);
+        SortLookupStoreFactory factory =
+                new SortLookupStoreFactory(
+                        keySerializer.createSliceComparator(),
+                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                        1024,
+                        compress);
+        SortLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler(bloomFilterEnabled));
+        // only even keys exist
+        for (int i = 0; i < VALUE_COUNT; i += 2) {
+            writer.put(toBytes(keySerializer, row, i), toBytes(i));
+        }
+        Context context = writer.close();
+
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = -10; i < VALUE_COUNT + 10; i++) {
+            if (rnd.nextInt(3) == 0) {
+                keys.add(toBytes(keySerializer, row, i));
+            }
+        }
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+        List<byte[]> values = reader.lookupBatch(keys);
+        assertThat(values).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] expected = reader.lookup(keys.get(i));
+            if (expected == null) {
+                assertThat(values.get(i)).isNull();
+            } else {
+                assertThat(values.get(i)).isEqualTo(expected);
+                assertThat(fromBytes(values.get(i)) % 2).isEqualTo(0);
+            }
+        }
+        reader.close();
+    }
+
     private BloomFilter.Builder createBloomFiler(boolean enabled) {
         if (!enabled) {
             return null;
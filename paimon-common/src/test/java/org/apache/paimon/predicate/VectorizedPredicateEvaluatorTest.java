@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.predicate;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.ColumnarRow;
+import org.apache.paimon.data.columnar.Dictionary;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.data.columnar.heap.AbstractHeapVector;
+import org.apache.paimon.data.columnar.heap.HeapBytesVector;
+import org.apache.paimon.data.columnar.heap.HeapDoubleVector;
+import org.apache.paimon.data.columnar.heap.HeapIntVector;
+import org.apache.paimon.data.columnar.heap.HeapLongVector;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link VectorizedPredicateEvaluator}. */
+public class VectorizedPredicateEvaluatorTest {
+
+    private static final int NUM_ROWS = 1000;
+    private static final String[] DICTIONARY = {"apple", "banana", "cherry", "durian"};
+
+    @Test
+    public void testSameAsRowEvaluation() {
+        Random random = new Random();
+        VectorizedColumnBatch batch = randomBatch(random);
+        PredicateBuilder builder =
+                new PredicateBuilder(
+                        RowType.of(
+                                DataTypes.INT(),
+                                DataTypes.BIGINT(),
+                                DataTypes.DOUBLE(),
+                                DataTypes.STRING()));
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int intLiteral = random.nextInt(100);
+            long longLiteral = random.nextInt(100);
+            double doubleLiteral = random.nextInt(100) / 10d;
+            BinaryString stringLiteral =
+                    BinaryString.fromString(DICTIONARY[random.nextInt(DICTIONARY.length)]);
+            predicates.add(builder.equal(0, intLiteral));
+            predicates.add(builder.notEqual(0, intLiteral));
+            predicates.add(builder.lessThan(1, longLiteral));
+            predicates.add(builder.greaterOrEqual(1, longLiteral));
+            predicates.add(builder.lessOrEqual(2, doubleLiteral));
+            predicates.add(builder.greaterThan(2, doubleLiteral));
+            predicates.add(builder.equal(3, stringLiteral));
+            predicates.add(builder.startsWith(3, BinaryString.fromString("b")));
+            predicates.add(builder.in(0, Arrays.<Object>asList(intLiteral, intLiteral + 1, null)));
+            predicates.add(builder.notIn(1, Arrays.<Object>asList(longLiteral, longLiteral + 1)));
+            predicates.add(
+                    PredicateBuilder.or(
+                            builder.equal(3, stringLiteral),
+                            PredicateBuilder.and(
+                                    builder.isNotNull(0), builder.lessThan(0, intLiteral))));
+        }
+        predicates.add(builder.isNull(3));
+        predicates.add(builder.isNotNull(2));
+
+        ColumnarRow row = new ColumnarRow(batch);
+        for (Predicate predicate : predicates) {
+            RoaringBitmap32 expected = new RoaringBitmap32();
+            for (int i = 0; i < NUM_ROWS; i++) {
+                row.setRowId(i);
+                if (predicate.test(row)) {
+                    expected.add(i);
+                }
+            }
+            assertThat(new VectorizedPredicateEvaluator(predicate).evaluate(batch))
+                    .as(predicate.toString())
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testFallbackToRows() {
+        HeapLongVector vector = new HeapLongVector(3);
+        vector.setLong(0, 1);
+        vector.setNullAt(1);
+        vector.setLong(2, 3);
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(new ColumnVector[] {vector});
+        batch.setNumRows(3);
+
+        // equal to null is always false
+        PredicateBuilder builder = new PredicateBuilder(RowType.of(DataTypes.BIGINT()));
+        assertThat(new VectorizedPredicateEvaluator(builder.equal(0, null)).evaluate(batch))
+                .isEqualTo(RoaringBitmap32.bitmapOf());
+        assertThat(new VectorizedPredicateEvaluator(builder.lessThan(0, 3L)).evaluate(batch))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0));
+    }
+
+    private static VectorizedColumnBatch randomBatch(Random random) {
+        HeapIntVector ints = new HeapIntVector(NUM_ROWS);
+        HeapLongVector longs = new HeapLongVector(NUM_ROWS);
+        HeapDoubleVector doubles = new HeapDoubleVector(NUM_ROWS);
+        HeapBytesVector strings = new HeapBytesVector(NUM_ROWS);
+        strings.setDictionary(new StringDictionary());
+        HeapIntVector ids = strings.reserveDictionaryIds(NUM_ROWS);
+        for (int i = 0; i < NUM_ROWS; i++) {
+            int row = i;
+            setOrNull(random, ints, row, () -> ints.setInt(row, random.nextInt(100)));
+            setOrNull(random, longs, row, () -> longs.setLong(row, random.nextInt(100)));
+            setOrNull(
+                    random, doubles, row, () -> doubles.setDouble(row, random.nextInt(100) / 10d));
+            setOrNull(
+                    random,
+                    strings,
+                    row,
+                    () -> ids.setInt(row, random.nextInt(DICTIONARY.length)));
+        }
+        VectorizedColumnBatch batch =
+                new VectorizedColumnBatch(new ColumnVector[] {ints, longs, doubles, strings});
+        batch.setNumRows(NUM_ROWS);
+        return batch;
+    }
+
+    private static void setOrNull(
+            Random random, AbstractHeapVector vector, int row, Runnable setter) {
+        if (random.nextInt(10) == 0) {
+            vector.setNullAt(row);
+        } else {
+            setter.run();
+        }
+    }
+
+    private static class StringDictionary implements Dictionary {
+
+        @Override
+        public int decodeToInt(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long decodeToLong(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public float decodeToFloat(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double decodeToDouble(int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] decodeToBinary(int id) {
+            return DICTIONARY[id].getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Timestamp decodeToTimestamp(int id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
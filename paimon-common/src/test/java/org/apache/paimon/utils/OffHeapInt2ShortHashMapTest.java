@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** Test for {@link OffHeapInt2ShortHashMap}. */
+public class OffHeapInt2ShortHashMapTest {
+
+    @Test
+    public void testRandom() throws IOException {
+        Map<Integer, Short> values = new HashMap<>();
+        Random rnd = new Random();
+        int num = rnd.nextInt(10_000);
+        for (int i = 0; i < num; i++) {
+            values.put(rnd.nextInt(), (short) rnd.nextInt());
+        }
+        if (rnd.nextBoolean()) {
+            values.put(0, (short) 0);
+            values.put(-1, (short) -1);
+            values.put(1, (short) 1);
+        }
+
+        // start small to exercise rehashing
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap(1);
+        values.forEach(map::put);
+        // overwrite existing keys
+        values.forEach(map::put);
+
+        assertThat(map.size()).isEqualTo(values.size());
+        assertThat(map.memorySize()).isGreaterThanOrEqualTo(values.size() * 6L);
+
+        values.forEach(
+                (k, v) -> {
+                    assertThat(map.containsKey(k)).isTrue();
+                    assertThat(map.get(k)).isEqualTo(v);
+                });
+
+        Map<Integer, Short> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(values);
+        map.close();
+        assertThat(map.memorySize()).isEqualTo(0);
+        assertThrows(IllegalStateException.class, () -> map.get(1));
+        // closing twice is a no-op
+        map.close();
+    }
+
+    @Test
+    public void testAbsentKey() {
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap();
+        map.put(5, (short) 3);
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.containsKey(6)).isFalse();
+        assertThat(map.get(6)).isEqualTo((short) 0);
+    }
+
+    @Test
+    public void testCapacity() {
+        assertThrows(RuntimeException.class, () -> new OffHeapInt2ShortHashMap(1073741824));
+    }
+}
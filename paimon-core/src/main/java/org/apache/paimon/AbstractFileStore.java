@@ -30,7 +30,10 @@ import org.apache.paimon.iceberg.IcebergCommitCallback;
 import org.apache.paimon.iceberg.IcebergOptions;
 import org.apache.paimon.index.HashIndexFile;
 import org.apache.paimon.index.IndexFileHandler;
+import org.apache.paimon.index.SecondaryIndexFile;
+import org.apache.paimon.index.SecondaryIndexMaintainer;
 import org.apache.paimon.manifest.IndexManifestFile;
+import org.apache.paimon.manifest.LocalCachedFileIO;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.metastore.AddPartitionCommitCallback;
@@ -42,6 +45,7 @@ import org.apache.paimon.operation.Lock;
 import org.apache.paimon.operation.ManifestsReader;
 import org.apache.paimon.operation.PartitionExpire;
 import org.apache.paimon.operation.SnapshotDeletion;
+import org.apache.paimon.operation.SnapshotFileIndex;
 import org.apache.paimon.operation.TagDeletion;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.partition.PartitionExpireStrategy;
@@ -99,6 +103,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
 
     @Nullable private SegmentsCache<Path> readManifestCache;
     @Nullable private Cache<Path, Snapshot> snapshotCache;
+    @Nullable private SnapshotFileIndex snapshotFileIndex;
+    @Nullable private SecondaryIndexFile secondaryIndexFile;
 
     protected AbstractFileStore(
             FileIO fileIO,
@@ -187,10 +193,18 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
         return new ChangelogManager(fileIO, options.path(), options.branch());
     }
 
+    private FileIO manifestFileIO() {
+        String cacheDir = options.manifestLocalCacheDir();
+        return cacheDir == null
+                ? fileIO
+                : new LocalCachedFileIO(
+                        fileIO, cacheDir, options.manifestLocalCacheMaxSize().getBytes());
+    }
+
     @Override
     public ManifestFile.Factory manifestFileFactory() {
         return new ManifestFile.Factory(
-                fileIO,
+                manifestFileIO(),
                 schemaManager,
                 partitionType,
                 FileFormat.manifestFormat(options),
@@ -203,7 +217,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
     @Override
     public ManifestList.Factory manifestListFactory() {
         return new ManifestList.Factory(
-                fileIO,
+                manifestFileIO(),
                 FileFormat.manifestFormat(options),
                 options.manifestCompression(),
                 pathFactory(),
@@ -213,7 +227,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
     @Override
     public IndexManifestFile.Factory indexManifestFileFactory() {
         return new IndexManifestFile.Factory(
-                fileIO,
+                manifestFileIO(),
                 FileFormat.manifestFormat(options),
                 options.manifestCompression(),
                 pathFactory(),
@@ -233,7 +247,32 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                         bucketMode() == BucketMode.BUCKET_UNAWARE
                                 ? options.deletionVectorIndexFileTargetSize()
                                 : MemorySize.ofBytes(Long.MAX_VALUE),
-                        options.deletionVectorBitmap64()));
+                        options.deletionVectorBitmap64()),
+                secondaryIndexFile());
+    }
+
+    /** The secondary index file is shared, so the footers it caches live with this store. */
+    private synchronized SecondaryIndexFile secondaryIndexFile() {
+        if (secondaryIndexFile == null) {
+            secondaryIndexFile = new SecondaryIndexFile(fileIO, pathFactory().indexFileFactory());
+        }
+        return secondaryIndexFile;
+    }
+
+    /**
+     * Creates the factory of secondary index maintainers for writers, or null if no secondary index
+     * column is declared. Only buckets with a single writer can maintain a covering index.
+     */
+    @Nullable
+    protected SecondaryIndexMaintainer.Factory newSecondaryIndexMaintainerFactory() {
+        String column = options.secondaryIndexColumn();
+        if (column == null
+                || bucketMode() == BucketMode.BUCKET_UNAWARE
+                || options.bucket() == BucketMode.POSTPONE_BUCKET) {
+            return null;
+        }
+        return new SecondaryIndexMaintainer.Factory(
+                newIndexFileHandler(), schema.logicalRowType(), column);
     }
 
     @Override
@@ -244,6 +283,24 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 new StatsFile(fileIO, pathFactory().statsFileFactory()));
     }
 
+    /** Shared by all scans of this store to plan newer snapshots incrementally. */
+    @Nullable
+    protected synchronized SnapshotFileIndex snapshotFileIndex() {
+        if (!options.scanPlanCacheEnabled()) {
+            return null;
+        }
+
+        if (snapshotFileIndex == null) {
+            snapshotFileIndex =
+                    new SnapshotFileIndex(
+                            snapshotManager(),
+                            manifestListFactory(),
+                            manifestFileFactory(),
+                            options.scanManifestParallelism());
+        }
+        return snapshotFileIndex;
+    }
+
     protected ManifestsReader newManifestsReader() {
         return new ManifestsReader(
                 partitionType,
@@ -80,7 +80,9 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                 rowType,
                 FileFormatDiscover.of(options),
                 pathFactory(),
-                options.fileIndexReadEnabled());
+                options.fileIndexReadEnabled(),
+                options.fileIndexReadMinPruningRate(),
+                options.fileReaderPrefetchNum());
     }
 
     @Override
@@ -92,7 +94,11 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
     public BaseAppendFileStoreWrite newWrite(String commitUser, @Nullable Integer writeId) {
         DeletionVectorsMaintainer.Factory dvMaintainerFactory =
                 options.deletionVectorsEnabled()
-                        ? DeletionVectorsMaintainer.factory(newIndexFileHandler())
+                        ? DeletionVectorsMaintainer.factory(
+                                newIndexFileHandler(),
+                                bucketMode() == BucketMode.BUCKET_UNAWARE
+                                        ? 1
+                                        : options.deletionVectorIndexFileMaxNum())
                         : null;
         if (bucketMode() == BucketMode.BUCKET_UNAWARE) {
             return new AppendFileStoreWrite(
@@ -108,19 +114,22 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     dvMaintainerFactory,
                     tableName);
         } else {
-            return new BucketedAppendFileStoreWrite(
-                    fileIO,
-                    newRead(),
-                    schema.id(),
-                    commitUser,
-                    rowType,
-                    partitionType,
-                    pathFactory(),
-                    snapshotManager(),
-                    newScan(),
-                    options,
-                    dvMaintainerFactory,
-                    tableName);
+            BucketedAppendFileStoreWrite write =
+                    new BucketedAppendFileStoreWrite(
+                            fileIO,
+                            newRead(),
+                            schema.id(),
+                            commitUser,
+                            rowType,
+                            partitionType,
+                            pathFactory(),
+                            snapshotManager(),
+                            newScan(),
+                            options,
+                            dvMaintainerFactory,
+                            tableName);
+            write.withSecondaryIndexMaintainerFactory(newSecondaryIndexMaintainerFactory());
+            return write;
         }
     }
 
@@ -148,15 +157,18 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     return Optional.empty();
                 };
 
-        return new AppendOnlyFileStoreScan(
-                newManifestsReader(),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                manifestFileFactory(),
-                options.scanManifestParallelism(),
-                options.fileIndexReadEnabled());
+        AppendOnlyFileStoreScan scan =
+                new AppendOnlyFileStoreScan(
+                        newManifestsReader(),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        manifestFileFactory(),
+                        options.scanManifestParallelism(),
+                        options.fileIndexReadEnabled());
+        scan.withSnapshotFileIndex(snapshotFileIndex());
+        return scan;
     }
 
     @Override
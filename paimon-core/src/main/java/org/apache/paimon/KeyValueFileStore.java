@@ -131,7 +131,9 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 valueType,
                 FileFormatDiscover.of(options),
                 pathFactory(),
-                options.fileIndexReadEnabled());
+                options.fileIndexReadEnabled(),
+                options.fileIndexReadMinPruningRate(),
+                options.fileReaderPrefetchNum());
     }
 
     public KeyValueFileReaderFactory.Builder newReaderFactoryBuilder() {
@@ -161,7 +163,8 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
         DeletionVectorsMaintainer.Factory deletionVectorsMaintainerFactory = null;
         if (options.deletionVectorsEnabled()) {
             deletionVectorsMaintainerFactory =
-                    new DeletionVectorsMaintainer.Factory(newIndexFileHandler());
+                    new DeletionVectorsMaintainer.Factory(
+                            newIndexFileHandler(), options.deletionVectorIndexFileMaxNum());
         }
 
         if (options.bucket() == BucketMode.POSTPONE_BUCKET) {
@@ -181,27 +184,30 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     tableName,
                     writeId);
         } else {
-            return new KeyValueFileStoreWrite(
-                    fileIO,
-                    schemaManager,
-                    schema,
-                    commitUser,
-                    partitionType,
-                    keyType,
-                    valueType,
-                    keyComparatorSupplier,
-                    () -> UserDefinedSeqComparator.create(valueType, options),
-                    logDedupEqualSupplier,
-                    mfFactory,
-                    pathFactory(),
-                    this::pathFactory,
-                    snapshotManager(),
-                    newScan(),
-                    indexFactory,
-                    deletionVectorsMaintainerFactory,
-                    options,
-                    keyValueFieldsExtractor,
-                    tableName);
+            KeyValueFileStoreWrite write =
+                    new KeyValueFileStoreWrite(
+                            fileIO,
+                            schemaManager,
+                            schema,
+                            commitUser,
+                            partitionType,
+                            keyType,
+                            valueType,
+                            keyComparatorSupplier,
+                            () -> UserDefinedSeqComparator.create(valueType, options),
+                            logDedupEqualSupplier,
+                            mfFactory,
+                            pathFactory(),
+                            this::pathFactory,
+                            snapshotManager(),
+                            newScan(),
+                            indexFactory,
+                            deletionVectorsMaintainerFactory,
+                            options,
+                            keyValueFieldsExtractor,
+                            tableName);
+            write.withSecondaryIndexMaintainerFactory(newSecondaryIndexMaintainerFactory());
+            return write;
         }
     }
 
@@ -227,19 +233,22 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     return Optional.empty();
                 };
 
-        return new KeyValueFileStoreScan(
-                newManifestsReader(),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                keyValueFieldsExtractor,
-                manifestFileFactory(),
-                options.scanManifestParallelism(),
-                options.deletionVectorsEnabled(),
-                options.mergeEngine(),
-                options.changelogProducer(),
-                options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        KeyValueFileStoreScan scan =
+                new KeyValueFileStoreScan(
+                        newManifestsReader(),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        keyValueFieldsExtractor,
+                        manifestFileFactory(),
+                        options.scanManifestParallelism(),
+                        options.deletionVectorsEnabled(),
+                        options.mergeEngine(),
+                        options.changelogProducer(),
+                        options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        scan.withSnapshotFileIndex(snapshotFileIndex());
+        return scan;
     }
 
     @Override
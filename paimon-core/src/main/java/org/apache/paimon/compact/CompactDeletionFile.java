@@ -22,15 +22,15 @@ import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 
-import javax.annotation.Nullable;
-
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    List<IndexFileMeta> getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -42,14 +42,22 @@ public interface CompactDeletionFile {
      * them).
      */
     static CompactDeletionFile generateFiles(DeletionVectorsMaintainer maintainer) {
+        Set<String> previousFiles = fileNames(maintainer.indexFiles());
         List<IndexFileMeta> files = maintainer.writeDeletionVectorsIndex();
-        if (files.size() > 1) {
+        List<IndexFileMeta> newFiles =
+                files.stream()
+                        .filter(f -> !previousFiles.contains(f.fileName()))
+                        .collect(Collectors.toList());
+        if (newFiles.size() > 1) {
             throw new IllegalStateException(
                     "Should only generate one compact deletion file, this is a bug.");
         }
 
-        return new GeneratedDeletionFile(
-                files.isEmpty() ? null : files.get(0), maintainer.indexFileHandler());
+        return new GeneratedDeletionFile(files, newFiles, maintainer.indexFileHandler());
+    }
+
+    static Set<String> fileNames(List<IndexFileMeta> files) {
+        return files.stream().map(IndexFileMeta::fileName).collect(Collectors.toSet());
     }
 
     /** For sync compaction, only create deletion files when prepareCommit. */
@@ -57,24 +65,33 @@ public interface CompactDeletionFile {
         return new LazyCompactDeletionFile(maintainer);
     }
 
-    /** A generated files implementation of {@link CompactDeletionFile}. */
+    /**
+     * A generated files implementation of {@link CompactDeletionFile}.
+     *
+     * <p>{@code deletionFiles} are all valid deletion files of the bucket, {@code newFiles} are the
+     * ones written by this generation which should be cleaned if they are not committed.
+     */
     class GeneratedDeletionFile implements CompactDeletionFile {
 
-        @Nullable private final IndexFileMeta deletionFile;
+        private final List<IndexFileMeta> deletionFiles;
+        private final List<IndexFileMeta> newFiles;
         private final IndexFileHandler fileHandler;
 
         private boolean getInvoked = false;
 
         public GeneratedDeletionFile(
-                @Nullable IndexFileMeta deletionFile, IndexFileHandler fileHandler) {
-            this.deletionFile = deletionFile;
+                List<IndexFileMeta> deletionFiles,
+                List<IndexFileMeta> newFiles,
+                IndexFileHandler fileHandler) {
+            this.deletionFiles = deletionFiles;
+            this.newFiles = newFiles;
             this.fileHandler = fileHandler;
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public List<IndexFileMeta> getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            return deletionFiles;
         }
 
         @Override
@@ -88,19 +105,26 @@ public interface CompactDeletionFile {
                 throw new IllegalStateException("old should not be get, this is a bug.");
             }
 
-            if (deletionFile == null) {
+            if (deletionFiles.isEmpty()) {
                 return old;
             }
 
-            old.clean();
-            return this;
+            // new files of the old generation may still be referenced by incremental deletion files
+            Set<String> referenced = fileNames(deletionFiles);
+            List<IndexFileMeta> mergedNewFiles = new ArrayList<>(newFiles);
+            for (IndexFileMeta file : ((GeneratedDeletionFile) old).newFiles) {
+                if (referenced.contains(file.fileName())) {
+                    mergedNewFiles.add(file);
+                } else {
+                    fileHandler.deleteIndexFile(file);
+                }
+            }
+            return new GeneratedDeletionFile(deletionFiles, mergedNewFiles, fileHandler);
         }
 
         @Override
         public void clean() {
-            if (deletionFile != null) {
-                fileHandler.deleteIndexFile(deletionFile);
-            }
+            newFiles.forEach(fileHandler::deleteIndexFile);
         }
     }
 
@@ -116,7 +140,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public List<IndexFileMeta> getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
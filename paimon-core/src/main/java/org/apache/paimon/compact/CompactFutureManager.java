@@ -48,6 +48,10 @@ public abstract class CompactFutureManager implements CompactManager {
             throws ExecutionException, InterruptedException {
         if (taskFuture != null) {
             if (blocking || taskFuture.isDone()) {
+                if (!taskFuture.isDone()) {
+                    // the writer is stalled by this task, let it jump the queue
+                    SharedCompactExecutor.urge(taskFuture);
+                }
                 CompactResult result;
                 try {
                     result = obtainCompactResult();
@@ -36,13 +36,31 @@ public abstract class CompactTask implements Callable<CompactResult> {
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
 
     @Nullable private final CompactionMetrics.Reporter metricsReporter;
+    private final long createMillis;
+
+    private double urgency;
 
     public CompactTask(@Nullable CompactionMetrics.Reporter metricsReporter) {
         this.metricsReporter = metricsReporter;
+        this.createMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * How urgently this task should be executed, tasks with higher urgency are picked first by
+     * {@link SharedCompactExecutor}.
+     */
+    public double urgency() {
+        return urgency;
+    }
+
+    public CompactTask withUrgency(double urgency) {
+        this.urgency = urgency;
+        return this;
     }
 
     @Override
     public CompactResult call() throws Exception {
+        MetricUtils.safeCall(this::reportQueueWaitTime, LOG);
         MetricUtils.safeCall(this::startTimer, LOG);
         try {
             long startMillis = System.currentTimeMillis();
@@ -84,6 +102,13 @@ public abstract class CompactTask implements Callable<CompactResult> {
         }
     }
 
+    private void reportQueueWaitTime() {
+        if (metricsReporter != null) {
+            metricsReporter.reportCompactionQueueWaitTime(
+                    System.currentTimeMillis() - createMillis);
+        }
+    }
+
     private void startTimer() {
         if (metricsReporter != null) {
             metricsReporter.getCompactTimer().start();
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded compaction thread pool shared by all writers of one JVM. Queued tasks are ordered by
+ * {@link CompactTask#urgency()}, so buckets which are close to stalling writes are compacted before
+ * buckets which only need housekeeping.
+ *
+ * <p>Each writer submits its tasks through its own {@link ExecutorService} created by {@link
+ * #newClient()}. Shutting down a client only cancels the tasks of this client, the shared threads
+ * are kept alive until the last client is shut down. Then the pool is shut down and the next
+ * writer creates a new one, so that no thread outlives the jobs using it.
+ *
+ * <p>Tasks run with the context class loader of the thread which submitted them, since the threads
+ * are shared by writers of different class loaders.
+ */
+@ThreadSafe
+public class SharedCompactExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static SharedCompactExecutor instance;
+
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong sequence;
+
+    /** Number of clients which are not shut down, guarded by the class lock. */
+    private int clients;
+
+    @VisibleForTesting
+    SharedCompactExecutor(int threadNum) {
+        this.pool =
+                new ThreadPoolExecutor(
+                        threadNum,
+                        threadNum,
+                        KEEP_ALIVE_SECONDS,
+                        TimeUnit.SECONDS,
+                        new PriorityBlockingQueue<>(),
+                        new ExecutorThreadFactory("paimon-shared-compaction"));
+        this.pool.allowCoreThreadTimeOut(true);
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Returns the shared executor of this JVM. If it already exists with fewer threads, it is
+     * enlarged to the given thread number.
+     */
+    private static synchronized SharedCompactExecutor getOrCreate(int threadNum) {
+        if (instance == null) {
+            instance = new SharedCompactExecutor(threadNum);
+        } else if (instance.pool.getMaximumPoolSize() < threadNum) {
+            instance.pool.setMaximumPoolSize(threadNum);
+            instance.pool.setCorePoolSize(threadNum);
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a client of the shared executor of this JVM, see {@link #getOrCreate}. The client
+     * must be shut down when the writer is closed.
+     */
+    public static synchronized ExecutorService newSharedClient(int threadNum) {
+        return getOrCreate(threadNum).newClient();
+    }
+
+    /** Number of tasks of the shared executor of this JVM waiting for a free thread. */
+    public static synchronized int sharedQueueSize() {
+        return instance == null ? 0 : instance.queueSize();
+    }
+
+    /** Number of tasks waiting for a free thread. */
+    public int queueSize() {
+        return pool.getQueue().size();
+    }
+
+    public ExecutorService newClient() {
+        synchronized (SharedCompactExecutor.class) {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Shared compact executor has been shut down.");
+            }
+            clients++;
+        }
+        return new Client();
+    }
+
+    private void releaseClient() {
+        synchronized (SharedCompactExecutor.class) {
+            if (--clients == 0) {
+                // let queued tasks of gracefully shut down clients finish
+                pool.shutdown();
+                if (instance == this) {
+                    instance = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves a queued task to the head of the queue, this is called when a writer is blocked by the
+     * task. Does nothing if the future is not queued in a {@link SharedCompactExecutor}.
+     */
+    public static void urge(Future<?> future) {
+        if (future instanceof PrioritizedTask) {
+            ((PrioritizedTask<?>) future).urge();
+        }
+    }
+
+    @VisibleForTesting
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @VisibleForTesting
+    boolean isShutdown() {
+        return pool.isShutdown();
+    }
+
+    /** A {@link FutureTask} which is ordered by urgency in the queue of the pool. */
+    private class PrioritizedTask<V> extends FutureTask<V>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final Client client;
+        private final long sequence;
+        private final ClassLoader classLoader;
+
+        private volatile double urgency;
+
+        private PrioritizedTask(Client client, Callable<V> callable, double urgency) {
+            super(callable);
+            this.client = client;
+            this.sequence = SharedCompactExecutor.this.sequence.getAndIncrement();
+            this.classLoader = Thread.currentThread().getContextClassLoader();
+            this.urgency = urgency;
+        }
+
+        @Override
+        public void run() {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                super.run();
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+
+        private void urge() {
+            // the queue does not reorder elements in place, so re-insert with the new urgency
+            if (urgency < Double.MAX_VALUE && pool.remove(this)) {
+                urgency = Double.MAX_VALUE;
+                pool.getQueue().offer(this);
+            }
+        }
+
+        @Override
+        protected void done() {
+            client.pending.remove(this);
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int cmp = Double.compare(other.urgency, urgency);
+            return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /** The view of one writer on the shared pool. */
+    private class Client extends AbstractExecutorService {
+
+        private final Set<PrioritizedTask<?>> pending = ConcurrentHashMap.newKeySet();
+
+        private volatile boolean shutdown;
+
+        private synchronized void markShutdown() {
+            if (!shutdown) {
+                shutdown = true;
+                releaseClient();
+            }
+        }
+
+        @Override
+        protected <T> PrioritizedTask<T> newTaskFor(Callable<T> callable) {
+            double urgency =
+                    callable instanceof CompactTask ? ((CompactTask) callable).urgency() : 0;
+            return new PrioritizedTask<>(this, callable, urgency);
+        }
+
+        @Override
+        protected <T> PrioritizedTask<T> newTaskFor(Runnable runnable, T value) {
+            return new PrioritizedTask<>(
+                    this,
+                    () -> {
+                        runnable.run();
+                        return value;
+                    },
+                    0);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown) {
+                throw new RejectedExecutionException("Compact executor has been shut down.");
+            }
+            PrioritizedTask<?> task =
+                    command instanceof PrioritizedTask
+                            ? (PrioritizedTask<?>) command
+                            : newTaskFor(command, null);
+            pending.add(task);
+            pool.execute(task);
+        }
+
+        @Override
+        public void shutdown() {
+            markShutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            markShutdown();
+            List<Runnable> notStarted = new ArrayList<>();
+            for (PrioritizedTask<?> task : pending) {
+                if (pool.remove(task)) {
+                    notStarted.add(task);
+                }
+                task.cancel(true);
+            }
+            return notStarted;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && pending.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(10);
+            }
+            return true;
+        }
+    }
+}
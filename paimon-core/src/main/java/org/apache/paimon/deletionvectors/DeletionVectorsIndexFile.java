@@ -82,6 +82,10 @@ public class DeletionVectorsIndexFile extends IndexFile {
             checkVersion(inputStream);
             DataInputStream dataInputStream = new DataInputStream(inputStream);
             for (DeletionVectorMeta deletionVectorMeta : deletionVectorMetas.values()) {
+                // entries may have been pruned by incremental deletion vectors index writes
+                if (inputStream.getPos() != deletionVectorMeta.offset()) {
+                    inputStream.seek(deletionVectorMeta.offset());
+                }
                 deletionVectors.put(
                         deletionVectorMeta.dataFileName(),
                         DeletionVector.read(dataInputStream, (long) deletionVectorMeta.length()));
@@ -19,30 +19,55 @@
 package org.apache.paimon.deletionvectors;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-/** Maintainer of deletionVectors index. */
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * Maintainer of deletionVectors index.
+ *
+ * <p>By default, all deletion vectors are rewritten into a new index file whenever any of them is
+ * modified. If {@code maxIndexFiles} is greater than 1, only the modified deletion vectors are
+ * written into a new delta index file, the entries of the previous index files are pruned in the
+ * metadata without rewriting them. Once the number of index files would exceed {@code
+ * maxIndexFiles}, all deletion vectors are merged into one index file again.
+ */
 public class DeletionVectorsMaintainer {
 
     private final IndexFileHandler indexFileHandler;
     private final Map<String, DeletionVector> deletionVectors;
     protected final boolean bitmap64;
+    private final int maxIndexFiles;
+    private final Set<String> modifiedDataFiles;
+
+    private List<IndexFileMeta> indexFiles;
     private boolean modified;
 
     private DeletionVectorsMaintainer(
-            IndexFileHandler fileHandler, Map<String, DeletionVector> deletionVectors) {
+            IndexFileHandler fileHandler,
+            Map<String, DeletionVector> deletionVectors,
+            List<IndexFileMeta> indexFiles,
+            int maxIndexFiles) {
         this.indexFileHandler = fileHandler;
         this.deletionVectors = deletionVectors;
         this.bitmap64 = indexFileHandler.deletionVectorsIndex().bitmap64();
+        this.maxIndexFiles = maxIndexFiles;
+        this.modifiedDataFiles = new HashSet<>();
+        this.indexFiles = indexFiles;
         this.modified = false;
     }
 
@@ -62,6 +87,7 @@ public class DeletionVectorsMaintainer {
                 deletionVectors.computeIfAbsent(fileName, k -> createNewDeletionVector());
         if (deletionVector.checkedDelete(position)) {
             modified = true;
+            modifiedDataFiles.add(fileName);
         }
     }
 
@@ -74,6 +100,7 @@ public class DeletionVectorsMaintainer {
     public void notifyNewDeletion(String fileName, DeletionVector deletionVector) {
         deletionVectors.put(fileName, deletionVector);
         modified = true;
+        modifiedDataFiles.add(fileName);
     }
 
     /**
@@ -90,6 +117,7 @@ public class DeletionVectorsMaintainer {
         }
         deletionVectors.put(fileName, deletionVector);
         modified = true;
+        modifiedDataFiles.add(fileName);
     }
 
     /**
@@ -102,21 +130,83 @@ public class DeletionVectorsMaintainer {
         if (deletionVectors.containsKey(fileName)) {
             deletionVectors.remove(fileName);
             modified = true;
+            modifiedDataFiles.add(fileName);
         }
     }
 
     /**
      * Write new deletion vectors index file if any modifications have been made.
      *
-     * @return A list containing the metadata of the deletion vectors index file, or an empty list
-     *     if no changes need to be committed.
+     * @return A list containing the metadata of all deletion vectors index files which are valid
+     *     after this modification, or an empty list if no changes need to be committed.
      */
     public List<IndexFileMeta> writeDeletionVectorsIndex() {
-        if (modified) {
-            modified = false;
-            return indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+        if (!modified) {
+            return Collections.emptyList();
         }
-        return Collections.emptyList();
+
+        List<IndexFileMeta> result = maxIndexFiles > 1 ? tryWriteDelta() : null;
+        if (result == null) {
+            result = indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+        }
+        modified = false;
+        modifiedDataFiles.clear();
+        indexFiles = result;
+        return result;
+    }
+
+    /**
+     * Writes the modified deletion vectors into a delta index file and prunes their old entries
+     * from the current index files. Returns null if all deletion vectors should be rewritten.
+     */
+    @Nullable
+    private List<IndexFileMeta> tryWriteDelta() {
+        List<IndexFileMeta> result = new ArrayList<>();
+        for (IndexFileMeta file : indexFiles) {
+            LinkedHashMap<String, DeletionVectorMeta> dvMetas =
+                    checkNotNull(file.deletionVectorMetas());
+            LinkedHashMap<String, DeletionVectorMeta> retained = new LinkedHashMap<>();
+            dvMetas.forEach(
+                    (dataFile, dvMeta) -> {
+                        if (!modifiedDataFiles.contains(dataFile)) {
+                            retained.put(dataFile, dvMeta);
+                        }
+                    });
+            if (retained.size() == dvMetas.size()) {
+                result.add(file);
+            } else if (!retained.isEmpty()) {
+                result.add(
+                        new IndexFileMeta(
+                                file.indexType(),
+                                file.fileName(),
+                                file.fileSize(),
+                                retained.size(),
+                                retained));
+            }
+        }
+
+        Map<String, DeletionVector> delta = new LinkedHashMap<>();
+        for (String dataFile : modifiedDataFiles) {
+            DeletionVector deletionVector = deletionVectors.get(dataFile);
+            if (deletionVector != null) {
+                delta.put(dataFile, deletionVector);
+            }
+        }
+
+        int numFiles = result.size() + (delta.isEmpty() ? 0 : 1);
+        if (indexFiles.isEmpty() || numFiles == 0 || numFiles > maxIndexFiles) {
+            return null;
+        }
+
+        if (!delta.isEmpty()) {
+            result.addAll(indexFileHandler.writeDeletionVectorsIndex(delta));
+        }
+        return result;
+    }
+
+    /** Returns the deletion vectors index files which are valid after the latest write. */
+    public List<IndexFileMeta> indexFiles() {
+        return indexFiles;
     }
 
     /**
@@ -147,13 +237,23 @@ public class DeletionVectorsMaintainer {
         return new Factory(handler);
     }
 
+    public static Factory factory(IndexFileHandler handler, int maxIndexFiles) {
+        return new Factory(handler, maxIndexFiles);
+    }
+
     /** Factory to restore {@link DeletionVectorsMaintainer}. */
     public static class Factory {
 
         private final IndexFileHandler handler;
+        private final int maxIndexFiles;
 
         public Factory(IndexFileHandler handler) {
+            this(handler, 1);
+        }
+
+        public Factory(IndexFileHandler handler, int maxIndexFiles) {
             this.handler = handler;
+            this.maxIndexFiles = maxIndexFiles;
         }
 
         public IndexFileHandler indexFileHandler() {
@@ -166,7 +266,8 @@ public class DeletionVectorsMaintainer {
             }
             Map<String, DeletionVector> deletionVectors =
                     new HashMap<>(handler.readAllDeletionVectors(restoredFiles));
-            return create(deletionVectors);
+            return new DeletionVectorsMaintainer(
+                    handler, deletionVectors, restoredFiles, maxIndexFiles);
         }
 
         public DeletionVectorsMaintainer create() {
@@ -174,7 +275,8 @@ public class DeletionVectorsMaintainer {
         }
 
         public DeletionVectorsMaintainer create(Map<String, DeletionVector> deletionVectors) {
-            return new DeletionVectorsMaintainer(handler, deletionVectors);
+            return new DeletionVectorsMaintainer(
+                    handler, deletionVectors, Collections.emptyList(), maxIndexFiles);
         }
     }
 }
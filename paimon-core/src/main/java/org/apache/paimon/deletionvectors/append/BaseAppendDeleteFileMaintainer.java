@@ -59,8 +59,8 @@ public interface BaseAppendDeleteFileMaintainer {
             @Nullable Snapshot snapshot,
             BinaryRow partition,
             int bucket) {
-        // bucket should have only one deletion file, so here we should read old deletion vectors,
-        // overwrite the entire deletion file of the bucket when writing deletes.
+        // read all old deletion vectors of the bucket, overwrite the entire deletion files of the
+        // bucket when writing deletes.
         List<IndexFileMeta> indexFiles =
                 indexFileHandler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
         DeletionVectorsMaintainer maintainer =
@@ -21,19 +21,33 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Assign bucket for key hashcode. */
+/**
+ * Assign bucket for key hashcode.
+ *
+ * <p>Partition indexes in memory are kept in LRU order. If a max index memory is configured, the
+ * least recently used partitions are evicted once it is exceeded: an index whose latest
+ * modification has committed is dropped and reloaded from hash index files on demand, other
+ * indexes are spilled to local disk and restored on demand.
+ */
 public class HashBucketAssigner implements BucketAssigner {
 
     private static final Logger LOG = LoggerFactory.getLogger(HashBucketAssigner.class);
@@ -46,10 +60,21 @@ public class HashBucketAssigner implements BucketAssigner {
     private final int assignId;
     private final long targetBucketRowNumber;
     private final int maxBucketsNum;
+    private final boolean offHeap;
+    private final long maxIndexMemory;
+    @Nullable private final IOManager ioManager;
     private int maxBucketId;
 
+    /** All indexes, including spilled ones. */
     private final Map<BinaryRow, PartitionIndex> partitionIndex;
 
+    /** Indexes in memory, in access order for LRU eviction. */
+    private final LinkedHashMap<BinaryRow, PartitionIndex> residentIndex;
+
+    private long indexMemory;
+    private long latestCommittedIdentifier = Long.MIN_VALUE;
+    private boolean committedIdentifierRefreshed;
+
     public HashBucketAssigner(
             SnapshotManager snapshotManager,
             String commitUser,
@@ -59,6 +84,32 @@ public class HashBucketAssigner implements BucketAssigner {
             int assignId,
             long targetBucketRowNumber,
             int maxBucketsNum) {
+        this(
+                snapshotManager,
+                commitUser,
+                indexFileHandler,
+                numChannels,
+                numAssigners,
+                assignId,
+                targetBucketRowNumber,
+                maxBucketsNum,
+                false,
+                Long.MAX_VALUE,
+                null);
+    }
+
+    public HashBucketAssigner(
+            SnapshotManager snapshotManager,
+            String commitUser,
+            IndexFileHandler indexFileHandler,
+            int numChannels,
+            int numAssigners,
+            int assignId,
+            long targetBucketRowNumber,
+            int maxBucketsNum,
+            boolean offHeap,
+            long maxIndexMemory,
+            @Nullable IOManager ioManager) {
         this.snapshotManager = snapshotManager;
         this.commitUser = commitUser;
         this.indexFileHandler = indexFileHandler;
@@ -67,7 +118,11 @@ public class HashBucketAssigner implements BucketAssigner {
         this.assignId = assignId;
         this.targetBucketRowNumber = targetBucketRowNumber;
         this.partitionIndex = new HashMap<>();
+        this.residentIndex = new LinkedHashMap<>(16, 0.75f, true);
         this.maxBucketsNum = maxBucketsNum;
+        this.offHeap = offHeap;
+        this.maxIndexMemory = maxIndexMemory;
+        this.ioManager = ioManager;
     }
 
     /** Assign a bucket for key hash of a record. */
@@ -81,14 +136,28 @@ public class HashBucketAssigner implements BucketAssigner {
                 recordAssignId,
                 assignId);
 
-        PartitionIndex index = this.partitionIndex.get(partition);
+        // looking up resident indexes first also refreshes their access order
+        PartitionIndex index = this.residentIndex.get(partition);
         if (index == null) {
-            partition = partition.copy();
-            index = loadIndex(partition, partitionHash);
-            this.partitionIndex.put(partition, index);
+            index = this.partitionIndex.get(partition);
+            if (index == null) {
+                partition = partition.copy();
+                index = loadIndex(partition, partitionHash);
+                this.partitionIndex.put(partition, index);
+            } else {
+                partition = partition.copy();
+                restore(index);
+            }
+            this.residentIndex.put(partition, index);
+            indexMemory += index.memorySize();
         }
 
+        long memoryBefore = index.memorySize();
         int assigned = index.assign(hash, this::isMyBucket, maxBucketsNum, maxBucketId);
+        indexMemory += index.memorySize() - memoryBefore;
+        if (indexMemory > maxIndexMemory) {
+            evict(index);
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("Assign {} to the partition {} key hash {}", assigned, partition, hash);
         }
@@ -101,7 +170,6 @@ public class HashBucketAssigner implements BucketAssigner {
     /** Prepare commit to clear outdated partition index. */
     @Override
     public void prepareCommit(long commitIdentifier) {
-        long latestCommittedIdentifier;
         if (partitionIndex.values().stream()
                         .mapToLong(i -> i.lastAccessedCommitIdentifier)
                         .max()
@@ -116,11 +184,7 @@ public class HashBucketAssigner implements BucketAssigner {
             // that there is no previous snapshot by this user, which is very inefficient.
             latestCommittedIdentifier = Long.MIN_VALUE;
         } else {
-            latestCommittedIdentifier =
-                    snapshotManager
-                            .latestSnapshotOfUserFromFilesystem(commitUser)
-                            .map(Snapshot::commitIdentifier)
-                            .orElse(Long.MIN_VALUE);
+            latestCommittedIdentifier = readLatestCommittedIdentifier();
         }
 
         Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
@@ -149,10 +213,21 @@ public class HashBucketAssigner implements BucketAssigner {
                                 commitIdentifier);
                     }
                     iterator.remove();
+                    residentIndex.remove(partition);
+                    indexMemory -= index.memorySize();
+                    index.close();
                 }
             }
             index.accessed = false;
         }
+        committedIdentifierRefreshed = false;
+    }
+
+    private long readLatestCommittedIdentifier() {
+        return snapshotManager
+                .latestSnapshotOfUserFromFilesystem(commitUser)
+                .map(Snapshot::commitIdentifier)
+                .orElse(Long.MIN_VALUE);
     }
 
     @VisibleForTesting
@@ -160,6 +235,80 @@ public class HashBucketAssigner implements BucketAssigner {
         return partitionIndex.keySet();
     }
 
+    @VisibleForTesting
+    long indexMemory() {
+        return indexMemory;
+    }
+
+    /** Releases the memory and spill files of all indexes. */
+    @Override
+    public void close() {
+        partitionIndex.values().forEach(PartitionIndex::close);
+        partitionIndex.clear();
+        residentIndex.clear();
+        indexMemory = 0;
+    }
+
+    /**
+     * Evicts least recently used indexes except the current one until memory fits. The current
+     * index is the most recently used one, so only evicted entries are visited.
+     */
+    private void evict(PartitionIndex current) {
+        if (!committedIdentifierRefreshed) {
+            // checkpoints may have been committed since the last prepare commit, refresh at most
+            // once per checkpoint to drop more indexes instead of spilling them
+            latestCommittedIdentifier = readLatestCommittedIdentifier();
+            committedIdentifierRefreshed = true;
+        }
+
+        Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
+                residentIndex.entrySet().iterator();
+        while (indexMemory > maxIndexMemory && iterator.hasNext()) {
+            Map.Entry<BinaryRow, PartitionIndex> entry = iterator.next();
+            PartitionIndex index = entry.getValue();
+            if (index == current) {
+                break;
+            }
+
+            iterator.remove();
+            indexMemory -= index.memorySize();
+            if (!index.accessed
+                    && index.lastAccessedCommitIdentifier <= latestCommittedIdentifier) {
+                // all modifications have committed, it can be reloaded from hash index files
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Evicting committed index for partition {}.", entry.getKey());
+                }
+                partitionIndex.remove(entry.getKey());
+                index.close();
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Spilling uncommitted index for partition {}.", entry.getKey());
+                }
+                spill(index);
+            }
+        }
+    }
+
+    private void spill(PartitionIndex index) {
+        try {
+            File file =
+                    ioManager == null
+                            ? File.createTempFile("hash-index-", ".spill")
+                            : ioManager.createChannel().getPathFile();
+            index.spill(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void restore(PartitionIndex index) {
+        try {
+            index.restore(offHeap);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private int computeAssignId(int partitionHash, int keyHash) {
         return BucketAssigner.computeAssigner(partitionHash, keyHash, numChannels, numAssigners);
     }
@@ -174,6 +323,7 @@ public class HashBucketAssigner implements BucketAssigner {
                 partition,
                 targetBucketRowNumber,
                 (hash) -> computeAssignId(partitionHash, hash) == assignId,
-                this::isMyBucket);
+                this::isMyBucket,
+                offHeap);
     }
 }
@@ -26,6 +26,7 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.IndexManifestFile;
 import org.apache.paimon.table.source.DeletionFile;
+import org.apache.paimon.types.DataField;
 import org.apache.paimon.utils.IntIterator;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.PathFactory;
@@ -46,6 +47,7 @@ import java.util.Set;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.SecondaryIndexFile.SECONDARY_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
 
@@ -57,18 +59,21 @@ public class IndexFileHandler {
     private final IndexManifestFile indexManifestFile;
     private final HashIndexFile hashIndex;
     private final DeletionVectorsIndexFile deletionVectorsIndex;
+    private final SecondaryIndexFile secondaryIndex;
 
     public IndexFileHandler(
             SnapshotManager snapshotManager,
             PathFactory pathFactory,
             IndexManifestFile indexManifestFile,
             HashIndexFile hashIndex,
-            DeletionVectorsIndexFile deletionVectorsIndex) {
+            DeletionVectorsIndexFile deletionVectorsIndex,
+            SecondaryIndexFile secondaryIndex) {
         this.snapshotManager = snapshotManager;
         this.pathFactory = pathFactory;
         this.indexManifestFile = indexManifestFile;
         this.hashIndex = hashIndex;
         this.deletionVectorsIndex = deletionVectorsIndex;
+        this.secondaryIndex = secondaryIndex;
     }
 
     public DeletionVectorsIndexFile deletionVectorsIndex() {
@@ -241,6 +246,46 @@ public class IndexFileHandler {
         return new IndexFileMeta(HASH_INDEX, file, hashIndex.fileSize(file), size);
     }
 
+    public SecondaryIndex readSecondaryIndex(IndexFileMeta file) {
+        checkSecondaryIndex(file);
+        return secondaryIndex.read(file);
+    }
+
+    /** Returns true if the secondary index file contains any of the given sorted hash codes. */
+    public boolean secondaryIndexContainsAny(IndexFileMeta file, int[] sortedHashcodes) {
+        checkSecondaryIndex(file);
+        try {
+            return secondaryIndex.containsAny(file, sortedHashcodes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public IndexFileMeta writeSecondaryIndex(
+            DataField field, long maxSequenceNumber, int[] hashcodes) {
+        try {
+            return secondaryIndex.write(field, maxSequenceNumber, hashcodes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public IndexFileMeta mergeSecondaryIndex(DataField field, List<IndexFileMeta> files) {
+        files.forEach(this::checkSecondaryIndex);
+        try {
+            return secondaryIndex.merge(field, files);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkSecondaryIndex(IndexFileMeta file) {
+        if (!file.indexType().equals(SECONDARY_INDEX)) {
+            throw new IllegalArgumentException(
+                    "Input file is not secondary index: " + file.indexType());
+        }
+    }
+
     public boolean existsManifest(String indexManifest) {
         return indexManifestFile.exists(indexManifest);
     }
@@ -260,6 +305,8 @@ public class IndexFileHandler {
                 return hashIndex;
             case DELETION_VECTORS_INDEX:
                 return deletionVectorsIndex;
+            case SECONDARY_INDEX:
+                return secondaryIndex;
             default:
                 throw new IllegalArgumentException("Unknown index type: " + file.indexType());
         }
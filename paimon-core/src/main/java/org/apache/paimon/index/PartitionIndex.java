@@ -21,10 +21,21 @@ package org.apache.paimon.index;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
+import org.apache.paimon.utils.Int2ShortMap;
 import org.apache.paimon.utils.IntIterator;
 import org.apache.paimon.utils.ListUtils;
+import org.apache.paimon.utils.OffHeapInt2ShortHashMap;
 
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
@@ -37,11 +48,13 @@ import java.util.Set;
 import java.util.function.IntPredicate;
 
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.utils.Preconditions.checkState;
 
 /** Bucket Index Per Partition. */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    /** Null if the index is spilled to {@link #spillFile}. */
+    @Nullable public Int2ShortMap hash2Bucket;
 
     public final Map<Integer, Long> nonFullBucketInformation;
 
@@ -54,8 +67,10 @@ public class PartitionIndex {
 
     public long lastAccessedCommitIdentifier;
 
+    @Nullable private File spillFile;
+
     public PartitionIndex(
-            Int2ShortHashMap hash2Bucket,
+            Int2ShortMap hash2Bucket,
             Map<Integer, Long> bucketInformation,
             long targetBucketRowNumber) {
         this.hash2Bucket = hash2Bucket;
@@ -68,6 +83,7 @@ public class PartitionIndex {
     }
 
     public int assign(int hash, IntPredicate bucketFilter, int maxBucketsNum, int maxBucketId) {
+        checkState(hash2Bucket != null, "Index is spilled, it should be restored first.");
         accessed = true;
 
         // 1. is it a key that has appeared before
@@ -117,36 +133,135 @@ public class PartitionIndex {
         return bucket;
     }
 
+    public boolean isSpilled() {
+        return hash2Bucket == null;
+    }
+
+    /** Memory occupied by the hash to bucket map, 0 if the index is spilled. */
+    public long memorySize() {
+        return hash2Bucket == null ? 0 : hash2Bucket.memorySize();
+    }
+
+    /**
+     * Writes the hash to bucket map to a local file and releases its memory. Bucket information
+     * is small, so it stays in memory.
+     */
+    public void spill(File file) throws IOException {
+        checkState(hash2Bucket != null, "Index is already spilled.");
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(hash2Bucket.size());
+            hash2Bucket.forEach(
+                    (hash, bucket) -> {
+                        out.writeInt(hash);
+                        out.writeShort(bucket);
+                    });
+        }
+        hash2Bucket.close();
+        hash2Bucket = null;
+        spillFile = file;
+    }
+
+    /** Reads the hash to bucket map back from the spilled file and deletes the file. */
+    public void restore(boolean offHeap) throws IOException {
+        checkState(spillFile != null, "Index is not spilled.");
+        Int2ShortMap map = null;
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(spillFile)))) {
+            int size = in.readInt();
+            map = offHeap ? new OffHeapInt2ShortHashMap(size) : new Int2ShortHashMap(size);
+            for (int i = 0; i < size; i++) {
+                map.put(in.readInt(), in.readShort());
+            }
+        } catch (Throwable t) {
+            // off-heap memory is not reclaimed by the garbage collector
+            if (map != null) {
+                map.close();
+            }
+            throw t;
+        }
+        hash2Bucket = map;
+        discardSpillFile();
+    }
+
+    /** Releases all resources of this index. */
+    public void close() {
+        if (hash2Bucket != null) {
+            hash2Bucket.close();
+            hash2Bucket = null;
+        }
+        discardSpillFile();
+    }
+
+    private void discardSpillFile() {
+        if (spillFile != null) {
+            //noinspection ResultOfMethodCallIgnored
+            spillFile.delete();
+            spillFile = null;
+        }
+    }
+
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
             long targetBucketRowNumber,
             IntPredicate loadFilter,
             IntPredicate bucketFilter) {
+        return loadIndex(
+                indexFileHandler,
+                partition,
+                targetBucketRowNumber,
+                loadFilter,
+                bucketFilter,
+                false);
+    }
+
+    public static PartitionIndex loadIndex(
+            IndexFileHandler indexFileHandler,
+            BinaryRow partition,
+            long targetBucketRowNumber,
+            IntPredicate loadFilter,
+            IntPredicate bucketFilter,
+            boolean offHeap) {
         List<IndexManifestEntry> files = indexFileHandler.scanEntries(HASH_INDEX, partition);
-        Int2ShortHashMap.Builder mapBuilder = Int2ShortHashMap.builder();
+        // off-heap map is filled directly to avoid buffering all hashes on heap
+        Int2ShortHashMap.Builder mapBuilder = offHeap ? null : Int2ShortHashMap.builder();
+        OffHeapInt2ShortHashMap offHeapMap = offHeap ? new OffHeapInt2ShortHashMap() : null;
         Map<Integer, Long> buckets = new HashMap<>();
-        for (IndexManifestEntry file : files) {
-            try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
-                while (true) {
-                    try {
-                        int hash = iterator.next();
-                        if (loadFilter.test(hash)) {
-                            mapBuilder.put(hash, (short) file.bucket());
-                        }
-                        if (bucketFilter.test(file.bucket())) {
-                            buckets.compute(
-                                    file.bucket(),
-                                    (bucket, number) -> number == null ? 1 : number + 1);
+        try {
+            for (IndexManifestEntry file : files) {
+                try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
+                    while (true) {
+                        try {
+                            int hash = iterator.next();
+                            if (loadFilter.test(hash)) {
+                                if (offHeap) {
+                                    offHeapMap.put(hash, (short) file.bucket());
+                                } else {
+                                    mapBuilder.put(hash, (short) file.bucket());
+                                }
+                            }
+                            if (bucketFilter.test(file.bucket())) {
+                                buckets.compute(
+                                        file.bucket(),
+                                        (bucket, number) -> number == null ? 1 : number + 1);
+                            }
+                        } catch (EOFException ignored) {
+                            break;
                         }
-                    } catch (EOFException ignored) {
-                        break;
                     }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
             }
+        } catch (Throwable t) {
+            // off-heap memory is not reclaimed by the garbage collector
+            if (offHeapMap != null) {
+                offHeapMap.close();
+            }
+            throw t;
         }
-        return new PartitionIndex(mapBuilder.build(), buckets, targetBucketRowNumber);
+        return new PartitionIndex(
+                offHeap ? offHeapMap : mapBuilder.build(), buckets, targetBucketRowNumber);
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.Projection;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.predicate.CompoundPredicate;
+import org.apache.paimon.predicate.Equal;
+import org.apache.paimon.predicate.In;
+import org.apache.paimon.predicate.LeafPredicate;
+import org.apache.paimon.predicate.Or;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Meta of a secondary index file, it contains the sorted hash codes of values of the secondary
+ * index column in a bucket. The hash codes are stored in blocks, the first hash code of each block
+ * is kept in this meta to find the block a hash code must be in, so a lookup only reads the blocks
+ * it needs.
+ *
+ * <p>The index files of a bucket together contain the hash codes of all values in the data files
+ * whose sequence numbers are not greater than the max {@link #maxSequenceNumber()} of the files.
+ *
+ * <p>The id and the type of the indexed field are recorded, an index built for a dropped, re-added
+ * or type changed column does not {@link #matches} the current column and must not be used.
+ */
+public class SecondaryIndex {
+
+    private final int fieldId;
+    private final String fieldType;
+    private final long maxSequenceNumber;
+    private final int size;
+    private final int blockSize;
+    private final int[] blockFirstHashcodes;
+    private final int lastHashcode;
+
+    public SecondaryIndex(
+            int fieldId,
+            String fieldType,
+            long maxSequenceNumber,
+            int size,
+            int blockSize,
+            int[] blockFirstHashcodes,
+            int lastHashcode) {
+        this.fieldId = fieldId;
+        this.fieldType = fieldType;
+        this.maxSequenceNumber = maxSequenceNumber;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.blockFirstHashcodes = blockFirstHashcodes;
+        this.lastHashcode = lastHashcode;
+    }
+
+    public int fieldId() {
+        return fieldId;
+    }
+
+    public String fieldType() {
+        return fieldType;
+    }
+
+    public long maxSequenceNumber() {
+        return maxSequenceNumber;
+    }
+
+    /** Number of hash codes in the file. */
+    public int size() {
+        return size;
+    }
+
+    /** Number of hash codes in a block, all blocks are full except the last one. */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public int numBlocks() {
+        return blockFirstHashcodes.length;
+    }
+
+    /** Number of hash codes in the given block. */
+    public int blockLength(int block) {
+        return Math.min(blockSize, size - block * blockSize);
+    }
+
+    /**
+     * Returns the block which the given hash code must be in if the file contains it, or -1 if the
+     * hash code is out of the range of the file.
+     */
+    public int block(int hashcode) {
+        if (size == 0 || hashcode < blockFirstHashcodes[0] || hashcode > lastHashcode) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(blockFirstHashcodes, hashcode);
+        // the first hash codes are distinct, otherwise index is (-insertion point - 1)
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /** Returns true if this index is built for the given field with the same type. */
+    public boolean matches(DataField field) {
+        return fieldId == field.id() && typeString(field).equals(fieldType);
+    }
+
+    /** The type of the field stored in the index file. */
+    public static String typeString(DataField field) {
+        return field.type().asSQLString();
+    }
+
+    /** Creates a projection which extracts the secondary index column from a row. */
+    public static Projection projection(RowType rowType, String column) {
+        int index = rowType.getFieldIndex(column);
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    "Secondary index column " + column + " is not in " + rowType);
+        }
+        return CodeGenUtils.newProjection(rowType, new int[] {index});
+    }
+
+    public static int hashcode(Projection projection, InternalRow row) {
+        BinaryRow value = projection.apply(row);
+        // row kind is stored in the binary row, it should not affect the hash code
+        value.setRowKind(RowKind.INSERT);
+        return value.hashCode();
+    }
+
+    /**
+     * Extracts the sorted distinct hash codes of the values which the secondary index column must
+     * be equal to from the given filter, returns null if the filter is not an equality or IN filter
+     * on the column.
+     */
+    @Nullable
+    public static int[] valueHashcodes(Predicate filter, RowType rowType, String column) {
+        int index = rowType.getFieldIndex(column);
+        if (index < 0) {
+            return null;
+        }
+
+        for (Predicate predicate : PredicateBuilder.splitAnd(filter)) {
+            List<Object> literals = equalLiterals(predicate, index);
+            if (literals != null) {
+                Projection projection =
+                        CodeGenUtils.newProjection(
+                                RowType.of(rowType.getTypeAt(index)), new int[] {0});
+                return literals.stream()
+                        .filter(Objects::nonNull)
+                        .mapToInt(literal -> hashcode(projection, GenericRow.of(literal)))
+                        .sorted()
+                        .distinct()
+                        .toArray();
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static List<Object> equalLiterals(Predicate predicate, int index) {
+        if (predicate instanceof LeafPredicate) {
+            LeafPredicate leaf = (LeafPredicate) predicate;
+            if (leaf.index() == index
+                    && (leaf.function() instanceof Equal || leaf.function() instanceof In)) {
+                return leaf.literals();
+            }
+            return null;
+        }
+
+        if (predicate instanceof CompoundPredicate
+                && ((CompoundPredicate) predicate).function() instanceof Or) {
+            List<Object> literals = new ArrayList<>();
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                List<Object> childLiterals = equalLiterals(child, index);
+                if (childLiterals == null) {
+                    return null;
+                }
+                literals.addAll(childLiterals);
+            }
+            return literals;
+        }
+        return null;
+    }
+}
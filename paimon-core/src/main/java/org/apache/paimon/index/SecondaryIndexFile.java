@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.IntArrayList;
+import org.apache.paimon.utils.IntIterator;
+import org.apache.paimon.utils.PathFactory;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.unimi.dsi.fastutil.io.FastBufferedInputStream;
+import it.unimi.dsi.fastutil.io.FastBufferedOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Secondary index file contains the sorted distinct hash codes of the values of the secondary index
+ * column in a bucket, stored in blocks of {@link #BLOCK_SIZE} hash codes. The blocks are followed
+ * by a footer with the id and type of the indexed field, the max sequence number of the indexed
+ * data and the first hash code of each block, see {@link SecondaryIndex}. The last 4 bytes are the
+ * length of the footer.
+ *
+ * <p>Footers are cached, a lookup of some hash codes then only reads the blocks they must be in.
+ */
+public class SecondaryIndexFile extends IndexFile {
+
+    public static final String SECONDARY_INDEX = "SECONDARY";
+    public static final byte VERSION_ID = 1;
+
+    static final int BLOCK_SIZE = 1024;
+
+    private static final int FOOTER_CACHE_SIZE = 10_000;
+
+    private final Cache<String, SecondaryIndex> footers;
+
+    public SecondaryIndexFile(FileIO fileIO, PathFactory pathFactory) {
+        super(fileIO, pathFactory);
+        this.footers = Caffeine.newBuilder().maximumSize(FOOTER_CACHE_SIZE).build();
+    }
+
+    /** Reads the meta of the index file, the hash codes are not read. */
+    public SecondaryIndex read(IndexFileMeta file) {
+        return footers.get(file.fileName(), name -> readFooter(name, file.fileSize()));
+    }
+
+    private SecondaryIndex readFooter(String fileName, long fileSize) {
+        try (SeekableInputStream in = fileIO.newInputStream(pathFactory.toPath(fileName))) {
+            byte[] lengthBytes = new byte[Integer.BYTES];
+            in.seek(fileSize - Integer.BYTES);
+            IOUtils.readFully(in, lengthBytes);
+            int length = ByteBuffer.wrap(lengthBytes).getInt();
+
+            byte[] footer = new byte[length];
+            in.seek(fileSize - Integer.BYTES - length);
+            IOUtils.readFully(in, footer);
+            DataInputStream footerIn = new DataInputStream(new ByteArrayInputStream(footer));
+            byte version = footerIn.readByte();
+            if (version != VERSION_ID) {
+                throw new IOException(
+                        "Version not match, actual version: "
+                                + version
+                                + ", expected version: "
+                                + VERSION_ID);
+            }
+            int fieldId = footerIn.readInt();
+            String fieldType = footerIn.readUTF();
+            long maxSequenceNumber = footerIn.readLong();
+            int size = footerIn.readInt();
+            int blockSize = footerIn.readInt();
+            int[] blockFirstHashcodes = new int[footerIn.readInt()];
+            for (int i = 0; i < blockFirstHashcodes.length; i++) {
+                blockFirstHashcodes[i] = footerIn.readInt();
+            }
+            int lastHashcode = footerIn.readInt();
+            return new SecondaryIndex(
+                    fieldId,
+                    fieldType,
+                    maxSequenceNumber,
+                    size,
+                    blockSize,
+                    blockFirstHashcodes,
+                    lastHashcode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns true if the index file contains any of the given sorted hash codes. Only the blocks
+     * which the hash codes must be in are read.
+     */
+    public boolean containsAny(IndexFileMeta file, int[] sortedHashcodes) throws IOException {
+        SecondaryIndex index = read(file);
+        int[] block = null;
+        int readBlock = -1;
+        try (SeekableInputStream in = fileIO.newInputStream(pathFactory.toPath(file.fileName()))) {
+            for (int hashcode : sortedHashcodes) {
+                int blockIndex = index.block(hashcode);
+                if (blockIndex < 0) {
+                    continue;
+                }
+                if (blockIndex != readBlock) {
+                    block = readBlock(in, index, blockIndex);
+                    readBlock = blockIndex;
+                }
+                if (Arrays.binarySearch(block, hashcode) >= 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] readBlock(SeekableInputStream in, SecondaryIndex index, int block)
+            throws IOException {
+        byte[] bytes = new byte[index.blockLength(block) * Integer.BYTES];
+        in.seek((long) block * index.blockSize() * Integer.BYTES);
+        IOUtils.readFully(in, bytes);
+        int[] hashcodes = new int[index.blockLength(block)];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(hashcodes);
+        return hashcodes;
+    }
+
+    /** Writes the given hash codes, they are sorted by this method. */
+    public IndexFileMeta write(DataField field, long maxSequenceNumber, int[] hashcodes)
+            throws IOException {
+        Arrays.sort(hashcodes);
+        return write(field, maxSequenceNumber, IntIterator.create(hashcodes));
+    }
+
+    /**
+     * Merges the hash codes of the given files into one file, the hash codes are read sequentially
+     * so only a buffer of each file is held in memory.
+     */
+    public IndexFileMeta merge(DataField field, List<IndexFileMeta> files) throws IOException {
+        long maxSequenceNumber = Long.MIN_VALUE;
+        List<HashcodeReader> readers = new ArrayList<>(files.size());
+        try {
+            PriorityQueue<HashcodeReader> queue =
+                    new PriorityQueue<>(
+                            files.size(), (r1, r2) -> Integer.compare(r1.current, r2.current));
+            for (IndexFileMeta file : files) {
+                SecondaryIndex index = read(file);
+                maxSequenceNumber = Math.max(maxSequenceNumber, index.maxSequenceNumber());
+                HashcodeReader reader = new HashcodeReader(file.fileName(), index.size());
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            IntIterator merged =
+                    new IntIterator() {
+
+                        @Override
+                        public int next() throws IOException {
+                            HashcodeReader reader = queue.poll();
+                            if (reader == null) {
+                                throw new EOFException();
+                            }
+                            int hashcode = reader.current;
+                            if (reader.advance()) {
+                                queue.add(reader);
+                            }
+                            return hashcode;
+                        }
+
+                        @Override
+                        public void close() {}
+                    };
+            return write(field, maxSequenceNumber, merged);
+        } finally {
+            for (HashcodeReader reader : readers) {
+                IOUtils.closeQuietly(reader.in);
+            }
+        }
+    }
+
+    /** Writes the sorted hash codes of the iterator, duplicated hash codes are written once. */
+    private IndexFileMeta write(
+            DataField field, long maxSequenceNumber, IntIterator sortedHashcodes)
+            throws IOException {
+        Path path = pathFactory.newPath();
+        IntArrayList blockFirstHashcodes = new IntArrayList(16);
+        int size = 0;
+        int last = 0;
+        long fileSize;
+        try (DataOutputStream out =
+                new DataOutputStream(
+                        new FastBufferedOutputStream(fileIO.newOutputStream(path, false)))) {
+            while (true) {
+                int hashcode;
+                try {
+                    hashcode = sortedHashcodes.next();
+                } catch (EOFException ignored) {
+                    break;
+                }
+                if (size > 0 && hashcode == last) {
+                    continue;
+                }
+                if (size % BLOCK_SIZE == 0) {
+                    blockFirstHashcodes.add(hashcode);
+                }
+                out.writeInt(hashcode);
+                last = hashcode;
+                size++;
+            }
+
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            DataOutputStream footer = new DataOutputStream(footerBytes);
+            footer.writeByte(VERSION_ID);
+            footer.writeInt(field.id());
+            footer.writeUTF(SecondaryIndex.typeString(field));
+            footer.writeLong(maxSequenceNumber);
+            footer.writeInt(size);
+            footer.writeInt(BLOCK_SIZE);
+            footer.writeInt(blockFirstHashcodes.size());
+            for (int i = 0; i < blockFirstHashcodes.size(); i++) {
+                footer.writeInt(blockFirstHashcodes.get(i));
+            }
+            footer.writeInt(last);
+            footer.flush();
+            footerBytes.writeTo(out);
+            out.writeInt(footerBytes.size());
+            fileSize = (long) size * Integer.BYTES + footerBytes.size() + Integer.BYTES;
+        }
+
+        footers.put(
+                path.getName(),
+                new SecondaryIndex(
+                        field.id(),
+                        SecondaryIndex.typeString(field),
+                        maxSequenceNumber,
+                        size,
+                        BLOCK_SIZE,
+                        blockFirstHashcodes.toArray(),
+                        last));
+        return new IndexFileMeta(SECONDARY_INDEX, path.getName(), fileSize, size);
+    }
+
+    /** Reads the hash codes of a file sequentially. */
+    private class HashcodeReader {
+
+        private final DataInputStream in;
+        private int remaining;
+        private int current;
+
+        private HashcodeReader(String fileName, int size) throws IOException {
+            this.in =
+                    new DataInputStream(
+                            new FastBufferedInputStream(
+                                    fileIO.newInputStream(pathFactory.toPath(fileName))));
+            this.remaining = size;
+        }
+
+        private boolean advance() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            current = in.readInt();
+            remaining--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.IndexManifestEntry;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.utils.Pair;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.apache.paimon.index.SecondaryIndexFile.SECONDARY_INDEX;
+import static org.apache.paimon.utils.ManifestReadThreadPool.getExecutorService;
+import static org.apache.paimon.utils.ThreadPoolUtils.randomlyOnlyExecute;
+
+/**
+ * Filter to prune the buckets whose secondary index contains none of the value hash codes of a
+ * predicate, it narrows the manifest entries of a scan while they are read.
+ */
+public class SecondaryIndexFilter {
+
+    private final IndexFileHandler indexFileHandler;
+    private final DataField field;
+    private final int[] sortedHashcodes;
+
+    public SecondaryIndexFilter(
+            IndexFileHandler indexFileHandler, DataField field, int[] sortedHashcodes) {
+        this.indexFileHandler = indexFileHandler;
+        this.field = field;
+        this.sortedHashcodes = sortedHashcodes;
+    }
+
+    /**
+     * Creates the pruner of a scan on the given snapshot. The index files of the buckets are
+     * checked in parallel, and their footers are cached by the {@link SecondaryIndexFile}.
+     */
+    public Pruner createPruner(
+            Snapshot snapshot,
+            @Nullable PartitionPredicate partitionFilter,
+            @Nullable Integer parallelism) {
+        Map<Pair<BinaryRow, Integer>, List<IndexFileMeta>> buckets = new HashMap<>();
+        for (IndexManifestEntry entry : indexFileHandler.scan(snapshot, SECONDARY_INDEX)) {
+            if (partitionFilter == null || partitionFilter.test(entry.partition())) {
+                buckets.computeIfAbsent(
+                                Pair.of(entry.partition(), entry.bucket()),
+                                k -> new ArrayList<>())
+                        .add(entry.indexFile());
+            }
+        }
+        if (buckets.isEmpty()) {
+            return new Pruner(Collections.emptyMap());
+        }
+
+        Map<Pair<BinaryRow, Integer>, Long> prunedBuckets = new ConcurrentHashMap<>();
+        randomlyOnlyExecute(
+                getExecutorService(parallelism),
+                bucket -> {
+                    Long covered = coveredSequenceNumberIfPruned(bucket.getValue());
+                    if (covered != null) {
+                        prunedBuckets.put(bucket.getKey(), covered);
+                    }
+                },
+                buckets.entrySet());
+        return new Pruner(prunedBuckets);
+    }
+
+    /**
+     * Returns the max sequence number covered by the index files of a bucket if they are built for
+     * the field and contain none of the hash codes, otherwise null.
+     */
+    @Nullable
+    private Long coveredSequenceNumberIfPruned(List<IndexFileMeta> files) {
+        long covered = Long.MIN_VALUE;
+        for (IndexFileMeta file : files) {
+            SecondaryIndex index = indexFileHandler.readSecondaryIndex(file);
+            if (!index.matches(field)) {
+                return null;
+            }
+            covered = Math.max(covered, index.maxSequenceNumber());
+        }
+        for (IndexFileMeta file : files) {
+            if (indexFileHandler.secondaryIndexContainsAny(file, sortedHashcodes)) {
+                return null;
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Prunes the manifest entries of the pruned buckets. An entry whose max sequence number is
+     * larger than the one covered by the index of its bucket was written without maintaining the
+     * index, such a bucket is lagging and its entries are given back by {@link #laggingEntries}.
+     *
+     * <p>Note: Keep this thread-safe, the entries of manifests are pruned in parallel.
+     */
+    public static class Pruner {
+
+        private final Map<Pair<BinaryRow, Integer>, Long> prunedBuckets;
+        private final Queue<ManifestEntry> prunedEntries;
+        private final Set<Pair<BinaryRow, Integer>> laggingBuckets;
+
+        private Pruner(Map<Pair<BinaryRow, Integer>, Long> prunedBuckets) {
+            this.prunedBuckets = prunedBuckets;
+            this.prunedEntries = new ConcurrentLinkedQueue<>();
+            this.laggingBuckets = ConcurrentHashMap.newKeySet();
+        }
+
+        public List<ManifestEntry> prune(List<ManifestEntry> entries) {
+            if (prunedBuckets.isEmpty()) {
+                return entries;
+            }
+
+            List<ManifestEntry> result = new ArrayList<>(entries.size());
+            for (ManifestEntry entry : entries) {
+                Pair<BinaryRow, Integer> bucket = Pair.of(entry.partition(), entry.bucket());
+                Long covered = prunedBuckets.get(bucket);
+                if (covered == null) {
+                    result.add(entry);
+                    continue;
+                }
+                if (entry.file().maxSequenceNumber() > covered) {
+                    laggingBuckets.add(bucket);
+                }
+                prunedEntries.add(entry);
+            }
+            return result;
+        }
+
+        public List<ManifestEntry> laggingEntries() {
+            if (laggingBuckets.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<ManifestEntry> result = new ArrayList<>();
+            for (ManifestEntry entry : prunedEntries) {
+                if (laggingBuckets.contains(Pair.of(entry.partition(), entry.bucket()))) {
+                    result.add(entry);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.codegen.Projection;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IntHashSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An Index Maintainer to maintain the hash codes of the values of the secondary index column in a
+ * bucket.
+ *
+ * <p>New hash codes are buffered in memory, and the buffer is bounded: it is written to an
+ * incremental index file on each commit, or earlier when it is full. When the bucket is compacted,
+ * or when there are too many index files, the newest files are merged into one, like the size
+ * tiered compaction of data files, so the number and size of files stay balanced. The files of a
+ * bucket are replaced as a whole on each commit.
+ *
+ * <p>Hash codes are only added, so the index is a superset of the values in the bucket. If the
+ * restored index does not cover all restored data files, or it was built for another field, the
+ * maintainer is disabled and the stale index files are removed with the next commit.
+ */
+public class SecondaryIndexMaintainer {
+
+    static final int DEFAULT_MAX_BUFFERED_HASHCODES = 1 << 20;
+
+    static final int MAX_FILES = 16;
+
+    private final IndexFileHandler fileHandler;
+    private final DataField field;
+    private final Projection projection;
+    private final int maxBufferedHashcodes;
+    private final boolean enabled;
+
+    // the current index files of the bucket, from oldest to newest
+    private final List<IndexFileMeta> files;
+    // files written since the last commit, they can be deleted once merged
+    private final Set<String> uncommittedFiles;
+
+    private List<IndexFileMeta> staleFiles;
+    private IntHashSet buffer;
+    private long coveredSequenceNumber;
+    private boolean modified;
+
+    private SecondaryIndexMaintainer(
+            IndexFileHandler fileHandler,
+            DataField field,
+            Projection projection,
+            int maxBufferedHashcodes,
+            List<IndexFileMeta> restoredFiles,
+            long restoredMaxSequenceNumber) {
+        this.fileHandler = fileHandler;
+        this.field = field;
+        this.projection = projection;
+        this.maxBufferedHashcodes = maxBufferedHashcodes;
+        this.files = new ArrayList<>();
+        this.uncommittedFiles = new HashSet<>();
+        this.staleFiles = Collections.emptyList();
+        this.buffer = new IntHashSet();
+        this.modified = false;
+
+        long indexMaxSequenceNumber = Long.MIN_VALUE;
+        boolean matches = true;
+        for (IndexFileMeta file : restoredFiles) {
+            SecondaryIndex index = fileHandler.readSecondaryIndex(file);
+            matches &= index.matches(field);
+            indexMaxSequenceNumber = Math.max(indexMaxSequenceNumber, index.maxSequenceNumber());
+        }
+        if (!restoredFiles.isEmpty()
+                && matches
+                && indexMaxSequenceNumber >= restoredMaxSequenceNumber) {
+            this.files.addAll(restoredFiles);
+            this.enabled = true;
+        } else {
+            this.staleFiles = restoredFiles;
+            // without a usable index, the index is only complete for an empty bucket
+            this.enabled = restoredMaxSequenceNumber < 0;
+        }
+        this.coveredSequenceNumber = restoredMaxSequenceNumber;
+    }
+
+    public void notifyNewRecord(Object record) {
+        if (!enabled) {
+            return;
+        }
+
+        InternalRow row =
+                record instanceof KeyValue ? ((KeyValue) record).value() : (InternalRow) record;
+        buffer.add(SecondaryIndex.hashcode(projection, row));
+        // the max sequence number of the index should follow the writer even if no new hash code
+        modified = true;
+        if (buffer.size() >= maxBufferedHashcodes) {
+            // the records of the spilled file are only known to be covered by the last commit
+            flush(coveredSequenceNumber);
+        }
+    }
+
+    /**
+     * Writes the buffered hash codes and returns all index files of the bucket, which replace the
+     * previous ones. The newest files are merged if the bucket is compacted.
+     */
+    public IndexIncrement prepareCommit(long maxSequenceNumber, boolean compacted) {
+        List<IndexFileMeta> deletedFiles = staleFiles;
+        staleFiles = Collections.emptyList();
+        if (!modified && (!compacted || files.size() <= 1)) {
+            return new IndexIncrement(Collections.emptyList(), deletedFiles);
+        }
+
+        if (modified) {
+            flush(maxSequenceNumber);
+            modified = false;
+        }
+        if ((compacted || files.size() > MAX_FILES) && files.size() > 1) {
+            mergeNewestFiles();
+        }
+        uncommittedFiles.clear();
+        return new IndexIncrement(new ArrayList<>(files), deletedFiles);
+    }
+
+    private void flush(long maxSequenceNumber) {
+        IndexFileMeta file =
+                fileHandler.writeSecondaryIndex(field, maxSequenceNumber, buffer.toInts());
+        files.add(file);
+        uncommittedFiles.add(file.fileName());
+        buffer = new IntHashSet();
+        coveredSequenceNumber = maxSequenceNumber;
+    }
+
+    private void mergeNewestFiles() {
+        // an older file joins the merge if it is not much larger than the newer files, and the
+        // merge goes on until there are at most half of the max files
+        int start = files.size() - 1;
+        long rowCount = files.get(start).rowCount();
+        while (start > 0
+                && (files.get(start - 1).rowCount() <= 2 * rowCount || start > MAX_FILES / 2)) {
+            start--;
+            rowCount += files.get(start).rowCount();
+        }
+        if (start == files.size() - 1) {
+            return;
+        }
+
+        List<IndexFileMeta> toMerge = new ArrayList<>(files.subList(start, files.size()));
+        IndexFileMeta merged = fileHandler.mergeSecondaryIndex(field, toMerge);
+        files.subList(start, files.size()).clear();
+        files.add(merged);
+        for (IndexFileMeta file : toMerge) {
+            // committed files are still referenced by previous snapshots
+            if (uncommittedFiles.remove(file.fileName())) {
+                fileHandler.deleteIndexFile(file);
+            }
+        }
+        uncommittedFiles.add(merged.fileName());
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Factory to restore {@link SecondaryIndexMaintainer}. */
+    public static class Factory {
+
+        private final IndexFileHandler handler;
+        private final RowType rowType;
+        private final String column;
+        private final int maxBufferedHashcodes;
+
+        public Factory(IndexFileHandler handler, RowType rowType, String column) {
+            this(handler, rowType, column, DEFAULT_MAX_BUFFERED_HASHCODES);
+        }
+
+        Factory(
+                IndexFileHandler handler,
+                RowType rowType,
+                String column,
+                int maxBufferedHashcodes) {
+            this.handler = handler;
+            this.rowType = rowType;
+            this.column = column;
+            this.maxBufferedHashcodes = maxBufferedHashcodes;
+        }
+
+        public IndexFileHandler indexFileHandler() {
+            return handler;
+        }
+
+        public SecondaryIndexMaintainer create(
+                List<IndexFileMeta> restoredFiles, long restoredMaxSequenceNumber) {
+            return new SecondaryIndexMaintainer(
+                    handler,
+                    rowType.getField(column),
+                    SecondaryIndex.projection(rowType, column),
+                    maxBufferedHashcodes,
+                    restoredFiles,
+                    restoredMaxSequenceNumber);
+        }
+    }
+}
@@ -24,11 +24,16 @@ import org.apache.paimon.casting.CastedRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.PartitionInfo;
 import org.apache.paimon.data.columnar.ColumnarRowIterator;
+import org.apache.paimon.fileindex.bitmap.ApplyBitmapIndexFileRecordIterator;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
 import org.apache.paimon.format.FormatReaderFactory;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.VectorizedPredicateEvaluator;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.utils.FileUtils;
 import org.apache.paimon.utils.ProjectedRow;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import javax.annotation.Nullable;
 
@@ -41,6 +46,9 @@ public class DataFileRecordReader implements FileRecordReader<InternalRow> {
     @Nullable private final int[] indexMapping;
     @Nullable private final PartitionInfo partitionInfo;
     @Nullable private final CastFieldGetter[] castMapping;
+    @Nullable private final RoaringBitmap32 selection;
+    @Nullable private final Predicate filter;
+    @Nullable private final VectorizedPredicateEvaluator evaluator;
 
     public DataFileRecordReader(
             FormatReaderFactory readerFactory,
@@ -49,6 +57,21 @@ public class DataFileRecordReader implements FileRecordReader<InternalRow> {
             @Nullable CastFieldGetter[] castMapping,
             @Nullable PartitionInfo partitionInfo)
             throws IOException {
+        this(readerFactory, context, indexMapping, castMapping, partitionInfo, null);
+    }
+
+    /**
+     * The given filter on the read rows is executed by this reader, column batches are filtered by
+     * a {@link VectorizedPredicateEvaluator}.
+     */
+    public DataFileRecordReader(
+            FormatReaderFactory readerFactory,
+            FormatReaderFactory.Context context,
+            @Nullable int[] indexMapping,
+            @Nullable CastFieldGetter[] castMapping,
+            @Nullable PartitionInfo partitionInfo,
+            @Nullable Predicate filter)
+            throws IOException {
         try {
             this.reader = readerFactory.createReader(context);
         } catch (Exception e) {
@@ -58,6 +81,13 @@ public class DataFileRecordReader implements FileRecordReader<InternalRow> {
         this.indexMapping = indexMapping;
         this.partitionInfo = partitionInfo;
         this.castMapping = castMapping;
+        this.selection = context.selection();
+        this.filter = filter;
+        // casted fields are not in the vectors, such batches are filtered row by row
+        this.evaluator =
+                filter == null || castMapping != null
+                        ? null
+                        : new VectorizedPredicateEvaluator(filter);
     }
 
     @Nullable
@@ -68,9 +98,26 @@ public class DataFileRecordReader implements FileRecordReader<InternalRow> {
             return null;
         }
 
+        boolean filtered = false;
         if (iterator instanceof ColumnarRowIterator) {
-            iterator = ((ColumnarRowIterator) iterator).mapping(partitionInfo, indexMapping);
+            ColumnarRowIterator columnarIterator = (ColumnarRowIterator) iterator;
+            if (selection != null) {
+                // only rows of the selection are returned, as a selection vector of the batch
+                columnarIterator = columnarIterator.select(selection);
+            }
+            columnarIterator = columnarIterator.mapping(partitionInfo, indexMapping);
+            if (evaluator != null) {
+                columnarIterator = columnarIterator.filter(evaluator);
+                filtered = true;
+            }
+            iterator = columnarIterator;
         } else {
+            if (selection != null) {
+                iterator =
+                        new ApplyBitmapIndexFileRecordIterator(
+                                iterator, new BitmapIndexResult(() -> selection));
+            }
+
             if (partitionInfo != null) {
                 final PartitionSettedRow partitionSettedRow =
                         PartitionSettedRow.from(partitionInfo);
@@ -88,6 +135,10 @@ public class DataFileRecordReader implements FileRecordReader<InternalRow> {
             iterator = iterator.transform(castedRow::replaceRow);
         }
 
+        if (filter != null && !filtered) {
+            iterator = iterator.filter(filter::test);
+        }
+
         return iterator;
     }
 
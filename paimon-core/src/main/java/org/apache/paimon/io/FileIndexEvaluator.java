@@ -37,13 +37,15 @@ public class FileIndexEvaluator {
             TableSchema dataSchema,
             List<Predicate> dataFilter,
             DataFilePathFactory dataFilePathFactory,
-            DataFileMeta file)
+            DataFileMeta file,
+            double minPruningRate)
             throws IOException {
         if (dataFilter != null && !dataFilter.isEmpty()) {
             byte[] embeddedIndex = file.embeddedIndex();
             if (embeddedIndex != null) {
                 try (FileIndexPredicate predicate =
-                        new FileIndexPredicate(embeddedIndex, dataSchema.logicalRowType())) {
+                        new FileIndexPredicate(embeddedIndex, dataSchema.logicalRowType())
+                                .withMinPruningRate(minPruningRate)) {
                     return predicate.evaluate(
                             PredicateBuilder.and(dataFilter.toArray(new Predicate[0])));
                 }
@@ -62,9 +64,10 @@ public class FileIndexEvaluator {
                 // go to file index check
                 try (FileIndexPredicate predicate =
                         new FileIndexPredicate(
-                                dataFilePathFactory.toAlignedPath(indexFiles.get(0), file),
-                                fileIO,
-                                dataSchema.logicalRowType())) {
+                                        dataFilePathFactory.toAlignedPath(indexFiles.get(0), file),
+                                        fileIO,
+                                        dataSchema.logicalRowType())
+                                .withMinPruningRate(minPruningRate)) {
                     return predicate.evaluate(
                             PredicateBuilder.and(dataFilter.toArray(new Predicate[0])));
                 }
@@ -47,10 +47,10 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -91,7 +91,8 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         this.pathFactory = pathFactory;
         this.asyncThreshold = asyncThreshold;
         this.partition = partition;
-        this.formatReaderMappings = new HashMap<>();
+        // concurrent, readers may be created by compaction rewrite threads
+        this.formatReaderMappings = new ConcurrentHashMap<>();
         this.dvFactory = dvFactory;
     }
 
@@ -103,9 +104,18 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         return createRecordReader(file, true, null);
     }
 
-    private FileRecordReader<KeyValue> createRecordReader(
-            DataFileMeta file, boolean reuseFormat, @Nullable Integer orcPoolSize)
-            throws IOException {
+    /**
+     * Resolves the format reader mappings of the given files in advance. Readers of these files
+     * can then be created by other threads, for example when they are prefetched, without
+     * modifying the shared mappings.
+     */
+    public void prepareFormatReaderMappings(List<DataFileMeta> files) {
+        for (DataFileMeta file : files) {
+            formatReaderMapping(file, true);
+        }
+    }
+
+    private FormatReaderMapping formatReaderMapping(DataFileMeta file, boolean reuseFormat) {
         String formatIdentifier = DataFilePathFactory.formatIdentifier(file.fileName());
         long schemaId = file.schemaId();
 
@@ -116,12 +126,16 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
                                 schema,
                                 schemaId == schema.id() ? schema : schemaManager.schema(schemaId));
 
-        FormatReaderMapping formatReaderMapping =
-                reuseFormat
-                        ? formatReaderMappings.computeIfAbsent(
-                                new FormatKey(schemaId, formatIdentifier),
-                                key -> formatSupplier.get())
-                        : formatSupplier.get();
+        return reuseFormat
+                ? formatReaderMappings.computeIfAbsent(
+                        new FormatKey(schemaId, formatIdentifier), key -> formatSupplier.get())
+                : formatSupplier.get();
+    }
+
+    private FileRecordReader<KeyValue> createRecordReader(
+            DataFileMeta file, boolean reuseFormat, @Nullable Integer orcPoolSize)
+            throws IOException {
+        FormatReaderMapping formatReaderMapping = formatReaderMapping(file, reuseFormat);
         Path filePath = pathFactory.toPath(file);
 
         long fileSize = file.fileSize();
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.memory;
+
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.lookup.ValueState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory to create in-memory state whose value state is stored off-heap, see {@link
+ * OffHeapValueState}. Set and list states are the same as {@link InMemoryStateFactory}. The
+ * off-heap memory of the value states is freed when this factory is closed.
+ */
+public class OffHeapStateFactory extends InMemoryStateFactory {
+
+    private final List<OffHeapValueState<?, ?>> valueStates = new ArrayList<>();
+
+    @Override
+    public <K, V> ValueState<K, V> valueState(
+            String name,
+            Serializer<K> keySerializer,
+            Serializer<V> valueSerializer,
+            long lruCacheSize) {
+        OffHeapValueState<K, V> state = new OffHeapValueState<>(keySerializer, valueSerializer);
+        valueStates.add(state);
+        return state;
+    }
+
+    @Override
+    public void close() {
+        for (OffHeapValueState<?, ?> state : valueStates) {
+            state.close();
+        }
+        valueStates.clear();
+    }
+}
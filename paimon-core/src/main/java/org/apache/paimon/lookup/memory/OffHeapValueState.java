@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.memory;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.ValueBulkLoader;
+import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.MurmurHashUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * A {@link ValueState} which stores serialized records in off-heap {@link MemorySegment} pages
+ * and indexes them with an open addressing hash table.
+ *
+ * <p>This state supports one writer and any number of concurrent readers without locking. Records
+ * are never modified after being appended, and a slot only points to a record after the record is
+ * completely written. Growing the table or compacting deleted records builds a new version which is
+ * swapped in as a whole, readers holding the previous version keep reading consistent data.
+ *
+ * <p>Pages are not released by GC. The pages replaced by a compaction are freed once the last
+ * reader of them finishes, the other pages are freed by {@link #close}.
+ */
+public class OffHeapValueState<K, V> implements ValueState<K, V>, Closeable {
+
+    private static final int DEFAULT_PAGE_SIZE = 4 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // record layout: hash (int), key length (int), value length (int), key bytes, value bytes
+    private static final int HEADER_SIZE = 12;
+
+    // slots store the record address plus one, so that zero means empty
+    private static final long EMPTY = 0;
+    private static final long DELETED = -1;
+
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final ThreadLocal<Context> contexts;
+    private final int pageSize;
+
+    /** The version visible to readers. */
+    private volatile Table published;
+
+    // the fields below are only accessed by the writer
+
+    private Table current;
+    private int numPages;
+    @Nullable private MemorySegment currentPage;
+    private int pagePosition;
+    private int size;
+    private int usedSlots;
+    private long totalBytes;
+    private long garbageBytes;
+    private volatile boolean closed;
+
+    public OffHeapValueState(Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this(keySerializer, valueSerializer, DEFAULT_PAGE_SIZE);
+    }
+
+    @VisibleForTesting
+    OffHeapValueState(Serializer<K> keySerializer, Serializer<V> valueSerializer, int pageSize) {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.contexts = ThreadLocal.withInitial(this::createContext);
+        this.pageSize = pageSize;
+        this.current =
+                new Table(
+                        new MemorySegment[4],
+                        new AtomicLongArray(INITIAL_CAPACITY),
+                        new Generation());
+        this.published = current;
+    }
+
+    private Context createContext() {
+        return new Context(keySerializer.duplicate(), valueSerializer.duplicate());
+    }
+
+    @Override
+    public byte[] serializeKey(K key) throws IOException {
+        return contexts.get().serializeKey(key).getCopyOfBuffer();
+    }
+
+    @Override
+    public byte[] serializeValue(V value) throws IOException {
+        return contexts.get().serializeValue(value).getCopyOfBuffer();
+    }
+
+    @Override
+    public V deserializeValue(byte[] valueBytes) throws IOException {
+        return contexts.get().deserializeValue(valueBytes);
+    }
+
+    @Override
+    public @Nullable V get(K key) throws IOException {
+        Context context = contexts.get();
+        DataOutputSerializer keyOut = context.serializeKey(key);
+        MemorySegment keySegment = MemorySegment.wrap(keyOut.getSharedBuffer());
+        int keyLength = keyOut.length();
+        int hash = MurmurHashUtils.hashBytes(keySegment, 0, keyLength);
+
+        Table table = acquire();
+        byte[] value;
+        try {
+            long slot = table.slots.get(table.find(keySegment, keyLength, hash));
+            if (slot == EMPTY) {
+                return null;
+            }
+            value = table.value(slot - 1);
+        } finally {
+            table.generation.release();
+        }
+        return context.deserializeValue(value);
+    }
+
+    /** Returns the published version, its pages are not freed until it is released. */
+    private Table acquire() {
+        while (true) {
+            Table table = published;
+            if (table.generation.tryAcquire()) {
+                return table;
+            }
+            checkState(!closed, "The state is closed.");
+        }
+    }
+
+    @Override
+    public void put(K key, V value) throws IOException {
+        Context context = contexts.get();
+        DataOutputSerializer keyOut = context.serializeKey(key);
+        DataOutputSerializer valueOut = context.serializeValue(value);
+        putBytes(
+                keyOut.getSharedBuffer(),
+                keyOut.length(),
+                valueOut.getSharedBuffer(),
+                valueOut.length());
+    }
+
+    @Override
+    public void delete(K key) throws IOException {
+        DataOutputSerializer keyOut = contexts.get().serializeKey(key);
+        deleteBytes(keyOut.getSharedBuffer(), keyOut.length());
+    }
+
+    @Override
+    public ValueBulkLoader createBulkLoader() {
+        return new ValueBulkLoader() {
+
+            @Override
+            public void write(byte[] key, byte[] value) {
+                putBytes(key, key.length, value, value.length);
+            }
+
+            @Override
+            public void finish() {}
+        };
+    }
+
+    @VisibleForTesting
+    int size() {
+        return size;
+    }
+
+    @VisibleForTesting
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    private void putBytes(byte[] key, int keyLength, byte[] value, int valueLength) {
+        if ((usedSlots + 1) * 4L > current.slots.length() * 3L) {
+            current = rehash(current);
+        }
+
+        MemorySegment keySegment = MemorySegment.wrap(key);
+        int hash = MurmurHashUtils.hashBytes(keySegment, 0, keyLength);
+        int length = HEADER_SIZE + keyLength + valueLength;
+        long address = reserve(length);
+        MemorySegment page = current.page(address);
+        int offset = (int) address;
+        page.putInt(offset, hash);
+        page.putInt(offset + 4, keyLength);
+        page.putInt(offset + 8, valueLength);
+        keySegment.copyTo(0, page, offset + HEADER_SIZE, keyLength);
+        page.put(offset + HEADER_SIZE + keyLength, value, 0, valueLength);
+
+        int index = current.find(keySegment, keyLength, hash);
+        long slot = current.slots.get(index);
+        if (slot == EMPTY) {
+            size++;
+            usedSlots++;
+        } else {
+            garbageBytes += current.recordLength(slot - 1);
+        }
+        current.slots.set(index, address + 1);
+        maybeCompactAndPublish();
+    }
+
+    private void deleteBytes(byte[] key, int keyLength) {
+        MemorySegment keySegment = MemorySegment.wrap(key);
+        int hash = MurmurHashUtils.hashBytes(keySegment, 0, keyLength);
+        int index = current.find(keySegment, keyLength, hash);
+        long slot = current.slots.get(index);
+        if (slot == EMPTY) {
+            return;
+        }
+
+        garbageBytes += current.recordLength(slot - 1);
+        size--;
+        current.slots.set(index, DELETED);
+        maybeCompactAndPublish();
+    }
+
+    private void maybeCompactAndPublish() {
+        Generation replaced = null;
+        if (garbageBytes > pageSize && garbageBytes * 2 > totalBytes) {
+            replaced = current.generation;
+            current = compact(current);
+        }
+        if (published != current) {
+            published = current;
+        }
+        if (replaced != null) {
+            replaced.retire();
+        }
+    }
+
+    /** Frees all pages, must not be called concurrently with writes. */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            current.generation.retire();
+        }
+    }
+
+    /** Reserves space for a record in the current page and returns its address. */
+    private long reserve(int length) {
+        if (currentPage == null || pagePosition + length > currentPage.size()) {
+            MemorySegment page =
+                    MemorySegment.allocateOffHeapUnsafeMemory(Math.max(pageSize, length));
+            current.generation.pages.add(page);
+            if (numPages == current.pages.length) {
+                // readers of the current version never see the grown array, so copy slots too
+                current =
+                        new Table(
+                                Arrays.copyOf(current.pages, numPages * 2),
+                                copyOf(current.slots, current.slots.length()),
+                                current.generation);
+            }
+            current.pages[numPages++] = page;
+            currentPage = page;
+            pagePosition = 0;
+        }
+
+        long address = ((long) (numPages - 1) << 32) | pagePosition;
+        pagePosition += length;
+        totalBytes += length;
+        return address;
+    }
+
+    private Table rehash(Table table) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < (size + 1) * 2) {
+            capacity *= 2;
+        }
+
+        AtomicLongArray slots = new AtomicLongArray(capacity);
+        for (int i = 0; i < table.slots.length(); i++) {
+            long slot = table.slots.get(i);
+            if (slot != EMPTY && slot != DELETED) {
+                insertUnique(slots, table.hash(slot - 1), slot);
+            }
+        }
+        usedSlots = size;
+        return new Table(table.pages, slots, table.generation);
+    }
+
+    /** Copies all live records into new pages, which drops deleted and overwritten records. */
+    private Table compact(Table table) {
+        AtomicLongArray slots = rehash(table).slots;
+        current =
+                new Table(new MemorySegment[Math.max(4, numPages)], slots, new Generation());
+        numPages = 0;
+        currentPage = null;
+        totalBytes = 0;
+        garbageBytes = 0;
+
+        // reserving may grow the pages, which copies the slots into a new version
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = current.slots.get(i);
+            if (slot != EMPTY) {
+                long address = slot - 1;
+                int length = table.recordLength(address);
+                long newAddress = reserve(length);
+                table.page(address)
+                        .copyTo((int) address, current.page(newAddress), (int) newAddress, length);
+                current.slots.set(i, newAddress + 1);
+            }
+        }
+        return current;
+    }
+
+    private static void insertUnique(AtomicLongArray slots, int hash, long slot) {
+        int mask = slots.length() - 1;
+        int i = hash & mask;
+        while (slots.get(i) != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        slots.set(i, slot);
+    }
+
+    private static AtomicLongArray copyOf(AtomicLongArray slots, int length) {
+        AtomicLongArray copy = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            copy.set(i, slots.get(i));
+        }
+        return copy;
+    }
+
+    /** A version of the pages and the hash table over them. */
+    private static class Table {
+
+        private final MemorySegment[] pages;
+        private final AtomicLongArray slots;
+        private final Generation generation;
+
+        private Table(MemorySegment[] pages, AtomicLongArray slots, Generation generation) {
+            this.pages = pages;
+            this.slots = slots;
+            this.generation = generation;
+        }
+
+        private MemorySegment page(long address) {
+            return pages[(int) (address >>> 32)];
+        }
+
+        private int hash(long address) {
+            return page(address).getInt((int) address);
+        }
+
+        private int recordLength(long address) {
+            MemorySegment page = page(address);
+            int offset = (int) address;
+            return HEADER_SIZE + page.getInt(offset + 4) + page.getInt(offset + 8);
+        }
+
+        /** Returns the slot holding the key, or the empty slot which terminates the probing. */
+        private int find(MemorySegment key, int keyLength, int hash) {
+            int mask = slots.length() - 1;
+            for (int i = hash & mask; ; i = (i + 1) & mask) {
+                long slot = slots.get(i);
+                if (slot == EMPTY || (slot != DELETED && matches(slot - 1, key, keyLength, hash))) {
+                    return i;
+                }
+            }
+        }
+
+        private boolean matches(long address, MemorySegment key, int keyLength, int hash) {
+            MemorySegment page = page(address);
+            int offset = (int) address;
+            return page.getInt(offset) == hash
+                    && page.getInt(offset + 4) == keyLength
+                    && page.equalTo(key, offset + HEADER_SIZE, 0, keyLength);
+        }
+
+        private byte[] value(long address) {
+            MemorySegment page = page(address);
+            int offset = (int) address;
+            int keyLength = page.getInt(offset + 4);
+            byte[] value = new byte[page.getInt(offset + 8)];
+            page.get(offset + HEADER_SIZE + keyLength, value, 0, value.length);
+            return value;
+        }
+    }
+
+    /**
+     * The pages allocated since the last compaction, they are shared by all versions until the next
+     * compaction and freed once retired and not acquired by any reader.
+     */
+    private static class Generation {
+
+        private final List<MemorySegment> pages = new ArrayList<>();
+
+        // number of readers, or -1 once the pages are freed
+        private final AtomicInteger readers = new AtomicInteger();
+
+        private volatile boolean retired;
+
+        private boolean tryAcquire() {
+            while (true) {
+                int count = readers.get();
+                if (count < 0) {
+                    return false;
+                }
+                if (readers.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            if (readers.decrementAndGet() == 0 && retired) {
+                tryFree();
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            tryFree();
+        }
+
+        private void tryFree() {
+            if (readers.compareAndSet(0, -1)) {
+                for (MemorySegment page : pages) {
+                    page.free();
+                }
+            }
+        }
+    }
+
+    /** Serializers and buffers of one thread. */
+    private class Context {
+
+        private final Serializer<K> keySerializer;
+        private final Serializer<V> valueSerializer;
+        private final DataOutputSerializer keyOut;
+        private final DataOutputSerializer valueOut;
+        private final DataInputDeserializer valueIn;
+
+        private Context(Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+            this.keySerializer = keySerializer;
+            this.valueSerializer = valueSerializer;
+            this.keyOut = new DataOutputSerializer(32);
+            this.valueOut = new DataOutputSerializer(32);
+            this.valueIn = new DataInputDeserializer();
+        }
+
+        private DataOutputSerializer serializeKey(K key) throws IOException {
+            keyOut.clear();
+            keySerializer.serialize(key, keyOut);
+            return keyOut;
+        }
+
+        private DataOutputSerializer serializeValue(V value) throws IOException {
+            valueOut.clear();
+            valueSerializer.serialize(value, valueOut);
+            return valueOut;
+        }
+
+        private V deserializeValue(byte[] bytes) throws IOException {
+            valueIn.setBuffer(bytes);
+            return valueSerializer.deserialize(valueIn);
+        }
+    }
+}
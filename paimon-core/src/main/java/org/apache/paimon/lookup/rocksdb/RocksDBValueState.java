@@ -19,6 +19,8 @@
 package org.apache.paimon.lookup.rocksdb;
 
 import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.lookup.ByteArray;
 import org.apache.paimon.lookup.ValueState;
 
@@ -30,10 +32,15 @@ import java.io.IOException;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Rocksdb state for key -> a single value. */
+/**
+ * Rocksdb state for key -> a single value. Gets can be called by several threads concurrently,
+ * each thread serializes with its own serializers, but not concurrently with modifications.
+ */
 public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Reference>
         implements ValueState<K, V> {
 
+    private final ThreadLocal<Reader> readers;
+
     public RocksDBValueState(
             RocksDBStateFactory stateFactory,
             ColumnFamilyHandle columnFamily,
@@ -41,14 +48,16 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
             Serializer<V> valueSerializer,
             long lruCacheSize) {
         super(stateFactory, columnFamily, keySerializer, valueSerializer, lruCacheSize);
+        this.readers = ThreadLocal.withInitial(Reader::new);
     }
 
     @Nullable
     @Override
     public V get(K key) throws IOException {
+        Reader reader = readers.get();
         try {
-            Reference valueRef = get(wrap(serializeKey(key)));
-            return valueRef.isPresent() ? deserializeValue(valueRef.bytes) : null;
+            Reference valueRef = get(wrap(reader.serializeKey(key)));
+            return valueRef.isPresent() ? reader.deserializeValue(valueRef.bytes) : null;
         } catch (Exception e) {
             throw new IOException(e);
         }
@@ -91,4 +100,26 @@ public class RocksDBValueState<K, V> extends RocksDBState<K, V, RocksDBState.Ref
             throw new IOException(e);
         }
     }
+
+    /** Serializers and buffers of a thread which gets values. */
+    private class Reader {
+
+        private final Serializer<K> keySerializer =
+                RocksDBValueState.this.keySerializer.duplicate();
+        private final Serializer<V> valueSerializer =
+                RocksDBValueState.this.valueSerializer.duplicate();
+        private final DataOutputSerializer keyOut = new DataOutputSerializer(32);
+        private final DataInputDeserializer valueIn = new DataInputDeserializer();
+
+        private byte[] serializeKey(K key) throws IOException {
+            keyOut.clear();
+            keySerializer.serialize(key, keyOut);
+            return keyOut.getCopyOfBuffer();
+        }
+
+        private V deserializeValue(byte[] bytes) throws IOException {
+            valueIn.setBuffer(bytes);
+            return valueSerializer.deserialize(valueIn);
+        }
+    }
 }
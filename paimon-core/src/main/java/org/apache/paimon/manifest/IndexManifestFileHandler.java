@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.SecondaryIndexFile.SECONDARY_INDEX;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
 /** IndexManifestFile Handler. */
@@ -62,7 +63,7 @@ public class IndexManifestFileHandler {
         Pair<List<IndexManifestEntry>, List<IndexManifestEntry>> current =
                 separateIndexEntries(newIndexFiles);
 
-        // Step1: get the hash index files;
+        // Step1: get the hash and secondary index files;
         List<IndexManifestEntry> indexEntries =
                 getIndexManifestFileCombine(HASH_INDEX)
                         .combine(previous.getLeft(), current.getLeft());
@@ -83,7 +84,7 @@ public class IndexManifestFileHandler {
             String indexType = entry.indexFile().indexType();
             if (indexType.equals(DELETION_VECTORS_INDEX)) {
                 dvEntries.add(entry);
-            } else if (indexType.equals(HASH_INDEX)) {
+            } else if (indexType.equals(HASH_INDEX) || indexType.equals(SECONDARY_INDEX)) {
                 hashEntries.add(entry);
             } else {
                 throw new IllegalArgumentException("Can't recognize this index type: " + indexType);
@@ -130,15 +131,19 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}. The new index files
+     * of a bucket replace all of its previous index files, a bucket may be covered by multiple
+     * incremental deletion vectors index files.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
-            Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            Map<BucketIdentifier, List<IndexManifestEntry>> indexEntries = new HashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                indexEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -146,17 +151,20 @@ public class IndexManifestFileHandler {
                     newIndexFiles.stream()
                             .filter(f -> f.kind() == FileKind.DELETE)
                             .collect(Collectors.toList());
-            List<IndexManifestEntry> added =
+            Map<BucketIdentifier, List<IndexManifestEntry>> added =
                     newIndexFiles.stream()
                             .filter(f -> f.kind() == FileKind.ADD)
-                            .collect(Collectors.toList());
+                            .collect(
+                                    Collectors.groupingBy(
+                                            IndexManifestFileHandler::identifier,
+                                            Collectors.toList()));
             for (IndexManifestEntry entry : removed) {
                 indexEntries.remove(identifier(entry));
             }
-            for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
-            }
-            return new ArrayList<>(indexEntries.values());
+            indexEntries.putAll(added);
+            return indexEntries.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
         }
     }
 
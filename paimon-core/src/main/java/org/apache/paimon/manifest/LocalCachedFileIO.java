@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link FileIO} which reads files through a {@link ManifestLocalCache}, all other operations
+ * are delegated. It must only be used for immutable files, such as manifest files.
+ */
+public class LocalCachedFileIO implements FileIO {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileIO fileIO;
+    private final String cacheDir;
+    private final long cacheMaxSize;
+
+    private transient ManifestLocalCache cache;
+
+    public LocalCachedFileIO(FileIO fileIO, String cacheDir, long cacheMaxSize) {
+        this.fileIO = fileIO;
+        this.cacheDir = cacheDir;
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    private ManifestLocalCache cache() {
+        if (cache == null) {
+            cache = ManifestLocalCache.get(cacheDir, cacheMaxSize);
+        }
+        return cache;
+    }
+
+    @Override
+    public boolean isObjectStore() {
+        return fileIO.isObjectStore();
+    }
+
+    @Override
+    public void configure(CatalogContext context) {
+        fileIO.configure(context);
+    }
+
+    @Override
+    public void setRuntimeContext(Map<String, String> options) {
+        fileIO.setRuntimeContext(options);
+    }
+
+    @Override
+    public SeekableInputStream newInputStream(Path path) throws IOException {
+        File file = cache().getOrDownload(fileIO, path);
+        try {
+            return LocalFileIO.create().newInputStream(new Path(file.toURI()));
+        } catch (FileNotFoundException e) {
+            // evicted by another process in the meantime
+            return fileIO.newInputStream(path);
+        }
+    }
+
+    @Override
+    public long getFileSize(Path path) throws IOException {
+        File file = cache().getIfPresent(path);
+        if (file != null) {
+            long length = file.length();
+            // zero if evicted in the meantime, manifest files are never empty
+            if (length > 0) {
+                return length;
+            }
+        }
+        return fileIO.getFileSize(path);
+    }
+
+    @Override
+    public PositionOutputStream newOutputStream(Path path, boolean overwrite) throws IOException {
+        return fileIO.newOutputStream(path, overwrite);
+    }
+
+    @Override
+    public FileStatus getFileStatus(Path path) throws IOException {
+        return fileIO.getFileStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listStatus(Path path) throws IOException {
+        return fileIO.listStatus(path);
+    }
+
+    @Override
+    public boolean exists(Path path) throws IOException {
+        return fileIO.exists(path);
+    }
+
+    @Override
+    public boolean delete(Path path, boolean recursive) throws IOException {
+        return fileIO.delete(path, recursive);
+    }
+
+    @Override
+    public boolean mkdirs(Path path) throws IOException {
+        return fileIO.mkdirs(path);
+    }
+
+    @Override
+    public boolean rename(Path src, Path dst) throws IOException {
+        return fileIO.rename(src, dst);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.utils.IOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size bounded cache of manifest files in a local directory. Manifest files are immutable and
+ * their names are unique, so a cached file is addressed by its name only.
+ *
+ * <p>The directory can be shared by several processes on the same host: files are downloaded to
+ * a temporary file first and atomically renamed, so readers never see partial files. Eviction
+ * deletes the least recently used files, a reader which loses the race with an eviction falls
+ * back to the remote file.
+ */
+@ThreadSafe
+public class ManifestLocalCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ManifestLocalCache.class);
+
+    private static final Map<String, ManifestLocalCache> CACHES = new ConcurrentHashMap<>();
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /** Temporary files older than this are leftovers of failed downloads. */
+    private static final long TMP_FILE_EXPIRE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /** Evict down to this fraction of the max size, to not evict on every download. */
+    private static final double EVICT_RATIO = 0.8;
+
+    private final File dir;
+    private final long maxSize;
+    private final AtomicLong size;
+
+    @VisibleForTesting
+    ManifestLocalCache(File dir, long maxSize) {
+        this.dir = dir;
+        this.maxSize = maxSize;
+        if (!dir.mkdirs() && !dir.isDirectory()) {
+            throw new IllegalArgumentException("Cannot create local manifest cache dir " + dir);
+        }
+        this.size = new AtomicLong(totalSize(listCachedFiles()));
+    }
+
+    /** Returns the cache of the directory, which is shared in this process. */
+    public static ManifestLocalCache get(String dir, long maxSize) {
+        return CACHES.computeIfAbsent(dir, d -> new ManifestLocalCache(new File(d), maxSize));
+    }
+
+    /** Returns the local copy of the remote file, downloads it if it is not cached. */
+    public File getOrDownload(FileIO fileIO, Path path) throws IOException {
+        File file = new File(dir, path.getName());
+        if (file.exists()) {
+            // the modification time is used as access time for eviction
+            file.setLastModified(System.currentTimeMillis());
+            return file;
+        }
+
+        File tmp = new File(dir, path.getName() + "." + UUID.randomUUID() + TMP_SUFFIX);
+        try {
+            try (SeekableInputStream in = fileIO.newInputStream(path);
+                    OutputStream out = Files.newOutputStream(tmp.toPath())) {
+                IOUtils.copyBytes(in, out);
+            }
+            // another process may have downloaded the same file, replacing it is safe since the
+            // contents are identical
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp.toPath());
+        }
+
+        if (size.addAndGet(file.length()) > maxSize) {
+            evict();
+        }
+        return file;
+    }
+
+    /** Returns the local copy of the remote file if it is cached, otherwise null. */
+    @Nullable
+    public File getIfPresent(Path path) {
+        File file = new File(dir, path.getName());
+        return file.exists() ? file : null;
+    }
+
+    private synchronized void evict() {
+        // rescan to take the files of other processes into account
+        File[] files = listCachedFiles();
+        long total = totalSize(files);
+        if (total <= maxSize) {
+            size.set(total);
+            return;
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        long target = (long) (maxSize * EVICT_RATIO);
+        for (File file : files) {
+            if (total <= target) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            }
+        }
+        size.set(total);
+        LOG.debug("Evicted local manifest cache {} to {} bytes.", dir, total);
+    }
+
+    private File[] listCachedFiles() {
+        long now = System.currentTimeMillis();
+        File[] files =
+                dir.listFiles(
+                        file -> {
+                            if (!file.getName().endsWith(TMP_SUFFIX)) {
+                                return true;
+                            }
+                            if (now - file.lastModified() > TMP_FILE_EXPIRE_MILLIS) {
+                                file.delete();
+                            }
+                            return false;
+                        });
+        return files == null ? new File[0] : files;
+    }
+
+    private static long totalSize(File[] files) {
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        return total;
+    }
+
+    @VisibleForTesting
+    long size() {
+        return size.get();
+    }
+}
@@ -38,6 +38,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.List;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
@@ -76,6 +77,19 @@ public class LookupFile {
         return res;
     }
 
+    /** Get values of keys sorted in ascending order, see {@link LookupStoreReader#lookupBatch}. */
+    public List<byte[]> getBatch(List<byte[]> sortedKeys) throws IOException {
+        checkArgument(!isClosed);
+        requestCount += sortedKeys.size();
+        List<byte[]> values = reader.lookupBatch(sortedKeys);
+        for (byte[] value : values) {
+            if (value != null) {
+                hitCount++;
+            }
+        }
+        return values;
+    }
+
     public DataFileMeta remoteFile() {
         return remoteFile;
     }
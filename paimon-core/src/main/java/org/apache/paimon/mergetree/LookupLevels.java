@@ -41,9 +41,12 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -126,6 +129,141 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Nullable
     private T lookup(InternalRow key, DataFileMeta file) throws IOException {
+        byte[] keyBytes = keySerializer.serializeToBytes(key);
+        return lookupFile(
+                file,
+                lookupFile -> {
+                    byte[] valueBytes = lookupFile.get(keyBytes);
+                    if (valueBytes == null) {
+                        return null;
+                    }
+                    return valueProcessor.readFromDisk(
+                            key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
+                });
+    }
+
+    /**
+     * Lookup a batch of keys sorted in ascending order by the key comparator. The result of each
+     * key is returned at the same position, null if the key is absent.
+     *
+     * <p>Compared to looking up keys one by one, each level is walked once per batch, and each
+     * file is probed once with all of its candidate keys, see {@link
+     * org.apache.paimon.lookup.LookupStoreReader#lookupBatch}.
+     */
+    public List<T> lookupBatch(List<InternalRow> sortedKeys, int startLevel) throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(sortedKeys.size(), null));
+        byte[][] keyBytes = new byte[sortedKeys.size()][];
+
+        // positions of keys which have not been found yet, kept in ascending order
+        List<Integer> pending = new ArrayList<>(sortedKeys.size());
+        for (int i = 0; i < sortedKeys.size(); i++) {
+            pending.add(i);
+        }
+
+        for (int i = startLevel; i < levels.numberOfLevels() && !pending.isEmpty(); i++) {
+            if (i == 0) {
+                // level 0 files are ordered from newest to oldest, the first found wins
+                for (DataFileMeta file : levels.level0()) {
+                    List<Integer> candidates = new ArrayList<>();
+                    for (int pos : pending) {
+                        InternalRow key = sortedKeys.get(pos);
+                        if (keyComparator.compare(file.maxKey(), key) >= 0
+                                && keyComparator.compare(file.minKey(), key) <= 0) {
+                            candidates.add(pos);
+                        }
+                    }
+                    lookupBatch(sortedKeys, keyBytes, file, candidates, results);
+                    pending.removeIf(pos -> results.get(pos) != null);
+                }
+            } else {
+                List<DataFileMeta> files = levels.runOfLevel(i).files();
+                int fileIndex = 0;
+                List<Integer> candidates = new ArrayList<>();
+                for (int pos : pending) {
+                    InternalRow key = sortedKeys.get(pos);
+                    int next = seekFile(files, fileIndex, key);
+                    if (next != fileIndex) {
+                        lookupBatch(
+                                sortedKeys, keyBytes, files.get(fileIndex), candidates, results);
+                        candidates.clear();
+                        fileIndex = next;
+                    }
+                    if (fileIndex == files.size()) {
+                        // the rest keys are greater than all keys of this level
+                        break;
+                    }
+                    candidates.add(pos);
+                }
+                if (fileIndex < files.size()) {
+                    lookupBatch(sortedKeys, keyBytes, files.get(fileIndex), candidates, results);
+                }
+                pending.removeIf(pos -> results.get(pos) != null);
+            }
+        }
+        return results;
+    }
+
+    private void lookupBatch(
+            List<InternalRow> sortedKeys,
+            byte[][] keyBytes,
+            DataFileMeta file,
+            List<Integer> positions,
+            List<T> results)
+            throws IOException {
+        if (positions.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> batch = new ArrayList<>(positions.size());
+        for (int pos : positions) {
+            if (keyBytes[pos] == null) {
+                keyBytes[pos] = keySerializer.serializeToBytes(sortedKeys.get(pos));
+            }
+            batch.add(keyBytes[pos]);
+        }
+
+        lookupFile(
+                file,
+                lookupFile -> {
+                    List<byte[]> values = lookupFile.getBatch(batch);
+                    int level = lookupFile.remoteFile().level();
+                    for (int i = 0; i < positions.size(); i++) {
+                        byte[] valueBytes = values.get(i);
+                        if (valueBytes != null) {
+                            int pos = positions.get(i);
+                            results.set(
+                                    pos,
+                                    valueProcessor.readFromDisk(
+                                            sortedKeys.get(pos),
+                                            level,
+                                            valueBytes,
+                                            file.fileName()));
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    /** Returns the first file from {@code start} whose max key is not less than the key. */
+    private int seekFile(List<DataFileMeta> files, int start, InternalRow key) {
+        int index = start;
+        while (index < files.size() && keyComparator.compare(files.get(index).maxKey(), key) < 0) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Creates a {@link SortedLookup} for keys arriving in ascending order, such as the merged keys
+     * of a compaction.
+     */
+    public SortedLookup sortedLookup(int startLevel) {
+        return new SortedLookup(startLevel);
+    }
+
+    @Nullable
+    private <R> R lookupFile(DataFileMeta file, IOFunction<LookupFile, R> function)
+            throws IOException {
         LookupFile lookupFile = lookupFileCache.getIfPresent(file.fileName());
 
         boolean newCreatedLookupFile = false;
@@ -134,21 +272,13 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             newCreatedLookupFile = true;
         }
 
-        byte[] valueBytes;
         try {
-            byte[] keyBytes = keySerializer.serializeToBytes(key);
-            valueBytes = lookupFile.get(keyBytes);
+            return function.apply(lookupFile);
         } finally {
             if (newCreatedLookupFile) {
                 lookupFileCache.put(file.fileName(), lookupFile);
             }
         }
-        if (valueBytes == null) {
-            return null;
-        }
-
-        return valueProcessor.readFromDisk(
-                key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
     }
 
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
@@ -206,6 +336,54 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /**
+     * A lookup for keys in ascending order. Instead of a binary search for every key, it keeps a
+     * cursor of the current file on each sorted run and moves it forward, so every level is
+     * walked only once across all the keys.
+     */
+    public class SortedLookup {
+
+        private final int startLevel;
+        private final List<List<DataFileMeta>> runFiles;
+        private final int[] fileCursors;
+
+        private SortedLookup(int startLevel) {
+            this.startLevel = startLevel;
+            this.runFiles = new ArrayList<>(Collections.nCopies(levels.numberOfLevels(), null));
+            this.fileCursors = new int[levels.numberOfLevels()];
+        }
+
+        @Nullable
+        public T lookup(InternalRow key) throws IOException {
+            return LookupUtils.lookup(
+                    levels, key, startLevel, this::lookupRun, LookupLevels.this::lookupLevel0);
+        }
+
+        @Nullable
+        private T lookupRun(InternalRow key, SortedRun run) throws IOException {
+            if (run.isEmpty()) {
+                return null;
+            }
+
+            List<DataFileMeta> files = run.files();
+            int level = files.get(0).level();
+            if (runFiles.get(level) != files) {
+                // levels have been updated, restart from the first file
+                runFiles.set(level, files);
+                fileCursors[level] = 0;
+            }
+
+            int index = fileCursors[level];
+            if (index > 0 && keyComparator.compare(files.get(index - 1).maxKey(), key) >= 0) {
+                // key is out of order, restart from the first file
+                index = 0;
+            }
+            index = seekFile(files, index, key);
+            fileCursors[level] = index;
+            return index < files.size() ? LookupLevels.this.lookup(key, files.get(index)) : null;
+        }
+    }
+
     /** Processor to process value. */
     public interface ValueProcessor<T> {
 
@@ -91,7 +91,12 @@ public class MergeTreeReaders {
                 readers, userKeyComparator, userDefinedSeqComparator, mergeFunctionWrapper);
     }
 
-    private static RecordReader<KeyValue> readerForRun(
+    /**
+     * Reads a sorted run without merging. Keys in a sorted run do not repeat, so this is
+     * equivalent to merging a single run with a reducer, but keeps the batches of the underlying
+     * file readers instead of pulling records one by one through a sort merge.
+     */
+    public static RecordReader<KeyValue> readerForRun(
             SortedRun run, FileReaderFactory<KeyValue> readerFactory) throws IOException {
         List<ReaderSupplier<KeyValue>> readers = new ArrayList<>();
         for (DataFileMeta file : run.files()) {
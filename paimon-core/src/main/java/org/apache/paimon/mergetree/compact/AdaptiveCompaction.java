@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@link UniversalCompaction} which tunes its sorted run trigger online for one bucket.
+ *
+ * <p>The user declares the maximum number of sorted runs that reads may touch. The strategy
+ * measures the read amplification (a slowly decaying peak of the sorted runs seen on each pick) and
+ * the recent write amplification (bytes picked for compaction plus newly flushed bytes, divided by
+ * newly flushed bytes, both decaying over picks). As soon as reads touch more runs than the target,
+ * for example because compactions lag behind writes, the trigger is lowered by the number of
+ * excess runs. While reads have at least one run of headroom and compactions rewrite noticeably
+ * more bytes than are flushed, the trigger is raised by one to rewrite fewer bytes. If writes are
+ * already cheap the trigger is kept, leaving the headroom to absorb bursts.
+ *
+ * <p>Measurements are not persisted. A restored writer starts from the configured trigger, seeds
+ * the read amplification from the sorted runs it restored, and does not count restored level 0
+ * files as flushed bytes.
+ */
+public class AdaptiveCompaction extends UniversalCompaction {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveCompaction.class);
+
+    private static final int MIN_TRIGGER = 2;
+    private static final double DECAY = 0.2;
+    private static final double WRITE_DECAY = 0.1;
+
+    /** Raise the trigger only if compactions rewrite at least half of the flushed bytes. */
+    private static final double WRITE_AMPLIFICATION_TO_RAISE = 1.5;
+
+    private final int targetSortedRuns;
+
+    // names of level 0 files which have been counted as flushed bytes
+    private final Set<String> seenLevel0Files;
+
+    private boolean observed;
+    private double peakSortedRuns;
+    private double flushedBytes;
+    private double compactedBytes;
+
+    public AdaptiveCompaction(
+            int maxSizeAmp,
+            int sizeRatio,
+            int numRunCompactionTrigger,
+            @Nullable Duration opCompactionInterval,
+            int targetSortedRuns) {
+        super(
+                maxSizeAmp,
+                sizeRatio,
+                Math.max(MIN_TRIGGER, Math.min(numRunCompactionTrigger, targetSortedRuns - 1)),
+                opCompactionInterval);
+        this.targetSortedRuns = Math.max(MIN_TRIGGER + 1, targetSortedRuns);
+        this.seenLevel0Files = new HashSet<>();
+    }
+
+    @Override
+    public Optional<CompactUnit> pick(int numLevels, List<LevelSortedRun> runs) {
+        observe(runs);
+        tune();
+        Optional<CompactUnit> unit = super.pick(numLevels, runs);
+        unit.ifPresent(
+                u -> {
+                    for (DataFileMeta file : u.files()) {
+                        compactedBytes += file.fileSize();
+                    }
+                });
+        return unit;
+    }
+
+    private void observe(List<LevelSortedRun> runs) {
+        flushedBytes *= 1 - WRITE_DECAY;
+        compactedBytes *= 1 - WRITE_DECAY;
+
+        Set<String> level0Files = new HashSet<>();
+        for (LevelSortedRun run : runs) {
+            if (run.level() != 0) {
+                continue;
+            }
+            for (DataFileMeta file : run.run().files()) {
+                level0Files.add(file.fileName());
+                // restored files were flushed before this writer started
+                if (observed && !seenLevel0Files.contains(file.fileName())) {
+                    flushedBytes += file.fileSize();
+                }
+            }
+        }
+        // only remember files which are still in level 0
+        seenLevel0Files.retainAll(level0Files);
+        seenLevel0Files.addAll(level0Files);
+
+        // rise immediately, decay slowly
+        peakSortedRuns =
+                observed
+                        ? Math.max(
+                                runs.size(),
+                                peakSortedRuns - DECAY * (peakSortedRuns - runs.size()))
+                        : runs.size();
+        observed = true;
+    }
+
+    private void tune() {
+        int trigger = numRunCompactionTrigger();
+        int newTrigger = trigger;
+        double excessRuns = peakSortedRuns - targetSortedRuns;
+        if (excessRuns > 0) {
+            // reads touch too many runs, compact earlier, the more runs the earlier
+            newTrigger = Math.max(MIN_TRIGGER, trigger - (int) Math.ceil(excessRuns));
+        } else if (excessRuns <= -1
+                && trigger < targetSortedRuns - 1
+                && writeAmplification() > WRITE_AMPLIFICATION_TO_RAISE) {
+            // reads have headroom and compactions rewrite a lot, compact later
+            newTrigger = trigger + 1;
+        }
+
+        if (newTrigger != trigger) {
+            setNumRunCompactionTrigger(newTrigger);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Adaptive compaction changes sorted run trigger from {} to {}, "
+                                + "read amplification = {}, write amplification = {}.",
+                        trigger,
+                        newTrigger,
+                        peakSortedRuns,
+                        writeAmplification());
+            }
+        }
+    }
+
+    /** Recent peak of the number of sorted runs a read of this bucket touches. */
+    public double readAmplification() {
+        return peakSortedRuns;
+    }
+
+    /** Recent bytes written by flushes and compactions per flushed byte. */
+    public double writeAmplification() {
+        return flushedBytes == 0 ? 1 : (flushedBytes + compactedBytes) / flushedBytes;
+    }
+
+    @VisibleForTesting
+    int currentTrigger() {
+        return numRunCompactionTrigger();
+    }
+}
@@ -99,6 +99,12 @@ public abstract class ChangelogMergeTreeRewriter extends MergeTreeCompactRewrite
         return false;
     }
 
+    @Override
+    public boolean supportsParallelRewrite() {
+        // lookups and deletion vector updates are not thread safe
+        return false;
+    }
+
     @Override
     public CompactResult rewrite(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
@@ -19,9 +19,12 @@
 package org.apache.paimon.mergetree.compact;
 
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.SortedRun;
 
+import javax.annotation.Nullable;
+
 import java.io.Closeable;
 import java.util.List;
 
@@ -53,4 +56,53 @@ public interface CompactRewriter extends Closeable {
      * @throws Exception exception
      */
     CompactResult upgrade(int outputLevel, DataFileMeta file) throws Exception;
+
+    /**
+     * Whether {@link #rewrite} can be called concurrently from multiple threads for sections of
+     * disjoint key ranges.
+     */
+    default boolean supportsParallelRewrite() {
+        return false;
+    }
+
+    /**
+     * Whether {@link #rewriteRange} is supported, so that a single large section can be split into
+     * key ranges which are rewritten in parallel.
+     */
+    default boolean supportsRangeRewrite() {
+        return false;
+    }
+
+    /**
+     * Rewrite the keys of a section which are in the range [lowerBound, upperBound) to new level.
+     * Runs of the section may contain keys out of the range, they are skipped. The returned result
+     * has no before files, because the input files are shared by the ranges of the section.
+     *
+     * @param outputLevel new level
+     * @param dropDelete whether to drop the deletion
+     * @param section runs containing all records of the key range
+     * @param lowerBound inclusive lower bound of keys, null if unbounded
+     * @param upperBound exclusive upper bound of keys, null if unbounded
+     * @return compaction result without before files
+     * @throws Exception exception
+     */
+    default CompactResult rewriteRange(
+            int outputLevel,
+            boolean dropDelete,
+            List<SortedRun> section,
+            @Nullable InternalRow lowerBound,
+            @Nullable InternalRow upperBound)
+            throws Exception {
+        throw new UnsupportedOperationException(
+                getClass().getName() + " does not support rewriting key ranges.");
+    }
+
+    /**
+     * Delete files written by {@link #rewrite} or {@link #rewriteRange} which are discarded, e.g.
+     * because a parallel rewrite of other key ranges of the same compaction failed.
+     */
+    default void deleteRewrittenFiles(List<DataFileMeta> files) {
+        throw new UnsupportedOperationException(
+                getClass().getName() + " does not support deleting rewritten files.");
+    }
 }
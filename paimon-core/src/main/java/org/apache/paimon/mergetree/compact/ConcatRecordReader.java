@@ -18,6 +18,7 @@
 
 package org.apache.paimon.mergetree.compact;
 
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.reader.ReaderSupplier;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.utils.Preconditions;
@@ -53,6 +54,21 @@ public class ConcatRecordReader<T> implements RecordReader<T> {
         return readers.size() == 1 ? readers.get(0).get() : new ConcatRecordReader<>(readers);
     }
 
+    /**
+     * Creates a concatenated reader which opens at most {@code prefetchNum} next readers in
+     * background, see {@link PrefetchConcatRecordReader}.
+     */
+    public static <R> RecordReader<R> create(
+            List<? extends ReaderSupplier<R>> readers,
+            int prefetchNum,
+            @Nullable ReadMetrics metrics)
+            throws IOException {
+        if (prefetchNum <= 0 || readers.size() <= 1) {
+            return create(readers);
+        }
+        return new PrefetchConcatRecordReader<>(readers, prefetchNum, metrics);
+    }
+
     public static <R> RecordReader<R> create(ReaderSupplier<R> reader1, ReaderSupplier<R> reader2)
             throws IOException {
         return create(Arrays.asList(reader1, reader2));
@@ -50,6 +50,9 @@ import static org.apache.paimon.mergetree.compact.ChangelogMergeTreeRewriter.Upg
 /**
  * A {@link MergeTreeCompactRewriter} which produces changelog files by lookup for the compaction
  * involving level 0 files.
+ *
+ * <p>Merged keys of a compaction arrive in ascending order, so lookups go through {@link
+ * LookupLevels.SortedLookup} to walk each upper level only once.
  */
 public class LookupMergeTreeCompactRewriter<T> extends ChangelogMergeTreeRewriter {
 
@@ -182,11 +185,12 @@ public class LookupMergeTreeCompactRewriter<T> extends ChangelogMergeTreeRewrite
                 int outputLevel,
                 LookupLevels<T> lookupLevels,
                 @Nullable DeletionVectorsMaintainer deletionVectorsMaintainer) {
+            LookupLevels<T>.SortedLookup sortedLookup = lookupLevels.sortedLookup(outputLevel + 1);
             return new LookupChangelogMergeFunctionWrapper<>(
                     mfFactory,
                     key -> {
                         try {
-                            return lookupLevels.lookup(key, outputLevel + 1);
+                            return sortedLookup.lookup(key);
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
                         }
@@ -208,11 +212,13 @@ public class LookupMergeTreeCompactRewriter<T> extends ChangelogMergeTreeRewrite
                 int outputLevel,
                 LookupLevels<Boolean> lookupLevels,
                 @Nullable DeletionVectorsMaintainer deletionVectorsMaintainer) {
+            LookupLevels<Boolean>.SortedLookup sortedLookup =
+                    lookupLevels.sortedLookup(outputLevel + 1);
             return new FirstRowMergeFunctionWrapper(
                     mfFactory,
                     key -> {
                         try {
-                            return lookupLevels.lookup(key, outputLevel + 1) != null;
+                            return sortedLookup.lookup(key) != null;
                         } catch (IOException e) {
                             throw new UncheckedIOException(e);
                         }
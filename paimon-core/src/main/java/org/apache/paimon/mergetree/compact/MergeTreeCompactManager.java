@@ -67,6 +67,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     private final boolean lazyGenDeletionFile;
     private final boolean needLookup;
     private final boolean forceRewriteAllFiles;
+    private final int rewriteParallelism;
+    @Nullable private final ExecutorService rewriteExecutor;
 
     @Nullable private final RecordLevelExpire recordLevelExpire;
 
@@ -83,7 +85,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
             boolean lazyGenDeletionFile,
             boolean needLookup,
             @Nullable RecordLevelExpire recordLevelExpire,
-            boolean forceRewriteAllFiles) {
+            boolean forceRewriteAllFiles,
+            int rewriteParallelism,
+            @Nullable ExecutorService rewriteExecutor) {
         this.executor = executor;
         this.levels = levels;
         this.strategy = strategy;
@@ -97,6 +101,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         this.recordLevelExpire = recordLevelExpire;
         this.needLookup = needLookup;
         this.forceRewriteAllFiles = forceRewriteAllFiles;
+        this.rewriteParallelism = rewriteParallelism;
+        this.rewriteExecutor = rewriteExecutor;
 
         MetricUtils.safeCall(this::reportMetrics, LOG);
     }
@@ -222,7 +228,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                             metricsReporter,
                             compactDfSupplier,
                             recordLevelExpire,
-                            forceRewriteAllFiles);
+                            forceRewriteAllFiles,
+                            rewriteParallelism,
+                            rewriteExecutor);
         }
 
         if (LOG.isDebugEnabled()) {
@@ -237,7 +245,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        taskFuture = executor.submit(task.withUrgency(urgency()));
         if (metricsReporter != null) {
             metricsReporter.increaseCompactionsQueuedCount();
         }
@@ -275,8 +283,25 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         return super.compactNotCompleted() || (needLookup && !levels().level0().isEmpty());
     }
 
+    /**
+     * Urgency of the next compaction of this bucket. The main factor is how close the number of
+     * sorted runs is to {@code num-sorted-run.stop-trigger}, at which writes will be stalled. The
+     * size amplification of the levels above the max level breaks ties between similar buckets.
+     */
+    @VisibleForTesting
+    double urgency() {
+        double runs = (double) levels.numberOfSortedRuns() / numSortedRunStopTrigger;
+        long maxLevelSize = levels.runOfLevel(levels.maxLevel()).totalSize();
+        double amplification =
+                maxLevelSize == 0
+                        ? 0
+                        : (double) (levels.totalFileSize() - maxLevelSize) / maxLevelSize;
+        return runs + Math.min(amplification, 1.0) / 2;
+    }
+
     private void reportMetrics() {
         if (metricsReporter != null) {
+            metricsReporter.reportSortedRunCount(levels.numberOfSortedRuns());
             metricsReporter.reportLevel0FileCount(levels.level0().size());
             metricsReporter.reportTotalFileSize(levels.totalFileSize());
         }
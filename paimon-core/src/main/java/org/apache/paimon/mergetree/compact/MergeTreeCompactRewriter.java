@@ -34,11 +34,13 @@ import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.FieldsComparator;
+import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.IOUtils;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -73,8 +75,56 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
         return rewriteCompaction(outputLevel, dropDelete, sections);
     }
 
+    @Override
+    public boolean supportsParallelRewrite() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsRangeRewrite() {
+        return true;
+    }
+
+    @Override
+    public CompactResult rewriteRange(
+            int outputLevel,
+            boolean dropDelete,
+            List<SortedRun> section,
+            @Nullable InternalRow lowerBound,
+            @Nullable InternalRow upperBound)
+            throws Exception {
+        // records of one key are merged before the filter, so keys are either kept or skipped
+        // as a whole
+        Filter<KeyValue> keyFilter =
+                kv ->
+                        (lowerBound == null || keyComparator.compare(kv.key(), lowerBound) >= 0)
+                                && (upperBound == null
+                                        || keyComparator.compare(kv.key(), upperBound) < 0);
+        List<DataFileMeta> after =
+                writeCompaction(
+                        outputLevel, dropDelete, Collections.singletonList(section), keyFilter);
+        return new CompactResult(Collections.emptyList(), after);
+    }
+
+    @Override
+    public void deleteRewrittenFiles(List<DataFileMeta> files) {
+        files.forEach(writerFactory::deleteFile);
+    }
+
     protected CompactResult rewriteCompaction(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        List<DataFileMeta> after = writeCompaction(outputLevel, dropDelete, sections, null);
+        List<DataFileMeta> before = extractFilesFromSections(sections);
+        notifyRewriteCompactBefore(before);
+        return new CompactResult(before, after);
+    }
+
+    private List<DataFileMeta> writeCompaction(
+            int outputLevel,
+            boolean dropDelete,
+            List<List<SortedRun>> sections,
+            @Nullable Filter<KeyValue> keyFilter)
+            throws Exception {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
                 writerFactory.createRollingMergeTreeFileWriter(outputLevel, FileSource.COMPACT);
         RecordReader<KeyValue> reader = null;
@@ -83,6 +133,9 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
             reader =
                     readerForMergeTree(
                             sections, new ReducerMergeFunctionWrapper(mfFactory.create()));
+            if (keyFilter != null) {
+                reader = reader.filter(keyFilter);
+            }
             if (dropDelete) {
                 reader = new DropDeleteReader(reader);
             }
@@ -101,10 +154,7 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
             writer.abort();
             throw collectedExceptions;
         }
-
-        List<DataFileMeta> before = extractFilesFromSections(sections);
-        notifyRewriteCompactBefore(before);
-        return new CompactResult(before, writer.result());
+        return writer.result();
     }
 
     protected <T> RecordReader<T> readerForMergeTree(
@@ -27,19 +27,35 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.RecordLevelExpire;
 import org.apache.paimon.mergetree.SortedRun;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.utils.ExceptionUtils;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
 
-/** Compact task for merge tree compaction. */
+/**
+ * Compact task for merge tree compaction.
+ *
+ * <p>The sections of a {@link CompactUnit} cover disjoint key ranges, so their rewrites produce
+ * independent output files. If the rewrite parallelism is larger than 1 and the rewriter {@link
+ * CompactRewriter#supportsParallelRewrite() supports it}, the rewrites are collected first and then
+ * executed by the threads of the rewrite executor. A section which is larger than its share of the
+ * parallelism is further split into key ranges at the boundaries of its files of the highest level,
+ * if the rewriter {@link CompactRewriter#supportsRangeRewrite() supports it}.
+ */
 public class MergeTreeCompactTask extends CompactTask {
 
+    private final Comparator<InternalRow> keyComparator;
     private final long minFileSize;
     private final CompactRewriter rewriter;
     private final int outputLevel;
@@ -49,6 +65,9 @@ public class MergeTreeCompactTask extends CompactTask {
     private final int maxLevel;
     @Nullable private final RecordLevelExpire recordLevelExpire;
     private final boolean forceRewriteAllFiles;
+    private final int rewriteParallelism;
+    @Nullable private final ExecutorService rewriteExecutor;
+    private final List<List<List<SortedRun>>> pendingRewrites;
 
     // metric
     private int upgradeFilesNum;
@@ -63,8 +82,11 @@ public class MergeTreeCompactTask extends CompactTask {
             @Nullable CompactionMetrics.Reporter metricsReporter,
             Supplier<CompactDeletionFile> compactDfSupplier,
             @Nullable RecordLevelExpire recordLevelExpire,
-            boolean forceRewriteAllFiles) {
+            boolean forceRewriteAllFiles,
+            int rewriteParallelism,
+            @Nullable ExecutorService rewriteExecutor) {
         super(metricsReporter);
+        this.keyComparator = keyComparator;
         this.minFileSize = minFileSize;
         this.rewriter = rewriter;
         this.outputLevel = unit.outputLevel();
@@ -74,6 +96,12 @@ public class MergeTreeCompactTask extends CompactTask {
         this.maxLevel = maxLevel;
         this.recordLevelExpire = recordLevelExpire;
         this.forceRewriteAllFiles = forceRewriteAllFiles;
+        this.rewriteParallelism =
+                rewriter.supportsParallelRewrite() && rewriteExecutor != null
+                        ? rewriteParallelism
+                        : 1;
+        this.rewriteExecutor = rewriteExecutor;
+        this.pendingRewrites = new ArrayList<>();
 
         this.upgradeFilesNum = 0;
     }
@@ -108,6 +136,7 @@ public class MergeTreeCompactTask extends CompactTask {
             }
         }
         rewrite(candidate, result);
+        rewritePending(result);
         result.setDeletionFile(compactDfSupplier.get());
         return result;
     }
@@ -158,11 +187,270 @@ public class MergeTreeCompactTask extends CompactTask {
 
     private void rewriteImpl(List<List<SortedRun>> candidate, CompactResult toUpdate)
             throws Exception {
-        CompactResult rewriteResult = rewriter.rewrite(outputLevel, dropDelete, candidate);
-        toUpdate.merge(rewriteResult);
+        if (rewriteParallelism > 1) {
+            pendingRewrites.add(new ArrayList<>(candidate));
+        } else {
+            CompactResult rewriteResult = rewriter.rewrite(outputLevel, dropDelete, candidate);
+            toUpdate.merge(rewriteResult);
+        }
         candidate.clear();
     }
 
+    private void rewritePending(CompactResult toUpdate) throws Exception {
+        if (pendingRewrites.isEmpty()) {
+            return;
+        }
+
+        List<DataFileMeta> splitSectionFiles = new ArrayList<>();
+        List<PendingRewrite> rewrites = splitPendingRewrites(splitSectionFiles);
+        pendingRewrites.clear();
+
+        // Assign the largest key ranges first, each to the least loaded thread, so that the wall
+        // time is bounded by the slowest thread rather than by the size of the whole unit.
+        rewrites.sort(Comparator.comparingLong((PendingRewrite r) -> r.size).reversed());
+        List<RewriteGroup> groups = new ArrayList<>();
+        for (PendingRewrite rewrite : rewrites) {
+            if (groups.size() < rewriteParallelism) {
+                groups.add(new RewriteGroup());
+            }
+            RewriteGroup target = groups.get(0);
+            for (RewriteGroup group : groups) {
+                if (group.size < target.size) {
+                    target = group;
+                }
+            }
+            target.add(rewrite);
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (RewriteGroup group : groups) {
+            futures.add(rewriteExecutor.submit(() -> group.rewrite(classLoader, failed)));
+        }
+
+        // Wait for all groups even if one fails, so that no group is still writing files when the
+        // outputs of the other groups are deleted.
+        Exception exception = null;
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failed.set(true);
+                    exception = ExceptionUtils.firstOrSuppressed(e, exception);
+                } catch (ExecutionException e) {
+                    failed.set(true);
+                    Exception cause =
+                            e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    exception = ExceptionUtils.firstOrSuppressed(cause, exception);
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (exception != null) {
+            for (RewriteGroup group : groups) {
+                for (CompactResult result : group.results) {
+                    rewriter.deleteRewrittenFiles(result.after());
+                }
+            }
+            throw exception;
+        }
+
+        for (RewriteGroup group : groups) {
+            for (CompactResult result : group.results) {
+                toUpdate.merge(result);
+            }
+        }
+        if (!splitSectionFiles.isEmpty()) {
+            toUpdate.merge(new CompactResult(splitSectionFiles, Collections.emptyList()));
+        }
+    }
+
+    /**
+     * Splits pending rewrites consisting of a single section which is larger than its share of
+     * the parallelism into key ranges. Files of the split sections are added to {@code
+     * splitSectionFiles}, because range rewrites do not report their input files.
+     */
+    private List<PendingRewrite> splitPendingRewrites(List<DataFileMeta> splitSectionFiles) {
+        long totalSize = 0;
+        for (List<List<SortedRun>> sections : pendingRewrites) {
+            totalSize += sectionsSize(sections);
+        }
+        long targetSize = Math.max(1, totalSize / rewriteParallelism);
+
+        List<PendingRewrite> rewrites = new ArrayList<>();
+        for (List<List<SortedRun>> sections : pendingRewrites) {
+            long size = sectionsSize(sections);
+            List<PendingRewrite> ranges = null;
+            if (rewriter.supportsRangeRewrite()
+                    && sections.size() == 1
+                    && sections.get(0).size() > 1
+                    && size > targetSize) {
+                int numRanges = (int) Math.min(rewriteParallelism, (size - 1) / targetSize + 1);
+                ranges = splitSection(sections.get(0), numRanges);
+            }
+
+            if (ranges == null) {
+                rewrites.add(new PendingRewrite(sections, false, null, null, size));
+            } else {
+                rewrites.addAll(ranges);
+                for (SortedRun run : sections.get(0)) {
+                    splitSectionFiles.addAll(run.files());
+                }
+            }
+        }
+        return rewrites;
+    }
+
+    /**
+     * Splits a section into key ranges at the min keys of its files of the highest level. These
+     * files do not overlap, and they usually hold most of the data, so ranges of similar size are
+     * formed by accumulating their sizes. Returns null if the section cannot be split.
+     */
+    @Nullable
+    private List<PendingRewrite> splitSection(List<SortedRun> section, int numRanges) {
+        int highestLevel = 0;
+        for (SortedRun run : section) {
+            for (DataFileMeta file : run.files()) {
+                highestLevel = Math.max(highestLevel, file.level());
+            }
+        }
+        if (highestLevel == 0) {
+            // level 0 files may overlap each other
+            return null;
+        }
+
+        List<DataFileMeta> levelFiles = new ArrayList<>();
+        long levelSize = 0;
+        for (SortedRun run : section) {
+            for (DataFileMeta file : run.files()) {
+                if (file.level() == highestLevel) {
+                    levelFiles.add(file);
+                    levelSize += file.fileSize();
+                }
+            }
+        }
+        levelFiles.sort((f1, f2) -> keyComparator.compare(f1.minKey(), f2.minKey()));
+
+        List<InternalRow> boundaries = new ArrayList<>();
+        long accumulated = 0;
+        for (int i = 0; i < levelFiles.size() - 1 && boundaries.size() < numRanges - 1; i++) {
+            accumulated += levelFiles.get(i).fileSize();
+            if (accumulated * numRanges >= levelSize * (boundaries.size() + 1)) {
+                boundaries.add(levelFiles.get(i + 1).minKey());
+            }
+        }
+        if (boundaries.isEmpty()) {
+            return null;
+        }
+
+        List<PendingRewrite> ranges = new ArrayList<>(boundaries.size() + 1);
+        for (int i = 0; i <= boundaries.size(); i++) {
+            InternalRow lowerBound = i == 0 ? null : boundaries.get(i - 1);
+            InternalRow upperBound = i == boundaries.size() ? null : boundaries.get(i);
+            List<SortedRun> runs = new ArrayList<>();
+            long size = 0;
+            for (SortedRun run : section) {
+                List<DataFileMeta> files = new ArrayList<>();
+                for (DataFileMeta file : run.files()) {
+                    if ((lowerBound == null
+                                    || keyComparator.compare(file.maxKey(), lowerBound) >= 0)
+                            && (upperBound == null
+                                    || keyComparator.compare(file.minKey(), upperBound) < 0)) {
+                        files.add(file);
+                        size += file.fileSize();
+                    }
+                }
+                if (!files.isEmpty()) {
+                    runs.add(SortedRun.fromSorted(files));
+                }
+            }
+            ranges.add(
+                    new PendingRewrite(singletonList(runs), true, lowerBound, upperBound, size));
+        }
+        return ranges;
+    }
+
+    private static long sectionsSize(List<List<SortedRun>> sections) {
+        long size = 0;
+        for (List<SortedRun> section : sections) {
+            for (SortedRun run : section) {
+                size += run.totalSize();
+            }
+        }
+        return size;
+    }
+
+    /** A rewrite of whole sections, or of a key range of a single section. */
+    private class PendingRewrite {
+
+        private final List<List<SortedRun>> sections;
+        private final boolean range;
+        @Nullable private final InternalRow lowerBound;
+        @Nullable private final InternalRow upperBound;
+        private final long size;
+
+        private PendingRewrite(
+                List<List<SortedRun>> sections,
+                boolean range,
+                @Nullable InternalRow lowerBound,
+                @Nullable InternalRow upperBound,
+                long size) {
+            this.sections = sections;
+            this.range = range;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.size = size;
+        }
+
+        private CompactResult rewrite() throws Exception {
+            if (range) {
+                return rewriter.rewriteRange(
+                        outputLevel, dropDelete, sections.get(0), lowerBound, upperBound);
+            }
+            return rewriter.rewrite(outputLevel, dropDelete, sections);
+        }
+    }
+
+    /** Rewrites of disjoint key ranges which are executed sequentially by one thread. */
+    private class RewriteGroup {
+
+        private final List<PendingRewrite> rewrites = new ArrayList<>();
+        private final List<CompactResult> results = new ArrayList<>();
+        private long size = 0;
+
+        private void add(PendingRewrite rewrite) {
+            rewrites.add(rewrite);
+            size += rewrite.size;
+        }
+
+        private Void rewrite(ClassLoader classLoader, AtomicBoolean failed) throws Exception {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                for (PendingRewrite rewrite : rewrites) {
+                    // stop early if another group failed, its outputs are deleted anyway
+                    if (failed.get()) {
+                        break;
+                    }
+                    results.add(rewrite.rewrite());
+                }
+                return null;
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+    }
+
     private boolean containsDeleteRecords(DataFileMeta file) {
         return file.deleteRowCount().map(d -> d > 0).orElse(true);
     }
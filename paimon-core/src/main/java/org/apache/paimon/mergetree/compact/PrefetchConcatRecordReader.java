@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.operation.metrics.ReadMetrics;
+import org.apache.paimon.reader.ReaderSupplier;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.Preconditions;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.apache.paimon.utils.ThreadPoolUtils.createCachedThreadPool;
+
+/**
+ * A {@link ConcatRecordReader} alike reader which opens the next readers in background while the
+ * current one is being consumed. Opening a reader includes reading the file footer, the deletion
+ * vector and evaluating the file index, which dominates the cost of small files on object stores.
+ *
+ * <p>At most {@code prefetchNum} readers are opened ahead of the current one, so the memory held
+ * by prefetched readers is bounded. Readers are opened by a shared pool with one thread per core.
+ * Suppliers must not modify state shared with other suppliers of the same reader.
+ */
+public class PrefetchConcatRecordReader<T> implements RecordReader<T> {
+
+    private static final ExecutorService PREFETCH_EXECUTOR =
+            createCachedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), "paimon-reader-prefetch");
+
+    private final Queue<ReaderSupplier<T>> queue;
+    private final Deque<Future<RecordReader<T>>> prefetched;
+    private final int prefetchNum;
+    private final ClassLoader classLoader;
+    @Nullable private final ReadMetrics metrics;
+
+    private volatile boolean closed;
+
+    private RecordReader<T> current;
+
+    public PrefetchConcatRecordReader(
+            List<? extends ReaderSupplier<T>> readerFactories,
+            int prefetchNum,
+            @Nullable ReadMetrics metrics) {
+        Preconditions.checkArgument(prefetchNum > 0, "Prefetch num should be positive.");
+        readerFactories.forEach(
+                supplier ->
+                        Preconditions.checkNotNull(supplier, "Reader factory must not be null."));
+        this.queue = new LinkedList<>(readerFactories);
+        this.prefetched = new ArrayDeque<>(prefetchNum);
+        this.prefetchNum = prefetchNum;
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+        this.metrics = metrics;
+        prefetch();
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        while (true) {
+            if (current != null) {
+                RecordIterator<T> iterator = current.readBatch();
+                if (iterator != null) {
+                    return iterator;
+                }
+                current.close();
+                current = null;
+            } else if (prefetched.size() > 0) {
+                current = next();
+                prefetch();
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private void prefetch() {
+        while (prefetched.size() < prefetchNum && queue.size() > 0) {
+            ReaderSupplier<T> supplier = queue.poll();
+            prefetched.add(PREFETCH_EXECUTOR.submit(() -> open(supplier)));
+        }
+    }
+
+    @Nullable
+    private RecordReader<T> open(ReaderSupplier<T> supplier) throws IOException {
+        // set classloader, otherwise, its classloader belongs to its creator
+        Thread.currentThread().setContextClassLoader(classLoader);
+        return closed ? null : supplier.get();
+    }
+
+    private RecordReader<T> next() throws IOException {
+        int bufferDepth = 0;
+        for (Future<RecordReader<T>> future : prefetched) {
+            if (future.isDone()) {
+                bufferDepth++;
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        RecordReader<T> reader = get(prefetched.poll());
+        if (metrics != null) {
+            metrics.reportPrefetch(bufferDepth, System.currentTimeMillis() - start);
+        }
+        return reader;
+    }
+
+    private RecordReader<T> get(Future<RecordReader<T>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        IOException exception = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+            current = null;
+        }
+
+        // wait for readers which are being opened, they must be closed to release resources
+        while (prefetched.size() > 0) {
+            try {
+                RecordReader<T> reader = get(prefetched.poll());
+                if (reader != null) {
+                    reader.close();
+                }
+            } catch (IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
@@ -46,7 +46,8 @@ public class UniversalCompaction implements CompactStrategy {
 
     private final int maxSizeAmp;
     private final int sizeRatio;
-    private final int numRunCompactionTrigger;
+    // not final, it is tuned online by AdaptiveCompaction
+    private int numRunCompactionTrigger;
 
     @Nullable private final Long opCompactionInterval;
     @Nullable private Long lastOptimizedCompaction;
@@ -256,6 +257,14 @@ public class UniversalCompaction implements CompactStrategy {
         return CompactUnit.fromLevelRuns(outputLevel, runs.subList(0, runCount));
     }
 
+    int numRunCompactionTrigger() {
+        return numRunCompactionTrigger;
+    }
+
+    void setNumRunCompactionTrigger(int numRunCompactionTrigger) {
+        this.numRunCompactionTrigger = numRunCompactionTrigger;
+    }
+
     private void updateLastOptimizedCompaction() {
         lastOptimizedCompaction = currentTimeMillis();
     }
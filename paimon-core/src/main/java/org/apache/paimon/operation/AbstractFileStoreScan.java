@@ -21,6 +21,7 @@ package org.apache.paimon.operation;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.index.SecondaryIndexFilter;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileEntry.Identifier;
@@ -89,6 +90,9 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private ScanMetrics scanMetrics = null;
     private boolean dropStats;
 
+    @Nullable private SnapshotFileIndex snapshotFileIndex;
+    @Nullable private SecondaryIndexFilter secondaryIndexFilter;
+
     public AbstractFileStoreScan(
             ManifestsReader manifestsReader,
             SnapshotManager snapshotManager,
@@ -224,6 +228,22 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    @Override
+    public FileStoreScan withSecondaryIndexFilter(@Nullable SecondaryIndexFilter filter) {
+        this.secondaryIndexFilter = filter;
+        return this;
+    }
+
+    /**
+     * Plans of all files are served by the given index instead of reading all manifests, see
+     * {@link SnapshotFileIndex}.
+     */
+    public AbstractFileStoreScan withSnapshotFileIndex(
+            @Nullable SnapshotFileIndex snapshotFileIndex) {
+        this.snapshotFileIndex = snapshotFileIndex;
+        return this;
+    }
+
     @Nullable
     @Override
     public Integer parallelism() {
@@ -238,14 +258,52 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public Plan plan() {
         long started = System.nanoTime();
-        ManifestsReader.Result manifestsResult = readManifests();
-        Snapshot snapshot = manifestsResult.snapshot;
-        List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
+        Snapshot snapshot = null;
+        List<ManifestEntry> files = null;
+        int scannedManifests = 0;
+        long allDataFiles = 0;
+        if (snapshotFileIndex != null && scanMode == ScanMode.ALL) {
+            snapshot =
+                    specifiedSnapshot == null
+                            ? snapshotManager.latestSnapshot()
+                            : specifiedSnapshot;
+            List<ManifestEntry> indexed =
+                    snapshot == null
+                            ? Collections.emptyList()
+                            : snapshotFileIndex.files(snapshot, manifestsReader.partitionFilter());
+            if (indexed != null) {
+                files = filterIndexedFiles(indexed);
+                SecondaryIndexFilter.Pruner pruner = createSecondaryIndexPruner(snapshot);
+                if (pruner != null) {
+                    files = pruner.prune(files);
+                    files.addAll(pruner.laggingEntries());
+                }
+                allDataFiles = indexed.size();
+            }
+        }
 
-        Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
-        List<ManifestEntry> files = new ArrayList<>();
-        while (iterator.hasNext()) {
-            files.add(iterator.next());
+        if (files == null) {
+            ManifestsReader.Result manifestsResult = readManifests();
+            snapshot = manifestsResult.snapshot;
+            List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
+
+            SecondaryIndexFilter.Pruner pruner = createSecondaryIndexPruner(snapshot);
+            Iterator<ManifestEntry> iterator =
+                    pruner == null
+                            ? readManifestEntries(manifests, false)
+                            : readAndMergeFileEntries(manifests, pruner::prune, false);
+            files = new ArrayList<>();
+            while (iterator.hasNext()) {
+                files.add(iterator.next());
+            }
+            if (pruner != null) {
+                files.addAll(pruner.laggingEntries());
+            }
+            scannedManifests = manifests.size();
+            allDataFiles =
+                    manifestsResult.allManifests.stream()
+                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
+                            .sum();
         }
 
         if (wholeBucketFilterEnabled()) {
@@ -272,29 +330,26 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
         long scanDuration = (System.nanoTime() - started) / 1_000_000;
         if (scanMetrics != null) {
-            long allDataFiles =
-                    manifestsResult.allManifests.stream()
-                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
-                            .sum();
             scanMetrics.reportScan(
                     new ScanStats(
                             scanDuration,
-                            manifests.size(),
+                            scannedManifests,
                             allDataFiles - result.size(),
                             result.size()));
         }
 
+        Snapshot planned = snapshot;
         return new Plan() {
             @Nullable
             @Override
             public Long watermark() {
-                return snapshot == null ? null : snapshot.watermark();
+                return planned == null ? null : planned.watermark();
             }
 
             @Nullable
             @Override
             public Snapshot snapshot() {
-                return snapshot;
+                return planned;
             }
 
             @Override
@@ -304,6 +359,15 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         };
     }
 
+    @Nullable
+    private SecondaryIndexFilter.Pruner createSecondaryIndexPruner(@Nullable Snapshot snapshot) {
+        if (secondaryIndexFilter == null || snapshot == null || scanMode != ScanMode.ALL) {
+            return null;
+        }
+        return secondaryIndexFilter.createPruner(
+                snapshot, manifestsReader.partitionFilter(), parallelism);
+    }
+
     @Override
     public List<SimpleFileEntry> readSimpleEntries() {
         List<ManifestFileMeta> manifests = readManifests().filteredManifests;
@@ -423,6 +487,27 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return entries;
     }
 
+    /** Applies the filters which are pushed into manifest reading to files of the index. */
+    private List<ManifestEntry> filterIndexedFiles(List<ManifestEntry> indexed) {
+        // partitions are already filtered by the index
+        Filter<ManifestEntry> entryFilter =
+                createEntryFilter(
+                        null,
+                        ManifestEntry::bucket,
+                        ManifestEntry::totalBuckets,
+                        ManifestEntry::level,
+                        ManifestEntry::fileName);
+        List<ManifestEntry> files = new ArrayList<>();
+        for (ManifestEntry entry : indexed) {
+            if (entryFilter.test(entry)
+                    && (manifestEntryFilter == null || manifestEntryFilter.test(entry))
+                    && filterByStats(entry)) {
+                files.add(dropStats ? dropStats(entry) : entry);
+            }
+        }
+        return files;
+    }
+
     /** Note: Keep this thread-safe. */
     @Override
     public List<ManifestEntry> readManifest(ManifestFileMeta manifest) {
@@ -467,20 +552,29 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
      * <p>Implemented to {@link InternalRow} is for performance (No deserialization).
      */
     private Filter<InternalRow> createEntryRowFilter() {
-        Function<InternalRow, BinaryRow> partitionGetter =
-                ManifestEntrySerializer.partitionGetter();
-        Function<InternalRow, Integer> bucketGetter = ManifestEntrySerializer.bucketGetter();
-        Function<InternalRow, Integer> totalBucketGetter =
-                ManifestEntrySerializer.totalBucketGetter();
-        Function<InternalRow, String> fileNameGetter = ManifestEntrySerializer.fileNameGetter();
-        PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
-        Function<InternalRow, Integer> levelGetter = ManifestEntrySerializer.levelGetter();
-        return row -> {
-            if ((partitionFilter != null && !partitionFilter.test(partitionGetter.apply(row)))) {
+        return createEntryFilter(
+                ManifestEntrySerializer.partitionGetter(),
+                ManifestEntrySerializer.bucketGetter(),
+                ManifestEntrySerializer.totalBucketGetter(),
+                ManifestEntrySerializer.levelGetter(),
+                ManifestEntrySerializer.fileNameGetter());
+    }
+
+    /** Creates the entry filter, partitions are not filtered if the partition getter is null. */
+    private <T> Filter<T> createEntryFilter(
+            @Nullable Function<T, BinaryRow> partitionGetter,
+            Function<T, Integer> bucketGetter,
+            Function<T, Integer> totalBucketGetter,
+            Function<T, Integer> levelGetter,
+            Function<T, String> fileNameGetter) {
+        PartitionPredicate partitionFilter =
+                partitionGetter == null ? null : manifestsReader.partitionFilter();
+        return entry -> {
+            if ((partitionFilter != null && !partitionFilter.test(partitionGetter.apply(entry)))) {
                 return false;
             }
 
-            int bucket = bucketGetter.apply(row);
+            int bucket = bucketGetter.apply(entry);
             if (onlyReadRealBuckets && bucket < 0) {
                 return false;
             }
@@ -494,11 +588,11 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             }
 
             if (totalAwareBucketFilter != null
-                    && !totalAwareBucketFilter.test(bucket, totalBucketGetter.apply(row))) {
+                    && !totalAwareBucketFilter.test(bucket, totalBucketGetter.apply(entry))) {
                 return false;
             }
 
-            int level = levelGetter.apply(row);
+            int level = levelGetter.apply(entry);
             if (specifiedLevel != null && level != specifiedLevel) {
                 return false;
             }
@@ -507,7 +601,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 return false;
             }
 
-            return fileNameFilter == null || fileNameFilter.test((fileNameGetter.apply(row)));
+            return fileNameFilter == null || fileNameFilter.test((fileNameGetter.apply(entry)));
         };
     }
 
@@ -23,12 +23,14 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactDeletionFile;
+import org.apache.paimon.compact.SharedCompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.index.DynamicBucketIndexMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.SecondaryIndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.memory.MemoryPoolFactory;
@@ -49,6 +51,7 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +61,7 @@ import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import static org.apache.paimon.CoreOptions.PARTITION_DEFAULT_NAME;
+import static org.apache.paimon.index.SecondaryIndexFile.SECONDARY_INDEX;
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
 import static org.apache.paimon.shade.guava30.com.google.common.base.MoreObjects.firstNonNull;
 import static org.apache.paimon.utils.FileStorePathFactory.getPartitionComputer;
@@ -74,6 +78,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private final int writerNumberMax;
     @Nullable private final DynamicBucketIndexMaintainer.Factory dbMaintainerFactory;
     @Nullable private final DeletionVectorsMaintainer.Factory dvMaintainerFactory;
+    @Nullable private SecondaryIndexMaintainer.Factory secondaryIndexMaintainerFactory;
     private final int numBuckets;
     private final RowType partitionType;
 
@@ -84,6 +89,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     protected WriteRestore restore;
     private ExecutorService lazyCompactExecutor;
     private boolean closeCompactExecutorWhenLeaving = true;
+    @Nullable private final Integer compactionSharedThreadNum;
     private boolean ignorePreviousFiles = false;
     private boolean ignoreNumBucketCheck = false;
 
@@ -114,6 +120,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.tableName = tableName;
         this.writerNumberMax = options.writeMaxWritersToSpill();
         this.legacyPartitionName = options.legacyPartitionName();
+        this.compactionSharedThreadNum = options.compactionSharedThreadNum();
     }
 
     @Override
@@ -143,6 +150,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.ignoreNumBucketCheck = ignoreNumBucketCheck;
     }
 
+    public void withSecondaryIndexMaintainerFactory(
+            @Nullable SecondaryIndexMaintainer.Factory secondaryIndexMaintainerFactory) {
+        this.secondaryIndexMaintainerFactory = secondaryIndexMaintainerFactory;
+    }
+
     @Override
     public void withCompactExecutor(ExecutorService compactExecutor) {
         this.lazyCompactExecutor = compactExecutor;
@@ -156,6 +168,9 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         if (container.dynamicBucketMaintainer != null) {
             container.dynamicBucketMaintainer.notifyNewRecord((KeyValue) data);
         }
+        if (container.secondaryIndexMaintainer != null) {
+            container.secondaryIndexMaintainer.notifyNewRecord(data);
+        }
     }
 
     @Override
@@ -214,12 +229,21 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
                 CommitIncrement increment = writerContainer.writer.prepareCommit(waitCompaction);
                 List<IndexFileMeta> newIndexFiles = new ArrayList<>();
+                List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
                 if (writerContainer.dynamicBucketMaintainer != null) {
                     newIndexFiles.addAll(writerContainer.dynamicBucketMaintainer.prepareCommit());
                 }
+                if (writerContainer.secondaryIndexMaintainer != null) {
+                    IndexIncrement secondaryIndexIncrement =
+                            writerContainer.secondaryIndexMaintainer.prepareCommit(
+                                    writerContainer.writer.maxSequenceNumber(),
+                                    !increment.compactIncrement().isEmpty());
+                    newIndexFiles.addAll(secondaryIndexIncrement.newIndexFiles());
+                    deletedIndexFiles.addAll(secondaryIndexIncrement.deletedIndexFiles());
+                }
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
-                    compactDeletionFile.getOrCompute().ifPresent(newIndexFiles::add);
+                    newIndexFiles.addAll(compactDeletionFile.getOrCompute());
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -228,7 +252,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.totalBuckets,
                                 increment.newFilesIncrement(),
                                 increment.compactIncrement(),
-                                new IndexIncrement(newIndexFiles));
+                                new IndexIncrement(newIndexFiles, deletedIndexFiles));
                 result.add(committable);
 
                 if (committable.isEmpty()) {
@@ -349,6 +373,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.writer.maxSequenceNumber(),
                                 writerContainer.dynamicBucketMaintainer,
                                 writerContainer.deletionVectorsMaintainer,
+                                writerContainer.secondaryIndexMaintainer,
                                 increment));
             }
         }
@@ -378,6 +403,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                             state.totalBuckets,
                             state.indexMaintainer,
                             state.deletionVectorsMaintainer,
+                            state.secondaryIndexMaintainer,
                             state.baseSnapshotId);
             writerContainer.lastModifiedCommitIdentifier = state.lastModifiedCommitIdentifier;
             writers.computeIfAbsent(state.partition, k -> new HashMap<>())
@@ -441,6 +467,12 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         if (restoreFiles == null) {
             restoreFiles = new ArrayList<>();
         }
+        SecondaryIndexMaintainer secondaryIndexMaintainer =
+                secondaryIndexMaintainerFactory == null
+                        ? null
+                        : secondaryIndexMaintainerFactory.create(
+                                scanSecondaryIndex(restored.snapshot(), partition, bucket),
+                                getMaxSequenceNumber(restoreFiles));
         RecordWriter<T> writer =
                 createWriter(
                         partition.copy(),
@@ -458,12 +490,26 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 firstNonNull(restored.totalBuckets(), numBuckets),
                 indexMaintainer,
                 dvMaintainer,
+                secondaryIndexMaintainer,
                 previousSnapshot == null ? null : previousSnapshot.id());
     }
 
+    private List<IndexFileMeta> scanSecondaryIndex(
+            @Nullable Snapshot snapshot, BinaryRow partition, int bucket) {
+        if (snapshot == null || secondaryIndexMaintainerFactory == null) {
+            return Collections.emptyList();
+        }
+        return secondaryIndexMaintainerFactory
+                .indexFileHandler()
+                .scan(snapshot, SECONDARY_INDEX, partition, bucket);
+    }
+
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        if (compactionSharedThreadNum != null) {
+            compactionMetrics.registerSharedExecutor();
+        }
         return this;
     }
 
@@ -499,7 +545,11 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     }
 
     private ExecutorService compactExecutor() {
-        if (lazyCompactExecutor == null) {
+        if (lazyCompactExecutor == null && compactionSharedThreadNum != null) {
+            // shutting down the client only cancels the tasks of this writer, the shared pool is
+            // shut down with its last client
+            lazyCompactExecutor = SharedCompactExecutor.newSharedClient(compactionSharedThreadNum);
+        } else if (lazyCompactExecutor == null) {
             lazyCompactExecutor =
                     Executors.newSingleThreadScheduledExecutor(
                             new ExecutorThreadFactory(
@@ -537,6 +587,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         public final int totalBuckets;
         @Nullable public final DynamicBucketIndexMaintainer dynamicBucketMaintainer;
         @Nullable public final DeletionVectorsMaintainer deletionVectorsMaintainer;
+        @Nullable public final SecondaryIndexMaintainer secondaryIndexMaintainer;
         protected final long baseSnapshotId;
         protected long lastModifiedCommitIdentifier;
 
@@ -545,11 +596,13 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 int totalBuckets,
                 @Nullable DynamicBucketIndexMaintainer dynamicBucketMaintainer,
                 @Nullable DeletionVectorsMaintainer deletionVectorsMaintainer,
+                @Nullable SecondaryIndexMaintainer secondaryIndexMaintainer,
                 Long baseSnapshotId) {
             this.writer = writer;
             this.totalBuckets = totalBuckets;
             this.dynamicBucketMaintainer = dynamicBucketMaintainer;
             this.deletionVectorsMaintainer = deletionVectorsMaintainer;
+            this.secondaryIndexMaintainer = secondaryIndexMaintainer;
             this.baseSnapshotId =
                     baseSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID - 1 : baseSnapshotId;
             this.lastModifiedCommitIdentifier = Long.MIN_VALUE;
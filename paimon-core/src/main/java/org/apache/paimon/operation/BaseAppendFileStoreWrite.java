@@ -232,5 +232,10 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
             throws Exception {
         WriterContainer<InternalRow> container = getWriterWrapper(partition, bucket);
         ((AppendOnlyWriter) container.writer).writeBundle(bundle);
+        if (container.secondaryIndexMaintainer != null) {
+            for (InternalRow row : bundle) {
+                container.secondaryIndexMaintainer.notifyNewRecord(row);
+            }
+        }
     }
 }
@@ -74,6 +74,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -81,17 +82,21 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
+import static org.apache.paimon.index.SecondaryIndexFile.SECONDARY_INDEX;
 import static org.apache.paimon.manifest.ManifestEntry.recordCount;
 import static org.apache.paimon.manifest.ManifestEntry.recordCountAdd;
 import static org.apache.paimon.manifest.ManifestEntry.recordCountDelete;
 import static org.apache.paimon.partition.PartitionPredicate.createBinaryPartitions;
 import static org.apache.paimon.partition.PartitionPredicate.createPartitionPredicate;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
+import static org.apache.paimon.utils.ManifestReadThreadPool.sequentialBatchedExecute;
 
 /**
  * Default implementation of {@link FileStoreCommit}.
@@ -354,7 +359,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 // we can skip conflict checking in tryCommit method.
                 // This optimization is mainly used to decrease the number of times we read from
                 // files.
+                ConflictCheck conflictCheck = hasConflictChecked(null);
                 if (safeLatestSnapshotId != null) {
+                    // base entries of latestSnapshot, so that a retry only needs to read the
+                    // changes committed after it, including the append commit created above
+                    List<SimpleFileEntry> checkedEntries = new ArrayList<>(baseEntries);
                     baseEntries.addAll(appendSimpleEntries);
                     noConflictsOrFail(
                             latestSnapshot.commitUser(),
@@ -363,6 +372,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             Snapshot.CommitKind.COMPACT);
                     // assume this compact commit follows just after the append commit created above
                     safeLatestSnapshotId += 1;
+                    conflictCheck =
+                            hasConflictChecked(
+                                    safeLatestSnapshotId, latestSnapshot, checkedEntries);
                 }
 
                 attempts +=
@@ -375,7 +387,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 committable.logOffsets(),
                                 committable.properties(),
                                 Snapshot.CommitKind.COMPACT,
-                                hasConflictChecked(safeLatestSnapshotId),
+                                conflictCheck,
                                 null);
                 generatedSnapshot += 1;
             }
@@ -697,6 +709,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             f -> {
                                 switch (f.indexType()) {
                                     case HASH_INDEX:
+                                    case SECONDARY_INDEX:
                                         appendHashIndexFiles.add(
                                                 new IndexManifestEntry(
                                                         FileKind.ADD,
@@ -722,17 +735,27 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     .deletedIndexFiles()
                     .forEach(
                             f -> {
-                                if (f.indexType().equals(DELETION_VECTORS_INDEX)) {
-                                    compactDvIndexFiles.add(
-                                            new IndexManifestEntry(
-                                                    FileKind.DELETE,
-                                                    commitMessage.partition(),
-                                                    commitMessage.bucket(),
-                                                    f));
-                                } else {
-                                    throw new RuntimeException(
-                                            "This index type is not supported to delete: "
-                                                    + f.indexType());
+                                switch (f.indexType()) {
+                                    case SECONDARY_INDEX:
+                                        appendHashIndexFiles.add(
+                                                new IndexManifestEntry(
+                                                        FileKind.DELETE,
+                                                        commitMessage.partition(),
+                                                        commitMessage.bucket(),
+                                                        f));
+                                        break;
+                                    case DELETION_VECTORS_INDEX:
+                                        compactDvIndexFiles.add(
+                                                new IndexManifestEntry(
+                                                        FileKind.DELETE,
+                                                        commitMessage.partition(),
+                                                        commitMessage.bucket(),
+                                                        f));
+                                        break;
+                                    default:
+                                        throw new RuntimeException(
+                                                "This index type is not supported to delete: "
+                                                        + f.indexType());
                                 }
                             });
         }
@@ -951,7 +974,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
         }
 
-        List<SimpleFileEntry> baseDataFiles = new ArrayList<>();
+        // null if conflicts are not checked in this attempt
+        List<SimpleFileEntry> baseDataFiles = null;
         if (latestSnapshot != null && conflictCheck.shouldCheck(latestSnapshot.id())) {
             // latestSnapshotId is different from the snapshot id we've checked for conflicts,
             // so we have to check again
@@ -960,11 +984,27 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             .map(ManifestEntry::partition)
                             .distinct()
                             .collect(Collectors.toList());
-            if (retryResult != null && retryResult.latestSnapshot != null) {
-                baseDataFiles = new ArrayList<>(retryResult.baseDataFiles);
+            Snapshot checkedSnapshot = null;
+            List<SimpleFileEntry> checkedEntries = null;
+            if (retryResult != null
+                    && retryResult.latestSnapshot != null
+                    && retryResult.baseDataFiles != null) {
+                checkedSnapshot = retryResult.latestSnapshot;
+                checkedEntries = retryResult.baseDataFiles;
+            } else if (conflictCheck.checkedSnapshot() != null) {
+                checkedSnapshot = conflictCheck.checkedSnapshot();
+                Set<BinaryRow> partitions = new HashSet<>(changedPartitions);
+                checkedEntries =
+                        conflictCheck.checkedEntries().stream()
+                                .filter(entry -> partitions.contains(entry.partition()))
+                                .collect(Collectors.toList());
+            }
+
+            if (checkedSnapshot != null) {
+                // only read the changes committed after the checked snapshot
+                baseDataFiles = new ArrayList<>(checkedEntries);
                 List<SimpleFileEntry> incremental =
-                        readIncrementalChanges(
-                                retryResult.latestSnapshot, latestSnapshot, changedPartitions);
+                        readIncrementalChanges(checkedSnapshot, latestSnapshot, changedPartitions);
                 if (!incremental.isEmpty()) {
                     baseDataFiles.addAll(incremental);
                     baseDataFiles = new ArrayList<>(FileEntry.mergeEntries(baseDataFiles));
@@ -1241,15 +1281,19 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
     private List<SimpleFileEntry> readIncrementalChanges(
             Snapshot from, Snapshot to, List<BinaryRow> changedPartitions) {
-        List<SimpleFileEntry> entries = new ArrayList<>();
+        // collect delta manifests of all snapshots in commit order, then read them in parallel
+        List<ManifestFileMeta> deltaManifests = new ArrayList<>();
         for (long i = from.id() + 1; i <= to.id(); i++) {
-            List<SimpleFileEntry> delta =
-                    scan.withSnapshot(i)
-                            .withKind(ScanMode.DELTA)
-                            .withPartitionFilter(changedPartitions)
-                            .readSimpleEntries();
-            entries.addAll(delta);
+            Snapshot snapshot = i == to.id() ? to : snapshotManager.snapshot(i);
+            deltaManifests.addAll(manifestList.readDeltaManifests(snapshot));
         }
+
+        scan.withPartitionFilter(changedPartitions);
+        Function<ManifestFileMeta, List<SimpleFileEntry>> processor =
+                manifest -> SimpleFileEntry.from(scan.readManifest(manifest));
+        List<SimpleFileEntry> entries = new ArrayList<>();
+        sequentialBatchedExecute(processor, deltaManifests, manifestReadParallelism)
+                .forEach(entries::add);
         return entries;
     }
 
@@ -1361,29 +1405,43 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
         }
 
-        // check for all LSM level >= 1, key ranges of files do not intersect
-        for (List<SimpleFileEntry> entries : levels.values()) {
-            entries.sort((a, b) -> keyComparator.compare(a.minKey(), b.minKey()));
-            for (int i = 0; i + 1 < entries.size(); i++) {
-                SimpleFileEntry a = entries.get(i);
-                SimpleFileEntry b = entries.get(i + 1);
-                if (keyComparator.compare(a.maxKey(), b.minKey()) >= 0) {
-                    Pair<RuntimeException, RuntimeException> conflictException =
-                            createConflictException(
-                                    "LSM conflicts detected! Give up committing. Conflict files are:\n"
-                                            + a.identifier().toString(pathFactory)
-                                            + "\n"
-                                            + b.identifier().toString(pathFactory),
-                                    baseCommitUser,
-                                    baseEntries,
-                                    changes,
-                                    null);
+        // check for all LSM level >= 1, key ranges of files do not intersect, levels are
+        // independent of each other, so check them in parallel
+        Iterator<Pair<SimpleFileEntry, SimpleFileEntry>> conflicts =
+                randomlyExecuteSequentialReturn(
+                        this::findLsmConflict,
+                        new ArrayList<>(levels.values()),
+                        manifestReadParallelism);
+        if (conflicts.hasNext()) {
+            Pair<SimpleFileEntry, SimpleFileEntry> conflict = conflicts.next();
+            Pair<RuntimeException, RuntimeException> conflictException =
+                    createConflictException(
+                            "LSM conflicts detected! Give up committing. Conflict files are:\n"
+                                    + conflict.getLeft().identifier().toString(pathFactory)
+                                    + "\n"
+                                    + conflict.getRight().identifier().toString(pathFactory),
+                            baseCommitUser,
+                            baseEntries,
+                            changes,
+                            null);
 
-                    LOG.warn("", conflictException.getLeft());
-                    throw conflictException.getRight();
-                }
+            LOG.warn("", conflictException.getLeft());
+            throw conflictException.getRight();
+        }
+    }
+
+    /** Returns the first pair of files whose key ranges intersect in one level, if any. */
+    private List<Pair<SimpleFileEntry, SimpleFileEntry>> findLsmConflict(
+            List<SimpleFileEntry> entries) {
+        entries.sort((a, b) -> keyComparator.compare(a.minKey(), b.minKey()));
+        for (int i = 0; i + 1 < entries.size(); i++) {
+            SimpleFileEntry a = entries.get(i);
+            SimpleFileEntry b = entries.get(i + 1);
+            if (keyComparator.compare(a.maxKey(), b.minKey()) >= 0) {
+                return Collections.singletonList(Pair.of(a, b));
             }
         }
+        return Collections.emptyList();
     }
 
     private void assertNoDelete(
@@ -1615,12 +1673,48 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     /** Should do conflict check. */
     interface ConflictCheck {
         boolean shouldCheck(long latestSnapshot);
+
+        /**
+         * The snapshot whose entries of changed partitions have been read before committing, null
+         * if there is none. A conflict check can read the changes after it incrementally.
+         */
+        @Nullable
+        default Snapshot checkedSnapshot() {
+            return null;
+        }
+
+        /** Merged entries of {@link #checkedSnapshot()}. */
+        default List<SimpleFileEntry> checkedEntries() {
+            return emptyList();
+        }
     }
 
     static ConflictCheck hasConflictChecked(@Nullable Long checkedLatestSnapshotId) {
         return latestSnapshot -> !Objects.equals(latestSnapshot, checkedLatestSnapshotId);
     }
 
+    static ConflictCheck hasConflictChecked(
+            long checkedLatestSnapshotId,
+            Snapshot checkedSnapshot,
+            List<SimpleFileEntry> checkedEntries) {
+        return new ConflictCheck() {
+            @Override
+            public boolean shouldCheck(long latestSnapshot) {
+                return latestSnapshot != checkedLatestSnapshotId;
+            }
+
+            @Override
+            public Snapshot checkedSnapshot() {
+                return checkedSnapshot;
+            }
+
+            @Override
+            public List<SimpleFileEntry> checkedEntries() {
+                return checkedEntries;
+            }
+        };
+    }
+
     static ConflictCheck noConflictCheck() {
         return latestSnapshot -> false;
     }
@@ -1646,11 +1740,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     static class RetryResult implements CommitResult {
 
         private final Snapshot latestSnapshot;
-        private final List<SimpleFileEntry> baseDataFiles;
+        // null if conflicts were not checked in the failed attempt
+        @Nullable private final List<SimpleFileEntry> baseDataFiles;
         private final Exception exception;
 
         public RetryResult(
-                Snapshot latestSnapshot, List<SimpleFileEntry> baseDataFiles, Exception exception) {
+                Snapshot latestSnapshot,
+                @Nullable List<SimpleFileEntry> baseDataFiles,
+                Exception exception) {
             this.latestSnapshot = latestSnapshot;
             this.baseDataFiles = baseDataFiles;
             this.exception = exception;
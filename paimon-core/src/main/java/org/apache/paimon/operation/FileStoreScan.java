@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.index.SecondaryIndexFilter;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
@@ -85,6 +86,9 @@ public interface FileStoreScan {
 
     FileStoreScan dropStats();
 
+    /** Prunes the buckets by their secondary index when planning all files of a snapshot. */
+    FileStoreScan withSecondaryIndexFilter(@Nullable SecondaryIndexFilter filter);
+
     @Nullable
     Integer parallelism();
 
@@ -49,6 +49,7 @@ import org.apache.paimon.mergetree.LookupLevels.KeyValueProcessor;
 import org.apache.paimon.mergetree.LookupLevels.PositionedKeyValueProcessor;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.compact.AdaptiveCompaction;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.ForceUpLevel0Compaction;
@@ -91,6 +92,7 @@ import static org.apache.paimon.format.FileFormat.fileFormat;
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
 import static org.apache.paimon.mergetree.LookupFile.localFilePrefix;
 import static org.apache.paimon.utils.FileStorePathFactory.createFormatPathFactories;
+import static org.apache.paimon.utils.ThreadPoolUtils.createCachedThreadPool;
 
 /** {@link FileStoreWrite} for {@link KeyValueFileStore}. */
 public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
@@ -111,6 +113,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final String commitUser;
     @Nullable private final RecordLevelExpire recordLevelExpire;
     @Nullable private Cache<String, LookupFile> lookupFileCache;
+    @Nullable private ExecutorService rewriteExecutor;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -237,12 +240,20 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             }
         }
 
+        Integer adaptiveMaxSortedRuns = options.compactionAdaptiveMaxSortedRuns();
         UniversalCompaction universal =
-                new UniversalCompaction(
-                        options.maxSizeAmplificationPercent(),
-                        options.sortedRunSizeRatio(),
-                        options.numSortedRunCompactionTrigger(),
-                        options.optimizedCompactionInterval());
+                adaptiveMaxSortedRuns == null
+                        ? new UniversalCompaction(
+                                options.maxSizeAmplificationPercent(),
+                                options.sortedRunSizeRatio(),
+                                options.numSortedRunCompactionTrigger(),
+                                options.optimizedCompactionInterval())
+                        : new AdaptiveCompaction(
+                                options.maxSizeAmplificationPercent(),
+                                options.sortedRunSizeRatio(),
+                                options.numSortedRunCompactionTrigger(),
+                                options.optimizedCompactionInterval(),
+                                adaptiveMaxSortedRuns);
         if (options.compactionForceUpLevel0()) {
             return new ForceUpLevel0Compaction(universal);
         } else {
@@ -285,8 +296,20 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     options.prepareCommitWaitCompaction(),
                     options.needLookup(),
                     recordLevelExpire,
-                    options.forceRewriteAllFiles());
+                    options.forceRewriteAllFiles(),
+                    options.compactionRewriteParallelism(),
+                    rewriteExecutor());
+        }
+    }
+
+    @Nullable
+    private ExecutorService rewriteExecutor() {
+        int parallelism = options.compactionRewriteParallelism();
+        if (parallelism > 1 && rewriteExecutor == null) {
+            // shared by the compactions of all buckets of this writer
+            rewriteExecutor = createCachedThreadPool(parallelism, "paimon-compaction-rewrite");
         }
+        return rewriteExecutor;
     }
 
     private MergeTreeCompactRewriter createRewriter(
@@ -422,6 +445,9 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     @Override
     public void close() throws Exception {
         super.close();
+        if (rewriteExecutor != null) {
+            rewriteExecutor.shutdownNow();
+        }
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
@@ -38,6 +38,7 @@ import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory.AdjustedProjection;
 import org.apache.paimon.mergetree.compact.MergeFunctionWrapper;
 import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.ReaderSupplier;
 import org.apache.paimon.reader.RecordReader;
@@ -80,6 +81,7 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
     private final MergeSorter mergeSorter;
     private final List<String> sequenceFields;
     private final boolean sequenceOrder;
+    private final int prefetchNum;
 
     @Nullable private RowType readKeyType;
 
@@ -92,6 +94,8 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
 
     private boolean forceKeepDelete = false;
 
+    @Nullable private ReadMetrics readMetrics;
+
     public MergeFileSplitRead(
             CoreOptions options,
             TableSchema schema,
@@ -110,6 +114,7 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
                         CoreOptions.fromMap(tableSchema.options()), keyType, valueType, null);
         this.sequenceFields = options.sequenceField();
         this.sequenceOrder = options.sequenceFieldSortOrderIsAscending();
+        this.prefetchNum = options.fileReaderPrefetchNum();
     }
 
     public Comparator<InternalRow> keyComparator() {
@@ -195,6 +200,12 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
         return this;
     }
 
+    @Override
+    public MergeFileSplitRead withReadMetrics(@Nullable ReadMetrics readMetrics) {
+        this.readMetrics = readMetrics;
+        return this;
+    }
+
     @Override
     public MergeFileSplitRead forceKeepDelete() {
         this.forceKeepDelete = true;
@@ -282,19 +293,37 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
         MergeFunctionWrapper<KeyValue> mergeFuncWrapper =
                 new ReducerMergeFunctionWrapper(mfFactory.create(pushdownProjection));
         for (List<SortedRun> section : new IntervalPartition(files, keyComparator).partition()) {
+            // section readers may be opened by prefetch threads, resolve format mappings here
+            KeyValueFileReaderFactory sectionFactory =
+                    section.size() == 1 ? nonOverlappedSectionFactory : overlappedSectionFactory;
+            for (SortedRun run : section) {
+                sectionFactory.prepareFormatReaderMappings(run.files());
+            }
+
+            // A section is a group of files whose key ranges transitively overlap, so only a
+            // section made of a single run can skip the sort merge: a reducer returns the single
+            // input as is. A section with several runs is merged as a whole, including key ranges
+            // inside it which happen to be covered by one file only, because file readers cannot
+            // be bounded to a key range.
+            if (section.size() == 1) {
+                SortedRun run = section.get(0);
+                sectionReaders.add(
+                        () -> MergeTreeReaders.readerForRun(run, nonOverlappedSectionFactory));
+                continue;
+            }
+
             sectionReaders.add(
                     () ->
                             MergeTreeReaders.readerForSection(
                                     section,
-                                    section.size() > 1
-                                            ? overlappedSectionFactory
-                                            : nonOverlappedSectionFactory,
+                                    overlappedSectionFactory,
                                     keyComparator,
                                     createUdsComparator(),
                                     mergeFuncWrapper,
                                     mergeSorter));
         }
-        RecordReader<KeyValue> reader = ConcatRecordReader.create(sectionReaders);
+        RecordReader<KeyValue> reader =
+                ConcatRecordReader.create(sectionReaders, prefetchNum, readMetrics);
 
         if (!keepDelete) {
             reader = new DropDeleteReader(reader);
@@ -317,12 +346,14 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
                         DeletionVector.factory(fileIO, files, deletionFiles),
                         true,
                         onlyFilterKey ? filtersForKeys : filtersForAll);
+        // readers may be opened by prefetch threads, resolve format mappings here
+        readerFactory.prepareFormatReaderMappings(files);
         List<ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
         for (DataFileMeta file : files) {
             suppliers.add(() -> readerFactory.createRecordReader(file));
         }
 
-        return projectOuter(ConcatRecordReader.create(suppliers));
+        return projectOuter(ConcatRecordReader.create(suppliers, prefetchNum, readMetrics));
     }
 
     private RecordReader<KeyValue> projectKey(RecordReader<KeyValue> reader) {
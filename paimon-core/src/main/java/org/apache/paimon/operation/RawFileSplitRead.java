@@ -25,7 +25,6 @@ import org.apache.paimon.deletionvectors.BitmapDeletionVector;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.fileindex.FileIndexResult;
-import org.apache.paimon.fileindex.bitmap.ApplyBitmapIndexRecordReader;
 import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.format.FormatKey;
@@ -36,8 +35,11 @@ import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.DataFileRecordReader;
 import org.apache.paimon.io.FileIndexEvaluator;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.partition.PartitionUtils;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.predicate.PredicateProjectionConverter;
 import org.apache.paimon.reader.EmptyFileRecordReader;
 import org.apache.paimon.reader.FileRecordReader;
 import org.apache.paimon.reader.ReaderSupplier;
@@ -79,9 +81,13 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
     private final FileStorePathFactory pathFactory;
     private final Map<FormatKey, FormatReaderMapping> formatReaderMappings;
     private final boolean fileIndexReadEnabled;
+    private final double fileIndexMinPruningRate;
+    private final int prefetchNum;
 
     private RowType readRowType;
     @Nullable private List<Predicate> filters;
+    @Nullable private ReadMetrics readMetrics;
+    private boolean executeFilter;
 
     public RawFileSplitRead(
             FileIO fileIO,
@@ -90,7 +96,9 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
             RowType rowType,
             FileFormatDiscover formatDiscover,
             FileStorePathFactory pathFactory,
-            boolean fileIndexReadEnabled) {
+            boolean fileIndexReadEnabled,
+            double fileIndexMinPruningRate,
+            int prefetchNum) {
         this.fileIO = fileIO;
         this.schemaManager = schemaManager;
         this.schema = schema;
@@ -98,6 +106,8 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         this.pathFactory = pathFactory;
         this.formatReaderMappings = new HashMap<>();
         this.fileIndexReadEnabled = fileIndexReadEnabled;
+        this.fileIndexMinPruningRate = fileIndexMinPruningRate;
+        this.prefetchNum = prefetchNum;
         this.readRowType = rowType;
     }
 
@@ -111,6 +121,12 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         return this;
     }
 
+    @Override
+    public SplitRead<InternalRow> withReadMetrics(@Nullable ReadMetrics readMetrics) {
+        this.readMetrics = readMetrics;
+        return this;
+    }
+
     @Override
     public SplitRead<InternalRow> withReadType(RowType readRowType) {
         this.readRowType = readRowType;
@@ -125,6 +141,15 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         return this;
     }
 
+    /**
+     * Only returns the rows which satisfy the filter, column batches are filtered without
+     * materializing their rows, see {@link DataFileRecordReader}.
+     */
+    public RawFileSplitRead executeFilter() {
+        this.executeFilter = true;
+        return this;
+    }
+
     @Override
     public RecordReader<InternalRow> createReader(DataSplit split) throws IOException {
         if (split.beforeFiles().size() > 0) {
@@ -154,6 +179,7 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
         List<DataField> readTableFields = readRowType.getFields();
         Builder formatReaderMappingBuilder =
                 new Builder(formatDiscover, readTableFields, TableSchema::fields, filters);
+        Predicate readFilter = executeFilter ? readFilter() : null;
 
         for (int i = 0; i < files.size(); i++) {
             DataFileMeta file = files.get(i);
@@ -183,10 +209,23 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
                                     file,
                                     dataFilePathFactory,
                                     formatReaderMapping,
-                                    dvFactory));
+                                    dvFactory,
+                                    readFilter));
         }
 
-        return ConcatRecordReader.create(suppliers);
+        return ConcatRecordReader.create(suppliers, prefetchNum, readMetrics);
+    }
+
+    /** The filter on the fields of the read type, conjuncts on other fields are dropped. */
+    @Nullable
+    private Predicate readFilter() {
+        if (filters == null) {
+            return null;
+        }
+        int[] projection = schema.logicalRowType().getFieldIndices(readRowType.getFieldNames());
+        return PredicateBuilder.and(filters)
+                .visit(new PredicateProjectionConverter(projection))
+                .orElse(null);
     }
 
     private FileRecordReader<InternalRow> createFileReader(
@@ -194,7 +233,8 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
             DataFileMeta file,
             DataFilePathFactory dataFilePathFactory,
             FormatReaderMapping formatReaderMapping,
-            IOExceptionSupplier<DeletionVector> dvFactory)
+            IOExceptionSupplier<DeletionVector> dvFactory,
+            @Nullable Predicate readFilter)
             throws IOException {
         FileIndexResult fileIndexResult = null;
         if (fileIndexReadEnabled) {
@@ -204,7 +244,8 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
                             formatReaderMapping.getDataSchema(),
                             formatReaderMapping.getDataFilters(),
                             dataFilePathFactory,
-                            file);
+                            file,
+                            fileIndexMinPruningRate);
             if (!fileIndexResult.remain()) {
                 return new EmptyFileRecordReader<>();
             }
@@ -221,6 +262,12 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
             deletion = ((BitmapDeletionVector) deletionVector).get();
         }
 
+        if (selection == null && deletion != null && !deletion.isEmpty()) {
+            // push the deletion vector down as a selection of the remaining rows, so that
+            // format readers can skip fully deleted row groups and stripes without reading them
+            selection = RoaringBitmap32.bitmapOfRange(0, file.rowCount());
+        }
+
         if (selection != null) {
             if (deletion != null) {
                 selection = RoaringBitmap32.andNot(selection, deletion);
@@ -239,15 +286,12 @@ public class RawFileSplitRead implements SplitRead<InternalRow> {
                         formatReaderContext,
                         formatReaderMapping.getIndexMapping(),
                         formatReaderMapping.getCastMapping(),
-                        PartitionUtils.create(formatReaderMapping.getPartitionPair(), partition));
-
-        if (fileIndexResult instanceof BitmapIndexResult) {
-            fileRecordReader =
-                    new ApplyBitmapIndexRecordReader(
-                            fileRecordReader, (BitmapIndexResult) fileIndexResult);
-        }
+                        PartitionUtils.create(formatReaderMapping.getPartitionPair(), partition),
+                        readFilter);
 
-        if (deletionVector != null && !deletionVector.isEmpty()) {
+        // the selection, with deleted rows already removed, is applied by the data file reader,
+        // only deletion vectors which are not 32-bit bitmaps are applied row by row
+        if (deletion == null && deletionVector != null && !deletionVector.isEmpty()) {
             return new ApplyDeletionVectorReader(fileRecordReader, deletionVector);
         }
         return fileRecordReader;
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.partition.PartitionPredicate;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory index of the live data files of a snapshot, grouped by partition.
+ *
+ * <p>When a newer snapshot is requested, the index is advanced by applying the delta manifests of
+ * the snapshots in between, so planning a new snapshot costs O(delta) instead of reading all
+ * manifests. The index is rebuilt from all manifests if a snapshot in between has expired.
+ */
+@ThreadSafe
+public class SnapshotFileIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotFileIndex.class);
+
+    private final SnapshotManager snapshotManager;
+    private final ManifestList.Factory manifestListFactory;
+    private final ManifestFile.Factory manifestFileFactory;
+    @Nullable private final Integer parallelism;
+
+    private final Map<BinaryRow, Map<Identifier, ManifestEntry>> partitions;
+    @Nullable private Snapshot snapshot;
+
+    public SnapshotFileIndex(
+            SnapshotManager snapshotManager,
+            ManifestList.Factory manifestListFactory,
+            ManifestFile.Factory manifestFileFactory,
+            @Nullable Integer parallelism) {
+        this.snapshotManager = snapshotManager;
+        this.manifestListFactory = manifestListFactory;
+        this.manifestFileFactory = manifestFileFactory;
+        this.parallelism = parallelism;
+        this.partitions = new HashMap<>();
+    }
+
+    /**
+     * Returns the live files of the given snapshot in partitions accepted by the filter, or null if
+     * the snapshot is older than the indexed one. Older snapshots are not indexed so that time
+     * travel queries do not discard the index of the latest snapshot.
+     */
+    @Nullable
+    public synchronized List<ManifestEntry> files(
+            Snapshot target, @Nullable PartitionPredicate partitionFilter) {
+        if (snapshot != null && target.id() < snapshot.id()) {
+            return null;
+        }
+
+        if (snapshot == null || !advance(target)) {
+            rebuild(target);
+        }
+
+        List<ManifestEntry> files = new ArrayList<>();
+        for (Map.Entry<BinaryRow, Map<Identifier, ManifestEntry>> entry : partitions.entrySet()) {
+            if (partitionFilter == null || partitionFilter.test(entry.getKey())) {
+                files.addAll(entry.getValue().values());
+            }
+        }
+        return files;
+    }
+
+    /** Applies delta manifests of snapshots after the indexed one, returns false on a gap. */
+    private boolean advance(Snapshot target) {
+        ManifestList manifestList = manifestListFactory.create();
+        for (long id = snapshot.id() + 1; id <= target.id(); id++) {
+            Snapshot next;
+            try {
+                next = id == target.id() ? target : snapshotManager.tryGetSnapshot(id);
+            } catch (FileNotFoundException e) {
+                LOG.info("Snapshot {} has expired, rebuilding file index.", id);
+                return false;
+            }
+            apply(manifestList.readDeltaManifests(next));
+            snapshot = next;
+        }
+        return true;
+    }
+
+    private void rebuild(Snapshot target) {
+        partitions.clear();
+        apply(manifestListFactory.create().readDataManifests(target));
+        snapshot = target;
+    }
+
+    private void apply(List<ManifestFileMeta> manifests) {
+        Map<Identifier, ManifestEntry> merged = new LinkedHashMap<>();
+        FileEntry.mergeEntries(manifestFileFactory.create(), manifests, merged, parallelism);
+        for (ManifestEntry entry : merged.values()) {
+            if (entry.kind() == FileKind.ADD) {
+                partitions
+                        .computeIfAbsent(entry.partition(), k -> new LinkedHashMap<>())
+                        .put(entry.identifier(), entry);
+            } else {
+                Map<Identifier, ManifestEntry> files = partitions.get(entry.partition());
+                if (files != null) {
+                    files.remove(entry.identifier());
+                    if (files.isEmpty()) {
+                        partitions.remove(entry.partition());
+                    }
+                }
+            }
+        }
+    }
+}
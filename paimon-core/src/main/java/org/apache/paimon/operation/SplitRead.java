@@ -19,6 +19,7 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.source.DataSplit;
@@ -44,6 +45,11 @@ public interface SplitRead<T> {
 
     SplitRead<T> withFilter(@Nullable Predicate predicate);
 
+    /** Report the metrics of file prefetching, see {@link ReadMetrics}. */
+    default SplitRead<T> withReadMetrics(@Nullable ReadMetrics readMetrics) {
+        return this;
+    }
+
     /** Create a {@link RecordReader} from split. */
     RecordReader<T> createReader(DataSplit split) throws IOException;
 
@@ -74,6 +80,12 @@ public interface SplitRead<T> {
                 return this;
             }
 
+            @Override
+            public SplitRead<R> withReadMetrics(@Nullable ReadMetrics readMetrics) {
+                read.withReadMetrics(readMetrics);
+                return this;
+            }
+
             @Override
             public RecordReader<R> createReader(DataSplit split) throws IOException {
                 return convertedFactory.apply(split);
@@ -19,8 +19,10 @@
 package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.SharedCompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
 
@@ -50,6 +52,10 @@ public class CompactionMetrics {
     public static final String AVG_COMPACTION_OUTPUT_SIZE = "avgCompactionOutputSize";
     public static final String MAX_TOTAL_FILE_SIZE = "maxTotalFileSize";
     public static final String AVG_TOTAL_FILE_SIZE = "avgTotalFileSize";
+    public static final String MAX_SORTED_RUN_COUNT = "maxSortedRunCount";
+    public static final String AVG_SORTED_RUN_COUNT = "avgSortedRunCount";
+    public static final String COMPACTION_QUEUE_WAIT_TIME = "compactionQueueWaitTime";
+    public static final String SHARED_COMPACTION_QUEUE_SIZE = "sharedCompactionQueueSize";
 
     private static final long BUSY_MEASURE_MILLIS = 60_000;
     private static final int COMPACTION_TIME_WINDOW = 100;
@@ -60,6 +66,7 @@ public class CompactionMetrics {
     private final Queue<Long> compactionTimes;
     private Counter compactionsCompletedCounter;
     private Counter compactionsQueuedCounter;
+    private Histogram queueWaitTimeHistogram;
 
     public CompactionMetrics(MetricRegistry registry, String tableName) {
         this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
@@ -99,12 +106,27 @@ public class CompactionMetrics {
 
         metricGroup.gauge(MAX_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().max().orElse(-1));
         metricGroup.gauge(AVG_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().average().orElse(-1));
+
+        metricGroup.gauge(MAX_SORTED_RUN_COUNT, () -> getSortedRunCountStream().max().orElse(-1));
+        metricGroup.gauge(
+                AVG_SORTED_RUN_COUNT, () -> getSortedRunCountStream().average().orElse(-1));
+        queueWaitTimeHistogram =
+                metricGroup.histogram(COMPACTION_QUEUE_WAIT_TIME, COMPACTION_TIME_WINDOW);
+    }
+
+    /** Reports the queue depth of the {@link SharedCompactExecutor} used by this table. */
+    public void registerSharedExecutor() {
+        metricGroup.gauge(SHARED_COMPACTION_QUEUE_SIZE, SharedCompactExecutor::sharedQueueSize);
     }
 
     private LongStream getLevel0FileCountStream() {
         return reporters.values().stream().mapToLong(r -> r.level0FileCount);
     }
 
+    private LongStream getSortedRunCountStream() {
+        return reporters.values().stream().mapToLong(r -> r.sortedRunCount);
+    }
+
     private LongStream getCompactionInputSizeStream() {
         return reporters.values().stream().mapToLong(r -> r.compactionInputSize);
     }
@@ -138,8 +160,12 @@ public class CompactionMetrics {
 
         void reportLevel0FileCount(long count);
 
+        void reportSortedRunCount(long count);
+
         void reportCompactionTime(long time);
 
+        void reportCompactionQueueWaitTime(long time);
+
         void increaseCompactionsCompletedCount();
 
         void increaseCompactionsQueuedCount();
@@ -159,6 +185,7 @@ public class CompactionMetrics {
 
         private final PartitionAndBucket key;
         private long level0FileCount;
+        private long sortedRunCount = 0;
         private long compactionInputSize = 0;
         private long compactionOutputSize = 0;
         private long totalFileSize = 0;
@@ -185,6 +212,11 @@ public class CompactionMetrics {
             }
         }
 
+        @Override
+        public void reportCompactionQueueWaitTime(long time) {
+            queueWaitTimeHistogram.update(time);
+        }
+
         @Override
         public void reportCompactionInputSize(long bytes) {
             this.compactionInputSize = bytes;
@@ -205,6 +237,11 @@ public class CompactionMetrics {
             this.level0FileCount = count;
         }
 
+        @Override
+        public void reportSortedRunCount(long count) {
+            this.sortedRunCount = count;
+        }
+
         @Override
         public void increaseCompactionsCompletedCount() {
             compactionsCompletedCounter.inc();
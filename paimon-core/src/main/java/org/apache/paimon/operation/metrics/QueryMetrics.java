@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import java.util.function.LongSupplier;
+
+/** Metrics to measure the result cache of local table query. */
+public class QueryMetrics {
+
+    public static final String GROUP_NAME = "query";
+    public static final String RESULT_CACHE_HIT_COUNT = "resultCacheHitCount";
+    public static final String RESULT_CACHE_MISS_COUNT = "resultCacheMissCount";
+    public static final String RESULT_CACHE_SIZE = "resultCacheSize";
+
+    private final MetricGroup metricGroup;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public QueryMetrics(MetricRegistry registry, String tableName, LongSupplier cacheSize) {
+        this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        this.hitCounter = metricGroup.counter(RESULT_CACHE_HIT_COUNT);
+        this.missCounter = metricGroup.counter(RESULT_CACHE_MISS_COUNT);
+        metricGroup.gauge(RESULT_CACHE_SIZE, cacheSize::getAsLong);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void reportHit() {
+        hitCounter.inc();
+    }
+
+    public void reportMiss() {
+        missCounter.inc();
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
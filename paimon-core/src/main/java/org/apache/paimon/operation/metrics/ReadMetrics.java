@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics to measure the file prefetching of read operation. */
+public class ReadMetrics {
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+    public static final String GROUP_NAME = "read";
+    public static final String LAST_PREFETCH_BUFFER_DEPTH = "lastPrefetchBufferDepth";
+    public static final String PREFETCH_STALL_DURATION = "prefetchStallDuration";
+    public static final String PREFETCH_STALL_TIME = "prefetchStallTime";
+
+    private final MetricGroup metricGroup;
+    private final Histogram stallHistogram;
+    private final Counter stallTimeCounter;
+
+    private volatile int lastBufferDepth;
+
+    public ReadMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(LAST_PREFETCH_BUFFER_DEPTH, () -> lastBufferDepth);
+        this.stallHistogram = metricGroup.histogram(PREFETCH_STALL_DURATION, HISTOGRAM_WINDOW_SIZE);
+        this.stallTimeCounter = metricGroup.counter(PREFETCH_STALL_TIME);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /**
+     * Reports that the reader switched to the next file.
+     *
+     * @param bufferDepth number of files which were already opened in background
+     * @param stallMillis time spent waiting for the next file to be opened
+     */
+    public void reportPrefetch(int bufferDepth, long stallMillis) {
+        lastBufferDepth = bufferDepth;
+        stallHistogram.update(stallMillis);
+        stallTimeCounter.inc(stallMillis);
+    }
+}
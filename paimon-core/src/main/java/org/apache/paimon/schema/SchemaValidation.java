@@ -59,6 +59,8 @@ import static org.apache.paimon.CoreOptions.CHANGELOG_PRODUCER;
 import static org.apache.paimon.CoreOptions.DEFAULT_AGG_FUNCTION;
 import static org.apache.paimon.CoreOptions.FIELDS_PREFIX;
 import static org.apache.paimon.CoreOptions.FIELDS_SEPARATOR;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MERGE_GAP;
 import static org.apache.paimon.CoreOptions.FULL_COMPACTION_DELTA_COMMITS;
 import static org.apache.paimon.CoreOptions.INCREMENTAL_BETWEEN;
 import static org.apache.paimon.CoreOptions.INCREMENTAL_BETWEEN_TIMESTAMP;
@@ -112,6 +114,10 @@ public class SchemaValidation {
 
         validateSequenceGroup(schema, options);
 
+        validateSecondaryIndex(schema, options);
+
+        validateFileReaderVectored(options);
+
         ChangelogProducer changelogProducer = options.changelogProducer();
         if (schema.primaryKeys().isEmpty() && changelogProducer != ChangelogProducer.NONE) {
             throw new UnsupportedOperationException(
@@ -485,6 +491,56 @@ public class SchemaValidation {
         }
     }
 
+    private static void validateSecondaryIndex(TableSchema schema, CoreOptions options) {
+        String column = options.secondaryIndexColumn();
+        if (column == null) {
+            return;
+        }
+
+        checkArgument(
+                schema.fieldNames().contains(column),
+                "Secondary index column: '%s' can not be found in table schema.",
+                column);
+        if (schema.primaryKeys().isEmpty() || schema.primaryKeys().contains(column)) {
+            return;
+        }
+
+        // the index is built from the written values, merged values must be one of them
+        MergeEngine mergeEngine = options.mergeEngine();
+        checkArgument(
+                mergeEngine != MergeEngine.AGGREGATE,
+                "Secondary index column: '%s' is not supported on %s merge engine, "
+                        + "aggregated values are not indexed.",
+                column,
+                mergeEngine);
+        checkArgument(
+                mergeEngine != MergeEngine.PARTIAL_UPDATE
+                        || (options.fieldAggFunc(column) == null
+                                && options.fieldsDefaultFunc() == null),
+                "Secondary index column: '%s' is not supported on %s merge engine "
+                        + "with aggregation function, aggregated values are not indexed.",
+                column,
+                mergeEngine);
+    }
+
+    private static void validateFileReaderVectored(CoreOptions options) {
+        // the sizes are used as int offsets of read buffers
+        long mergeGap = options.fileReaderVectoredMergeGap().getBytes();
+        checkArgument(
+                mergeGap >= 0 && mergeGap <= Integer.MAX_VALUE,
+                "%s should be between 0 and %s bytes, but is %s.",
+                FILE_READER_VECTORED_MERGE_GAP.key(),
+                Integer.MAX_VALUE,
+                mergeGap);
+        long maxRangeSize = options.fileReaderVectoredMaxRangeSize().getBytes();
+        checkArgument(
+                maxRangeSize > 0 && maxRangeSize <= Integer.MAX_VALUE,
+                "%s should be between 1 and %s bytes, but is %s.",
+                FILE_READER_VECTORED_MAX_RANGE_SIZE.key(),
+                Integer.MAX_VALUE,
+                maxRangeSize);
+    }
+
     private static void validateForDeletionVectors(CoreOptions options) {
         checkArgument(
                 options.changelogProducer() == ChangelogProducer.NONE
@@ -23,10 +23,12 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.AppendOnlyFileStoreScan;
 import org.apache.paimon.operation.BaseAppendFileStoreWrite;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.RawFileSplitRead;
+import org.apache.paimon.operation.metrics.ReadMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
@@ -38,6 +40,7 @@ import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.InnerTableRead;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.table.source.SplitGenerator;
+import org.apache.paimon.table.source.TableRead;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Preconditions;
 
@@ -112,11 +115,24 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
                 return this;
             }
 
+            @Override
+            public TableRead executeFilter() {
+                // filtered by the data file readers, column batches are filtered vectorized
+                read.executeFilter();
+                return this;
+            }
+
             @Override
             public void applyReadType(RowType readType) {
                 read.withReadType(readType);
             }
 
+            @Override
+            public InnerTableRead withMetricRegistry(MetricRegistry registry) {
+                read.withReadMetrics(new ReadMetrics(registry, name()));
+                return this;
+            }
+
             @Override
             public RecordReader<InternalRow> reader(Split split) throws IOException {
                 return read.createReader((DataSplit) split);
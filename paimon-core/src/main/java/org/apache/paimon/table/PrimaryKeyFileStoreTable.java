@@ -146,7 +146,7 @@ public class PrimaryKeyFileStoreTable extends AbstractFileStoreTable {
     @Override
     public InnerTableRead newRead() {
         return new KeyValueTableRead(
-                () -> store().newRead(), () -> store().newBatchRawFileRead(), schema());
+                () -> store().newRead(), () -> store().newBatchRawFileRead(), schema(), name());
     }
 
     @Override
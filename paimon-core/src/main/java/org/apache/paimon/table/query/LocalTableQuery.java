@@ -22,6 +22,7 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.FileStore;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueFileStore;
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
@@ -36,6 +37,8 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupFile;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.QueryMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FileStoreTable;
@@ -45,14 +48,19 @@ import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
@@ -82,9 +90,36 @@ public class LocalTableQuery implements TableQuery {
 
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
+    private final String tableName;
+
+    /**
+     * Results of hot keys. The admission of Caffeine is frequency based (TinyLFU), so that rarely
+     * queried keys do not evict hot keys. Keys contain the version of their bucket, which changes
+     * when the files of the bucket change, so that outdated results are never hit again.
+     */
+    @Nullable private final Cache<ResultKey, Optional<InternalRow>> resultCache;
+
+    private final Map<BinaryRow, Map<Integer, Long>> bucketVersions;
+    private long nextBucketVersion;
+
+    @Nullable private Comparator<InternalRow> keyComparator;
+    @Nullable private InternalRowSerializer resultKeySerializer;
+    @Nullable private InternalRowSerializer resultValueSerializer;
+    @Nullable private QueryMetrics metrics;
+
     public LocalTableQuery(FileStoreTable table) {
         this.options = table.coreOptions();
         this.tableView = new HashMap<>();
+        this.tableName = table.name();
+        this.bucketVersions = new HashMap<>();
+        long resultCacheMaxRows = options.lookupResultCacheMaxRows();
+        this.resultCache =
+                resultCacheMaxRows > 0
+                        ? Caffeine.newBuilder()
+                                .maximumSize(resultCacheMaxRows)
+                                .executor(Runnable::run)
+                                .build()
+                        : null;
         FileStore<?> tableStore = table.store();
         if (!(tableStore instanceof KeyValueFileStore)) {
             throw new UnsupportedOperationException(
@@ -122,6 +157,14 @@ public class LocalTableQuery implements TableQuery {
         } else {
             lookupLevels.getLevels().update(beforeFiles, dataFiles);
         }
+
+        if (resultCache != null) {
+            // update the version after the files, so that no lookup caches old results under the
+            // new version
+            bucketVersions
+                    .computeIfAbsent(partition, k -> new HashMap<>())
+                    .put(bucket, nextBucketVersion++);
+        }
     }
 
     private void newLookupLevels(BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
@@ -170,16 +213,125 @@ public class LocalTableQuery implements TableQuery {
     @Override
     public synchronized InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
             throws IOException {
-        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
-        if (buckets == null || buckets.isEmpty()) {
+        LookupLevels<KeyValue> lookupLevels = lookupLevels(partition, bucket);
+        if (lookupLevels == null) {
             return null;
         }
-        LookupLevels<KeyValue> lookupLevels = buckets.get(bucket);
+
+        if (resultCache == null) {
+            return value(lookupLevels.lookup(key, startLevel));
+        }
+
+        ResultKey resultKey = resultKey(partition, bucket, key);
+        Optional<InternalRow> cached = getCachedResult(resultKey);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+
+        InternalRow value = value(lookupLevels.lookup(key, startLevel));
+        putCachedResult(resultKey, value);
+        return value;
+    }
+
+    /**
+     * Looks up a batch of keys of one bucket, the result of each key is at the same position, null
+     * if the key is absent. Keys missing from the result cache are sorted and looked up together
+     * by {@link LookupLevels#lookupBatch}, which walks each level and probes each file once.
+     */
+    @Override
+    public synchronized List<InternalRow> lookupBatch(
+            BinaryRow partition, int bucket, List<InternalRow> keys) throws IOException {
+        List<InternalRow> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        LookupLevels<KeyValue> lookupLevels = lookupLevels(partition, bucket);
         if (lookupLevels == null) {
+            return results;
+        }
+
+        List<Integer> misses = new ArrayList<>(keys.size());
+        ResultKey[] resultKeys = new ResultKey[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            if (resultCache == null) {
+                misses.add(i);
+                continue;
+            }
+
+            resultKeys[i] = resultKey(partition, bucket, keys.get(i));
+            Optional<InternalRow> cached = getCachedResult(resultKeys[i]);
+            if (cached == null) {
+                misses.add(i);
+            } else {
+                results.set(i, cached.orElse(null));
+            }
+        }
+        if (misses.isEmpty()) {
+            return results;
+        }
+
+        if (keyComparator == null) {
+            keyComparator = keyComparatorSupplier.get();
+        }
+        misses.sort((i1, i2) -> keyComparator.compare(keys.get(i1), keys.get(i2)));
+        List<InternalRow> sortedKeys = new ArrayList<>(misses.size());
+        for (int i : misses) {
+            sortedKeys.add(keys.get(i));
+        }
+
+        List<KeyValue> kvs = lookupLevels.lookupBatch(sortedKeys, startLevel);
+        for (int i = 0; i < misses.size(); i++) {
+            int pos = misses.get(i);
+            InternalRow value = value(kvs.get(i));
+            results.set(pos, value);
+            if (resultCache != null) {
+                putCachedResult(resultKeys[pos], value);
+            }
+        }
+        return results;
+    }
+
+    @Nullable
+    private LookupLevels<KeyValue> lookupLevels(BinaryRow partition, int bucket) {
+        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
+        if (buckets == null || buckets.isEmpty()) {
             return null;
         }
+        return buckets.get(bucket);
+    }
+
+    private ResultKey resultKey(BinaryRow partition, int bucket, InternalRow key) {
+        if (resultKeySerializer == null) {
+            resultKeySerializer = InternalSerializers.create(readerFactoryBuilder.keyType());
+            resultValueSerializer = createValueSerializer();
+        }
+        return new ResultKey(
+                bucketVersions.get(partition).get(bucket),
+                resultKeySerializer.toBinaryRow(key).copy());
+    }
 
-        KeyValue kv = lookupLevels.lookup(key, startLevel);
+    @Nullable
+    private Optional<InternalRow> getCachedResult(ResultKey resultKey) {
+        Optional<InternalRow> cached =
+                Preconditions.checkNotNull(resultCache).getIfPresent(resultKey);
+        if (metrics != null) {
+            if (cached != null) {
+                metrics.reportHit();
+            } else {
+                metrics.reportMiss();
+            }
+        }
+        return cached;
+    }
+
+    private void putCachedResult(ResultKey resultKey, @Nullable InternalRow value) {
+        Preconditions.checkNotNull(resultCache)
+                .put(
+                        resultKey,
+                        value == null
+                                ? Optional.empty()
+                                : Optional.of(resultValueSerializer.toBinaryRow(value).copy()));
+    }
+
+    @Nullable
+    private static InternalRow value(@Nullable KeyValue kv) {
         if (kv == null || kv.valueKind().isRetract()) {
             return null;
         } else {
@@ -190,6 +342,11 @@ public class LocalTableQuery implements TableQuery {
     @Override
     public LocalTableQuery withValueProjection(int[] projection) {
         this.readerFactoryBuilder.withReadValueType(rowType.project(projection));
+        this.resultKeySerializer = null;
+        this.resultValueSerializer = null;
+        if (resultCache != null) {
+            resultCache.invalidateAll();
+        }
         return this;
     }
 
@@ -203,6 +360,20 @@ public class LocalTableQuery implements TableQuery {
         return this;
     }
 
+    /** Reports the hits and misses of the result cache, if it is enabled. */
+    public LocalTableQuery withMetricRegistry(MetricRegistry registry) {
+        if (resultCache != null) {
+            this.metrics = new QueryMetrics(registry, tableName, resultCache::estimatedSize);
+        }
+        return this;
+    }
+
+    @VisibleForTesting
+    @Nullable
+    public QueryMetrics metrics() {
+        return metrics;
+    }
+
     @Override
     public InternalRowSerializer createValueSerializer() {
         return InternalSerializers.create(readerFactoryBuilder.readValueType());
@@ -220,6 +391,42 @@ public class LocalTableQuery implements TableQuery {
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
+        if (resultCache != null) {
+            resultCache.invalidateAll();
+        }
+        if (metrics != null) {
+            metrics.close();
+        }
         tableView.clear();
+        bucketVersions.clear();
+    }
+
+    /** Key of the result cache. */
+    private static class ResultKey {
+
+        private final long bucketVersion;
+        private final BinaryRow key;
+
+        private ResultKey(long bucketVersion, BinaryRow key) {
+            this.bucketVersion = bucketVersion;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ResultKey that = (ResultKey) o;
+            return bucketVersion == that.bucketVersion && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketVersion, key);
+        }
     }
 }
@@ -26,6 +26,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** A query of Table to perform lookup. */
 public interface TableQuery extends Closeable {
@@ -37,4 +39,17 @@ public interface TableQuery extends Closeable {
 
     @Nullable
     InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException;
+
+    /**
+     * Looks up a batch of keys of one bucket, the result of each key is at the same position, null
+     * if the key is absent.
+     */
+    default List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        List<InternalRow> results = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            results.add(lookup(partition, bucket, key));
+        }
+        return results;
+    }
 }
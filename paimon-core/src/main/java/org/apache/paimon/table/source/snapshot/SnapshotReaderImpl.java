@@ -27,6 +27,8 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.index.SecondaryIndex;
+import org.apache.paimon.index.SecondaryIndexFilter;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileKind;
@@ -45,6 +47,7 @@ import org.apache.paimon.table.source.DeletionFile;
 import org.apache.paimon.table.source.PlanImpl;
 import org.apache.paimon.table.source.ScanMode;
 import org.apache.paimon.table.source.SplitGenerator;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.ChangelogManager;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Filter;
@@ -90,6 +93,7 @@ public class SnapshotReaderImpl implements SnapshotReader {
 
     private ScanMode scanMode = ScanMode.ALL;
     private RecordComparator lazyPartitionComparator;
+    @Nullable private SecondaryIndexFilter secondaryIndexFilter;
 
     public SnapshotReaderImpl(
             FileStoreScan scan,
@@ -230,6 +234,20 @@ public class SnapshotReaderImpl implements SnapshotReader {
         if (nonPartitionFilters.size() > 0) {
             nonPartitionFilterConsumer.accept(scan, PredicateBuilder.and(nonPartitionFilters));
         }
+
+        String secondaryIndexColumn = options.secondaryIndexColumn();
+        RowType rowType = tableSchema.logicalRowType();
+        if (secondaryIndexColumn != null && rowType.containsField(secondaryIndexColumn)) {
+            int[] hashcodes =
+                    SecondaryIndex.valueHashcodes(predicate, rowType, secondaryIndexColumn);
+            secondaryIndexFilter =
+                    hashcodes == null
+                            ? null
+                            : new SecondaryIndexFilter(
+                                    indexFileHandler,
+                                    rowType.getField(secondaryIndexColumn),
+                                    hashcodes);
+        }
         return this;
     }
 
@@ -316,7 +334,14 @@ public class SnapshotReaderImpl implements SnapshotReader {
     /** Get splits from {@link FileKind#ADD} files. */
     @Override
     public Plan read() {
-        FileStoreScan.Plan plan = scan.plan();
+        // the secondary index only prunes plans of all files, it must not distort the diff plans
+        scan.withSecondaryIndexFilter(secondaryIndexFilter);
+        FileStoreScan.Plan plan;
+        try {
+            plan = scan.plan();
+        } finally {
+            scan.withSecondaryIndexFilter(null);
+        }
         @Nullable Snapshot snapshot = plan.snapshot();
 
         Map<BinaryRow, Map<Integer, List<ManifestEntry>>> grouped =
@@ -32,10 +32,8 @@ import org.apache.paimon.data.GenericMap;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
-import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.fs.Path;
-import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.VectorizedRecordIterator;
 import org.apache.paimon.schema.Schema;
@@ -521,7 +519,7 @@ public class ArrowBatchConverterTest {
         boolean readEmpty = RND.nextBoolean();
         int[] projection = readEmpty ? new int[0] : null;
         RecordReader.RecordIterator<InternalRow> iterator =
-                getApplyDeletionFileRecordIterator(
+                getDeletionVectorRecordIterator(
                         rowType, rows, deleted, Collections.singletonList("pk"), projection, true);
         if (readEmpty) {
             testReadEmpty(iterator, numRows - deleted.size());
@@ -594,7 +592,7 @@ public class ArrowBatchConverterTest {
 
         Set<Integer> deleted = getDeletedPks(numRows);
         RecordReader.RecordIterator<InternalRow> iterator =
-                getApplyDeletionFileRecordIterator(
+                getDeletionVectorRecordIterator(
                         nestedArrayType,
                         rows,
                         deleted,
@@ -677,7 +675,7 @@ public class ArrowBatchConverterTest {
         }
         Set<Integer> deleted = getDeletedPks(numRows);
         RecordReader.RecordIterator<InternalRow> iterator =
-                getApplyDeletionFileRecordIterator(
+                getDeletionVectorRecordIterator(
                         nestedMapType,
                         rows,
                         deleted,
@@ -751,7 +749,7 @@ public class ArrowBatchConverterTest {
 
         Set<Integer> deleted = getDeletedPks(numRows);
         RecordReader.RecordIterator<InternalRow> iterator =
-                getApplyDeletionFileRecordIterator(
+                getDeletionVectorRecordIterator(
                         nestedRowType,
                         rows,
                         deleted,
@@ -850,7 +848,7 @@ public class ArrowBatchConverterTest {
                 .readBatch();
     }
 
-    private RecordReader.RecordIterator<InternalRow> getApplyDeletionFileRecordIterator(
+    private RecordReader.RecordIterator<InternalRow> getDeletionVectorRecordIterator(
             RowType rowType,
             List<GenericRow> rows,
             Set<Integer> deletedPks,
@@ -915,7 +913,7 @@ public class ArrowBatchConverterTest {
         } else if (testMode.equals("vectorized_with_dv")) {
             ArrowVectorizedBatchConverter batchWriter =
                     new ArrowVectorizedBatchConverter(vsr, fieldWriters);
-            batchWriter.reset((ApplyDeletionFileRecordIterator) iterator);
+            batchWriter.reset((VectorizedRecordIterator) iterator);
             return batchWriter;
         } else {
             ArrowPerRowBatchConverter rowWriter = new ArrowPerRowBatchConverter(vsr, fieldWriters);
@@ -925,13 +923,9 @@ public class ArrowBatchConverterTest {
     }
 
     private boolean isVectorizedWithDv(RecordReader.RecordIterator<InternalRow> iterator) {
-        if (iterator instanceof ApplyDeletionFileRecordIterator) {
-            ApplyDeletionFileRecordIterator deletionIterator =
-                    (ApplyDeletionFileRecordIterator) iterator;
-            FileRecordIterator<InternalRow> innerIterator = deletionIterator.iterator();
-            return innerIterator instanceof VectorizedRecordIterator;
-        }
-        return false;
+        // deletion vectors are applied as a selection of the vectorized batch
+        return iterator instanceof VectorizedRecordIterator
+                && ((VectorizedRecordIterator) iterator).selection() != null;
     }
 
     private Object[] randomRowValues(boolean[] nullable) {
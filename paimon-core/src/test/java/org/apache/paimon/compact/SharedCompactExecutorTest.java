@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SharedCompactExecutor}. */
+public class SharedCompactExecutorTest {
+
+    private SharedCompactExecutor shared;
+    private CountDownLatch blocker;
+    private List<String> executed;
+
+    @BeforeEach
+    public void before() {
+        shared = new SharedCompactExecutor(1);
+        blocker = new CountDownLatch(1);
+        executed = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    public void after() {
+        blocker.countDown();
+        shared.shutdown();
+    }
+
+    @Test
+    public void testPriorityOrder() throws Exception {
+        ExecutorService client1 = shared.newClient();
+        ExecutorService client2 = shared.newClient();
+        // occupy the only thread
+        Future<?> blocking = client1.submit(this::block);
+
+        Future<?> low = client1.submit(new TestTask("low", 0.5));
+        Future<?> high = client2.submit(new TestTask("high", 1.5));
+        Future<?> urged = client2.submit(new TestTask("urged", 0.1));
+        assertThat(shared.queueSize()).isEqualTo(3);
+
+        SharedCompactExecutor.urge(urged);
+        blocker.countDown();
+        blocking.get();
+        low.get();
+        high.get();
+        urged.get();
+
+        assertThat(executed).containsExactly("urged", "high", "low");
+    }
+
+    @Test
+    public void testShutdownClient() throws Exception {
+        ExecutorService client1 = shared.newClient();
+        ExecutorService client2 = shared.newClient();
+        Future<?> blocking = client2.submit(this::block);
+
+        Future<?> task1 = client1.submit(new TestTask("task1", 1));
+        Future<?> task2 = client2.submit(new TestTask("task2", 0));
+        assertThat(client1.shutdownNow()).hasSize(1);
+        assertThat(task1.isCancelled()).isTrue();
+        assertThat(client1.isTerminated()).isTrue();
+        assertThat(shared.queueSize()).isEqualTo(1);
+
+        blocker.countDown();
+        blocking.get();
+        task2.get();
+        assertThat(executed).containsExactly("task2");
+    }
+
+    @Test
+    public void testShutdownWithLastClient() throws Exception {
+        ExecutorService client1 = shared.newClient();
+        ExecutorService client2 = shared.newClient();
+        Future<?> task = client2.submit(new TestTask("task", 0));
+        task.get();
+
+        client1.shutdownNow();
+        assertThat(shared.isShutdown()).isFalse();
+        // shutting down a client twice releases it only once
+        client1.shutdown();
+        assertThat(shared.isShutdown()).isFalse();
+
+        client2.shutdown();
+        assertThat(shared.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void testTaskClassLoader() throws Exception {
+        ExecutorService client = shared.newClient();
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], previous);
+        Thread.currentThread().setContextClassLoader(classLoader);
+        Future<ClassLoader> task;
+        try {
+            task = client.submit(() -> Thread.currentThread().getContextClassLoader());
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+        assertThat(task.get()).isSameAs(classLoader);
+        assertThat(client.submit(() -> Thread.currentThread().getContextClassLoader()).get())
+                .isSameAs(previous);
+    }
+
+    private Void block() throws InterruptedException {
+        blocker.await();
+        return null;
+    }
+
+    private class TestTask extends CompactTask {
+
+        private final String name;
+
+        private TestTask(String name, double urgency) {
+            super(null);
+            this.name = name;
+            withUrgency(urgency);
+        }
+
+        @Override
+        protected CompactResult doCompact() {
+            executed.add(name);
+            return new CompactResult(Collections.emptyList(), Collections.emptyList());
+        }
+    }
+}
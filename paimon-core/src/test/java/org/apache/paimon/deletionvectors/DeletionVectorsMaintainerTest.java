@@ -265,6 +265,69 @@ public class DeletionVectorsMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3").getCardinality()).isEqualTo(2);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testIncrementalIndexFiles(boolean bitmap64) {
+        initIndexHandler(bitmap64);
+
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(fileHandler, 3);
+
+        // the first write is a full write
+        DeletionVectorsMaintainer dvMaintainer = factory.create(emptyList());
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        dvMaintainer.notifyNewDeletion("f3", 3);
+        List<IndexFileMeta> indexFiles = commitIndexFiles(dvMaintainer);
+        assertThat(indexFiles).hasSize(1);
+
+        // only the modified deletion vectors are written
+        dvMaintainer = factory.create(indexFiles);
+        dvMaintainer.notifyNewDeletion("f1", 4);
+        dvMaintainer.removeDeletionVectorOf("f3");
+        indexFiles = commitIndexFiles(dvMaintainer);
+        assertThat(indexFiles).hasSize(2);
+        assertThat(indexFiles.get(0).deletionVectorMetas()).containsOnlyKeys("f2");
+        assertThat(indexFiles.get(1).deletionVectorMetas()).containsOnlyKeys("f1");
+
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(indexFiles);
+        assertThat(deletionVectors).containsOnlyKeys("f1", "f2");
+        assertThat(deletionVectors.get("f1").getCardinality()).isEqualTo(2);
+        assertThat(deletionVectors.get("f2").isDeleted(2)).isTrue();
+
+        dvMaintainer = factory.create(indexFiles);
+        dvMaintainer.notifyNewDeletion("f4", 1);
+        indexFiles = commitIndexFiles(dvMaintainer);
+        assertThat(indexFiles).hasSize(3);
+
+        // all index files are merged once the max number would be exceeded
+        dvMaintainer = factory.create(indexFiles);
+        dvMaintainer.notifyNewDeletion("f5", 1);
+        indexFiles = commitIndexFiles(dvMaintainer);
+        assertThat(indexFiles).hasSize(1);
+        assertThat(fileHandler.readAllDeletionVectors(indexFiles))
+                .containsOnlyKeys("f1", "f2", "f4", "f5");
+    }
+
+    private List<IndexFileMeta> commitIndexFiles(DeletionVectorsMaintainer dvMaintainer) {
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        BinaryRow.EMPTY_ROW,
+                        0,
+                        1,
+                        DataIncrement.emptyIncrement(),
+                        CompactIncrement.emptyIncrement(),
+                        new IndexIncrement(dvMaintainer.writeDeletionVectorsIndex()));
+        BatchTableCommit commit = table.newBatchWriteBuilder().newCommit();
+        commit.commit(Collections.singletonList(commitMessage));
+        return fileHandler.scan(
+                table.snapshotManager().latestSnapshot(),
+                DELETION_VECTORS_INDEX,
+                BinaryRow.EMPTY_ROW,
+                0);
+    }
+
     private DeletionVector createDeletionVector(boolean bitmap64) {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
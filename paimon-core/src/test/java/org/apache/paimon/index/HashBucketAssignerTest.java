@@ -337,4 +337,52 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
         assigner.prepareCommit(3);
         assertThat(assigner.currentPartitions()).isEmpty();
     }
+
+    @ParameterizedTest(name = "offHeap: {0}")
+    @ValueSource(booleans = {true, false})
+    public void testEvictAndSpill(boolean offHeap) {
+        // any partition exceeds the memory limit, so all other partitions are evicted
+        HashBucketAssigner assigner =
+                new HashBucketAssigner(
+                        table.snapshotManager(),
+                        commitUser,
+                        fileHandler,
+                        1,
+                        1,
+                        0,
+                        5,
+                        -1,
+                        offHeap,
+                        1,
+                        null);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(assigner.assign(row(1), i)).isEqualTo(i / 5);
+        }
+        assertThat(assigner.assign(row(2), 0)).isEqualTo(0);
+
+        // uncommitted index of partition 1 is spilled rather than dropped
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(2));
+        for (int i = 0; i < 10; i++) {
+            assertThat(assigner.assign(row(1), i)).isEqualTo(i / 5);
+        }
+        assertThat(assigner.assign(row(1), 10)).isEqualTo(2);
+        assertThat(assigner.indexMemory()).isGreaterThan(0);
+
+        // commit partition 1, then its index can be dropped and reloaded from index files
+        assigner.prepareCommit(0);
+        commit.commit(
+                0,
+                Collections.singletonList(
+                        createCommitMessage(
+                                row(1), 0, 1, fileHandler.writeHashIndex(new int[] {0, 1}))));
+        assertThat(assigner.assign(row(2), 1)).isEqualTo(0);
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(2));
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+
+        assigner.close();
+        assertThat(assigner.currentPartitions()).isEmpty();
+        assertThat(assigner.indexMemory()).isEqualTo(0);
+    }
 }
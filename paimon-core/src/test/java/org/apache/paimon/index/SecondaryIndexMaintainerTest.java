@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.IndexIncrement;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.ReadBuilder;
+import org.apache.paimon.table.source.Split;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link SecondaryIndexMaintainer}. */
+public class SecondaryIndexMaintainerTest extends PrimaryKeyTableTestBase {
+
+    @Override
+    protected Options tableOptions() {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, 4);
+        options.set(CoreOptions.SECONDARY_INDEX_COLUMN, "col1");
+        return options;
+    }
+
+    @Test
+    public void testPruneBuckets() throws Exception {
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(GenericRow.of(1, i, i * 10));
+        }
+        writeCommit(rows.toArray(new InternalRow[0]));
+
+        PredicateBuilder builder = new PredicateBuilder(table.rowType());
+        assertThat(buckets(builder.equal(2, 50))).hasSize(1);
+        assertThat(read(builder.equal(2, 50))).contains("1,5,50");
+        assertThat(buckets(builder.in(2, toObjects(50, 60)))).hasSizeBetween(1, 2);
+        assertThat(buckets(builder.equal(2, 55))).isEmpty();
+
+        // not an equality filter on the column, no pruning
+        assertThat(buckets(builder.isNotNull(2))).hasSize(4);
+
+        // restored writers keep the previous hash codes
+        writeCommit(GenericRow.of(1, 20, 55));
+        assertThat(buckets(builder.equal(2, 55))).hasSize(1);
+        assertThat(read(builder.equal(2, 55))).contains("1,20,55");
+        assertThat(read(builder.equal(2, 50))).contains("1,5,50");
+    }
+
+    @Test
+    public void testIndexFileMatchesField() {
+        DataField field = table.rowType().getField("col1");
+        IndexFileHandler handler = table.store().newIndexFileHandler();
+        IndexFileMeta file = handler.writeSecondaryIndex(field, 5, new int[] {2, 1, 2});
+        SecondaryIndex index = handler.readSecondaryIndex(file);
+        assertThat(index.maxSequenceNumber()).isEqualTo(5);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(handler.secondaryIndexContainsAny(file, new int[] {2, 3})).isTrue();
+        assertThat(handler.secondaryIndexContainsAny(file, new int[] {0, 3})).isFalse();
+        assertThat(index.matches(field)).isTrue();
+
+        // a re-added column has a new id, a type changed column has a new type
+        assertThat(index.matches(field.newId(field.id() + 10))).isFalse();
+        assertThat(index.matches(field.newType(DataTypes.BIGINT()))).isFalse();
+    }
+
+    @Test
+    public void testLookupBlocksAndMerge() {
+        DataField field = table.rowType().getField("col1");
+        IndexFileHandler handler = table.store().newIndexFileHandler();
+        IndexFileMeta evenFile =
+                handler.writeSecondaryIndex(
+                        field, 3, IntStream.range(0, 3000).map(i -> i * 2).toArray());
+        IndexFileMeta oddFile =
+                handler.writeSecondaryIndex(
+                        field, 7, IntStream.range(0, 3000).map(i -> i * 2 + 1).toArray());
+
+        assertThat(handler.readSecondaryIndex(evenFile).numBlocks()).isEqualTo(3);
+        assertThat(handler.secondaryIndexContainsAny(evenFile, new int[] {-1, 2047, 5998}))
+                .isTrue();
+        assertThat(handler.secondaryIndexContainsAny(evenFile, new int[] {-1, 2047, 5999}))
+                .isFalse();
+
+        IndexFileMeta merged =
+                handler.mergeSecondaryIndex(field, Arrays.asList(evenFile, oddFile, evenFile));
+        SecondaryIndex index = handler.readSecondaryIndex(merged);
+        assertThat(index.maxSequenceNumber()).isEqualTo(7);
+        assertThat(index.size()).isEqualTo(6000);
+        assertThat(merged.rowCount()).isEqualTo(6000);
+        assertThat(handler.secondaryIndexContainsAny(merged, new int[] {2047})).isTrue();
+        assertThat(handler.secondaryIndexContainsAny(merged, new int[] {6000})).isFalse();
+    }
+
+    @Test
+    public void testIncrementalIndexFiles() {
+        IndexFileHandler handler = table.store().newIndexFileHandler();
+        SecondaryIndexMaintainer.Factory factory =
+                new SecondaryIndexMaintainer.Factory(handler, table.rowType(), "col1", 4);
+        SecondaryIndexMaintainer maintainer = factory.create(Collections.emptyList(), -1);
+        assertThat(maintainer.enabled()).isTrue();
+        for (int i = 0; i < 10; i++) {
+            maintainer.notifyNewRecord(GenericRow.of(1, i, i * 10));
+        }
+
+        // the bounded buffer is spilled twice before the commit
+        List<IndexFileMeta> files = maintainer.prepareCommit(9, false).newIndexFiles();
+        assertThat(files).hasSize(3);
+        assertThat(files.stream().mapToLong(IndexFileMeta::rowCount).sum()).isEqualTo(10);
+        assertThat(handler.readSecondaryIndex(files.get(0)).maxSequenceNumber()).isEqualTo(-1);
+        assertThat(handler.readSecondaryIndex(files.get(2)).maxSequenceNumber()).isEqualTo(9);
+
+        // compaction merges the files
+        List<IndexFileMeta> merged = maintainer.prepareCommit(9, true).newIndexFiles();
+        assertThat(merged).hasSize(1);
+        assertThat(merged.get(0).rowCount()).isEqualTo(10);
+        assertThat(handler.readSecondaryIndex(merged.get(0)).maxSequenceNumber()).isEqualTo(9);
+
+        // an index falling behind the data is removed
+        assertThat(factory.create(merged, 9).enabled()).isTrue();
+        SecondaryIndexMaintainer stale = factory.create(merged, 10);
+        assertThat(stale.enabled()).isFalse();
+        IndexIncrement increment = stale.prepareCommit(10, false);
+        assertThat(increment.newIndexFiles()).isEmpty();
+        assertThat(increment.deletedIndexFiles()).isEqualTo(merged);
+        assertThat(stale.prepareCommit(10, false).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testRejectAggregatedColumn() {
+        Map<String, String> aggregation = new HashMap<>();
+        aggregation.put(CoreOptions.MERGE_ENGINE.key(), "aggregation");
+        assertThatThrownBy(() -> table.copy(aggregation))
+                .hasMessageContaining("aggregated values are not indexed");
+
+        Map<String, String> partialUpdate = new HashMap<>();
+        partialUpdate.put(CoreOptions.MERGE_ENGINE.key(), "partial-update");
+        table.copy(partialUpdate);
+
+        partialUpdate.put("fields.col1.aggregate-function", "sum");
+        assertThatThrownBy(() -> table.copy(partialUpdate))
+                .hasMessageContaining("aggregated values are not indexed");
+    }
+
+    private static List<Object> toObjects(int... values) {
+        List<Object> objects = new ArrayList<>();
+        for (int value : values) {
+            objects.add(value);
+        }
+        return objects;
+    }
+
+    private Set<Integer> buckets(Predicate filter) {
+        return table.newReadBuilder().withFilter(filter).newScan().plan().splits().stream()
+                .map(split -> ((DataSplit) split).bucket())
+                .collect(Collectors.toSet());
+    }
+
+    private List<String> read(Predicate filter) throws Exception {
+        ReadBuilder readBuilder = table.newReadBuilder().withFilter(filter);
+        List<Split> splits = readBuilder.newScan().plan().splits();
+        List<String> result = new ArrayList<>();
+        readBuilder
+                .newRead()
+                .createReader(splits)
+                .forEachRemaining(
+                        r -> result.add(r.getInt(0) + "," + r.getInt(1) + "," + r.getInt(2)));
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.memory;
+
+import org.apache.paimon.data.serializer.IntSerializer;
+import org.apache.paimon.data.serializer.LongSerializer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link OffHeapValueState}. */
+public class OffHeapValueStateTest {
+
+    @Test
+    public void testRandomOperations() throws Exception {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        OffHeapValueState<Integer, Long> state =
+                new OffHeapValueState<>(IntSerializer.INSTANCE, LongSerializer.INSTANCE, 128);
+        Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = rnd.nextInt(1_000);
+            if (rnd.nextInt(4) == 0) {
+                state.delete(key);
+                expected.remove(key);
+            } else {
+                long value = rnd.nextLong();
+                state.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(state.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 1_000; key++) {
+            assertThat(state.get(key)).isEqualTo(expected.get(key));
+        }
+
+        // overwritten and deleted records are compacted
+        assertThat(state.totalBytes()).isLessThanOrEqualTo(2L * 24 * expected.size() + 2 * 128);
+    }
+
+    @Test
+    public void testBulkLoad() throws Exception {
+        OffHeapValueState<Integer, Long> state =
+                new OffHeapValueState<>(IntSerializer.INSTANCE, LongSerializer.INSTANCE);
+        for (int i = 0; i < 100; i++) {
+            state.createBulkLoader().write(state.serializeKey(i), state.serializeValue(i * 2L));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(state.get(i)).isEqualTo(i * 2L);
+        }
+        assertThat(state.get(100)).isNull();
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        int numKeys = 100;
+        OffHeapValueState<Integer, Long> state =
+                new OffHeapValueState<>(IntSerializer.INSTANCE, LongSerializer.INSTANCE, 256);
+        for (int key = 0; key < numKeys; key++) {
+            state.put(key, (long) key);
+        }
+
+        // values are round * numKeys + key, a reader must always see a value of its key which
+        // is not older than the one it has seen before
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread reader =
+                new Thread(
+                        () -> {
+                            long[] lastSeen = new long[numKeys];
+                            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                            try {
+                                while (running.get()) {
+                                    int key = rnd.nextInt(numKeys);
+                                    Long value = state.get(key);
+                                    assertThat(value).isNotNull();
+                                    assertThat(value % numKeys).isEqualTo(key);
+                                    assertThat(value).isGreaterThanOrEqualTo(lastSeen[key]);
+                                    lastSeen[key] = value;
+                                }
+                            } catch (Throwable t) {
+                                error.set(t);
+                            }
+                        });
+        reader.start();
+
+        for (int round = 1; round < 2_000; round++) {
+            for (int key = 0; key < numKeys; key++) {
+                state.put(key, (long) round * numKeys + key);
+            }
+        }
+        running.set(false);
+        reader.join();
+
+        assertThat(error.get()).isNull();
+        for (int key = 0; key < numKeys; key++) {
+            assertThat(state.get(key)).isEqualTo(1_999L * numKeys + key);
+        }
+        state.close();
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        OffHeapValueState<Integer, Long> state =
+                new OffHeapValueState<>(IntSerializer.INSTANCE, LongSerializer.INSTANCE, 128);
+        for (int i = 0; i < 100; i++) {
+            state.put(i, (long) i);
+        }
+        state.close();
+        state.close();
+
+        assertThatThrownBy(() -> state.get(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+}
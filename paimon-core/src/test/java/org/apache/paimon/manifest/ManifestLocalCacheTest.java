@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.utils.IOUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ManifestLocalCache} and {@link LocalCachedFileIO}. */
+public class ManifestLocalCacheTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testReadThroughCache() throws IOException {
+        FileIO fileIO = LocalFileIO.create();
+        Path remote = writeRemote("manifest-1", 100);
+        String cacheDir = new File(tempDir.toFile(), "cache").getPath();
+        LocalCachedFileIO cachedFileIO = new LocalCachedFileIO(fileIO, cacheDir, 1024);
+
+        byte[] expected = read(fileIO, remote);
+        assertThat(read(cachedFileIO, remote)).isEqualTo(expected);
+
+        // the remote file is no longer needed once cached
+        fileIO.delete(remote, false);
+        assertThat(read(cachedFileIO, remote)).isEqualTo(expected);
+        assertThat(cachedFileIO.getFileSize(remote)).isEqualTo(100);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        FileIO fileIO = LocalFileIO.create();
+        File cacheDir = new File(tempDir.toFile(), "cache");
+        ManifestLocalCache cache = new ManifestLocalCache(cacheDir, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            Path remote = writeRemote("manifest-" + i, 200);
+            File local = cache.getOrDownload(fileIO, remote);
+            local.setLastModified(i * 1000L);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(1000);
+        // the least recently used files are evicted first
+        assertThat(cache.getIfPresent(new Path("manifest-0"))).isNull();
+        assertThat(cache.getIfPresent(new Path("manifest-9"))).isNotNull();
+
+        // a new cache of the same directory sees the files of the previous one
+        assertThat(new ManifestLocalCache(cacheDir, 1000).size()).isEqualTo(cache.size());
+    }
+
+    private Path writeRemote(String name, int length) throws IOException {
+        Path path = new Path(tempDir.toUri().toString(), "remote/" + name);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        try (PositionOutputStream out = LocalFileIO.create().newOutputStream(path, false)) {
+            out.write(bytes);
+        }
+        return path;
+    }
+
+    private byte[] read(FileIO fileIO, Path path) throws IOException {
+        return IOUtils.readFully(fileIO.newInputStream(path), true);
+    }
+}
@@ -175,6 +175,82 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testLookupBatch() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2)),
+                                newFile(1, kv(5, 5, 3), kv(7, 77, 4)),
+                                newFile(2, kv(2, 22, 5), kv(5, 55, 6)),
+                                newFile(2, kv(8, 88, 7), kv(9, 99, 8))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            keys.add(row(i));
+        }
+        List<KeyValue> results = lookupLevels.lookupBatch(keys, 1);
+        assertThat(results).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            KeyValue expected = lookupLevels.lookup(keys.get(i), 1);
+            KeyValue kv = results.get(i);
+            if (expected == null) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.sequenceNumber()).isEqualTo(expected.sequenceNumber());
+                assertThat(kv.level()).isEqualTo(expected.level());
+                assertThat(kv.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+            }
+        }
+        assertThat(results.get(5).level()).isEqualTo(1);
+        assertThat(results.get(9).value().getInt(1)).isEqualTo(99);
+        assertThat(results.get(4)).isNull();
+
+        // only lookup level 2
+        results = lookupLevels.lookupBatch(keys, 2);
+        assertThat(results.get(5).value().getInt(1)).isEqualTo(55);
+        assertThat(results.get(1)).isNull();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSortedLookup() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(2, 22)),
+                                newFile(1, kv(4, 44), kv(5, 55)),
+                                newFile(1, kv(7, 77), kv(8, 88))),
+                        1);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        LookupLevels<KeyValue>.SortedLookup sortedLookup = lookupLevels.sortedLookup(1);
+        for (int i = 0; i <= 9; i++) {
+            KeyValue kv = sortedLookup.lookup(row(i));
+            if (i % 3 == 0) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.value().getInt(1)).isEqualTo(i * 11);
+            }
+        }
+
+        // out of order keys are still found
+        assertThat(sortedLookup.lookup(row(2)).value().getInt(1)).isEqualTo(22);
+        assertThat(sortedLookup.lookup(row(7)).value().getInt(1)).isEqualTo(77);
+
+        lookupLevels.close();
+    }
+
     @RepeatedTest(value = 10)
     public void testMaxDiskSize() throws IOException {
         List<DataFileMeta> files = new ArrayList<>();
@@ -23,6 +23,7 @@ import org.apache.paimon.CoreOptions.ChangelogProducer;
 import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
@@ -45,6 +46,8 @@ import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.IntervalPartition;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
+import org.apache.paimon.mergetree.compact.MergeTreeCompactTask;
 import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
 import org.apache.paimon.options.MemorySize;
@@ -98,6 +101,7 @@ public abstract class MergeTreeTestBase {
 
     @TempDir java.nio.file.Path tempDir;
     private static ExecutorService service;
+    private static ExecutorService rewriteService;
     private Path path;
     private FileStorePathFactory pathFactory;
     private Comparator<InternalRow> comparator;
@@ -194,12 +198,15 @@ public abstract class MergeTreeTestBase {
     @BeforeAll
     public static void before() {
         service = Executors.newSingleThreadExecutor();
+        rewriteService = Executors.newFixedThreadPool(4);
     }
 
     @AfterAll
     public static void after() {
         service.shutdownNow();
         service = null;
+        rewriteService.shutdownNow();
+        rewriteService = null;
     }
 
     @Test
@@ -360,6 +367,142 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testParallelRewrite() throws Exception {
+        // pairs of small overlapping files are separated by large files, so each pair is an
+        // independent rewrite and the pairs are rewritten by several threads with the same
+        // reader and writer factories
+        List<DataFileMeta> smallFiles = new ArrayList<>();
+        List<DataFileMeta> largeFiles = new ArrayList<>();
+        List<TestRecord> expected = new ArrayList<>();
+        long sequence = 0;
+        for (int i = 0; i < 8; i++) {
+            int start = i * 2000;
+            for (int version = 0; version < 2; version++) {
+                List<TestRecord> records = new ArrayList<>();
+                for (int k = start; k < start + 10; k++) {
+                    records.add(new TestRecord(RowKind.INSERT, k, version));
+                }
+                smallFiles.add(writeFile(0, records, sequence));
+                sequence += records.size();
+                expected.addAll(records);
+            }
+
+            List<TestRecord> records = new ArrayList<>();
+            for (int k = start + 1000; k < start + 2000; k++) {
+                records.add(new TestRecord(RowKind.INSERT, k, k));
+            }
+            largeFiles.add(writeFile(0, records, sequence));
+            sequence += records.size();
+            expected.addAll(records);
+        }
+
+        long minFileSize =
+                smallFiles.stream().mapToLong(DataFileMeta::fileSize).max().getAsLong() + 1;
+        assertThat(largeFiles).allMatch(file -> file.fileSize() >= minFileSize);
+
+        List<DataFileMeta> files = new ArrayList<>(smallFiles);
+        files.addAll(largeFiles);
+        int outputLevel = options.numLevels() - 1;
+        MergeTreeCompactRewriter rewriter =
+                new MergeTreeCompactRewriter(
+                        compactReaderFactory,
+                        compactWriterFactory,
+                        comparator,
+                        null,
+                        DeduplicateMergeFunction.factory(),
+                        new MergeSorter(options, null, null, null));
+        CompactResult result =
+                new MergeTreeCompactTask(
+                                comparator,
+                                minFileSize,
+                                rewriter,
+                                CompactUnit.fromFiles(outputLevel, files, false),
+                                true,
+                                outputLevel,
+                                null,
+                                () -> null,
+                                null,
+                                false,
+                                4,
+                                rewriteService)
+                        .call();
+
+        assertThat(result.before()).containsAll(smallFiles);
+        assertThat(result.after()).hasSize(16);
+        assertThat(result.after()).allMatch(file -> file.level() == outputLevel);
+        assertRecords(expected, result.after(), true);
+    }
+
+    @Test
+    public void testParallelRangeRewrite() throws Exception {
+        // a level 0 file overlaps all files of the highest level, so there is only one section,
+        // which is split into key ranges at the boundaries of the highest level files
+        int outputLevel = options.numLevels() - 1;
+        List<DataFileMeta> files = new ArrayList<>();
+        List<TestRecord> expected = new ArrayList<>();
+        long sequence = 0;
+        for (int i = 0; i < 8; i++) {
+            List<TestRecord> records = new ArrayList<>();
+            for (int k = i * 1000; k < (i + 1) * 1000; k++) {
+                records.add(new TestRecord(RowKind.INSERT, k, k));
+            }
+            files.add(writeFile(outputLevel, records, sequence));
+            sequence += records.size();
+            expected.addAll(records);
+        }
+
+        List<TestRecord> records = new ArrayList<>();
+        for (int k = 0; k < 8000; k += 100) {
+            records.add(new TestRecord(k % 200 == 0 ? RowKind.DELETE : RowKind.INSERT, k, -k));
+        }
+        files.add(writeFile(0, records, sequence));
+        expected.addAll(records);
+
+        MergeTreeCompactRewriter rewriter =
+                new MergeTreeCompactRewriter(
+                        compactReaderFactory,
+                        compactWriterFactory,
+                        comparator,
+                        null,
+                        DeduplicateMergeFunction.factory(),
+                        new MergeSorter(options, null, null, null));
+        CompactResult result =
+                new MergeTreeCompactTask(
+                                comparator,
+                                1,
+                                rewriter,
+                                CompactUnit.fromFiles(outputLevel, files, false),
+                                true,
+                                outputLevel,
+                                null,
+                                () -> null,
+                                null,
+                                false,
+                                4,
+                                rewriteService)
+                        .call();
+
+        assertThat(result.before()).containsExactlyInAnyOrderElementsOf(files);
+        // each key range is written to its own files
+        assertThat(result.after().size()).isGreaterThanOrEqualTo(4);
+        assertThat(result.after()).allMatch(file -> file.level() == outputLevel);
+        assertRecords(expected, result.after(), true);
+    }
+
+    private DataFileMeta writeFile(int level, List<TestRecord> records, long sequence)
+            throws Exception {
+        RollingFileWriter<KeyValue, DataFileMeta> fileWriter =
+                writerFactory.createRollingMergeTreeFileWriter(
+                        level, level == 0 ? FileSource.APPEND : FileSource.COMPACT);
+        for (TestRecord record : records) {
+            fileWriter.write(
+                    new KeyValue().replace(row(record.k), sequence++, record.kind, row(record.v)));
+        }
+        fileWriter.close();
+        return fileWriter.result().get(0);
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -455,7 +598,9 @@ public abstract class MergeTreeTestBase {
                 false,
                 options.needLookup(),
                 null,
-                false);
+                false,
+                1,
+                null);
     }
 
     static class MockFailResultCompactionManager extends MergeTreeCompactManager {
@@ -480,7 +625,9 @@ public abstract class MergeTreeTestBase {
                     false,
                     false,
                     null,
-                    false);
+                    false,
+                    1,
+                    null);
         }
 
         protected CompactResult obtainCompactResult()
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.SortedRun;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link AdaptiveCompaction}. */
+public class AdaptiveCompactionTest {
+
+    private final Offset<Double> offset = Offset.offset(0.0001);
+
+    private int fileId = 0;
+
+    @Test
+    public void testInitialTrigger() {
+        assertThat(new AdaptiveCompaction(200, 1, 5, null, 4).currentTrigger()).isEqualTo(3);
+        assertThat(new AdaptiveCompaction(200, 1, 2, null, 10).currentTrigger()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLowerTriggerWhenReadsTouchTooManyRuns() {
+        AdaptiveCompaction compaction = new AdaptiveCompaction(200, 1, 5, null, 6);
+        compaction.pick(5, new ArrayList<>());
+        assertThat(compaction.currentTrigger()).isEqualTo(5);
+
+        // compaction lags behind, so reads see more runs than the target
+        List<LevelSortedRun> runs = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            runs.add(0, level0(100));
+        }
+        compaction.pick(5, runs);
+        assertThat(compaction.readAmplification()).isEqualTo(7);
+        assertThat(compaction.currentTrigger()).isEqualTo(4);
+
+        // the trigger is lowered by the number of excess runs
+        runs.add(0, level0(100));
+        compaction.pick(5, runs);
+        assertThat(compaction.readAmplification()).isEqualTo(8);
+        assertThat(compaction.currentTrigger()).isEqualTo(2);
+    }
+
+    @Test
+    public void testSeedFromRestoredRuns() {
+        AdaptiveCompaction compaction = new AdaptiveCompaction(200, 1, 5, null, 6);
+        List<LevelSortedRun> runs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            runs.add(0, level0(100));
+        }
+        compaction.pick(5, runs);
+        assertThat(compaction.readAmplification()).isEqualTo(8);
+        assertThat(compaction.currentTrigger()).isEqualTo(3);
+        // restored level 0 files are not flushed by this writer
+        assertThat(compaction.writeAmplification()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRaiseTriggerWhenWriteAmplificationIsHigh() {
+        AdaptiveCompaction compaction = new AdaptiveCompaction(200, 1, 5, null, 8);
+        compaction.setNumRunCompactionTrigger(2);
+        compaction.pick(5, new ArrayList<>());
+
+        // each pick sees newly flushed files, which are compacted again
+        for (int i = 0; i < 20; i++) {
+            List<LevelSortedRun> runs = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                runs.add(level0(100));
+            }
+            compaction.pick(5, runs);
+        }
+        assertThat(compaction.currentTrigger()).isGreaterThan(2).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    public void testKeepTriggerWhenWritesAreCheap() {
+        AdaptiveCompaction compaction = new AdaptiveCompaction(200, 1, 5, null, 10);
+        compaction.setNumRunCompactionTrigger(3);
+        compaction.pick(5, new ArrayList<>());
+
+        // flushes are not compacted, so there is nothing to save by compacting later
+        for (int i = 0; i < 10; i++) {
+            List<LevelSortedRun> runs = new ArrayList<>();
+            runs.add(level0(100));
+            runs.add(new LevelSortedRun(4, SortedRun.fromSingle(file(10000))));
+            compaction.pick(5, runs);
+        }
+        assertThat(compaction.writeAmplification()).isEqualTo(1);
+        assertThat(compaction.currentTrigger()).isEqualTo(3);
+    }
+
+    @Test
+    public void testWriteAmplification() {
+        AdaptiveCompaction compaction = new AdaptiveCompaction(200, 1, 2, null, 3);
+        compaction.pick(3, new ArrayList<>());
+        List<LevelSortedRun> runs = new ArrayList<>();
+        runs.add(level0(100));
+        runs.add(level0(100));
+        runs.add(level0(100));
+
+        Optional<CompactUnit> unit = compaction.pick(3, runs);
+        assertThat(unit).isPresent();
+        long picked = unit.get().files().stream().mapToLong(DataFileMeta::fileSize).sum();
+        assertThat(compaction.writeAmplification()).isCloseTo((300.0 + picked) / 300, offset);
+
+        // the same files are not counted as flushed again, older bytes decay
+        compaction.pick(3, runs);
+        assertThat(compaction.writeAmplification())
+                .isCloseTo((300 * 0.9 + picked * 0.9 + picked) / (300 * 0.9), offset);
+    }
+
+    private LevelSortedRun level0(long size) {
+        return new LevelSortedRun(0, SortedRun.fromSingle(file(size)));
+    }
+
+    private DataFileMeta file(long size) {
+        return new DataFileMeta(
+                "file-" + fileId++,
+                size,
+                1,
+                null,
+                null,
+                null,
+                null,
+                0,
+                0,
+                0,
+                0,
+                0L,
+                null,
+                FileSource.APPEND,
+                null);
+    }
+}
@@ -52,16 +52,20 @@ public class MergeTreeCompactManagerTest {
     private final Comparator<InternalRow> comparator = Comparator.comparingInt(o -> o.getInt(0));
 
     private static ExecutorService service;
+    private static ExecutorService rewriteService;
 
     @BeforeAll
     public static void before() {
         service = Executors.newSingleThreadExecutor();
+        rewriteService = Executors.newFixedThreadPool(3);
     }
 
     @AfterAll
     public static void after() {
         service.shutdownNow();
         service = null;
+        rewriteService.shutdownNow();
+        rewriteService = null;
     }
 
     @Test
@@ -209,7 +213,9 @@ public class MergeTreeCompactManagerTest {
                         false,
                         true,
                         null,
-                        false);
+                        false,
+                        1,
+                        null);
 
         MergeTreeCompactManager defaultManager =
                 new MergeTreeCompactManager(
@@ -225,7 +231,9 @@ public class MergeTreeCompactManagerTest {
                         false,
                         false,
                         null,
-                        false);
+                        false,
+                        1,
+                        null);
 
         assertThat(lookupManager.compactNotCompleted()).isTrue();
         assertThat(defaultManager.compactNotCompleted()).isFalse();
@@ -242,32 +250,37 @@ public class MergeTreeCompactManagerTest {
             CompactStrategy strategy,
             boolean expectedDropDelete)
             throws ExecutionException, InterruptedException {
-        List<DataFileMeta> files = new ArrayList<>();
-        for (int i = 0; i < inputs.size(); i++) {
-            LevelMinMax minMax = inputs.get(i);
-            files.add(minMax.toFile(i));
+        // rewriting key ranges in parallel must produce the same result
+        for (int rewriteParallelism : new int[] {1, 3}) {
+            List<DataFileMeta> files = new ArrayList<>();
+            for (int i = 0; i < inputs.size(); i++) {
+                LevelMinMax minMax = inputs.get(i);
+                files.add(minMax.toFile(i));
+            }
+            Levels levels = new Levels(comparator, files, 3);
+            MergeTreeCompactManager manager =
+                    new MergeTreeCompactManager(
+                            service,
+                            levels,
+                            strategy,
+                            comparator,
+                            2,
+                            Integer.MAX_VALUE,
+                            new TestRewriter(expectedDropDelete),
+                            null,
+                            null,
+                            false,
+                            false,
+                            null,
+                            false,
+                            rewriteParallelism,
+                            rewriteService);
+            manager.triggerCompaction(false);
+            manager.getCompactionResult(true);
+            List<LevelMinMax> outputs =
+                    levels.allFiles().stream().map(LevelMinMax::new).collect(Collectors.toList());
+            assertThat(outputs).isEqualTo(expected);
         }
-        Levels levels = new Levels(comparator, files, 3);
-        MergeTreeCompactManager manager =
-                new MergeTreeCompactManager(
-                        service,
-                        levels,
-                        strategy,
-                        comparator,
-                        2,
-                        Integer.MAX_VALUE,
-                        new TestRewriter(expectedDropDelete),
-                        null,
-                        null,
-                        false,
-                        false,
-                        null,
-                        false);
-        manager.triggerCompaction(false);
-        manager.getCompactionResult(true);
-        List<LevelMinMax> outputs =
-                levels.allFiles().stream().map(LevelMinMax::new).collect(Collectors.toList());
-        assertThat(outputs).isEqualTo(expected);
     }
 
     public static BinaryRow row(int i) {
@@ -286,6 +299,11 @@ public class MergeTreeCompactManagerTest {
             this.expectedDropDelete = expectedDropDelete;
         }
 
+        @Override
+        public boolean supportsParallelRewrite() {
+            return true;
+        }
+
         @Override
         public CompactResult rewrite(
                 int outputLevel, boolean dropDelete, List<List<SortedRun>> sections)
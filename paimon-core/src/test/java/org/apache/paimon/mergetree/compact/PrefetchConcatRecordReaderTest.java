@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.TestMetricRegistry;
+import org.apache.paimon.operation.metrics.ReadMetrics;
+import org.apache.paimon.reader.ReaderSupplier;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.ReusingTestData;
+import org.apache.paimon.utils.TestReusingRecordReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PrefetchConcatRecordReader}. */
+public class PrefetchConcatRecordReaderTest extends CombiningRecordReaderTestBase {
+
+    @Override
+    protected boolean addOnly() {
+        return false;
+    }
+
+    @Override
+    protected List<ReusingTestData> getExpected(List<ReusingTestData> input) {
+        return input;
+    }
+
+    @Override
+    protected RecordReader<KeyValue> createRecordReader(
+            List<TestReusingRecordReader> readers, SortEngine sortEngine) {
+        return new PrefetchConcatRecordReader<>(
+                readers.stream()
+                        .map(r -> (ReaderSupplier<KeyValue>) () -> r)
+                        .collect(Collectors.toList()),
+                2,
+                null);
+    }
+
+    @Test
+    public void testCloseReleasesPrefetchedReaders() throws IOException {
+        List<TestReusingRecordReader> opened = Collections.synchronizedList(new ArrayList<>());
+        List<ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            List<ReusingTestData> data = ReusingTestData.generateOrderedNoDuplicatedKeys(10, false);
+            suppliers.add(
+                    () -> {
+                        TestReusingRecordReader reader = new TestReusingRecordReader(data);
+                        opened.add(reader);
+                        return reader;
+                    });
+        }
+
+        RecordReader<KeyValue> reader = new PrefetchConcatRecordReader<>(suppliers, 3, null);
+        reader.readBatch().releaseBatch();
+        reader.close();
+
+        // only the current reader and the prefetched ones are opened, and all of them are closed
+        assertThat(opened.size()).isBetween(1, 4);
+        opened.forEach(TestReusingRecordReader::assertCleanUp);
+    }
+
+    @Test
+    public void testMetrics() throws IOException {
+        int numReaders = 10;
+        List<ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
+        for (int i = 0; i < numReaders; i++) {
+            TestReusingRecordReader reader =
+                    new TestReusingRecordReader(
+                            ReusingTestData.generateOrderedNoDuplicatedKeys(10, false));
+            suppliers.add(() -> reader);
+        }
+        ReadMetrics metrics = new ReadMetrics(new TestMetricRegistry(), "myTable");
+
+        try (RecordReader<KeyValue> reader = ConcatRecordReader.create(suppliers, 2, metrics)) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            int count = 0;
+            while ((batch = reader.readBatch()) != null) {
+                while (batch.next() != null) {
+                    count++;
+                }
+                batch.releaseBatch();
+            }
+            assertThat(count).isEqualTo(numReaders * 10);
+        }
+
+        Histogram stall =
+                (Histogram)
+                        metrics.getMetricGroup()
+                                .getMetrics()
+                                .get(ReadMetrics.PREFETCH_STALL_DURATION);
+        assertThat(stall.getCount()).isEqualTo(numReaders);
+    }
+}
@@ -77,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Predicate;
@@ -1077,6 +1078,53 @@ public class FileStoreCommitTest {
         assertThat(id).isEqualTo(2);
     }
 
+    @Test
+    public void testRetryAfterUncheckedAttempt() throws Exception {
+        TestFileStore store = createStore(false);
+        Snapshot firstLatest =
+                store.commitData(generateDataList(10), gen::getPartition, kv -> 0).get(0);
+        List<ManifestEntry> deletes =
+                store.newScan().plan().files().stream()
+                        .map(
+                                e ->
+                                        new ManifestEntry(
+                                                FileKind.DELETE,
+                                                e.partition(),
+                                                e.bucket(),
+                                                e.totalBuckets(),
+                                                e.file()))
+                        .collect(Collectors.toList());
+        store.commitData(generateDataList(10), gen::getPartition, kv -> 0);
+
+        try (FileStoreCommitImpl commit = store.newCommit()) {
+            // the failed attempt did not check conflicts, so the retry must read all entries
+            // instead of applying incremental changes to an empty base
+            commit.tryCommitOnce(
+                    new RetryResult(firstLatest, null, null),
+                    deletes,
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    1,
+                    null,
+                    Collections.emptyMap(),
+                    Collections.emptyMap(),
+                    Snapshot.CommitKind.COMPACT,
+                    store.snapshotManager().latestSnapshot(),
+                    mustConflictCheck(),
+                    null);
+        }
+
+        Snapshot latest = store.snapshotManager().latestSnapshot();
+        assertThat(latest.commitKind()).isEqualTo(Snapshot.CommitKind.COMPACT);
+        Set<String> remaining =
+                store.newScan().plan().files().stream()
+                        .map(e -> e.file().fileName())
+                        .collect(Collectors.toSet());
+        for (ManifestEntry delete : deletes) {
+            assertThat(remaining).doesNotContain(delete.file().fileName());
+        }
+    }
+
     private TestFileStore createStore(boolean failing, Map<String, String> options)
             throws Exception {
         return createStore(failing, 1, CoreOptions.ChangelogProducer.NONE, options);
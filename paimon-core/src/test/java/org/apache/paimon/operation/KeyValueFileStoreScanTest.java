@@ -38,6 +38,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -271,6 +273,49 @@ public class KeyValueFileStoreScanTest {
         }
     }
 
+    @Test
+    public void testWithSnapshotFileIndex() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SnapshotFileIndex index =
+                new SnapshotFileIndex(
+                        snapshotManager,
+                        store.manifestListFactory(),
+                        store.manifestFileFactory(),
+                        null);
+
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            snapshots.add(writeData(generateData(random.nextInt(100) + 1)));
+
+            // the index is advanced by delta manifests of new snapshots
+            assertThat(planFiles(index, null)).isEqualTo(planFiles(null, null));
+
+            BinaryRow partition = store.newScan().plan().files().get(0).partition();
+            assertThat(planFiles(index, Collections.singletonList(partition)))
+                    .isEqualTo(planFiles(null, Collections.singletonList(partition)));
+        }
+
+        // older snapshots are planned by reading manifests
+        long oldSnapshot = snapshots.get(random.nextInt(snapshots.size() - 1)).id();
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withSnapshotFileIndex(index);
+        scan.withSnapshot(oldSnapshot);
+        assertThat(scan.plan().snapshot().id()).isEqualTo(oldSnapshot);
+        assertThat(index.files(snapshotManager.snapshot(oldSnapshot), null)).isNull();
+    }
+
+    private Set<String> planFiles(
+            @Nullable SnapshotFileIndex index, @Nullable List<BinaryRow> partitions) {
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withSnapshotFileIndex(index);
+        if (partitions != null) {
+            scan.withPartitionFilter(partitions);
+        }
+        return scan.plan().files().stream()
+                .map(ManifestEntry::fileName)
+                .collect(Collectors.toSet());
+    }
+
     private void runTestExactMatch(
             FileStoreScan scan, Long expectedSnapshotId, Map<BinaryRow, BinaryRow> expected)
             throws Exception {
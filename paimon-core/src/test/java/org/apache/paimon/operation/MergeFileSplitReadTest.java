@@ -219,6 +219,67 @@ public class MergeFileSplitReadTest {
         }
     }
 
+    @Test
+    public void testSingleRunAndOverlappedSections() throws Exception {
+        // keys [0, 10) and [5, 15) overlap and are merged, keys [40, 50) form a single run
+        // section which is read without merging
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {new IntType(false), new BigIntType(false)},
+                        new String[] {"k", "count"});
+        RowType keyType = rowType.project("k");
+        RowType valueType = rowType.project("count");
+        TestFileStore store =
+                createStore(
+                        RowType.of(),
+                        keyType,
+                        valueType,
+                        new KeyValueFieldsExtractor() {
+                            private static final long serialVersionUID = 1L;
+
+                            @Override
+                            public List<DataField> keyFields(TableSchema schema) {
+                                return Collections.singletonList(schema.fields().get(0));
+                            }
+
+                            @Override
+                            public List<DataField> valueFields(TableSchema schema) {
+                                return Collections.singletonList(
+                                        new DataField(
+                                                1,
+                                                "count",
+                                                new org.apache.paimon.types.BigIntType()));
+                            }
+                        },
+                        TestValueCountMergeFunction.factory());
+
+        Map<Integer, Long> expected = new HashMap<>();
+        long sequence = 0;
+        for (int[] range : new int[][] {{0, 10}, {5, 15}, {40, 50}}) {
+            List<KeyValue> data = new ArrayList<>();
+            for (int k = range[0]; k < range[1]; k++) {
+                data.add(
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(k),
+                                        sequence++,
+                                        RowKind.INSERT,
+                                        GenericRow.of((long) k)));
+                expected.merge(k, (long) k, Long::sum);
+            }
+            store.commitData(data, kv -> BinaryRow.EMPTY_ROW, kv -> 0);
+        }
+
+        InternalRowSerializer keySerializer = new InternalRowSerializer(keyType);
+        InternalRowSerializer valueSerializer = new InternalRowSerializer(valueType);
+        Map<Integer, Long> actual = new HashMap<>();
+        for (KeyValue kv : read(null, null, keySerializer, valueSerializer, store)) {
+            assertThat(actual).doesNotContainKey(kv.key().getInt(0));
+            actual.put(kv.key().getInt(0), kv.value().getLong(0));
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
     private List<KeyValue> writeThenRead(
             List<KeyValue> data,
             RowType readKeyType,
@@ -229,6 +290,21 @@ public class MergeFileSplitReadTest {
             Function<KeyValue, BinaryRow> partitionCalculator)
             throws Exception {
         store.commitData(data, partitionCalculator, kv -> 0);
+        return read(
+                readKeyType,
+                readValueType,
+                projectedKeySerializer,
+                projectedValueSerializer,
+                store);
+    }
+
+    private List<KeyValue> read(
+            RowType readKeyType,
+            RowType readValueType,
+            InternalRowSerializer projectedKeySerializer,
+            InternalRowSerializer projectedValueSerializer,
+            TestFileStore store)
+            throws Exception {
         FileStoreScan scan = store.newScan();
         Long snapshotId = store.snapshotManager().latestSnapshotId();
         Map<BinaryRow, List<ManifestEntry>> filesGroupedByPartition =
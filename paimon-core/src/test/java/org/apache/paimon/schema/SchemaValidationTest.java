@@ -106,6 +106,24 @@ class SchemaValidationTest {
                         "[scan.snapshot-id] must be null when you set [scan.timestamp-millis,scan.timestamp]");
     }
 
+    @Test
+    public void testFileReaderVectoredSizes() {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE.key(), "1 gb");
+        assertThatCode(() -> validateTableSchemaExec(options)).doesNotThrowAnyException();
+
+        options.put(CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE.key(), "2 gb");
+        assertThatThrownBy(() -> validateTableSchemaExec(options))
+                .hasMessageContaining(
+                        "file-reader-vectored-max-range-size should be between 1 and 2147483647 bytes");
+
+        options.remove(CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE.key());
+        options.put(CoreOptions.FILE_READER_VECTORED_MERGE_GAP.key(), "4 gb");
+        assertThatThrownBy(() -> validateTableSchemaExec(options))
+                .hasMessageContaining(
+                        "file-reader-vectored-merge-gap should be between 0 and 2147483647 bytes");
+    }
+
     @Test
     public void testRecordLevelTimeField() {
         Map<String, String> options = new HashMap<>(2);
@@ -25,6 +25,7 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericMap;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.ColumnarRowIterator;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.fileindex.FileIndexOptions;
 import org.apache.paimon.fileindex.bitmap.BitmapFileIndexFactory;
@@ -346,6 +347,38 @@ public class AppendOnlySimpleTableTest extends SimpleTableTestBase {
                 .hasSameElementsAs(Arrays.asList("201|binary", "201|binary"));
     }
 
+    @Test
+    public void testBatchFilterExecutedOnColumnBatches() throws Exception {
+        Consumer<Options> optionsSetter = options -> options.set(FILE_FORMAT, FILE_FORMAT_PARQUET);
+        writeData(optionsSetter);
+        FileStoreTable table = createFileStoreTable(optionsSetter);
+        PredicateBuilder builder = new PredicateBuilder(table.schema().logicalRowType());
+
+        List<Split> splits = toSplits(table.newSnapshotReader().read().dataSplits());
+        TableRead read =
+                table.newRead()
+                        .withFilter(
+                                PredicateBuilder.and(
+                                        builder.equal(0, 2), builder.lessThan(1, 22)))
+                        .executeFilter();
+        List<String> result = new ArrayList<>();
+        for (Split split : splits) {
+            try (RecordReader<InternalRow> reader = read.createReader(split)) {
+                RecordReader.RecordIterator<InternalRow> batch;
+                while ((batch = reader.readBatch()) != null) {
+                    // rows are filtered by the selection of the column batch
+                    assertThat(batch).isInstanceOf(ColumnarRowIterator.class);
+                    InternalRow row;
+                    while ((row = batch.next()) != null) {
+                        result.add(row.getInt(0) + "|" + row.getInt(1) + "|" + row.getLong(2));
+                    }
+                    batch.releaseBatch();
+                }
+            }
+        }
+        assertThat(result).containsExactlyInAnyOrder("2|20|200", "2|21|201", "2|21|201");
+    }
+
     @Test
     public void testSplitOrder() throws Exception {
         FileStoreTable table = createFileStoreTable();
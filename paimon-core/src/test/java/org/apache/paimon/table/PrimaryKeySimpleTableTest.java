@@ -35,8 +35,11 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.TestMetricRegistry;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
 import org.apache.paimon.operation.FileStoreScan;
+import org.apache.paimon.operation.metrics.QueryMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.postpone.PostponeBucketFileStoreWrite;
@@ -120,6 +123,7 @@ import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PER_LEVEL;
 import static org.apache.paimon.CoreOptions.LOOKUP_LOCAL_FILE_TYPE;
+import static org.apache.paimon.CoreOptions.LOOKUP_RESULT_CACHE_MAX_ROWS;
 import static org.apache.paimon.CoreOptions.MERGE_ENGINE;
 import static org.apache.paimon.CoreOptions.METADATA_STATS_MODE;
 import static org.apache.paimon.CoreOptions.METADATA_STATS_MODE_PER_LEVEL;
@@ -2140,6 +2144,42 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
         innerTestTableQuery(table);
     }
 
+    @Test
+    public void testTableQueryWithResultCache() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(options -> options.set(LOOKUP_RESULT_CACHE_MAX_ROWS, 100L));
+        innerTestTableQuery(table);
+
+        IOManager ioManager = IOManager.create(tablePath.toString());
+        LocalTableQuery query =
+                table.newLocalTableQuery()
+                        .withIOManager(ioManager)
+                        .withMetricRegistry(new TestMetricRegistry());
+        SnapshotReader reader = table.newSnapshotReader();
+        for (DataSplit split : reader.read().dataSplits()) {
+            query.refreshFiles(
+                    split.partition(), split.bucket(), Collections.emptyList(), split.dataFiles());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(query.lookup(row(1), 0, row(10))).isNotNull();
+            assertThat(query.lookup(row(1), 0, row(20))).isNull();
+        }
+        QueryMetrics metrics = query.metrics();
+        assertThat(counter(metrics, QueryMetrics.RESULT_CACHE_MISS_COUNT)).isEqualTo(2);
+        assertThat(counter(metrics, QueryMetrics.RESULT_CACHE_HIT_COUNT)).isEqualTo(4);
+
+        // refreshing files of the bucket invalidates its results
+        query.refreshFiles(row(1), 0, Collections.emptyList(), Collections.emptyList());
+        assertThat(query.lookup(row(1), 0, row(10))).isNotNull();
+        assertThat(counter(metrics, QueryMetrics.RESULT_CACHE_MISS_COUNT)).isEqualTo(3);
+        query.close();
+    }
+
+    private long counter(QueryMetrics metrics, String name) {
+        return ((Counter) metrics.getMetricGroup().getMetrics().get(name)).getCount();
+    }
+
     @Test
     public void testTableQueryForNormal() throws Exception {
         FileStoreTable table = createFileStoreTable();
@@ -2363,6 +2403,18 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
         value = query.lookup(row(1), 0, row(20));
         assertThat(value).isNull();
 
+        // batch lookup, keys are not sorted
+
+        List<InternalRow> values =
+                query.lookupBatch(row(1), 0, Arrays.asList(row(20), row(10), row(5)));
+        assertThat(values).hasSize(3);
+        assertThat(values.get(0)).isNull();
+        assertThat(BATCH_ROW_TO_STRING.apply(values.get(1)))
+                .isEqualTo("1|10|200|binary|varbinary|mapKey:mapVal|multiset");
+        assertThat(values.get(2)).isNull();
+        assertThat(query.lookupBatch(row(2), 0, Collections.singletonList(row(10))))
+                .containsExactly((InternalRow) null);
+
         // projection
 
         query.close();
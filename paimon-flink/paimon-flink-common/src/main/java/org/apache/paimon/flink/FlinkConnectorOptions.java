@@ -288,7 +288,11 @@ public class FlinkConnectorOptions {
             ConfigOptions.key("lookup.cache")
                     .enumType(LookupCacheMode.class)
                     .defaultValue(LookupCacheMode.AUTO)
-                    .withDescription("The cache mode of lookup join.");
+                    .withDescription(
+                            "The cache mode of lookup join. The OFF_HEAP mode allocates the cache "
+                                    + "outside of the JVM heap, Flink option "
+                                    + "'taskmanager.memory.task.off-heap.size' must be sized "
+                                    + "to fit the cache.");
 
     public static final ConfigOption<String> SCAN_PARTITIONS =
             ConfigOptions.key("scan.partitions")
@@ -326,6 +330,18 @@ public class FlinkConnectorOptions {
                     .withDescription(
                             "If the pending snapshot count exceeds the threshold, lookup operator will refresh the table in sync.");
 
+    public static final ConfigOption<Boolean> LOOKUP_SHARED_CACHE_ENABLED =
+            ConfigOptions.key("lookup.shared-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether lookup join subtasks in the same TaskManager share one full cache "
+                                    + "of the same table, projection and filter, instead of each subtask "
+                                    + "building and refreshing its own cache. Lookups of the shared cache "
+                                    + "run concurrently for primary key tables cached in "
+                                    + "rocksdb or off-heap, otherwise they are serialized. "
+                                    + "Not supported together with 'scan.partitions'.");
+
     public static final ConfigOption<String> LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST =
             ConfigOptions.key("lookup.refresh.time-periods-blacklist")
                     .stringType()
@@ -572,7 +588,13 @@ public class FlinkConnectorOptions {
         FULL,
 
         /** Use in-memory caching mode. */
-        MEMORY
+        MEMORY,
+
+        /**
+         * Use in-memory caching mode which stores primary key tables off-heap, lookups are not
+         * blocked by asynchronous refreshing.
+         */
+        OFF_HEAP
     }
 
     /** Watermark emit strategy for scan. */
@@ -19,6 +19,7 @@
 package org.apache.paimon.flink.lookup;
 
 import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.IOExceptionSupplier;
 
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.AsyncLookupFunction;
@@ -31,7 +32,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-/** A {@link AsyncLookupFunction} to wrap sync function. */
+/**
+ * A {@link AsyncLookupFunction} to wrap sync function. Lookups which the function can do without
+ * blocking are issued directly, the others run in a thread pool.
+ */
 public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     private final NewLookupFunction function;
@@ -49,13 +53,13 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
         function.open(context);
     }
 
-    private Collection<RowData> lookup(RowData keyRow) {
+    private <T> T callFunction(IOExceptionSupplier<T> call) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         Thread.currentThread()
                 .setContextClassLoader(AsyncLookupFunctionWrapper.class.getClassLoader());
         try {
             synchronized (function) {
-                return function.lookup(keyRow);
+                return call.get();
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -66,7 +70,13 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     @Override
     public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
-        return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        CompletableFuture<Collection<RowData>> future =
+                callFunction(() -> function.asyncLookup(keyRow));
+        if (future != null) {
+            return future;
+        }
+        return CompletableFuture.supplyAsync(
+                () -> callFunction(() -> function.lookup(keyRow)), executor());
     }
 
     @Override
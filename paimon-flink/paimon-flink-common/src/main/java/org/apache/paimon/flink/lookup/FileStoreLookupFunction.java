@@ -26,6 +26,7 @@ import org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode;
 import org.apache.paimon.flink.FlinkRowData;
 import org.apache.paimon.flink.FlinkRowWrapper;
 import org.apache.paimon.flink.lookup.partitioner.ShuffleStrategy;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.flink.utils.TableScanUtils;
 import org.apache.paimon.options.Options;
@@ -62,13 +63,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.apache.paimon.CoreOptions.CONTINUOUS_DISCOVERY_INTERVAL;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_MODE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_SHARED_CACHE_ENABLED;
 import static org.apache.paimon.flink.query.RemoteTableQuery.isRemoteServiceAvailable;
 import static org.apache.paimon.lookup.rocksdb.RocksDBOptions.LOOKUP_CACHE_ROWS;
 import static org.apache.paimon.lookup.rocksdb.RocksDBOptions.LOOKUP_CONTINUOUS_DISCOVERY_INTERVAL;
@@ -208,16 +212,35 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
 
         if (lookupTable == null) {
-            FullCacheLookupTable.Context context =
-                    new FullCacheLookupTable.Context(
-                            table,
-                            projection,
-                            predicate,
-                            createProjectedPredicate(projection),
-                            path,
-                            joinKeys,
-                            getRequireCachedBucketIds());
-            this.lookupTable = FullCacheLookupTable.create(context, options.get(LOOKUP_CACHE_ROWS));
+            Set<Integer> requireCachedBucketIds = getRequireCachedBucketIds();
+            Function<File, LookupTable> creator =
+                    dir ->
+                            FullCacheLookupTable.create(
+                                    new FullCacheLookupTable.Context(
+                                            table,
+                                            projection,
+                                            predicate,
+                                            createProjectedPredicate(projection),
+                                            dir,
+                                            joinKeys,
+                                            requireCachedBucketIds),
+                                    options.get(LOOKUP_CACHE_ROWS));
+            if (options.get(LOOKUP_SHARED_CACHE_ENABLED)
+                    && partitionLoader == null
+                    && cacheRowFilter == null) {
+                List<Object> key =
+                        Arrays.asList(
+                                table.location().toString(),
+                                table.schema().id(),
+                                table.options(),
+                                projectFields,
+                                joinKeys,
+                                predicate,
+                                requireCachedBucketIds);
+                this.lookupTable = SharedLookupTable.acquire(key, path.getParent(), creator);
+            } else {
+                this.lookupTable = creator.apply(path);
+            }
             LOG.info("Created {}.", lookupTable.getClass().getSimpleName());
         }
 
@@ -233,6 +256,10 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         if (cacheRowFilter != null) {
             lookupTable.specifyCacheRowFilter(cacheRowFilter);
         }
+        if (functionContext != null && lookupTable instanceof PrimaryKeyPartialLookupTable) {
+            ((PrimaryKeyPartialLookupTable) lookupTable)
+                    .withMetricRegistry(new FlinkMetricRegistry(functionContext.getMetricGroup()));
+        }
         lookupTable.open();
     }
 
@@ -281,9 +308,39 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /**
+     * Looks up the key without blocking if the lookup table queries the remote service, so that
+     * the keys of concurrent lookups are sent in batches. Returns null if it is not supported, the
+     * caller should fall back to {@link #lookup}.
+     */
+    @Nullable
+    public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
+        if (partitionLoader != null
+                || !(lookupTable instanceof PrimaryKeyPartialLookupTable)
+                || !((PrimaryKeyPartialLookupTable) lookupTable).supportsAsyncGet()) {
+            return null;
+        }
+
+        try {
+            tryRefresh();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("async lookup key:{}", keyRow.toString());
+        }
+        return ((PrimaryKeyPartialLookupTable) lookupTable)
+                .asyncGet(new FlinkRowWrapper(keyRow))
+                .<Collection<RowData>>thenApply(this::toRowData);
+    }
+
     private List<RowData> lookupInternal(InternalRow key) throws IOException {
+        return toRowData(lookupTable.get(key));
+    }
+
+    private List<RowData> toRowData(List<InternalRow> lookupResults) {
         List<RowData> rows = new ArrayList<>();
-        List<InternalRow> lookupResults = lookupTable.get(key);
         for (InternalRow matchedRow : lookupResults) {
             rows.add(new FlinkRowData(matchedRow));
         }
@@ -302,6 +359,10 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
 
     private void reopen() {
         try {
+            if (lookupTable instanceof SharedLookupTable) {
+                // the other subtasks will reopen on the same error
+                ((SharedLookupTable) lookupTable).invalidate();
+            }
             close();
             open();
         } catch (Exception e) {
@@ -26,6 +26,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.lookup.StateFactory;
 import org.apache.paimon.lookup.memory.InMemoryStateFactory;
+import org.apache.paimon.lookup.memory.OffHeapStateFactory;
 import org.apache.paimon.lookup.rocksdb.RocksDBBulkLoader;
 import org.apache.paimon.lookup.rocksdb.RocksDBState;
 import org.apache.paimon.lookup.rocksdb.RocksDBStateFactory;
@@ -70,6 +71,7 @@ import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_CACHE_MODE;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_ASYNC_PENDING_SNAPSHOT_COUNT;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.MEMORY;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LookupCacheMode.OFF_HEAP;
 
 /** Lookup table of full cache. */
 public abstract class FullCacheLookupTable implements LookupTable {
@@ -164,6 +166,8 @@ public abstract class FullCacheLookupTable implements LookupTable {
         Options options = context.table.coreOptions().toConfiguration();
         if (options.get(LOOKUP_CACHE_MODE) == MEMORY) {
             return new InMemoryStateFactory();
+        } else if (options.get(LOOKUP_CACHE_MODE) == OFF_HEAP) {
+            return new OffHeapStateFactory();
         } else {
             return new RocksDBStateFactory(diskDir, options, null);
         }
@@ -279,7 +283,7 @@ public abstract class FullCacheLookupTable implements LookupTable {
     @Override
     public final List<InternalRow> get(InternalRow key) throws IOException {
         List<InternalRow> values;
-        if (refreshAsync) {
+        if (refreshAsync && !concurrentStates()) {
             synchronized (lock) {
                 values = innerGet(key);
             }
@@ -302,7 +306,7 @@ public abstract class FullCacheLookupTable implements LookupTable {
         Predicate predicate = projectedPredicate();
         while (input.hasNext()) {
             InternalRow row = input.next();
-            if (refreshAsync) {
+            if (refreshAsync && !concurrentStates()) {
                 synchronized (lock) {
                     refreshRow(row, predicate);
                 }
@@ -314,6 +318,19 @@ public abstract class FullCacheLookupTable implements LookupTable {
 
     public abstract List<InternalRow> innerGet(InternalRow key) throws IOException;
 
+    /**
+     * Whether the states support one refreshing thread concurrent with lookups, then asynchronous
+     * refreshing does not need to hold the lock.
+     */
+    protected boolean concurrentStates() {
+        return false;
+    }
+
+    /** Whether {@link #get} can be called by several threads concurrently, after being opened. */
+    protected boolean concurrentGets() {
+        return false;
+    }
+
     protected abstract void refreshRow(InternalRow row, Predicate predicate) throws IOException;
 
     @Nullable
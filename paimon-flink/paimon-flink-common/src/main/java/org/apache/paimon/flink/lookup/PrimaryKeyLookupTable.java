@@ -22,7 +22,9 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.lookup.ValueBulkLoader;
 import org.apache.paimon.lookup.ValueState;
+import org.apache.paimon.lookup.memory.OffHeapValueState;
 import org.apache.paimon.lookup.rocksdb.RocksDBBulkLoader;
+import org.apache.paimon.lookup.rocksdb.RocksDBValueState;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.RowKind;
@@ -43,7 +45,8 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
 
     protected final KeyProjectedRow primaryKeyRow;
 
-    @Nullable private final ProjectedRow keyRearrange;
+    // lookups may run in several threads, see concurrentGets
+    @Nullable private final ThreadLocal<ProjectedRow> keyRearrange;
 
     protected ValueState<InternalRow, InternalRow> tableState;
 
@@ -56,14 +59,14 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
                 table.primaryKeys().stream().mapToInt(fieldNames::indexOf).toArray();
         this.primaryKeyRow = new KeyProjectedRow(primaryKeyMapping);
 
-        ProjectedRow keyRearrange = null;
+        ThreadLocal<ProjectedRow> keyRearrange = null;
         if (!table.primaryKeys().equals(joinKey)) {
-            keyRearrange =
-                    ProjectedRow.from(
-                            table.primaryKeys().stream()
-                                    .map(joinKey::indexOf)
-                                    .mapToInt(value -> value)
-                                    .toArray());
+            int[] mapping =
+                    table.primaryKeys().stream()
+                            .map(joinKey::indexOf)
+                            .mapToInt(value -> value)
+                            .toArray();
+            keyRearrange = ThreadLocal.withInitial(() -> ProjectedRow.from(mapping));
         }
         this.keyRearrange = keyRearrange;
     }
@@ -88,12 +91,22 @@ public class PrimaryKeyLookupTable extends FullCacheLookupTable {
     @Override
     public List<InternalRow> innerGet(InternalRow key) throws IOException {
         if (keyRearrange != null) {
-            key = keyRearrange.replaceRow(key);
+            key = keyRearrange.get().replaceRow(key);
         }
         InternalRow value = tableState.get(key);
         return value == null ? Collections.emptyList() : Collections.singletonList(value);
     }
 
+    @Override
+    protected boolean concurrentStates() {
+        return tableState instanceof OffHeapValueState;
+    }
+
+    @Override
+    protected boolean concurrentGets() {
+        return tableState instanceof OffHeapValueState || tableState instanceof RocksDBValueState;
+    }
+
     @Override
     protected void refreshRow(InternalRow row, Predicate predicate) throws IOException {
         primaryKeyRow.replaceRow(row);
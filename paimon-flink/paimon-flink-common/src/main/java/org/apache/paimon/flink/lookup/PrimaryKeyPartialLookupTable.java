@@ -28,6 +28,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.flink.query.RemoteTableQuery;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.BucketMode;
@@ -52,9 +53,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.table.BucketMode.POSTPONE_BUCKET;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.Preconditions.checkState;
 
 /** Lookup table for primary key which supports to read the LSM tree directly. */
 public class PrimaryKeyPartialLookupTable implements LookupTable {
@@ -65,6 +68,7 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
 
     private Predicate specificPartition;
     @Nullable private Filter<InternalRow> cacheRowFilter;
+    @Nullable private MetricRegistry metricRegistry;
     private QueryExecutor queryExecutor;
 
     private final Projection partitionFromPk;
@@ -149,17 +153,14 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
 
     @Override
     public void open() throws Exception {
-        this.queryExecutor = executorFactory.create(specificPartition, cacheRowFilter);
+        this.queryExecutor =
+                executorFactory.create(specificPartition, cacheRowFilter, metricRegistry);
         refresh();
     }
 
     @Override
     public List<InternalRow> get(InternalRow key) throws IOException {
-        InternalRow adjustedKey = key;
-        if (keyRearrange != null) {
-            adjustedKey = keyRearrange.replaceRow(adjustedKey);
-        }
-
+        InternalRow adjustedKey = adjustedKey(key);
         BinaryRow partition = partitionFromPk.apply(adjustedKey);
         Integer numBuckets = queryExecutor.numBuckets(partition);
         if (numBuckets == null) {
@@ -168,17 +169,43 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         }
         int bucket = bucket(numBuckets, adjustedKey);
 
-        InternalRow trimmedKey = key;
-        if (trimmedKeyRearrange != null) {
-            trimmedKey = trimmedKeyRearrange.replaceRow(trimmedKey);
-        }
+        return toList(queryExecutor.lookup(partition, bucket, trimmedKey(key)));
+    }
 
-        InternalRow kv = queryExecutor.lookup(partition, bucket, trimmedKey);
-        if (kv == null) {
-            return Collections.emptyList();
-        } else {
-            return Collections.singletonList(kv);
+    /** Returns true if {@link #asyncGet} looks up keys without blocking. */
+    public boolean supportsAsyncGet() {
+        return queryExecutor instanceof RemoteQueryExecutor;
+    }
+
+    /**
+     * Looks up the key without blocking, so that the keys of concurrent lookups are sent to the
+     * remote service in batches. Only supported if {@link #supportsAsyncGet()}.
+     */
+    public CompletableFuture<List<InternalRow>> asyncGet(InternalRow key) {
+        checkState(supportsAsyncGet(), "Async get is only supported by remote query.");
+        InternalRow adjustedKey = adjustedKey(key);
+        BinaryRow partition = partitionFromPk.apply(adjustedKey);
+        Integer numBuckets = queryExecutor.numBuckets(partition);
+        if (numBuckets == null) {
+            // no data, just return none
+            return CompletableFuture.completedFuture(Collections.emptyList());
         }
+        int bucket = bucket(numBuckets, adjustedKey);
+        return ((RemoteQueryExecutor) queryExecutor)
+                .lookupAsync(partition, bucket, trimmedKey(key))
+                .thenApply(PrimaryKeyPartialLookupTable::toList);
+    }
+
+    private InternalRow adjustedKey(InternalRow key) {
+        return keyRearrange == null ? key : keyRearrange.replaceRow(key);
+    }
+
+    private InternalRow trimmedKey(InternalRow key) {
+        return trimmedKeyRearrange == null ? key : trimmedKeyRearrange.replaceRow(key);
+    }
+
+    private static List<InternalRow> toList(@Nullable InternalRow kv) {
+        return kv == null ? Collections.emptyList() : Collections.singletonList(kv);
     }
 
     private int bucket(int numBuckets, InternalRow primaryKey) {
@@ -196,6 +223,11 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         this.cacheRowFilter = filter;
     }
 
+    /** Reports the metrics of the query executors created by the following {@link #open}. */
+    public void withMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
     @Override
     public void close() throws IOException {
         if (queryExecutor != null) {
@@ -210,14 +242,15 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             List<String> joinKey,
             Set<Integer> requireCachedBucketIds) {
         return new PrimaryKeyPartialLookupTable(
-                (filter, cacheRowFilter) ->
+                (filter, cacheRowFilter, metricRegistry) ->
                         new LocalQueryExecutor(
                                 new LookupFileStoreTable(table, joinKey),
                                 projection,
                                 tempPath,
                                 filter,
                                 requireCachedBucketIds,
-                                cacheRowFilter),
+                                cacheRowFilter,
+                                metricRegistry),
                 table,
                 joinKey);
     }
@@ -225,13 +258,17 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
     public static PrimaryKeyPartialLookupTable createRemoteTable(
             FileStoreTable table, int[] projection, List<String> joinKey) {
         return new PrimaryKeyPartialLookupTable(
-                (filter, cacheRowFilter) -> new RemoteQueryExecutor(table, projection),
+                (filter, cacheRowFilter, metricRegistry) ->
+                        new RemoteQueryExecutor(table, projection, metricRegistry),
                 table,
                 joinKey);
     }
 
     interface QueryExecutorFactory {
-        QueryExecutor create(Predicate filter, @Nullable Filter<InternalRow> cacheRowFilter);
+        QueryExecutor create(
+                Predicate filter,
+                @Nullable Filter<InternalRow> cacheRowFilter,
+                @Nullable MetricRegistry metricRegistry);
     }
 
     interface QueryExecutor extends Closeable {
@@ -261,7 +298,8 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
                 File tempPath,
                 @Nullable Predicate filter,
                 Set<Integer> requireCachedBucketIds,
-                @Nullable Filter<InternalRow> cacheRowFilter) {
+                @Nullable Filter<InternalRow> cacheRowFilter,
+                @Nullable MetricRegistry metricRegistry) {
             this.tableQuery =
                     table.newLocalTableQuery()
                             .withValueProjection(projection)
@@ -270,6 +308,9 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             if (cacheRowFilter != null) {
                 this.tableQuery.withCacheRowFilter(cacheRowFilter);
             }
+            if (metricRegistry != null) {
+                this.tableQuery.withMetricRegistry(metricRegistry);
+            }
 
             this.scan =
                     table.newReadBuilder()
@@ -357,8 +398,12 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         private final RemoteTableQuery tableQuery;
         private final Integer numBuckets;
 
-        private RemoteQueryExecutor(FileStoreTable table, int[] projection) {
+        private RemoteQueryExecutor(
+                FileStoreTable table, int[] projection, @Nullable MetricRegistry metricRegistry) {
             this.tableQuery = new RemoteTableQuery(table).withValueProjection(projection);
+            if (metricRegistry != null) {
+                tableQuery.withMetricRegistry(metricRegistry);
+            }
             int numBuckets = table.bucketSpec().getNumBuckets();
             if (numBuckets == POSTPONE_BUCKET) {
                 throw new UnsupportedOperationException(
@@ -379,6 +424,11 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             return tableQuery.lookup(partition, bucket, key);
         }
 
+        private CompletableFuture<InternalRow> lookupAsync(
+                BinaryRow partition, int bucket, InternalRow key) {
+            return tableQuery.lookupAsync(partition, bucket, key);
+        }
+
         @Override
         public void refresh() {}
 
@@ -59,6 +59,17 @@ public class SecondaryIndexLookupTable extends PrimaryKeyLookupTable {
         bootstrap();
     }
 
+    @Override
+    protected boolean concurrentStates() {
+        // the index state is always on heap
+        return false;
+    }
+
+    @Override
+    protected boolean concurrentGets() {
+        return false;
+    }
+
     @Override
     public List<InternalRow> innerGet(InternalRow key) throws IOException {
         List<InternalRow> pks = indexState.get(key);
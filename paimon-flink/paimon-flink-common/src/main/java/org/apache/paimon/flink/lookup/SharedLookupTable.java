@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.lookup;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.utils.FileIOUtils;
+import org.apache.paimon.utils.Filter;
+import org.apache.paimon.utils.Preconditions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * A handle of a {@link LookupTable} which is shared by the lookup functions in one JVM, so that
+ * the subtasks in a TaskManager build and refresh one cache instead of one cache per subtask.
+ *
+ * <p>Shared tables are reference counted, the last handle being closed closes the table. Opening
+ * and refreshing hold the write lock of the table. Lookups hold the read lock if the table supports
+ * concurrent gets, see {@link FullCacheLookupTable#concurrentGets}, otherwise the write lock.
+ */
+public class SharedLookupTable implements LookupTable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedLookupTable.class);
+
+    private static final Map<List<Object>, Shared> TABLES = new HashMap<>();
+
+    private final List<Object> key;
+    private final Shared shared;
+
+    private boolean closed;
+
+    private SharedLookupTable(List<Object> key, Shared shared) {
+        this.key = key;
+        this.shared = shared;
+    }
+
+    /**
+     * Acquires the table of the given key, the table is created by the creator with a new
+     * directory under the tmp directory if there is no such table yet.
+     */
+    public static SharedLookupTable acquire(
+            List<Object> key, String tmpDirectory, Function<File, LookupTable> creator) {
+        synchronized (TABLES) {
+            Shared shared = TABLES.get(key);
+            if (shared == null) {
+                File path = new File(tmpDirectory, "lookup-shared-" + UUID.randomUUID());
+                if (!path.mkdirs()) {
+                    throw new RuntimeException("Failed to create dir: " + path);
+                }
+                shared = new Shared(creator.apply(path), path);
+                TABLES.put(key, shared);
+                LOG.info("Created shared lookup table {} for {}.", path, key);
+            }
+            shared.refCount++;
+            return new SharedLookupTable(key, shared);
+        }
+    }
+
+    @Override
+    public void specificPartitionFilter(Predicate filter) {
+        Preconditions.checkArgument(
+                filter == null,
+                "'lookup.shared-cache.enabled' can not be used together with 'scan.partitions'.");
+    }
+
+    @Override
+    public void specifyCacheRowFilter(Filter<InternalRow> filter) {
+        Preconditions.checkArgument(
+                filter == null,
+                "'lookup.shared-cache.enabled' can not be used together with a cache row filter.");
+    }
+
+    @Override
+    public void open() throws Exception {
+        shared.lock.writeLock().lock();
+        try {
+            if (shared.openFailure != null) {
+                throw new RuntimeException(
+                        "Failed to open the shared lookup table.", shared.openFailure);
+            }
+            if (!shared.opened) {
+                try {
+                    shared.table.open();
+                } catch (Exception e) {
+                    // the table is partially opened, following acquires create a new table
+                    shared.openFailure = e;
+                    invalidate();
+                    throw e;
+                }
+                LookupTable table = shared.table;
+                shared.concurrentGets =
+                        table instanceof FullCacheLookupTable
+                                && ((FullCacheLookupTable) table).concurrentGets();
+                shared.opened = true;
+            }
+        } finally {
+            shared.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<InternalRow> get(InternalRow key) throws IOException {
+        Lock lock = shared.concurrentGets ? shared.lock.readLock() : shared.lock.writeLock();
+        lock.lock();
+        try {
+            return shared.table.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Refreshes the shared table. When several handles refresh in a row, the later refreshes find
+     * no new snapshot and return quickly.
+     */
+    @Override
+    public void refresh() throws Exception {
+        shared.lock.writeLock().lock();
+        try {
+            shared.table.refresh();
+        } finally {
+            shared.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the table from the registry, so that following acquires create a new table, for
+     * example when the table must be reopened. Existing handles keep using the old table.
+     */
+    public void invalidate() {
+        synchronized (TABLES) {
+            TABLES.remove(key, shared);
+        }
+    }
+
+    @VisibleForTesting
+    LookupTable table() {
+        return shared.table;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        synchronized (TABLES) {
+            if (--shared.refCount > 0) {
+                return;
+            }
+
+            TABLES.remove(key, shared);
+            try {
+                shared.table.close();
+            } finally {
+                FileIOUtils.deleteDirectoryQuietly(shared.path);
+            }
+        }
+    }
+
+    private static class Shared {
+
+        private final LookupTable table;
+        private final File path;
+        private final ReentrantReadWriteLock lock;
+
+        private int refCount;
+        private boolean opened;
+        @Nullable private Exception openFailure;
+        private volatile boolean concurrentGets;
+
+        private Shared(LookupTable table, File path) {
+            this.table = table;
+            this.path = path;
+            this.lock = new ReentrantReadWriteLock();
+        }
+    }
+}
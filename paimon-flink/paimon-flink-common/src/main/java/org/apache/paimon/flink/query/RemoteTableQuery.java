@@ -23,6 +23,8 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.query.QueryLocationImpl;
 import org.apache.paimon.service.ServiceManager;
 import org.apache.paimon.service.client.KvQueryClient;
@@ -39,15 +41,20 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
+import static org.apache.paimon.service.network.stats.AtomicServiceRequestStats.LATENCY_WINDOW_SIZE;
 
 /** Implementation for {@link TableQuery} to lookup data from remote service. */
 public class RemoteTableQuery implements TableQuery {
 
+    public static final String GROUP_NAME = "remoteQuery";
+    public static final String REQUEST_LATENCY = "requestLatency";
+
     private final FileStoreTable table;
     private final KvQueryClient client;
     private final InternalRowSerializer keySerializer;
 
     @Nullable private int[] projection;
+    @Nullable private MetricGroup metricGroup;
 
     public RemoteTableQuery(Table table) {
         this.table = (FileStoreTable) table;
@@ -64,30 +71,29 @@ public class RemoteTableQuery implements TableQuery {
     @Nullable
     @Override
     public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException {
-        BinaryRow row;
         try {
-            row =
-                    client.getValues(
-                                    partition,
-                                    bucket,
-                                    new BinaryRow[] {keySerializer.toBinaryRow(key)})
-                            .get()[0];
+            return lookupAsync(partition, bucket, key).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IOException(e);
         } catch (ExecutionException e) {
             throw new IOException(e.getCause());
         }
+    }
 
-        if (projection == null) {
-            return row;
-        }
-
-        if (row == null) {
-            return null;
-        }
-
-        return ProjectedRow.from(projection).replaceRow(row);
+    /**
+     * Looks up the key without blocking, the returned future holds null if the key does not exist.
+     * Keys of the same partition and bucket looked up concurrently are sent in one request.
+     */
+    public CompletableFuture<InternalRow> lookupAsync(
+            BinaryRow partition, int bucket, InternalRow key) {
+        int[] projection = this.projection;
+        return client.getValue(partition, bucket, keySerializer.toBinaryRow(key))
+                .thenApply(
+                        row ->
+                                projection == null || row == null
+                                        ? row
+                                        : ProjectedRow.from(projection).replaceRow(row));
     }
 
     @Override
@@ -96,6 +102,14 @@ public class RemoteTableQuery implements TableQuery {
         return this;
     }
 
+    /** Reports the latency of the requests to the remote service. */
+    public RemoteTableQuery withMetricRegistry(MetricRegistry registry) {
+        this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, table.name());
+        client.getStats()
+                .withLatencyHistogram(metricGroup.histogram(REQUEST_LATENCY, LATENCY_WINDOW_SIZE));
+        return this;
+    }
+
     @Override
     public InternalRowSerializer createValueSerializer() {
         return InternalSerializers.create(TypeUtils.project(table.rowType(), projection));
@@ -104,6 +118,9 @@ public class RemoteTableQuery implements TableQuery {
     @Override
     public void close() throws IOException {
         client.shutdown();
+        if (metricGroup != null) {
+            metricGroup.close();
+        }
     }
 
     @VisibleForTesting
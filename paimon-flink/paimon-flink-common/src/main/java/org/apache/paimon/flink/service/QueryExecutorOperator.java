@@ -23,6 +23,7 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataFileMetaSerializer;
@@ -75,7 +76,11 @@ public class QueryExecutorOperator extends AbstractStreamOperator<InternalRow>
                                 .getEnvironment()
                                 .getIOManager()
                                 .getSpillingDirectoriesPaths());
-        this.query = ((FileStoreTable) table).newLocalTableQuery().withIOManager(ioManager);
+        this.query =
+                ((FileStoreTable) table)
+                        .newLocalTableQuery()
+                        .withIOManager(ioManager)
+                        .withMetricRegistry(new FlinkMetricRegistry(getMetricGroup()));
         KvQueryServer server =
                 new KvQueryServer(
                         RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext()),
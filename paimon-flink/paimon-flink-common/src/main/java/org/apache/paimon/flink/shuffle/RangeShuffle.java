@@ -23,7 +23,6 @@ import org.apache.paimon.data.DataGetters;
 import org.apache.paimon.flink.FlinkRowWrapper;
 import org.apache.paimon.types.InternalRowToSizeVisitor;
 import org.apache.paimon.types.RowType;
-import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.SerializableSupplier;
 
 import org.apache.flink.annotation.Internal;
@@ -77,6 +76,9 @@ import java.util.stream.Collectors;
  */
 public class RangeShuffle {
 
+    private static final String RANGE_SKEW_RATIO = "rangeSkewRatio";
+    private static final String RANGE_MAX_RECORDS = "rangeMaxRecords";
+
     /**
      * The RelNode with range-partition distribution will create the following transformations.
      *
@@ -153,7 +155,7 @@ public class RangeShuffle {
                                         new ForwardPartitioner<>(),
                                         StreamExchangeMode.BATCH),
                                 "ASSIGN RANGE INDEX",
-                                new AssignRangeIndexOperator<>(keyComparator),
+                                new AssignRangeIndexOperator<>(keyComparator, outParallelism),
                                 new TupleTypeInfo<>(
                                         BasicTypeInfo.INT_TYPE_INFO, input.getOutputType()),
                                 input.getParallelism(),
@@ -342,8 +344,11 @@ public class RangeShuffle {
     /**
      * This two-input-operator require an input with RangeBoundaries as broadcast input, and
      * generate Tuple2 which includes range index and record from the other input itself as output.
+     *
+     * <p>The operator reports the skew of the ranges it assigned as metrics, see {@link
+     * RangeIndex#skewRatio()}.
      */
-    private static class AssignRangeIndexOperator<T>
+    static class AssignRangeIndexOperator<T>
             extends TableStreamOperator<Tuple2<Integer, Tuple2<T, RowData>>>
             implements TwoInputStreamOperator<
                             List<T>, Tuple2<T, RowData>, Tuple2<Integer, Tuple2<T, RowData>>>,
@@ -352,13 +357,16 @@ public class RangeShuffle {
         private static final long serialVersionUID = 1L;
 
         private final SerializableSupplier<Comparator<T>> keyComparatorSupplier;
+        private final int numPartitions;
 
-        private transient List<Pair<T, RandomList>> keyIndex;
+        private transient RangeIndex<T> rangeIndex;
         private transient Collector<Tuple2<Integer, Tuple2<T, RowData>>> collector;
         private transient Comparator<T> keyComparator;
 
-        public AssignRangeIndexOperator(SerializableSupplier<Comparator<T>> keyComparatorSupplier) {
+        public AssignRangeIndexOperator(
+                SerializableSupplier<Comparator<T>> keyComparatorSupplier, int numPartitions) {
             this.keyComparatorSupplier = keyComparatorSupplier;
+            this.numPartitions = numPartitions;
         }
 
         @Override
@@ -366,70 +374,33 @@ public class RangeShuffle {
             super.open();
             this.keyComparator = keyComparatorSupplier.get();
             this.collector = new StreamRecordCollector<>(output);
+            getMetricGroup()
+                    .gauge(
+                            RANGE_SKEW_RATIO,
+                            () -> rangeIndex == null ? 0.0 : rangeIndex.skewRatio());
+            getMetricGroup()
+                    .gauge(
+                            RANGE_MAX_RECORDS,
+                            () -> rangeIndex == null ? 0L : rangeIndex.maxRangeCount());
         }
 
         @Override
         public void processElement1(StreamRecord<List<T>> streamRecord) {
-            keyIndex = new ArrayList<>();
-
-            T last = null;
-            int index = 0;
-            for (T t : streamRecord.getValue()) {
-                if (last != null && keyComparator.compare(last, t) == 0) {
-                    keyIndex.get(keyIndex.size() - 1).getRight().add(index++);
-                } else {
-                    Pair<T, RandomList> pair = Pair.of(t, new RandomList());
-                    pair.getRight().add(index++);
-                    keyIndex.add(pair);
-
-                    last = t;
-                }
-            }
+            rangeIndex = new RangeIndex<>(streamRecord.getValue(), keyComparator, numPartitions);
         }
 
         @Override
         public void processElement2(StreamRecord<Tuple2<T, RowData>> streamRecord) {
-            if (keyIndex == null) {
+            if (rangeIndex == null) {
                 throw new RuntimeException("There should be one data from the first input.");
             }
-            // If the range number is 1, the range index will be 0 for all records.
-            if (keyIndex.isEmpty()) {
-                collector.collect(new Tuple2<>(0, streamRecord.getValue()));
-            } else {
-                Tuple2<T, RowData> row = streamRecord.getValue();
-                collector.collect(new Tuple2<>(binarySearch(row.f0), row));
-            }
+            Tuple2<T, RowData> row = streamRecord.getValue();
+            collector.collect(new Tuple2<>(rangeIndex.assign(row.f0), row));
         }
 
         @Override
         public InputSelection nextSelection() {
-            return keyIndex == null ? InputSelection.FIRST : InputSelection.ALL;
-        }
-
-        private int binarySearch(T key) {
-            int lastIndex = this.keyIndex.size() - 1;
-            int low = 0;
-            int high = lastIndex;
-
-            while (low <= high) {
-                final int mid = (low + high) >>> 1;
-                final Pair<T, RandomList> indexPair = keyIndex.get(mid);
-                final int result = keyComparator.compare(key, indexPair.getLeft());
-
-                if (result > 0) {
-                    low = mid + 1;
-                } else if (result < 0) {
-                    high = mid - 1;
-                } else {
-                    return indexPair.getRight().get();
-                }
-            }
-
-            // key not found, but the low index is the target
-            // bucket, since the boundaries are the upper bound
-            return low > lastIndex
-                    ? (keyIndex.get(lastIndex).getRight().get() + 1)
-                    : keyIndex.get(low).getRight().get();
+            return rangeIndex == null ? InputSelection.FIRST : InputSelection.ALL;
         }
 
         /** A {@link KeySelector} to select by f0 of tuple2. */
@@ -460,7 +431,13 @@ public class RangeShuffle {
                 Preconditions.checkArgument(
                         numPartitions <= totalRangeNum,
                         "Num of subPartitions should <= totalRangeNum: " + totalRangeNum);
-                int partition = key / (totalRangeNum / numPartitions);
+                return partition(key, totalRangeNum, numPartitions);
+            }
+
+            static int partition(int range, int totalRangeNum, int numPartitions) {
+                // spread the ranges evenly, the remainder of the division must not be piled up
+                // on the last partition
+                int partition = (int) ((long) range * numPartitions / totalRangeNum);
                 return Math.min(numPartitions - 1, partition);
             }
         }
@@ -551,19 +528,176 @@ public class RangeShuffle {
         }
     }
 
-    /** Contains integers and randomly get one. */
-    private static class RandomList {
+    /**
+     * Sorted range boundaries which assign keys to range indices, boundaries are the upper bound of
+     * their ranges.
+     *
+     * <p>A heavy key is sampled as several consecutive equal boundaries. Its records are assigned
+     * to the least loaded of these ranges, so the ranges are re-balanced by the records actually
+     * seen instead of by chance, and one heavy key does not overload a single downstream subtask.
+     *
+     * <p>The sample may still miss the skew of a range between two distinct boundaries. Once the
+     * downstream partition of a range, see {@link AssignRangeIndexOperator.RangePartitioner}, has
+     * received more than {@link #REBALANCE_SKEW_RATIO} times the average records, its records are
+     * split to the nearest partition having at most the average records, as long as it has more
+     * than the average records. They are assigned to the range of that partition next to their own
+     * range, so that neighboring keys stay together.
+     */
+    @VisibleForTesting
+    static class RangeIndex<T> {
+
+        static final double REBALANCE_SKEW_RATIO = 1.5;
+
+        // the average records of a partition before re-balancing, to not act on an unstable start
+        static final long MIN_AVERAGE_RECORDS = 1000;
+
+        private final Comparator<T> keyComparator;
+        private final List<T> keys = new ArrayList<>();
+        private final List<int[]> indices = new ArrayList<>();
+        private final long[] rangeCounts;
+
+        private final int numPartitions;
+        private final long[] partitionCounts;
+        // the first range of each partition, the last element is the number of ranges
+        private final int[] firstRanges;
+        // the last partition records of each partition were split to, or -1
+        private final int[] splitTargets;
+        private final boolean[] splitting;
+
+        private long totalCount;
+
+        RangeIndex(List<T> boundaries, Comparator<T> keyComparator, int numPartitions) {
+            this.keyComparator = keyComparator;
+            int index = 0;
+            for (T t : boundaries) {
+                if (!keys.isEmpty() && keyComparator.compare(keys.get(keys.size() - 1), t) == 0) {
+                    indices.get(indices.size() - 1)[1] = index++;
+                } else {
+                    keys.add(t);
+                    indices.add(new int[] {index, index});
+                    index++;
+                }
+            }
+            int numRanges = boundaries.size() + 1;
+            this.rangeCounts = new long[numRanges];
+
+            this.numPartitions = Math.max(1, Math.min(numPartitions, numRanges));
+            this.partitionCounts = new long[this.numPartitions];
+            this.firstRanges = new int[this.numPartitions + 1];
+            for (int range = numRanges - 1; range >= 0; range--) {
+                firstRanges[partitionOf(range)] = range;
+            }
+            firstRanges[this.numPartitions] = numRanges;
+            this.splitTargets = new int[this.numPartitions];
+            Arrays.fill(splitTargets, -1);
+            this.splitting = new boolean[this.numPartitions];
+        }
+
+        int assign(T key) {
+            // If the range number is 1, the range index will be 0 for all records.
+            int range = keys.isEmpty() ? 0 : binarySearch(key);
+            int partition = partitionOf(range);
+            if (isOverloaded(partition)) {
+                int target = splitTarget(partition);
+                if (target != partition) {
+                    range = target < partition ? firstRanges[target + 1] - 1 : firstRanges[target];
+                    partition = target;
+                }
+            }
+            rangeCounts[range]++;
+            partitionCounts[partition]++;
+            totalCount++;
+            return range;
+        }
+
+        private int partitionOf(int range) {
+            return AssignRangeIndexOperator.RangePartitioner.partition(
+                    range, rangeCounts.length, numPartitions);
+        }
+
+        private boolean isOverloaded(int partition) {
+            double average = (double) totalCount / numPartitions;
+            if (splitting[partition]) {
+                return partitionCounts[partition] > average;
+            }
+            splitting[partition] =
+                    totalCount >= MIN_AVERAGE_RECORDS * numPartitions
+                            && partitionCounts[partition] > REBALANCE_SKEW_RATIO * average;
+            return splitting[partition];
+        }
+
+        /** Returns the nearest partition which has at most the average records. */
+        private int splitTarget(int partition) {
+            double average = (double) totalCount / numPartitions;
+            int target = splitTargets[partition];
+            if (target >= 0 && partitionCounts[target] <= average) {
+                return target;
+            }
+
+            target = partition;
+            for (int distance = 1; distance < numPartitions && target == partition; distance++) {
+                int left = partition - distance;
+                int right = partition + distance;
+                if (left >= 0 && partitionCounts[left] <= average) {
+                    target = left;
+                }
+                if (right < numPartitions
+                        && partitionCounts[right] <= average
+                        && (target == partition
+                                || partitionCounts[right] < partitionCounts[target])) {
+                    target = right;
+                }
+            }
+            splitTargets[partition] = target;
+            return target;
+        }
+
+        private int binarySearch(T key) {
+            int lastIndex = keys.size() - 1;
+            int low = 0;
+            int high = lastIndex;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int result = keyComparator.compare(key, keys.get(mid));
+
+                if (result > 0) {
+                    low = mid + 1;
+                } else if (result < 0) {
+                    high = mid - 1;
+                } else {
+                    return leastLoaded(indices.get(mid));
+                }
+            }
 
-        private static final Random RANDOM = new Random();
+            // key not found, but the low index is the target
+            // bucket, since the boundaries are the upper bound
+            return low > lastIndex ? indices.get(lastIndex)[1] + 1 : indices.get(low)[0];
+        }
 
-        private final List<Integer> list = new ArrayList<>();
+        private int leastLoaded(int[] candidates) {
+            int range = candidates[0];
+            for (int i = candidates[0] + 1; i <= candidates[1]; i++) {
+                if (rangeCounts[i] < rangeCounts[range]) {
+                    range = i;
+                }
+            }
+            return range;
+        }
 
-        public void add(int i) {
-            list.add(i);
+        /** Records of the largest range divided by the average records of all ranges. */
+        double skewRatio() {
+            return totalCount == 0
+                    ? 0.0
+                    : maxRangeCount() * (double) rangeCounts.length / totalCount;
         }
 
-        public int get() {
-            return list.get(RANDOM.nextInt(list.size()));
+        long maxRangeCount() {
+            long max = 0;
+            for (long count : rangeCounts) {
+                max = Math.max(max, count);
+            }
+            return max;
         }
     }
 
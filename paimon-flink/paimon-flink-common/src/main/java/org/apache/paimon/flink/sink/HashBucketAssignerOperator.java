@@ -18,10 +18,13 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.flink.utils.RuntimeContextUtils;
 import org.apache.paimon.index.BucketAssigner;
 import org.apache.paimon.index.HashBucketAssigner;
 import org.apache.paimon.index.SimpleHashBucketAssigner;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
@@ -50,6 +53,7 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
 
     private transient BucketAssigner assigner;
     private transient PartitionKeyExtractor<T> extractor;
+    private transient IOManager ioManager;
 
     public HashBucketAssignerOperator(
             String commitUser,
@@ -77,8 +81,18 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
 
         int numberTasks = RuntimeContextUtils.getNumberOfParallelSubtasks(getRuntimeContext());
         int taskId = RuntimeContextUtils.getIndexOfThisSubtask(getRuntimeContext());
-        long targetRowNum = table.coreOptions().dynamicBucketTargetRowNum();
-        Integer maxBucketsNum = table.coreOptions().dynamicBucketMaxBuckets();
+        CoreOptions coreOptions = table.coreOptions();
+        long targetRowNum = coreOptions.dynamicBucketTargetRowNum();
+        Integer maxBucketsNum = coreOptions.dynamicBucketMaxBuckets();
+        MemorySize maxIndexMemory = coreOptions.dynamicBucketIndexMaxMemory();
+        if (!overwrite && maxIndexMemory != null) {
+            this.ioManager =
+                    IOManager.create(
+                            getContainingTask()
+                                    .getEnvironment()
+                                    .getIOManager()
+                                    .getSpillingDirectoriesPaths());
+        }
         this.assigner =
                 overwrite
                         ? new SimpleHashBucketAssigner(
@@ -91,7 +105,10 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
                                 MathUtils.min(numAssigners, numberTasks),
                                 taskId,
                                 targetRowNum,
-                                maxBucketsNum);
+                                maxBucketsNum,
+                                coreOptions.dynamicBucketIndexOffHeap(),
+                                maxIndexMemory == null ? Long.MAX_VALUE : maxIndexMemory.getBytes(),
+                                ioManager);
         this.extractor = extractorFunction.apply(table.schema());
     }
 
@@ -108,4 +125,15 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (assigner != null) {
+            assigner.close();
+        }
+        if (ioManager != null) {
+            ioManager.close();
+        }
+    }
 }
@@ -59,6 +59,7 @@ public class LookupJoinITCase extends CatalogITCaseBase {
         String fullOption = ", 'lookup.cache' = 'full'";
         String lruOption = ", 'changelog-producer'='lookup'";
         String memoryOption = ", 'lookup.cache' = 'memory'";
+        String offHeapOption = ", 'lookup.cache' = 'off_heap'";
 
         switch (cacheMode) {
             case FULL:
@@ -73,6 +74,10 @@ public class LookupJoinITCase extends CatalogITCaseBase {
                 tEnv.executeSql(String.format(dim, memoryOption));
                 tEnv.executeSql(String.format(partitioned, memoryOption));
                 break;
+            case OFF_HEAP:
+                tEnv.executeSql(String.format(dim, offHeapOption));
+                tEnv.executeSql(String.format(partitioned, offHeapOption));
+                break;
             default:
                 throw new UnsupportedOperationException();
         }
@@ -50,6 +50,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
@@ -101,12 +102,21 @@ public class RemoteLookupJoinITCase extends CatalogITCaseBase {
                 .isEqualTo(44);
         assertThat(query.lookup(row(), 0, row(5))).isNull();
 
+        // concurrent async lookups of a bucket are sent in batches
+        CompletableFuture<InternalRow> lookup1 = query.lookupAsync(row(), 0, row(1));
+        CompletableFuture<InternalRow> lookup2 = query.lookupAsync(row(), 0, row(2));
+        CompletableFuture<InternalRow> lookup5 = query.lookupAsync(row(), 0, row(5));
+        assertThat(lookup1.get()).isNotNull().extracting(r -> r.getInt(1)).isEqualTo(11);
+        assertThat(lookup2.get()).isNotNull().extracting(r -> r.getInt(1)).isEqualTo(22);
+        assertThat(lookup5.get()).isNull();
+
         service.close();
         query.cancel().get();
     }
 
-    @Test
-    public void testLookupRemoteTable() throws Throwable {
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testLookupRemoteTable(boolean async) throws Throwable {
         sql(
                 "CREATE TABLE DIM (i INT PRIMARY KEY NOT ENFORCED, j INT, k1 INT, k2 INT) WITH ('bucket' = '1')");
         ServiceProxy proxy = launchQueryServer("DIM");
@@ -115,7 +125,10 @@ public class RemoteLookupJoinITCase extends CatalogITCaseBase {
         proxy.write(GenericRow.of(2, 22, 222, 2222));
 
         String query =
-                "SELECT T.i, D.j, D.k1 FROM T LEFT JOIN DIM for system_time as of T.proctime AS D ON T.i = D.i";
+                String.format(
+                        "SELECT T.i, D.j, D.k1 FROM T LEFT JOIN DIM /*+ OPTIONS('lookup.async'='%s') */"
+                                + " for system_time as of T.proctime AS D ON T.i = D.i",
+                        async);
         BlockingIterator<Row, Row> iterator = BlockingIterator.of(sEnv.executeSql(query).collect());
 
         sql("INSERT INTO T VALUES (1), (2), (3)");
@@ -66,6 +66,7 @@ import java.util.UUID;
 
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
 import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_REFRESH_TIME_PERIODS_BLACKLIST;
+import static org.apache.paimon.flink.FlinkConnectorOptions.LOOKUP_SHARED_CACHE_ENABLED;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
 import static org.apache.paimon.testutils.assertj.PaimonAssertions.anyCauseMatches;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -250,6 +251,50 @@ public class FileStoreLookupFunctionTest {
                 .isEqualTo(0);
     }
 
+    @Test
+    public void testSharedCache() throws Exception {
+        table =
+                createFileStoreTable(false, false, false)
+                        .copy(
+                                Collections.singletonMap(
+                                        LOOKUP_SHARED_CACHE_ENABLED.key(), "true"));
+        commit(writeCommit(10));
+
+        FileStoreLookupFunction function1 = createLookupFunction(table, false);
+        FileStoreLookupFunction function2 = createLookupFunction(table, false);
+        function1.open(tempDir.toString());
+        function2.open(tempDir.toString());
+        SharedLookupTable shared1 = (SharedLookupTable) function1.lookupTable();
+        SharedLookupTable shared2 = (SharedLookupTable) function2.lookupTable();
+        assertThat(shared1.table()).isSameAs(shared2.table());
+
+        InternalRow row = randomRow();
+        commit(writeCommit(row));
+        function1.tryRefresh();
+        function2.tryRefresh();
+        FlinkRowData key = new FlinkRowData(GenericRow.of(row.getInt(1)));
+        assertThat(function1.lookup(key)).isNotEmpty().hasSameSizeAs(function2.lookup(key));
+
+        // the secondary index state is on heap, so lookups hold the write lock
+        assertThat(((FullCacheLookupTable) shared1.table()).concurrentGets()).isFalse();
+        assertThatThrownBy(() -> shared1.specifyCacheRowFilter(r -> true))
+                .hasMessageContaining("cache row filter");
+
+        // the table is closed with the last function, then a new table is created
+        LookupTable table1 = shared1.table();
+        function1.close();
+        FileStoreLookupFunction function3 = createLookupFunction(table, false);
+        function3.open(tempDir.toString());
+        assertThat(((SharedLookupTable) function3.lookupTable()).table()).isSameAs(table1);
+        function2.close();
+        function3.close();
+
+        FileStoreLookupFunction function4 = createLookupFunction(table, false);
+        function4.open(tempDir.toString());
+        assertThat(((SharedLookupTable) function4.lookupTable()).table()).isNotSameAs(table1);
+        function4.close();
+    }
+
     @Test
     public void testParseWrongTimePeriodsBlacklist() throws Exception {
         FileStoreTable table = createFileStoreTable(false, false, false);
@@ -328,6 +373,12 @@ public class FileStoreLookupFunctionTest {
         return messages;
     }
 
+    private List<CommitMessage> writeCommit(InternalRow row) throws Exception {
+        StreamTableWrite writer = table.newStreamWriteBuilder().newWrite();
+        writer.write(row);
+        return writer.prepareCommit(true, 0);
+    }
+
     private InternalRow randomRow() {
         return GenericRow.of(RANDOM.nextInt(100), RANDOM.nextInt(100), RANDOM.nextLong());
     }
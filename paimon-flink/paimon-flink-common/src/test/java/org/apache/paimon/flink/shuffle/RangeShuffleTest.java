@@ -25,7 +25,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 /** Test for {@link RangeShuffle}. */
 class RangeShuffleTest {
@@ -72,4 +74,61 @@ class RangeShuffleTest {
         Assertions.assertEquals(
                 "[3, 5]", Arrays.deepToString(RangeShuffle.allocateRangeBaseSize(test1, 3)));
     }
+
+    @Test
+    void testRangeIndexSpreadsHeavyKey() {
+        // key 5 is heavy and takes the upper bound of ranges 1, 2 and 3
+        RangeShuffle.RangeIndex<Integer> rangeIndex =
+                new RangeShuffle.RangeIndex<>(
+                        Arrays.asList(2, 5, 5, 5, 8), Comparator.naturalOrder(), 6);
+
+        Assertions.assertEquals(0, rangeIndex.assign(1));
+        Assertions.assertEquals(0, rangeIndex.assign(2));
+        // keys between two boundaries go to the first range of the upper boundary
+        Assertions.assertEquals(1, rangeIndex.assign(3));
+        Assertions.assertEquals(4, rangeIndex.assign(6));
+        Assertions.assertEquals(5, rangeIndex.assign(9));
+
+        long[] counts = new long[6];
+        for (int i = 0; i < 30; i++) {
+            counts[rangeIndex.assign(5)]++;
+        }
+        Assertions.assertEquals("[0, 10, 10, 10, 0, 0]", Arrays.toString(counts));
+        Assertions.assertEquals(11, rangeIndex.maxRangeCount());
+        Assertions.assertEquals(11 * 6 / 35.0, rangeIndex.skewRatio(), 0.0001);
+    }
+
+    @Test
+    void testRangeIndexSplitsHeavyRange() {
+        // the sample missed that the range between 10 and 20 is heavy
+        RangeShuffle.RangeIndex<Integer> rangeIndex =
+                new RangeShuffle.RangeIndex<>(
+                        Arrays.asList(10, 20, 30), Comparator.naturalOrder(), 4);
+
+        Random random = new Random();
+        long[] counts = new long[4];
+        for (int i = 0; i < 100_000; i++) {
+            int key = i % 10 == 0 ? random.nextInt(40) : 11 + random.nextInt(9);
+            counts[rangeIndex.assign(key)]++;
+        }
+
+        // without splitting, range 1 would receive 92.5% of the records
+        Assertions.assertTrue(
+                rangeIndex.skewRatio() <= RangeShuffle.RangeIndex.REBALANCE_SKEW_RATIO + 0.01,
+                Arrays.toString(counts));
+        for (long count : counts) {
+            Assertions.assertTrue(count >= 100_000 / 4 * 0.8, Arrays.toString(counts));
+        }
+    }
+
+    @Test
+    void testRangePartitioner() {
+        RangeShuffle.AssignRangeIndexOperator.RangePartitioner partitioner =
+                new RangeShuffle.AssignRangeIndexOperator.RangePartitioner(10);
+        int[] counts = new int[4];
+        for (int i = 0; i < 10; i++) {
+            counts[partitioner.partition(i, 4)]++;
+        }
+        Assertions.assertEquals("[3, 2, 3, 2]", Arrays.toString(counts));
+    }
 }
@@ -146,8 +146,10 @@ public class TestChangelogDataReadWrite {
                         VALUE_TYPE,
                         FileFormatDiscover.of(options),
                         pathFactory,
-                        options.fileIndexReadEnabled());
-        return new KeyValueTableRead(() -> read, () -> rawFileRead, null);
+                        options.fileIndexReadEnabled(),
+                        options.fileIndexReadMinPruningRate(),
+                        options.fileReaderPrefetchNum());
+        return new KeyValueTableRead(() -> read, () -> rawFileRead, null, "test");
     }
 
     public List<DataFileMeta> writeFiles(
@@ -1418,9 +1418,10 @@ public class RecordReaderImpl implements RecordReader {
             readCurrentStripeRowIndex();
         }
 
-        // In the absence of SArg all rows groups should be included
+        // In the absence of SArg all rows groups should be included, unless the selection
+        // (e.g. remaining rows of a deletion vector) does not touch the stripe at all
         if (sargApp == null) {
-            return null;
+            return pickRowGroupsBySelection();
         }
         return sargApp.pickRowGroups(
                 stripes.get(currentStripe),
@@ -1433,6 +1434,18 @@ public class RecordReaderImpl implements RecordReader {
                 selection);
     }
 
+    @Nullable
+    private boolean[] pickRowGroupsBySelection() {
+        if (selection == null || rowIndexStride <= 0) {
+            return null;
+        }
+        if (selection.intersects(rowBaseInStripe, rowBaseInStripe + rowCountInStripe)) {
+            return null;
+        }
+        // skip the whole stripe, no data streams are read
+        return new boolean[(int) ((rowCountInStripe + rowIndexStride - 1) / rowIndexStride)];
+    }
+
     private void clearStreams() {
         planner.clearStreams();
     }
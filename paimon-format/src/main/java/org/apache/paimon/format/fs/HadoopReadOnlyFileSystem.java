@@ -19,6 +19,7 @@
 package org.apache.paimon.format.fs;
 
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.VectoredInputStream;
 
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -35,9 +36,13 @@ import java.net.URI;
 public class HadoopReadOnlyFileSystem extends FileSystem {
 
     private final FileIO fileIO;
+    private final int vectoredMergeGap;
+    private final int vectoredMaxRangeSize;
 
-    public HadoopReadOnlyFileSystem(FileIO fileIO) {
+    public HadoopReadOnlyFileSystem(FileIO fileIO, int vectoredMergeGap, int vectoredMaxRangeSize) {
         this.fileIO = fileIO;
+        this.vectoredMergeGap = vectoredMergeGap;
+        this.vectoredMaxRangeSize = vectoredMaxRangeSize;
     }
 
     @Override
@@ -47,8 +52,15 @@ public class HadoopReadOnlyFileSystem extends FileSystem {
 
     @Override
     public FSDataInputStream open(Path path) throws IOException {
+        org.apache.paimon.fs.Path paimonPath = toPaimonPath(path);
         return new FSDataInputStream(
-                new FSDataWrappedInputStream(fileIO.newInputStream(toPaimonPath(path))));
+                new FSDataWrappedInputStream(
+                        new VectoredInputStream(
+                                fileIO,
+                                paimonPath,
+                                fileIO.newInputStream(paimonPath),
+                                vectoredMergeGap,
+                                vectoredMaxRangeSize)));
     }
 
     @Override
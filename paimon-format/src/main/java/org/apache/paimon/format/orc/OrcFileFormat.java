@@ -56,6 +56,8 @@ import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MERGE_GAP;
 import static org.apache.paimon.format.OrcOptions.ORC_TIMESTAMP_LTZ_LEGACY_TYPE;
 import static org.apache.paimon.types.DataTypeChecks.getFieldTypes;
 
@@ -78,6 +80,12 @@ public class OrcFileFormat extends FileFormat {
         this.orcProperties = getOrcProperties(formatContext.options(), formatContext);
         this.readerConf = new org.apache.hadoop.conf.Configuration(false);
         this.orcProperties.forEach((k, v) -> readerConf.set(k.toString(), v.toString()));
+        readerConf.setLong(
+                FILE_READER_VECTORED_MERGE_GAP.key(),
+                formatContext.options().get(FILE_READER_VECTORED_MERGE_GAP).getBytes());
+        readerConf.setLong(
+                FILE_READER_VECTORED_MAX_RANGE_SIZE.key(),
+                formatContext.options().get(FILE_READER_VECTORED_MAX_RANGE_SIZE).getBytes());
         this.writerConf = new org.apache.hadoop.conf.Configuration(false);
         this.orcProperties.forEach((k, v) -> writerConf.set(k.toString(), v.toString()));
         this.readBatchSize = formatContext.readBatchSize();
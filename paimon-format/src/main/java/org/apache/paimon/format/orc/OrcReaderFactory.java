@@ -56,6 +56,8 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
 
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MERGE_GAP;
 import static org.apache.paimon.format.orc.OrcTypeUtil.convertToOrcSchema;
 import static org.apache.paimon.format.orc.reader.AbstractOrcColumnVector.createPaimonVector;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
@@ -357,7 +359,17 @@ public class OrcReaderFactory implements FormatReaderFactory {
         OrcFile.ReaderOptions readerOptions = OrcFile.readerOptions(conf);
 
         // configure filesystem from Paimon FileIO
-        readerOptions.filesystem(new HadoopReadOnlyFileSystem(fileIO));
+        int mergeGap =
+                Math.toIntExact(
+                        conf.getLong(
+                                FILE_READER_VECTORED_MERGE_GAP.key(),
+                                FILE_READER_VECTORED_MERGE_GAP.defaultValue().getBytes()));
+        int maxRangeSize =
+                Math.toIntExact(
+                        conf.getLong(
+                                FILE_READER_VECTORED_MAX_RANGE_SIZE.key(),
+                                FILE_READER_VECTORED_MAX_RANGE_SIZE.defaultValue().getBytes()));
+        readerOptions.filesystem(new HadoopReadOnlyFileSystem(fileIO, mergeGap, maxRangeSize));
 
         return new ReaderImpl(hPath, readerOptions) {
             @Override
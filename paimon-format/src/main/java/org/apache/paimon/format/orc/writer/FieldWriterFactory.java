@@ -18,11 +18,13 @@
 
 package org.apache.paimon.format.orc.writer;
 
+import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.Decimal;
 import org.apache.paimon.data.InternalArray;
 import org.apache.paimon.data.InternalMap;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.LocalZoneTimestamp;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.BinaryType;
@@ -67,8 +69,19 @@ public class FieldWriterFactory implements DataTypeVisitor<FieldWriter> {
     private static final FieldWriter STRING_WRITER =
             (rowId, column, getters, columnId) -> {
                 BytesColumnVector vector = (BytesColumnVector) column;
-                byte[] bytes = getters.getString(columnId).toBytes();
-                vector.setVal(rowId, bytes, 0, bytes.length);
+                BinaryString string = getters.getString(columnId);
+                MemorySegment[] segments = string.getSegments();
+                if (segments.length == 1 && !segments[0].isOffHeap()) {
+                    // setVal copies the bytes, no need to materialize the string first
+                    vector.setVal(
+                            rowId,
+                            segments[0].getArray(),
+                            string.getOffset(),
+                            string.getSizeInBytes());
+                } else {
+                    byte[] bytes = string.toBytes();
+                    vector.setVal(rowId, bytes, 0, bytes.length);
+                }
             };
 
     private static final FieldWriter BYTES_WRITER =
@@ -222,8 +235,14 @@ public class FieldWriterFactory implements DataTypeVisitor<FieldWriter> {
             Decimal decimal =
                     getters.getDecimal(
                             columnId, decimalType.getPrecision(), decimalType.getScale());
-            HiveDecimal hiveDecimal = HiveDecimal.create(decimal.toBigDecimal());
-            vector.set(rowId, hiveDecimal);
+            if (decimal.isCompact()) {
+                // avoid creating BigDecimal and HiveDecimal for every value
+                vector.vector[rowId].setFromLongAndScale(
+                        decimal.toUnscaledLong(), decimal.scale());
+            } else {
+                HiveDecimal hiveDecimal = HiveDecimal.create(decimal.toBigDecimal());
+                vector.set(rowId, hiveDecimal);
+            }
         };
     }
 
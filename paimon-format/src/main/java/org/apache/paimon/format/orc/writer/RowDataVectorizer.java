@@ -26,13 +26,11 @@ import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.orc.TypeDescription;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /** A {@link Vectorizer} of {@link InternalRow} type element. */
 public class RowDataVectorizer extends Vectorizer<InternalRow> {
 
-    private final List<FieldWriter> fieldWriters;
+    private final FieldWriter[] fieldWriters;
 
     public RowDataVectorizer(
             TypeDescription schema, DataType[] fieldTypes, boolean legacyTimestampLtzType) {
@@ -41,7 +39,7 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
         this.fieldWriters =
                 Arrays.stream(fieldTypes)
                         .map(t -> t.accept(fieldWriterFactory))
-                        .collect(Collectors.toList());
+                        .toArray(FieldWriter[]::new);
     }
 
     @Override
@@ -53,7 +51,7 @@ public class RowDataVectorizer extends Vectorizer<InternalRow> {
                 fieldColumn.noNulls = false;
                 fieldColumn.isNull[rowId] = true;
             } else {
-                fieldWriters.get(i).write(rowId, fieldColumn, row, i);
+                fieldWriters[i].write(rowId, fieldColumn, row, i);
             }
         }
     }
@@ -37,6 +37,8 @@ import org.apache.parquet.hadoop.ParquetOutputFormat;
 import java.util.List;
 import java.util.Optional;
 
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MERGE_GAP;
 import static org.apache.paimon.format.parquet.ParquetFileFormatFactory.IDENTIFIER;
 
 /** Parquet {@link FileFormat}. */
@@ -94,6 +96,14 @@ public class ParquetFileFormat extends FileFormat {
                     ParquetOutputFormat.BLOCK_SIZE, String.valueOf(blockSize.getBytes()));
         }
 
+        // only parquet prefixed options are kept, copy the vectored read options explicitly
+        parquetOptions.set(
+                FILE_READER_VECTORED_MERGE_GAP,
+                context.options().get(FILE_READER_VECTORED_MERGE_GAP));
+        parquetOptions.set(
+                FILE_READER_VECTORED_MAX_RANGE_SIZE,
+                context.options().get(FILE_READER_VECTORED_MAX_RANGE_SIZE));
+
         return parquetOptions;
     }
 }
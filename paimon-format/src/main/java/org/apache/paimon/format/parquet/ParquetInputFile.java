@@ -20,6 +20,8 @@ package org.apache.paimon.format.parquet;
 
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.VectoredInputStream;
 
 import org.apache.parquet.io.InputFile;
 
@@ -31,16 +33,35 @@ public class ParquetInputFile implements InputFile {
     private final FileIO fileIO;
     private final Path path;
     private final long length;
+    private final boolean vectoredRead;
+    private final int mergeGap;
+    private final int maxRangeSize;
 
     public static ParquetInputFile fromPath(FileIO fileIO, Path path, long length)
             throws IOException {
-        return new ParquetInputFile(fileIO, path, length);
+        return new ParquetInputFile(fileIO, path, length, false, 0, 0);
     }
 
-    private ParquetInputFile(FileIO fileIO, Path path, long length) {
+    /** Creates an input file whose streams fetch column chunks by merged vectored reads. */
+    public static ParquetInputFile fromPath(
+            FileIO fileIO, Path path, long length, int mergeGap, int maxRangeSize)
+            throws IOException {
+        return new ParquetInputFile(fileIO, path, length, true, mergeGap, maxRangeSize);
+    }
+
+    private ParquetInputFile(
+            FileIO fileIO,
+            Path path,
+            long length,
+            boolean vectoredRead,
+            int mergeGap,
+            int maxRangeSize) {
         this.fileIO = fileIO;
         this.path = path;
         this.length = length;
+        this.vectoredRead = vectoredRead;
+        this.mergeGap = mergeGap;
+        this.maxRangeSize = maxRangeSize;
     }
 
     public Path getPath() {
@@ -54,7 +75,11 @@ public class ParquetInputFile implements InputFile {
 
     @Override
     public ParquetInputStream newStream() throws IOException {
-        return new ParquetInputStream(fileIO.newInputStream(path));
+        SeekableInputStream in = fileIO.newInputStream(path);
+        if (vectoredRead) {
+            in = new VectoredInputStream(fileIO, path, in, mergeGap, maxRangeSize);
+        }
+        return new ParquetInputStream(in);
     }
 
     @Override
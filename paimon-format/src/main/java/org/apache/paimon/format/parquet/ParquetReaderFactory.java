@@ -53,6 +53,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MAX_RANGE_SIZE;
+import static org.apache.paimon.CoreOptions.FILE_READER_VECTORED_MERGE_GAP;
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.PAIMON_SCHEMA;
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.parquetListElementType;
 import static org.apache.paimon.format.parquet.ParquetSchemaConverter.parquetMapKeyValueType;
@@ -93,7 +95,14 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         ParquetFileReader reader =
                 new ParquetFileReader(
                         ParquetInputFile.fromPath(
-                                context.fileIO(), context.filePath(), context.fileSize()),
+                                context.fileIO(),
+                                context.filePath(),
+                                context.fileSize(),
+                                Math.toIntExact(
+                                        conf.get(FILE_READER_VECTORED_MERGE_GAP).getBytes()),
+                                Math.toIntExact(
+                                        conf.get(FILE_READER_VECTORED_MAX_RANGE_SIZE)
+                                                .getBytes())),
                         builder.build(),
                         context.selection());
         MessageType fileSchema = reader.getFileMetaData().getSchema();
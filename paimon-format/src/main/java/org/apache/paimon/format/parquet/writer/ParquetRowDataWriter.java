@@ -25,6 +25,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.variant.Variant;
 import org.apache.paimon.format.parquet.ParquetSchemaConverter;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DecimalType;
@@ -319,7 +320,17 @@ public class ParquetRowDataWriter {
         }
 
         private void writeString(BinaryString value) {
-            recordConsumer.addBinary(Binary.fromReusedByteArray(value.toBytes()));
+            MemorySegment[] segments = value.getSegments();
+            if (segments.length == 1 && !segments[0].isOffHeap()) {
+                // refer to the bytes in place, parquet copies reused bytes if it keeps them
+                recordConsumer.addBinary(
+                        Binary.fromReusedByteArray(
+                                segments[0].getArray(),
+                                value.getOffset(),
+                                value.getSizeInBytes()));
+            } else {
+                recordConsumer.addBinary(Binary.fromReusedByteArray(value.toBytes()));
+            }
         }
     }
 
@@ -31,6 +31,7 @@ import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DecimalUtils;
 import org.apache.paimon.utils.Projection;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
@@ -171,6 +172,33 @@ class OrcReaderFactoryTest {
         assertThat(totalF0.get()).isEqualTo(1844737280400L);
     }
 
+    @Test
+    void testReadWithSelection() throws IOException {
+        OrcReaderFactory format = createFormat(FLAT_FILE_TYPE, new int[] {0});
+
+        // remaining rows of a deletion vector which only keeps the head and the tail of the file
+        RoaringBitmap32 selection = RoaringBitmap32.bitmapOfRange(0, 5);
+        selection.or(RoaringBitmap32.bitmapOfRange(1920790, 1920800));
+
+        List<Long> positions = new ArrayList<>();
+        LocalFileIO fileIO = new LocalFileIO();
+        try (RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                fileIO, flatFile, fileIO.getFileSize(flatFile), selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        // the first column is the row number starting from 1
+                        assertThat((long) row.getInt(0)).isEqualTo(rowPosition + 1);
+                        positions.add(rowPosition);
+                    });
+        }
+
+        // skipping is coarse-grained, but all selected rows must be returned
+        assertThat(positions).contains(0L, 4L, 1920790L, 1920799L);
+        assertThat(positions).isSorted();
+    }
+
     @RepeatedTest(10)
     void testReadRowPositionWithRandomFilterAndPool() throws IOException {
         ArrayList<OrcFilters.Predicate> predicates = new ArrayList<>();
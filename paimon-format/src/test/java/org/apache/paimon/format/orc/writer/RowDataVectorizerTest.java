@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.orc.writer;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryRowWriter;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.format.orc.OrcTypeUtil;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.TypeDescription;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RowDataVectorizer}. */
+public class RowDataVectorizerTest {
+
+    @Test
+    public void testStringAndDecimalFromBinaryRow() {
+        RowType rowType =
+                RowType.of(
+                        DataTypes.STRING(),
+                        DataTypes.STRING(),
+                        DataTypes.DECIMAL(10, 2),
+                        DataTypes.DECIMAL(38, 4));
+        TypeDescription schema = OrcTypeUtil.convertToOrcSchema(rowType);
+        RowDataVectorizer vectorizer =
+                new RowDataVectorizer(
+                        schema, rowType.getFieldTypes().toArray(new DataType[0]), false);
+        VectorizedRowBatch batch = schema.createRowBatch(4);
+
+        for (int i = 0; i < 3; i++) {
+            // strings live in the variable part of the row, not at offset 0 of the segment
+            BinaryRow row = new BinaryRow(4);
+            BinaryRowWriter writer = new BinaryRowWriter(row);
+            writer.writeString(0, BinaryString.fromString("short" + i));
+            writer.writeString(1, BinaryString.fromString("a longer string value " + i));
+            writer.writeDecimal(2, Decimal.fromUnscaledLong(12345 + i, 10, 2), 10);
+            writer.writeDecimal(
+                    3, Decimal.fromBigDecimal(new BigDecimal("12345678901234.5678"), 38, 4), 38);
+            writer.complete();
+            vectorizer.vectorize(row, batch);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(((BytesColumnVector) batch.cols[0]).toString(i)).isEqualTo("short" + i);
+            assertThat(((BytesColumnVector) batch.cols[1]).toString(i))
+                    .isEqualTo("a longer string value " + i);
+            assertThat(((DecimalColumnVector) batch.cols[2]).vector[i].getHiveDecimal())
+                    .hasToString(new BigDecimal(12345 + i).movePointLeft(2).toString());
+            assertThat(((DecimalColumnVector) batch.cols[3]).vector[i].getHiveDecimal())
+                    .hasToString("12345678901234.5678");
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.service.client;
 
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.query.QueryLocation;
 import org.apache.paimon.service.exceptions.UnknownPartitionBucketException;
@@ -25,27 +26,79 @@ import org.apache.paimon.service.messages.KvRequest;
 import org.apache.paimon.service.messages.KvResponse;
 import org.apache.paimon.service.network.NetworkClient;
 import org.apache.paimon.service.network.messages.MessageSerializer;
-import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
+import org.apache.paimon.service.network.stats.AtomicServiceRequestStats;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FutureUtils;
+import org.apache.paimon.utils.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-/** A class for the Client to get values from Servers. */
+/**
+ * A class for the Client to get values from Servers.
+ *
+ * <p>Requests are pipelined, a connection holds any number of in-flight requests. Keys looked up
+ * by {@link #getValue} are batched per partition and bucket, see {@link KeyBatcher}. A batcher is
+ * dropped once all its keys are answered, so only the buckets being looked up hold a batcher.
+ */
 public class KvQueryClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(KvQueryClient.class);
 
+    private static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    private static final int DEFAULT_MAX_PENDING_REQUESTS = 4;
+
     private final NetworkClient<KvRequest, KvResponse> networkClient;
     private final QueryLocation queryLocation;
+    private final AtomicServiceRequestStats stats;
+
+    private final int maxBatchSize;
+    private final int maxPendingRequests;
+    private final long lingerMillis;
+    private final Map<Pair<BinaryRow, Integer>, KeyBatcher> batchers;
+    @Nullable private final ScheduledExecutorService lingerTimer;
 
     public KvQueryClient(QueryLocation queryLocation, int numEventLoopThreads) {
+        this(queryLocation, numEventLoopThreads, DEFAULT_MAX_BATCH_SIZE, 0);
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param maxBatchSize the maximum number of keys sent in one request by {@link #getValue}.
+     * @param lingerMillis the time to wait for more keys before sending a batch, zero means a
+     *     batch is sent as soon as the number of in-flight requests of its bucket allows.
+     */
+    public KvQueryClient(
+            QueryLocation queryLocation,
+            int numEventLoopThreads,
+            int maxBatchSize,
+            long lingerMillis) {
         this.queryLocation = queryLocation;
+        this.stats = new AtomicServiceRequestStats();
+        this.maxBatchSize = maxBatchSize;
+        this.maxPendingRequests = DEFAULT_MAX_PENDING_REQUESTS;
+        this.lingerMillis = lingerMillis;
+        this.batchers = new ConcurrentHashMap<>();
+        this.lingerTimer =
+                lingerMillis > 0
+                        ? Executors.newSingleThreadScheduledExecutor(
+                                new ExecutorThreadFactory("Kv Query Client Linger"))
+                        : null;
         final MessageSerializer<KvRequest, KvResponse> messageSerializer =
                 new MessageSerializer<>(
                         new KvRequest.KvRequestDeserializer(),
@@ -56,7 +109,28 @@ public class KvQueryClient {
                         "Kv Query Client",
                         numEventLoopThreads,
                         messageSerializer,
-                        new DisabledServiceRequestStats());
+                        stats);
+    }
+
+    /**
+     * Gets the value of one key, the returned future holds null if the key does not exist. Keys of
+     * the same partition and bucket are sent together in one request.
+     */
+    public CompletableFuture<BinaryRow> getValue(BinaryRow partition, int bucket, BinaryRow key) {
+        BinaryRow copiedKey = key.copy();
+        while (true) {
+            KeyBatcher batcher = batchers.get(Pair.of(partition, bucket));
+            if (batcher == null) {
+                BinaryRow copied = partition.copy();
+                batcher =
+                        batchers.computeIfAbsent(
+                                Pair.of(copied, bucket), k -> new KeyBatcher(copied, bucket));
+            }
+            CompletableFuture<BinaryRow> future = batcher.add(copiedKey);
+            if (future != null) {
+                return future;
+            }
+        }
     }
 
     public CompletableFuture<BinaryRow[]> getValues(
@@ -118,6 +192,146 @@ public class KvQueryClient {
     }
 
     public CompletableFuture<Void> shutdownFuture() {
+        if (lingerTimer != null) {
+            lingerTimer.shutdownNow();
+        }
         return networkClient.shutdown();
     }
+
+    public AtomicServiceRequestStats getStats() {
+        return stats;
+    }
+
+    @VisibleForTesting
+    public int numBatchers() {
+        return batchers.size();
+    }
+
+    /**
+     * Collects the keys of one partition and bucket. A batch is sent when it is full, or when
+     * fewer than {@code maxPendingRequests} requests of the bucket are in flight and the linger
+     * time has passed. Keys arriving while too many requests are in flight are sent together when
+     * one of them completes.
+     *
+     * <p>Batches are taken under the monitor of the batcher and sent outside of it. A batcher which
+     * has no keys and no requests in flight is removed from {@link #batchers}, keys added to it
+     * afterwards are rejected so that they go to a new batcher.
+     */
+    private class KeyBatcher {
+
+        private final BinaryRow partition;
+        private final int bucket;
+
+        private List<BinaryRow> keys = new ArrayList<>();
+        private List<CompletableFuture<BinaryRow>> futures = new ArrayList<>();
+        private int pendingRequests;
+        @Nullable private ScheduledFuture<?> lingerFuture;
+        private boolean removed;
+
+        private KeyBatcher(BinaryRow partition, int bucket) {
+            this.partition = partition;
+            this.bucket = bucket;
+        }
+
+        /** Adds the key, returns null if this batcher is removed. */
+        @Nullable
+        private CompletableFuture<BinaryRow> add(BinaryRow key) {
+            CompletableFuture<BinaryRow> future = new CompletableFuture<>();
+            Batch batch = null;
+            synchronized (this) {
+                if (removed) {
+                    return null;
+                }
+                keys.add(key);
+                futures.add(future);
+                if (keys.size() >= maxBatchSize) {
+                    batch = takeBatch();
+                } else if (pendingRequests < maxPendingRequests) {
+                    if (lingerTimer == null) {
+                        batch = takeBatch();
+                    } else if (lingerFuture == null) {
+                        lingerFuture =
+                                lingerTimer.schedule(
+                                        this::onLinger, lingerMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+            send(batch);
+            return future;
+        }
+
+        private void onLinger() {
+            Batch batch = null;
+            synchronized (this) {
+                lingerFuture = null;
+                if (pendingRequests < maxPendingRequests) {
+                    batch = takeBatch();
+                }
+            }
+            send(batch);
+        }
+
+        private void onComplete() {
+            Batch batch = null;
+            synchronized (this) {
+                pendingRequests--;
+                if (lingerFuture == null) {
+                    batch = takeBatch();
+                }
+                if (batch == null && pendingRequests == 0 && keys.isEmpty()) {
+                    removed = true;
+                    batchers.remove(Pair.of(partition, bucket), this);
+                }
+            }
+            send(batch);
+        }
+
+        @Nullable
+        private Batch takeBatch() {
+            if (lingerFuture != null) {
+                lingerFuture.cancel(false);
+                lingerFuture = null;
+            }
+            if (keys.isEmpty()) {
+                return null;
+            }
+
+            Batch batch = new Batch(keys.toArray(new BinaryRow[0]), futures);
+            keys = new ArrayList<>();
+            futures = new ArrayList<>();
+            pendingRequests++;
+            return batch;
+        }
+
+        private void send(@Nullable Batch batch) {
+            if (batch == null) {
+                return;
+            }
+
+            getValues(partition, bucket, batch.keys)
+                    .whenComplete(
+                            (values, throwable) -> {
+                                onComplete();
+                                for (int i = 0; i < batch.futures.size(); i++) {
+                                    if (throwable == null) {
+                                        batch.futures.get(i).complete(values[i]);
+                                    } else {
+                                        batch.futures.get(i).completeExceptionally(throwable);
+                                    }
+                                }
+                            });
+        }
+    }
+
+    /** The keys of a request and the futures of them. */
+    private static class Batch {
+
+        private final BinaryRow[] keys;
+        private final List<CompletableFuture<BinaryRow>> futures;
+
+        private Batch(BinaryRow[] keys, List<CompletableFuture<BinaryRow>> futures) {
+            this.keys = keys;
+            this.futures = futures;
+        }
+    }
 }
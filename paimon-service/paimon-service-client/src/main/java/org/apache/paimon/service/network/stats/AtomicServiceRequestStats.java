@@ -18,11 +18,16 @@
 
 package org.apache.paimon.service.network.stats;
 
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Histogram;
+
 import java.util.concurrent.atomic.AtomicLong;
 
 /** Atomic {@link ServiceRequestStats} implementation. */
 public class AtomicServiceRequestStats implements ServiceRequestStats {
 
+    public static final int LATENCY_WINDOW_SIZE = 10_000;
+
     /** Number of active connections. */
     private final AtomicLong numConnections = new AtomicLong();
 
@@ -38,6 +43,9 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     /** Total number of failed requests (<= reported requests). */
     private final AtomicLong numFailed = new AtomicLong();
 
+    /** Durations of the recent successful requests. */
+    private volatile Histogram latency = new DescriptiveStatisticsHistogram(LATENCY_WINDOW_SIZE);
+
     @Override
     public void reportActiveConnection() {
         numConnections.incrementAndGet();
@@ -57,6 +65,7 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
     public void reportSuccessfulRequest(long durationTotalMillis) {
         numSuccessful.incrementAndGet();
         successfulDuration.addAndGet(durationTotalMillis);
+        latency.update(durationTotalMillis);
     }
 
     @Override
@@ -80,6 +89,19 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
         return numFailed.get();
     }
 
+    /** Returns the histogram of the durations (in milliseconds) of recent successful requests. */
+    public Histogram getLatencyHistogram() {
+        return latency;
+    }
+
+    /**
+     * Records the durations of the following successful requests into the given histogram, for
+     * example a histogram registered in a metric group.
+     */
+    public void withLatencyHistogram(Histogram latency) {
+        this.latency = latency;
+    }
+
     @Override
     public String toString() {
         return "AtomicServiceRequestStats{"
@@ -91,6 +113,8 @@ public class AtomicServiceRequestStats implements ServiceRequestStats {
                 + numSuccessful
                 + ", numFailed="
                 + numFailed
+                + ", p99LatencyMillis="
+                + latency.getStatistics().getQuantile(0.99)
                 + '}';
     }
 }
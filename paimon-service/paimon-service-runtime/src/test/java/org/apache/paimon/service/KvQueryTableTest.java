@@ -25,6 +25,7 @@ import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.query.QueryLocationImpl;
 import org.apache.paimon.service.client.KvQueryClient;
+import org.apache.paimon.service.network.stats.AtomicServiceRequestStats;
 import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
 import org.apache.paimon.service.server.KvQueryServer;
 import org.apache.paimon.table.query.LocalTableQuery;
@@ -42,6 +43,7 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
@@ -159,6 +161,35 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
         assertThat(result).containsOnly(row(1, 1, 1), row(1, 2, 1));
     }
 
+    @Test
+    public void testBatchedGet() throws Exception {
+        for (int k = 1; k <= 10; k++) {
+            write(1, k, k * 10);
+        }
+
+        KvQueryClient batchClient =
+                new KvQueryClient(
+                        new QueryLocationImpl(table.store().newServiceManager()), 1, 128, 100);
+        try {
+            List<CompletableFuture<BinaryRow>> futures = new ArrayList<>();
+            for (int k = 1; k <= 20; k++) {
+                futures.add(batchClient.getValue(row(1), 0, row(k)));
+            }
+            for (int k = 1; k <= 20; k++) {
+                BinaryRow expected = k <= 10 ? row(1, k, k * 10) : null;
+                assertThat(futures.get(k - 1).get()).isEqualTo(expected);
+            }
+            // the batcher is dropped once all its keys are answered
+            assertThat(batchClient.numBatchers()).isEqualTo(0);
+
+            AtomicServiceRequestStats stats = batchClient.getStats();
+            assertThat(stats.getNumRequests()).isLessThan(20);
+            assertThat(stats.getLatencyHistogram().getCount()).isEqualTo(stats.getNumSuccessful());
+        } finally {
+            batchClient.shutdownFuture().get();
+        }
+    }
+
     @Test
     public void testServerRestartSamePorts() throws Throwable {
         innerTestServerRestart(